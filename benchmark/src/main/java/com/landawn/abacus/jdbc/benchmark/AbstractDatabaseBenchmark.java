@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.landawn.abacus.jdbc.JdbcUtil;
+
+/**
+ * Shared fixture for benchmarks that need a live database: an embedded H2 or HSQLDB instance
+ * (selected by {@link #db}) holding {@link #rows} seeded rows in {@code bench_user}, plus an
+ * empty {@code bench_user_copy} table with the same shape for import/copy targets.
+ *
+ * <p>Each trial gets its own in-memory database so forks and parameter combinations never share state.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public abstract class AbstractDatabaseBenchmark {
+
+    static final String TABLE_DDL_COLUMNS = "(id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, first_name VARCHAR(64), last_name VARCHAR(64), "
+            + "email VARCHAR(128), age INT, score DOUBLE, create_time TIMESTAMP)";
+
+    static final String INSERT_SQL = "INSERT INTO bench_user_copy (first_name, last_name, email, age, score, create_time) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final AtomicInteger databaseSeq = new AtomicInteger();
+
+    @Param({ "h2", "hsqldb" })
+    public String db;
+
+    @Param({ "1000" })
+    public int rows;
+
+    protected DataSource ds;
+
+    protected BenchUserDao dao;
+
+    protected List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws SQLException {
+        final String dbName = "bench_" + databaseSeq.incrementAndGet();
+
+        ds = switch (db) {
+            case "h2" -> JdbcUtil.createHikariDataSource("jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1", "sa", "");
+            case "hsqldb" -> JdbcUtil.createHikariDataSource("jdbc:hsqldb:mem:" + dbName, "SA", "");
+            default -> throw new IllegalArgumentException("Unsupported benchmark database: " + db);
+        };
+
+        try (Connection conn = ds.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE bench_user " + TABLE_DDL_COLUMNS);
+            st.execute("CREATE TABLE bench_user_copy " + TABLE_DDL_COLUMNS);
+        }
+
+        dao = JdbcUtil.createDao(BenchUserDao.class, ds);
+
+        ids = dao.batchInsert(newUsers(rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() throws SQLException {
+        try (Connection conn = ds.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("DROP TABLE bench_user");
+            st.execute("DROP TABLE bench_user_copy");
+        }
+
+        if (ds instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception e) {
+                // best effort: the in-memory database is discarded with the fork anyway.
+            }
+        }
+    }
+
+    protected void truncateCopyTable() throws SQLException {
+        try (Connection conn = ds.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("DELETE FROM bench_user_copy");
+        }
+    }
+
+    static List<BenchUser> newUsers(final int count) {
+        final List<BenchUser> users = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            users.add(BenchUser.of(i));
+        }
+
+        return users;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.sql.Timestamp;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.annotation.ReadOnly;
+import com.landawn.abacus.annotation.Table;
+
+/**
+ * Entity mapped to the {@code bench_user} table shared by all benchmarks.
+ */
+@Table("bench_user")
+public class BenchUser {
+    @Id
+    @ReadOnly
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private int age;
+    private double score;
+    private Timestamp createTime;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(final String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(final String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(final String email) {
+        this.email = email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(final int age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(final double score) {
+        this.score = score;
+    }
+
+    public Timestamp getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(final Timestamp createTime) {
+        this.createTime = createTime;
+    }
+
+    static BenchUser of(final int i) {
+        final BenchUser user = new BenchUser();
+        user.setFirstName("first" + i);
+        user.setLastName("last" + i);
+        user.setEmail("user" + i + "@example.com");
+        user.setAge(18 + i % 60);
+        user.setScore(i * 0.5d);
+        user.setCreateTime(new Timestamp(1_700_000_000_000L + i * 1000L));
+        return user;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import com.landawn.abacus.jdbc.dao.CrudDao;
+
+/**
+ * CRUD DAO over {@link BenchUser}; drives the {@code DaoImpl} proxy dispatch path.
+ */
+public interface BenchUserDao extends CrudDao<BenchUser, Long, BenchUserDao> {
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code CrudDao} operations through the {@code DaoImpl} proxy: pure dispatch of a non-database
+ * method, single-row {@code gett}, chunked {@code batchGet} and {@code batchInsert}.
+ */
+public class CrudDaoBenchmark extends AbstractDatabaseBenchmark {
+
+    @Param({ "200" })
+    public int batchSize;
+
+    /**
+     * Entities and per-invocation cleanup for {@link CrudDaoBenchmark#batchInsert(InsertState)}, kept in their own state
+     * so the {@code Level.Invocation} cleanup doesn't run before the other benchmarks of this class.
+     */
+    @State(Scope.Benchmark)
+    public static class InsertState {
+
+        private List<BenchUser> newUsers;
+
+        @Setup(Level.Trial)
+        public void prepareEntities(final CrudDaoBenchmark bench) {
+            newUsers = newUsers(bench.rows);
+        }
+
+        // batchInsert appends to bench_user; drop the appended rows so the seeded ids stay the only ones.
+        @Setup(Level.Invocation)
+        public void removeInsertedRows(final CrudDaoBenchmark bench) throws SQLException {
+            try (Connection conn = bench.ds.getConnection();
+                    PreparedStatement stmt = conn.prepareStatement("DELETE FROM bench_user WHERE id > ?")) {
+                stmt.setLong(1, bench.ids.get(bench.ids.size() - 1));
+                stmt.executeUpdate();
+            }
+
+            for (final BenchUser user : newUsers) {
+                user.setId(null);
+            }
+        }
+    }
+
+    @Benchmark
+    public Class<BenchUser> proxyDispatch() {
+        return dao.targetEntityClass();
+    }
+
+    @Benchmark
+    public BenchUser gett() throws SQLException {
+        return dao.gett(ids.get(0));
+    }
+
+    @Benchmark
+    public List<BenchUser> batchGet() throws SQLException {
+        return dao.batchGet(ids, batchSize);
+    }
+
+    @Benchmark
+    public List<Long> batchInsert(final InsertState state) throws SQLException {
+        return dao.batchInsert(state.newUsers, batchSize);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.landawn.abacus.jdbc.Jdbc;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Tuple;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+/**
+ * {@link Jdbc.DefaultDaoCache} hit, put and write-invalidation cost with {@link #entries} cached results.
+ *
+ * <p>{@code invalidateUnrelatedTable} issues the same {@code update(...)} call a {@code @RefreshCache} write
+ * would, against a table that has no cached entries, so it measures the cost of finding the affected keys
+ * without the cache being emptied between invocations.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class DaoCacheBenchmark {
+
+    private static final String KEY_PREFIX = BenchUserDao.class.getName() + ".gett#bench_user#[";
+
+    @Param({ "1000", "100000" })
+    public int entries;
+
+    private Jdbc.DaoCache cache;
+    private String[] keys;
+    private List<BenchUser> value;
+    private Tuple3<Method, ImmutableList<Class<?>>, Class<?>> readSignature;
+    private Tuple3<Method, ImmutableList<Class<?>>, Class<?>> writeSignature;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void populate() throws NoSuchMethodException {
+        cache = new Jdbc.DefaultDaoCache(entries, 3000);
+        keys = new String[entries];
+        value = List.of(BenchUser.of(1));
+        readSignature = signature(BenchUserDao.class.getMethod("gett", Object.class));
+        writeSignature = signature(BenchUserDao.class.getMethod("deleteById", Object.class));
+
+        for (int i = 0; i < entries; i++) {
+            keys[i] = KEY_PREFIX + i + "]";
+            cache.put(keys[i], value, null, null, readSignature);
+        }
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return cache.get(nextKey(), null, null, readSignature);
+    }
+
+    @Benchmark
+    public boolean putExisting() {
+        return cache.put(nextKey(), value, null, null, readSignature);
+    }
+
+    @Benchmark
+    public void invalidateUnrelatedTable() {
+        cache.update(BenchUserDao.class.getName() + ".deleteById#audit_log#[1]", 1, null, null, writeSignature);
+    }
+
+    private String nextKey() {
+        final String key = keys[cursor];
+        cursor = cursor + 1 == keys.length ? 0 : cursor + 1;
+        return key;
+    }
+
+    private static Tuple3<Method, ImmutableList<Class<?>>, Class<?>> signature(final Method method) {
+        return Tuple.of(method, ImmutableList.wrap(N.toList(method.getParameterTypes())), method.getReturnType());
+    }
+}
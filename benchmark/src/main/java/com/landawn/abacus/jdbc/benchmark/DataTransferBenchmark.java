@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.landawn.abacus.jdbc.DataTransferUtil;
+import com.landawn.abacus.type.Type;
+
+/**
+ * {@link DataTransferUtil} CSV export of {@code bench_user}, CSV import into {@code bench_user_copy},
+ * and a table-to-table copy through {@code DataTransferUtil.copyFrom}.
+ */
+public class DataTransferBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final String SELECT_SQL = "SELECT first_name, last_name, email, age, score, create_time FROM bench_user";
+
+    // Parses the timestamp text written by the exporter, which formats values through the same Type.
+    private static final Type<Timestamp> timestampType = Type.of(Timestamp.class);
+
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void exportFixture() throws SQLException {
+        final StringWriter writer = new StringWriter();
+        DataTransferUtil.exportCsvFrom(ds, SELECT_SQL).to(writer);
+        csv = writer.toString();
+    }
+
+    // Import and copy append to bench_user_copy; empty it before each call so every invocation does the same work.
+    @Setup(Level.Invocation)
+    public void emptyCopyTable() throws SQLException {
+        truncateCopyTable();
+    }
+
+    @Benchmark
+    public long exportCsv() throws SQLException {
+        final StringWriter writer = new StringWriter(csv.length());
+
+        return DataTransferUtil.exportCsvFrom(ds, SELECT_SQL).to(writer);
+    }
+
+    @Benchmark
+    public long importCsv() throws SQLException {
+        return DataTransferUtil.importCsvFrom(new StringReader(csv)) //
+                .batchSize(200)
+                .parameterSetter((q, row) -> q.setString(1, row[0])
+                        .setString(2, row[1])
+                        .setString(3, row[2])
+                        .setInt(4, Integer.parseInt(row[3]))
+                        .setDouble(5, Double.parseDouble(row[4]))
+                        .setTimestamp(6, timestampType.valueOf(row[5])))
+                .to(ds, INSERT_SQL);
+    }
+
+    @Benchmark
+    public long copy() throws SQLException {
+        return DataTransferUtil.copyFrom(ds, SELECT_SQL).batchSize(200).to(ds, INSERT_SQL);
+    }
+}
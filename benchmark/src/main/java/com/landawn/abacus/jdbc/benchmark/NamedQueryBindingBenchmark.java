@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.landawn.abacus.jdbc.JdbcUtil;
+import com.landawn.abacus.jdbc.NamedQuery;
+
+/**
+ * Entity binding in {@link NamedQuery}: {@code setParameters(Object)} for a single bean, and
+ * {@code addBatchParameters(Collection)} followed by {@code batchUpdate()} for a whole batch.
+ *
+ * <p>The statements are prepared once per trial with {@code closeAfterExecution(false)} so that only
+ * binding (and, for the batch case, execution) is measured, not statement preparation.</p>
+ */
+public class NamedQueryBindingBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final String UPDATE_SQL = "UPDATE bench_user SET first_name = :firstName, last_name = :lastName, email = :email, age = :age, "
+            + "score = :score, create_time = :createTime WHERE id = :id";
+
+    private Connection conn;
+    private NamedQuery singleQuery;
+    private NamedQuery batchQuery;
+    private BenchUser user;
+    private List<BenchUser> users;
+
+    @Setup(Level.Trial)
+    public void prepareQueries() throws SQLException {
+        conn = ds.getConnection();
+        singleQuery = JdbcUtil.prepareNamedQuery(conn, UPDATE_SQL).closeAfterExecution(false);
+        batchQuery = JdbcUtil.prepareNamedQuery(conn, UPDATE_SQL).closeAfterExecution(false);
+
+        users = dao.batchGet(ids);
+        user = users.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeQueries() throws SQLException {
+        singleQuery.close();
+        batchQuery.close();
+        conn.close();
+    }
+
+    @Benchmark
+    public NamedQuery setParametersByEntity() throws SQLException {
+        return singleQuery.setParameters(user);
+    }
+
+    @Benchmark
+    public int[] addBatchParametersAndExecute() throws SQLException {
+        return batchQuery.addBatchParameters(users).batchUpdate();
+    }
+}
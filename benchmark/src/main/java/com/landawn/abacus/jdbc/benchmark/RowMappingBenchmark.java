@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.landawn.abacus.jdbc.Jdbc;
+import com.landawn.abacus.jdbc.JdbcUtil;
+
+/**
+ * Row mapping: {@code PreparedQuery.list(Class)} versus an explicit {@code Jdbc.BiRowMapper.to(Class)},
+ * both reading every seeded {@code bench_user} row into {@link BenchUser} entities.
+ */
+public class RowMappingBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final String SELECT_SQL = "SELECT id, first_name, last_name, email, age, score, create_time FROM bench_user WHERE id <= ?";
+
+    private static final String SELECT_BY_ID_SQL = "SELECT id, first_name, last_name, email, age, score, create_time FROM bench_user WHERE id = ?";
+
+    @Benchmark
+    public List<BenchUser> listByClass() throws SQLException {
+        return JdbcUtil.prepareQuery(ds, SELECT_SQL).setLong(1, Long.MAX_VALUE).list(BenchUser.class);
+    }
+
+    @Benchmark
+    public List<BenchUser> listByBiRowMapper() throws SQLException {
+        return JdbcUtil.prepareQuery(ds, SELECT_SQL).setLong(1, Long.MAX_VALUE).list(Jdbc.BiRowMapper.to(BenchUser.class));
+    }
+
+    @Benchmark
+    public BenchUser singleRowByBiRowMapper() throws SQLException {
+        return JdbcUtil.prepareQuery(ds, SELECT_BY_ID_SQL).setLong(1, ids.get(0)).findOnlyOne(Jdbc.BiRowMapper.to(BenchUser.class)).orElseNull();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.landawn.abacus.util.Throwables;
+
+/**
+ * Single-flight loading for a {@code @CacheResult(coalesceLoads = true)} DAO method: of the concurrent callers that
+ * miss the cache for the same key, only the first runs the query; the others wait for it and share its result, or
+ * rethrow its failure.
+ *
+ * <p>One instance is created per DAO method. A load is only shared while it is in flight, so a caller that misses just
+ * after the previous load finished (but before its result became visible in the cache) starts a new load.</p>
+ *
+ * @see JdbcUtil#getCoalescedCacheLoadCount()
+ */
+final class CacheLoadCoalescer {
+
+    private static final LongAdder coalescedLoadCount = new LongAdder();
+
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code loader} for {@code cacheKey}, or waits for the load already in flight for that key.
+     *
+     * @param cacheKey the cache key of the call
+     * @param loader queries the database and populates the cache; runs on the calling thread
+     * @param copyForWaiter applied to the shared result before it is returned to a waiting caller
+     * @return the loaded result
+     * @throws Throwable the failure of the load, rethrown to its caller and to every waiter
+     */
+    Object load(final String cacheKey, final Throwables.Callable<Object, Throwable> loader, final Function<Object, Object> copyForWaiter) throws Throwable {
+        final CompletableFuture<Object> ownLoad = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlightLoad = inFlightLoads.putIfAbsent(cacheKey, ownLoad);
+
+        if (inFlightLoad != null) {
+            coalescedLoadCount.increment();
+
+            final Object result;
+
+            try {
+                result = inFlightLoad.join();
+            } catch (final CompletionException e) {
+                throw e.getCause() == null ? e : e.getCause();
+            }
+
+            return result == null ? null : copyForWaiter.apply(result);
+        }
+
+        try {
+            final Object result = loader.call();
+            ownLoad.complete(result);
+            return result;
+        } catch (final Throwable e) { //NOSONAR
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, ownLoad);
+        }
+    }
+
+    static long coalescedLoadCount() {
+        return coalescedLoadCount.sum();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks when the cached results of a {@code @CacheResult(refreshAheadMillis = ...)} DAO method are due for a
+ * refresh: {@code refreshAheadMillis} before their {@code maxLiveTimeMillis} expiry. The first cache hit past that
+ * point claims the refresh, which {@code DaoImpl} runs asynchronously while the current value keeps being served.
+ *
+ * <p>The tracker only knows about loads and refreshes made through its method; a key whose entry leaves the cache
+ * by other means is dropped on the next miss, or by the periodic sweep of entries that are past their expiry.</p>
+ */
+final class CacheRefreshAhead {
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    /** Placeholder due time while a refresh is running, so that no other hit claims it. */
+    private static final long REFRESHING = Long.MAX_VALUE;
+
+    private final long liveTime;
+
+    private final long refreshAheadTime;
+
+    private final Map<String, Long> refreshDueTimes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger loadsSinceSweep = new AtomicInteger();
+
+    CacheRefreshAhead(final long liveTime, final long refreshAheadTime) {
+        this.liveTime = liveTime;
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    /**
+     * Records that a fresh result has just been cached for {@code cacheKey}.
+     */
+    void loaded(final String cacheKey) {
+        final long now = System.currentTimeMillis();
+
+        refreshDueTimes.put(cacheKey, now + liveTime - refreshAheadTime);
+
+        if (loadsSinceSweep.incrementAndGet() >= SWEEP_INTERVAL) {
+            loadsSinceSweep.set(0);
+            // An entry is expired once it is refreshAheadTime past its due time; a running refresh is kept.
+            refreshDueTimes.values().removeIf(dueTime -> dueTime != REFRESHING && dueTime + refreshAheadTime < now);
+        }
+    }
+
+    /**
+     * Forgets {@code cacheKey}, e.g. after a cache miss or a failed/discarded refresh.
+     */
+    void remove(final String cacheKey) {
+        refreshDueTimes.remove(cacheKey);
+    }
+
+    /**
+     * Called on a cache hit: returns {@code true} if the entry is due for a refresh and this caller claimed it.
+     */
+    boolean tryClaimRefresh(final String cacheKey) {
+        final Long dueTime = refreshDueTimes.get(cacheKey);
+
+        return dueTime != null && dueTime != REFRESHING && System.currentTimeMillis() >= dueTime
+                && refreshDueTimes.replace(cacheKey, dueTime, REFRESHING);
+    }
+
+    int size() {
+        return refreshDueTimes.size();
+    }
+}
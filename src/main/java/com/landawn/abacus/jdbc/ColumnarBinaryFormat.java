@@ -0,0 +1,647 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The columnar binary layout written by {@link DataTransferUtil#exportBinaryFrom(javax.sql.DataSource, String)} and
+ * read by {@link DataTransferUtil#importBinaryFrom(java.io.File)}.
+ *
+ * <p>A stream is a header, then record batches of up to {@code batchSize} rows, then an {@code int} 0. Numbers are
+ * big-endian, as written by {@link DataOutputStream}; a string is an {@code int} length followed by its UTF-8 bytes.</p>
+ * <pre>
+ * header: int magic ("ABCF"), int version, int columnCount, then per column: string label, byte type, int java.sql.Types
+ * batch:  int rowCount (&gt; 0), then per column: a validity bitmap of (rowCount + 7) / 8 bytes, bit (row % 8) of
+ *         byte (row / 8) set if the value isn't null, followed by the values of the column
+ * </pre>
+ *
+ * <p>Fixed-width columns store a value for every row, 0 for a null one, so that a vector can be read without looking at
+ * the bitmap: {@code BOOLEAN} as a bitmap, {@code INT} as ints, {@code LONG} as longs, {@code FLOAT} as floats,
+ * {@code DOUBLE} as doubles, {@code DATE} as days since the epoch, {@code TIME} as nanoseconds of the day and
+ * {@code TIMESTAMP} as the epoch seconds of its local date-time at UTC followed by the nanoseconds of each row as ints
+ * (all independent of the time zone of the reader and the writer). Variable-width columns store the non-null values only:
+ * {@code DECIMAL} as an int scale and the length-prefixed unscaled value, {@code BYTES} length-prefixed, and
+ * {@code STRING} either as strings ({@code byte} 0) or, when at most half of the values are distinct, as a dictionary
+ * ({@code byte} 1, {@code int} size and the strings) followed by the {@code int} dictionary index of each value.</p>
+ */
+final class ColumnarBinaryFormat {
+
+    static final int MAGIC = 0x41424346;
+
+    static final int VERSION = 1;
+
+    static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte PLAIN = 0;
+
+    private static final byte DICTIONARY = 1;
+
+    private ColumnarBinaryFormat() {
+        // utility class - prevent instantiation.
+    }
+
+    /**
+     * Writes the rows following the cursor of the given {@code ResultSet}. The stream is flushed, but not closed.
+     *
+     * @return the number of rows written
+     */
+    static long write(final ResultSet rs, final OutputStream output, final int batchSize) throws SQLException, IOException {
+        final ResultSetMetaData rsmd = rs.getMetaData();
+        final int columnCount = rsmd.getColumnCount();
+        final Column[] columns = new Column[columnCount];
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(columnCount);
+
+        for (int i = 0; i < columnCount; i++) {
+            final int sqlType = rsmd.getColumnType(i + 1);
+            columns[i] = new Column(JdbcUtil.getColumnLabel(rsmd, i + 1), ColumnType.of(sqlType), sqlType);
+            columns[i].ensureCapacity(batchSize);
+
+            writeString(out, columns[i].label);
+            out.writeByte(columns[i].type.code);
+            out.writeInt(sqlType);
+        }
+
+        long result = 0;
+        int rowCount = 0;
+
+        while (rs.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                columns[i].read(rs, i + 1, rowCount);
+            }
+
+            if (++rowCount == batchSize) {
+                writeBatch(out, columns, rowCount);
+                result += rowCount;
+                rowCount = 0;
+            }
+        }
+
+        if (rowCount > 0) {
+            writeBatch(out, columns, rowCount);
+            result += rowCount;
+        }
+
+        out.writeInt(0);
+        out.flush();
+
+        return result;
+    }
+
+    private static void writeBatch(final DataOutputStream out, final Column[] columns, final int rowCount) throws IOException {
+        out.writeInt(rowCount);
+
+        for (final Column column : columns) {
+            column.write(out, rowCount);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String str) throws IOException {
+        writeBytes(out, str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+
+        if (length < 0) {
+            throw new IOException("Corrupted columnar binary stream: negative length " + length);
+        }
+
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Reads a stream written by {@link ColumnarBinaryFormat#write(ResultSet, OutputStream, int)} one record batch at a
+     * time. The stream isn't closed.
+     */
+    static final class BatchReader {
+        private final DataInputStream in;
+        private final Column[] columns;
+        private boolean isEnd = false;
+
+        BatchReader(final InputStream input) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a columnar binary stream");
+            }
+
+            final int version = in.readInt();
+
+            if (version != VERSION) {
+                throw new IOException("Unsupported columnar binary version: " + version);
+            }
+
+            final int columnCount = in.readInt();
+
+            if (columnCount < 0) {
+                throw new IOException("Corrupted columnar binary stream: negative column count " + columnCount);
+            }
+
+            columns = new Column[columnCount];
+
+            for (int i = 0; i < columnCount; i++) {
+                final String label = readString(in);
+                final ColumnType type = ColumnType.fromCode(in.readByte());
+                columns[i] = new Column(label, type, in.readInt());
+            }
+        }
+
+        List<String> columnLabels() {
+            final List<String> labels = new ArrayList<>(columns.length);
+
+            for (final Column column : columns) {
+                labels.add(column.label);
+            }
+
+            return labels;
+        }
+
+        /**
+         * Reads the next record batch.
+         *
+         * @return the number of rows in the batch, or 0 at the end of the stream
+         */
+        int next() throws IOException {
+            if (isEnd) {
+                return 0;
+            }
+
+            final int rowCount = in.readInt();
+
+            if (rowCount < 0) {
+                throw new IOException("Corrupted columnar binary stream: negative row count " + rowCount);
+            } else if (rowCount == 0) {
+                isEnd = true;
+                return 0;
+            }
+
+            for (final Column column : columns) {
+                column.ensureCapacity(rowCount);
+                column.readFrom(in, rowCount);
+            }
+
+            return rowCount;
+        }
+
+        /**
+         * Binds the values of the given row of the current batch to the parameters 1 to {@code columnCount}.
+         */
+        void bind(final PreparedStatement stmt, final int row) throws SQLException {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].bind(stmt, i + 1, row);
+            }
+        }
+
+        /**
+         * Returns the values of the given row of the current batch, as the JDBC objects they were read from.
+         */
+        Object[] row(final int row) {
+            final Object[] values = new Object[columns.length];
+
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = columns[i].value(row);
+            }
+
+            return values;
+        }
+    }
+
+    enum ColumnType {
+        BOOLEAN(1), INT(2), LONG(3), FLOAT(4), DOUBLE(5), DECIMAL(6), DATE(7), TIME(8), TIMESTAMP(9), STRING(10), BYTES(11);
+
+        final byte code;
+
+        ColumnType(final int code) {
+            this.code = (byte) code;
+        }
+
+        static ColumnType of(final int sqlType) {
+            return switch (sqlType) {
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> INT;
+                case Types.BIGINT -> LONG;
+                case Types.REAL -> FLOAT;
+                // java.sql.Types.FLOAT is a double-precision type.
+                case Types.FLOAT, Types.DOUBLE -> DOUBLE;
+                case Types.NUMERIC, Types.DECIMAL -> DECIMAL;
+                case Types.DATE -> DATE;
+                case Types.TIME -> TIME;
+                case Types.TIMESTAMP -> TIMESTAMP;
+                case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> BYTES;
+                default -> STRING;
+            };
+        }
+
+        static ColumnType fromCode(final byte code) throws IOException {
+            for (final ColumnType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+
+            throw new IOException("Unsupported columnar binary column type: " + code);
+        }
+    }
+
+    /**
+     * The values of one column in the current record batch. Fixed-width values are kept in primitive arrays:
+     * {@code longs} for {@code BOOLEAN}, {@code INT}, {@code LONG}, the epoch day of {@code DATE}, the nano of day of
+     * {@code TIME} and the epoch second at UTC of the local date-time of {@code TIMESTAMP}, {@code doubles} for
+     * {@code FLOAT} and {@code DOUBLE}.
+     */
+    private static final class Column {
+        private final String label;
+        private final ColumnType type;
+        private final int sqlType;
+        private boolean[] isNull = new boolean[0];
+        private long[] longs;
+        private double[] doubles;
+        private int[] nanos;
+        private Object[] objects;
+
+        Column(final String label, final ColumnType type, final int sqlType) {
+            this.label = label;
+            this.type = type;
+            this.sqlType = sqlType;
+        }
+
+        void ensureCapacity(final int capacity) {
+            if (isNull.length >= capacity) {
+                return;
+            }
+
+            isNull = new boolean[capacity];
+
+            switch (type) {
+                case BOOLEAN, INT, LONG, DATE, TIME -> longs = new long[capacity];
+                case TIMESTAMP -> {
+                    longs = new long[capacity];
+                    nanos = new int[capacity];
+                }
+                case FLOAT, DOUBLE -> doubles = new double[capacity];
+                default -> objects = new Object[capacity];
+            }
+        }
+
+        void read(final ResultSet rs, final int columnIndex, final int row) throws SQLException {
+            switch (type) {
+                case BOOLEAN -> longs[row] = rs.getBoolean(columnIndex) ? 1 : 0;
+                case INT -> longs[row] = rs.getInt(columnIndex);
+                case LONG -> longs[row] = rs.getLong(columnIndex);
+                case FLOAT -> doubles[row] = rs.getFloat(columnIndex);
+                case DOUBLE -> doubles[row] = rs.getDouble(columnIndex);
+                case DECIMAL -> objects[row] = rs.getBigDecimal(columnIndex);
+                case DATE -> {
+                    final Date date = rs.getDate(columnIndex);
+                    longs[row] = date == null ? 0 : date.toLocalDate().toEpochDay();
+                }
+                case TIME -> {
+                    final Time time = rs.getTime(columnIndex);
+                    longs[row] = time == null ? 0 : toNanoOfDay(time);
+                }
+                case TIMESTAMP -> {
+                    final Timestamp timestamp = rs.getTimestamp(columnIndex);
+                    longs[row] = timestamp == null ? 0 : timestamp.toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+                    nanos[row] = timestamp == null ? 0 : timestamp.getNanos();
+                }
+                case BYTES -> objects[row] = rs.getBytes(columnIndex);
+                default -> objects[row] = rs.getString(columnIndex);
+            }
+
+            isNull[row] = rs.wasNull();
+
+            if (isNull[row] && objects != null) {
+                objects[row] = null;
+            }
+        }
+
+        void write(final DataOutputStream out, final int rowCount) throws IOException {
+            writeBitmap(out, rowCount, true);
+
+            switch (type) {
+                case BOOLEAN -> writeBitmap(out, rowCount, false);
+                case INT -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeInt(isNull[row] ? 0 : (int) longs[row]);
+                    }
+                }
+                case LONG, DATE, TIME -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeLong(isNull[row] ? 0 : longs[row]);
+                    }
+                }
+                case TIMESTAMP -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeLong(isNull[row] ? 0 : longs[row]);
+                    }
+
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeInt(isNull[row] ? 0 : nanos[row]);
+                    }
+                }
+                case FLOAT -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeFloat(isNull[row] ? 0 : (float) doubles[row]);
+                    }
+                }
+                case DOUBLE -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        out.writeDouble(isNull[row] ? 0 : doubles[row]);
+                    }
+                }
+                case DECIMAL -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!isNull[row]) {
+                            final BigDecimal value = (BigDecimal) objects[row];
+                            out.writeInt(value.scale());
+                            writeBytes(out, value.unscaledValue().toByteArray());
+                        }
+                    }
+                }
+                case BYTES -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!isNull[row]) {
+                            writeBytes(out, (byte[]) objects[row]);
+                        }
+                    }
+                }
+                default -> writeStrings(out, rowCount);
+            }
+        }
+
+        // The validity bitmap, or the values of a BOOLEAN column.
+        private void writeBitmap(final DataOutputStream out, final int rowCount, final boolean isValidity) throws IOException {
+            for (int from = 0; from < rowCount; from += 8) {
+                int bits = 0;
+
+                for (int row = from, to = Math.min(from + 8, rowCount); row < to; row++) {
+                    if (isValidity ? !isNull[row] : !isNull[row] && longs[row] != 0) {
+                        bits |= 1 << (row - from);
+                    }
+                }
+
+                out.writeByte(bits);
+            }
+        }
+
+        private void writeStrings(final DataOutputStream out, final int rowCount) throws IOException {
+            final Map<String, Integer> dictionary = new LinkedHashMap<>();
+            int valueCount = 0;
+
+            for (int row = 0; row < rowCount; row++) {
+                if (!isNull[row]) {
+                    valueCount++;
+                }
+            }
+
+            // Gives up on the dictionary as soon as it can't hold fewer entries than half of the values.
+            for (int row = 0; row < rowCount && dictionary.size() <= valueCount / 2; row++) {
+                if (!isNull[row]) {
+                    dictionary.putIfAbsent((String) objects[row], dictionary.size());
+                }
+            }
+
+            if (valueCount > 0 && dictionary.size() <= valueCount / 2) {
+                out.writeByte(DICTIONARY);
+                out.writeInt(dictionary.size());
+
+                for (final String value : dictionary.keySet()) {
+                    writeString(out, value);
+                }
+
+                for (int row = 0; row < rowCount; row++) {
+                    if (!isNull[row]) {
+                        out.writeInt(dictionary.get(objects[row]));
+                    }
+                }
+            } else {
+                out.writeByte(PLAIN);
+
+                for (int row = 0; row < rowCount; row++) {
+                    if (!isNull[row]) {
+                        writeString(out, (String) objects[row]);
+                    }
+                }
+            }
+        }
+
+        void readFrom(final DataInputStream in, final int rowCount) throws IOException {
+            readBitmap(in, rowCount, true);
+
+            switch (type) {
+                case BOOLEAN -> readBitmap(in, rowCount, false);
+                case INT -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        longs[row] = in.readInt();
+                    }
+                }
+                case LONG, DATE, TIME -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        longs[row] = in.readLong();
+                    }
+                }
+                case TIMESTAMP -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        longs[row] = in.readLong();
+                    }
+
+                    for (int row = 0; row < rowCount; row++) {
+                        nanos[row] = in.readInt();
+                    }
+                }
+                case FLOAT -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        doubles[row] = in.readFloat();
+                    }
+                }
+                case DOUBLE -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        doubles[row] = in.readDouble();
+                    }
+                }
+                case DECIMAL -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        if (isNull[row]) {
+                            objects[row] = null;
+                        } else {
+                            final int scale = in.readInt();
+                            objects[row] = new BigDecimal(new BigInteger(readBytes(in)), scale);
+                        }
+                    }
+                }
+                case BYTES -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        objects[row] = isNull[row] ? null : readBytes(in);
+                    }
+                }
+                default -> readStrings(in, rowCount);
+            }
+        }
+
+        private void readBitmap(final DataInputStream in, final int rowCount, final boolean isValidity) throws IOException {
+            for (int from = 0; from < rowCount; from += 8) {
+                final int bits = in.readUnsignedByte();
+
+                for (int row = from, to = Math.min(from + 8, rowCount); row < to; row++) {
+                    final boolean isSet = (bits & (1 << (row - from))) != 0;
+
+                    if (isValidity) {
+                        isNull[row] = !isSet;
+                    } else {
+                        longs[row] = isSet ? 1 : 0;
+                    }
+                }
+            }
+        }
+
+        private void readStrings(final DataInputStream in, final int rowCount) throws IOException {
+            final byte encoding = in.readByte();
+
+            if (encoding == DICTIONARY) {
+                final int size = in.readInt();
+
+                if (size < 0) {
+                    throw new IOException("Corrupted columnar binary stream: negative dictionary size " + size);
+                }
+
+                final String[] dictionary = new String[size];
+
+                for (int i = 0; i < size; i++) {
+                    dictionary[i] = readString(in);
+                }
+
+                for (int row = 0; row < rowCount; row++) {
+                    if (isNull[row]) {
+                        objects[row] = null;
+                    } else {
+                        final int index = in.readInt();
+
+                        if (index < 0 || index >= size) {
+                            throw new IOException("Corrupted columnar binary stream: dictionary index " + index + " out of " + size);
+                        }
+
+                        objects[row] = dictionary[index];
+                    }
+                }
+            } else if (encoding == PLAIN) {
+                for (int row = 0; row < rowCount; row++) {
+                    objects[row] = isNull[row] ? null : readString(in);
+                }
+            } else {
+                throw new IOException("Corrupted columnar binary stream: unknown string encoding " + encoding);
+            }
+        }
+
+        Object value(final int row) {
+            if (isNull[row]) {
+                return null;
+            }
+
+            return switch (type) {
+                case BOOLEAN -> longs[row] != 0;
+                case INT -> (int) longs[row];
+                case LONG -> longs[row];
+                case FLOAT -> (float) doubles[row];
+                case DOUBLE -> doubles[row];
+                case DATE -> Date.valueOf(LocalDate.ofEpochDay(longs[row]));
+                case TIME -> toTime(longs[row]);
+                case TIMESTAMP -> toTimestamp(longs[row], nanos[row]);
+                default -> objects[row];
+            };
+        }
+
+        void bind(final PreparedStatement stmt, final int parameterIndex, final int row) throws SQLException {
+            if (isNull[row]) {
+                stmt.setNull(parameterIndex, sqlType);
+                return;
+            }
+
+            switch (type) {
+                case BOOLEAN -> stmt.setBoolean(parameterIndex, longs[row] != 0);
+                case INT -> stmt.setInt(parameterIndex, (int) longs[row]);
+                case LONG -> stmt.setLong(parameterIndex, longs[row]);
+                case FLOAT -> stmt.setFloat(parameterIndex, (float) doubles[row]);
+                case DOUBLE -> stmt.setDouble(parameterIndex, doubles[row]);
+                case DECIMAL -> stmt.setBigDecimal(parameterIndex, (BigDecimal) objects[row]);
+                case DATE -> stmt.setDate(parameterIndex, Date.valueOf(LocalDate.ofEpochDay(longs[row])));
+                case TIME -> stmt.setTime(parameterIndex, toTime(longs[row]));
+                case TIMESTAMP -> stmt.setTimestamp(parameterIndex, toTimestamp(longs[row], nanos[row]));
+                case BYTES -> stmt.setBytes(parameterIndex, (byte[]) objects[row]);
+                default -> stmt.setString(parameterIndex, (String) objects[row]);
+            }
+        }
+
+        // Time.toLocalTime() drops the fraction of the second, which the milliseconds of the Time still hold.
+        private static long toNanoOfDay(final Time time) {
+            return time.toLocalTime().toNanoOfDay() + Math.floorMod(time.getTime(), 1000L) * 1_000_000L;
+        }
+
+        // Time.valueOf(LocalTime) drops the fraction of the second too.
+        private static Time toTime(final long nanoOfDay) {
+            final Time time = Time.valueOf(LocalTime.ofNanoOfDay(nanoOfDay));
+            time.setTime(time.getTime() + nanoOfDay % 1_000_000_000L / 1_000_000L);
+            return time;
+        }
+
+        private static Timestamp toTimestamp(final long epochSecond, final int nanos) {
+            return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+        }
+    }
+}
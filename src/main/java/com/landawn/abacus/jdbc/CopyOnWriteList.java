@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list view that reads through to a shared (typically frozen, cached) list until the first modification, which
+ * copies the elements into a private {@code ArrayList}. The shared list is never modified.
+ *
+ * <p>The copy is shallow: elements are shared with the source list. Not thread-safe, like {@code ArrayList}.</p>
+ *
+ * @param <E> the element type
+ * @see JdbcUtil#copyOnWrite(List)
+ */
+final class CopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+
+    private List<E> elements;
+
+    private boolean copied;
+
+    CopyOnWriteList(final List<E> source) {
+        this.elements = source;
+    }
+
+    @Override
+    public E get(final int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        return writableElements().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+        writableElements().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(final int index) {
+        final E removed = writableElements().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        if (copied) {
+            elements.clear();
+        } else {
+            elements = new ArrayList<>();
+            copied = true;
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Returns {@code true} once the list has been modified and no longer reads from the shared list.
+     */
+    boolean isCopied() {
+        return copied;
+    }
+
+    private List<E> writableElements() {
+        if (!copied) {
+            elements = new ArrayList<>(elements);
+            copied = true;
+        }
+
+        return elements;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import com.landawn.abacus.exception.UncheckedSQLException;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.util.Dates;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Strings;
+
+/**
+ * A {@link DaoCacheInvalidationTransport} built on a small change-log table in the shared database, in the same way
+ * {@link DBLock} builds locks on a lock table.
+ *
+ * <p>Every {@link #publish(String) publish} appends a row to the table:</p>
+ * <ul>
+ *   <li>{@code event_id}: a random id of the publish (unique).</li>
+ *   <li>{@code table_name}: the written table, lower-cased.</li>
+ *   <li>{@code node_id}: the JVM ({@code pid@host}) that published, for diagnostics.</li>
+ *   <li>{@code create_time}: the time of the publish, by the clock of the publishing node.</li>
+ * </ul>
+ *
+ * <p>Publishing inserts the row through the {@code DataSource} of this change log, so a publish made inside a
+ * transaction on that {@code DataSource} commits, or rolls back, with the write it announces: other nodes can't evict,
+ * and reload the old data, before the write is visible. Because every publish inserts its own row, concurrent
+ * transactions writing the same table never wait for each other on the change log. Outside of a transaction, the
+ * announced write is already committed when a publish fails: the failure is logged instead of thrown, and the other
+ * nodes keep the stale results until they expire.</p>
+ *
+ * <p>Each node polls the table every {@code pollInterval} milliseconds and notifies its listeners of the tables of the
+ * rows it hasn't seen yet. A poll reads only the rows created after the latest {@code create_time} it has seen, minus
+ * {@link #SKEW_MARGIN} milliseconds, so that a row committed up to that long after a later one (a transaction still
+ * open when the next publish commits, or clock skew between the nodes) is still received; the rows read again within
+ * the margin are recognized by their {@code event_id}. The poll task also deletes, about once a minute, the rows older
+ * than {@link #RETENTION_PERIOD} milliseconds. A node also receives its own publishes, which evicts a second time but is
+ * otherwise harmless.</p>
+ *
+ * <p>Instances are obtained through {@link JdbcUtil#createDBChangeLog(DataSource, String)} and should be
+ * {@link #close() closed} on shutdown to stop polling.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * DBChangeLog changeLog = JdbcUtil.createDBChangeLog(dataSource, "dao_cache_change_log");
+ * JdbcUtil.setDaoCacheInvalidationTransportGlobally(changeLog);
+ *
+ * // A write that doesn't go through a cacheable DAO:
+ * userDao.update(user);
+ * JdbcUtil.publishDaoCacheInvalidation("user");
+ * }</pre>
+ *
+ * @see DaoCacheInvalidationTransport
+ * @see JdbcUtil#setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)
+ */
+public final class DBChangeLog implements DaoCacheInvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(DBChangeLog.class);
+
+    /**
+     * Default interval in milliseconds between two polls of the change-log table (1 second).
+     */
+    public static final long DEFAULT_POLL_INTERVAL = 1000;
+
+    /**
+     * Margin in milliseconds below the latest {@code create_time} seen, from which every poll reads the rows again
+     * (10 seconds). A row committed later than that after a row with a later {@code create_time} is missed.
+     */
+    public static final long SKEW_MARGIN = 10_000;
+
+    // Interval in milliseconds between two deletions of the expired rows by the poll task.
+    private static final long REMOVE_EXPIRED_INTERVAL = 60_000;
+
+    /**
+     * Age in milliseconds after which the rows are deleted by the poll task (10 minutes).
+     */
+    public static final long RETENTION_PERIOD = 600_000;
+
+    private final DataSource ds;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final String insertSQL;
+
+    private final String selectSQL;
+
+    private final String deleteExpiredSQL;
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    // The ids of the rows within the skew margin already read, with their create_time, and the latest create_time read.
+    // Accessed only under the monitor of this instance.
+    private final Map<String, Long> seenEvents = new HashMap<>();
+
+    // The first read reads the whole table, which the retention sweep keeps small.
+    private long highWaterMark = 0;
+
+    private boolean isInitialized = false;
+
+    private long lastRemoveExpiredTime = 0;
+
+    private final LongAdder publishedCount = new LongAdder();
+
+    private final LongAdder failedPublishCount = new LongAdder();
+
+    private final LongAdder receivedCount = new LongAdder();
+
+    private final ScheduledFuture<?> scheduledFuture;
+
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates the change-log table if it doesn't exist, records the rows already in it without notifying anyone, and
+     * starts polling.
+     *
+     * <p>This constructor is package-private; instances are normally obtained via
+     * {@code JdbcUtil.createDBChangeLog(DataSource, String, long)}.</p>
+     *
+     * @param ds the {@link DataSource} of the shared database
+     * @param tableName the name of the change-log table, created if it doesn't exist
+     * @param pollInterval the interval in milliseconds between two polls
+     * @throws UncheckedSQLException if the table can't be created or read
+     * @throws IllegalStateException if the table doesn't exist after the creation attempt
+     */
+    DBChangeLog(final DataSource ds, final String tableName, final long pollInterval) {
+        this.ds = ds;
+        final Connection conn = JdbcUtil.getConnection(ds);
+
+        try {
+            final String sqlTableName = JdbcUtil.toQualifiedSqlIdentifier(conn, tableName, "tableName");
+
+            insertSQL = "INSERT INTO " + sqlTableName + " (event_id, table_name, node_id, create_time) VALUES (?, ?, ?, ?)";
+            selectSQL = "SELECT event_id, table_name, create_time FROM " + sqlTableName + " WHERE create_time > ?";
+            deleteExpiredSQL = "DELETE FROM " + sqlTableName + " WHERE create_time < ?";
+
+            final String schema = "CREATE TABLE " + sqlTableName
+                    + "(event_id VARCHAR(64) NOT NULL, table_name VARCHAR(255) NOT NULL, node_id VARCHAR(255), create_time TIMESTAMP NOT NULL, UNIQUE (event_id))";
+
+            if (JdbcUtil.createTableIfNotExists(conn, tableName, schema)) {
+                createIndexQuietly(conn, tableName, sqlTableName);
+            }
+
+            if (!JdbcUtil.tableExists(conn, tableName)) {
+                throw new IllegalStateException("Change-log table does not exist after creation attempt: " + tableName);
+            }
+        } catch (final SQLException e) {
+            logger.warn(e, "Failed to initialize DBChangeLog(tableName={})", tableName);
+            throw new UncheckedSQLException(e);
+        } finally {
+            JdbcUtil.releaseConnection(conn, ds);
+        }
+
+        try {
+            readChangedTables();
+        } catch (final SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+
+        logger.info("Initialized DBChangeLog(tableName={}, pollInterval={}, rows={})", tableName, pollInterval, seenEvents.size());
+
+        scheduledFuture = DBLock.scheduledExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (final Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn(e, "Error occurred in DB change-log poll task");
+                }
+            }
+
+            final long now = System.currentTimeMillis();
+
+            if (now - lastRemoveExpiredTime >= REMOVE_EXPIRED_INTERVAL) {
+                lastRemoveExpiredTime = now;
+
+                try {
+                    removeExpiredRows(now);
+                } catch (final Exception e) {
+                    // Another node may be deleting the same rows: the next sweep retries.
+                    if (logger.isWarnEnabled()) {
+                        logger.warn(e, "Failed to delete expired rows of DB change-log");
+                    }
+                }
+            }
+        }, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // The poll reads the rows by create_time. Best effort: the table stays small anyway, thanks to the retention sweep.
+    private static void createIndexQuietly(final Connection conn, final String tableName, final String sqlTableName) {
+        final String indexName = tableName.substring(tableName.lastIndexOf('.') + 1) + "_create_time";
+
+        try {
+            JdbcUtil.execute(conn, "CREATE INDEX " + JdbcUtil.toQualifiedSqlIdentifier(conn, indexName, "tableName") + " ON " + sqlTableName + " (create_time)");
+        } catch (final Exception e) {
+            logger.warn(e, "Failed to create index on change-log table(tableName={})", tableName);
+        }
+    }
+
+    /**
+     * Appends a row for the table, in the transaction on the {@code DataSource} of this change log if one is active in
+     * the current thread.
+     *
+     * <p>If the row can't be inserted inside a transaction, the {@link UncheckedSQLException} is thrown, so that the
+     * transaction, and the write it announces, can be rolled back. Outside of a transaction, the write is already
+     * committed: the failure is logged and counted by {@link #getFailedPublishCount()} instead.</p>
+     *
+     * @param tableName the name of the written table, matched case-insensitively
+     * @throws IllegalStateException if this change log has been closed
+     * @throws IllegalArgumentException if {@code tableName} is {@code null} or empty
+     * @throws UncheckedSQLException if the change-log table can't be written inside a transaction
+     */
+    @Override
+    public void publish(final String tableName) {
+        assertNotClosed();
+        N.checkArgNotEmpty(tableName, "tableName");
+
+        final String key = tableName.toLowerCase(Locale.ROOT);
+        final Connection conn = JdbcUtil.getConnection(ds);
+        boolean isInTransaction = true;
+
+        try {
+            isInTransaction = !conn.getAutoCommit();
+
+            JdbcUtil.executeUpdate(conn, insertSQL, Strings.uuid(), key, nodeId, Dates.currentTimestamp());
+        } catch (final SQLException e) {
+            failedPublishCount.increment();
+
+            if (isInTransaction) {
+                logger.warn(e, "Failed to publish DAO cache invalidation(table={})", key);
+                throw new UncheckedSQLException(e);
+            }
+
+            logger.warn(e, "Failed to publish DAO cache invalidation(table={}) of a committed write: other nodes keep the stale results until they expire",
+                    key);
+            return;
+        } finally {
+            JdbcUtil.releaseConnection(conn, ds);
+        }
+
+        publishedCount.increment();
+    }
+
+    /**
+     * Registers a listener to be called, from the poll thread, with the lower-cased name of each table whose version
+     * changed. A failing listener is logged and doesn't prevent the others from being called.
+     *
+     * @param listener the listener
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    @Override
+    public void subscribe(final Consumer<String> listener) {
+        N.checkArgNotNull(listener, "listener");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Reads the rows created since the latest {@code create_time} seen, minus {@link #SKEW_MARGIN} milliseconds, and
+     * notifies the listeners of the tables of the rows not seen by the previous polls, each table once. It's called
+     * every {@code pollInterval} milliseconds by the poll task; calling it directly forces a poll.
+     *
+     * @return the number of changed tables
+     * @throws UncheckedSQLException if the change-log table can't be read
+     */
+    public int poll() {
+        if (isClosed) {
+            return 0;
+        }
+
+        final List<String> changedTables;
+
+        try {
+            changedTables = readChangedTables();
+        } catch (final SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+
+        for (final String changedTable : changedTables) {
+            receivedCount.increment();
+
+            for (final Consumer<String> listener : listeners) {
+                try {
+                    listener.accept(changedTable);
+                } catch (final Exception e) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn(e, "Failed to process DAO cache invalidation(table={})", changedTable);
+                    }
+                }
+            }
+        }
+
+        if (logger.isDebugEnabled() && !changedTables.isEmpty()) {
+            logger.debug("Received DAO cache invalidations(tables={})", changedTables);
+        }
+
+        return changedTables.size();
+    }
+
+    private synchronized List<String> readChangedTables() throws SQLException {
+        final Set<String> changedTables = new LinkedHashSet<>();
+        final long threshold = highWaterMark - SKEW_MARGIN;
+        final Connection conn = JdbcUtil.getConnection(ds);
+
+        try (PreparedStatement stmt = conn.prepareStatement(selectSQL)) {
+            stmt.setTimestamp(1, new Timestamp(threshold));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    final String eventId = rs.getString(1);
+                    final String table = rs.getString(2);
+                    final long createTime = rs.getTimestamp(3).getTime();
+
+                    // Nothing is reported by the first read: it only records the rows already published.
+                    if (seenEvents.put(eventId, createTime) == null && isInitialized) {
+                        changedTables.add(table);
+                    }
+
+                    highWaterMark = Math.max(highWaterMark, createTime);
+                }
+            }
+        } finally {
+            JdbcUtil.releaseConnection(conn, ds);
+        }
+
+        // The rows below the margin aren't read again.
+        final long nextThreshold = highWaterMark - SKEW_MARGIN;
+        seenEvents.values().removeIf(createTime -> createTime <= nextThreshold);
+
+        isInitialized = true;
+
+        return new ArrayList<>(changedTables);
+    }
+
+    /**
+     * Deletes the rows older than {@link #RETENTION_PERIOD} milliseconds before {@code now}.
+     *
+     * @param now the current time in milliseconds
+     * @return the number of deleted rows
+     * @throws SQLException if the rows can't be deleted
+     */
+    int removeExpiredRows(final long now) throws SQLException {
+        final int count = JdbcUtil.executeUpdate(ds, deleteExpiredSQL, new Timestamp(now - RETENTION_PERIOD));
+
+        if (logger.isDebugEnabled() && count > 0) {
+            logger.debug("Deleted expired rows of DB change-log(count={})", count);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of invalidations published by this change log.
+     *
+     * @return the number of successful {@link #publish(String)} calls
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     * Returns the number of invalidations that couldn't be published.
+     *
+     * @return the number of failed {@link #publish(String)} calls
+     */
+    public long getFailedPublishCount() {
+        return failedPublishCount.sum();
+    }
+
+    /**
+     * Returns the number of invalidations received by polling, including those published by this node.
+     *
+     * @return the number of changed tables reported to the listeners
+     */
+    public long getReceivedCount() {
+        return receivedCount.sum();
+    }
+
+    /**
+     * Stops polling. The change-log table and its rows are left in place for the other nodes.
+     * This method is idempotent.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+        }
+
+        listeners.clear();
+
+        logger.info("Closed DBChangeLog");
+    }
+
+    private void assertNotClosed() {
+        if (isClosed) {
+            throw new IllegalStateException("This DBChangeLog has been closed");
+        }
+    }
+}
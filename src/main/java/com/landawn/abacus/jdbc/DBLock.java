@@ -16,14 +16,28 @@ package com.landawn.abacus.jdbc;
 
 import java.lang.management.ManagementFactory;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.sql.DataSource;
 
@@ -64,6 +78,9 @@ import com.landawn.abacus.util.Strings;
  *       removed to maintain a clean and efficient lock table.</li>
  *   <li><b>Configurable Behavior:</b> Offers flexible control over lock {@code liveTime}, acquisition
  *       {@code timeout}, and {@code retryInterval} for diverse use cases.</li>
+ *   <li><b>Local Queueing:</b> Threads of the same JVM contending for a target queue, in arrival order,
+ *       on an in-process gate: only one of them polls the lock table, and a lock released while others
+ *       are queued is handed off to the next one without a round trip to the database.</li>
  *   <li><b>Optimistic Locking:</b> Utilizes optimistic locking principles to handle concurrent lock
  *       acquisition attempts efficiently.</li>
  * </ul>
@@ -147,6 +164,16 @@ public final class DBLock {
 
     private static final int MAX_IDLE_TIME = 60 * 1000;
 
+    // A lease is handed off locally only if it has at least this long left before expiry.
+    private static final long MIN_HAND_OFF_LEASE = 2000;
+
+    private static final long INITIAL_ASYNC_RETRY_DELAY = 20;
+
+    private static final long MAX_ASYNC_RETRY_DELAY = 1000;
+
+    // After this many hand-offs in a row, the lock goes back through the table to give other nodes a chance.
+    private static final int MAX_CONSECUTIVE_HAND_OFFS = 16;
+
     static final ScheduledExecutorService scheduledExecutor;
     static {
         final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(8);
@@ -162,6 +189,8 @@ public final class DBLock {
 
     private final Map<String, LockInfo> targetCodePool = new ConcurrentHashMap<>();
 
+    private final Map<String, LocalGate> localGates = new ConcurrentHashMap<>();
+
     private final String removeExpiredLockSQL;
 
     private final String lockSQL;
@@ -170,6 +199,18 @@ public final class DBLock {
 
     private final String refreshSQL;
 
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final LongAdder refreshedLeaseCount = new LongAdder();
+
+    private final LongAdder lostLeaseCount = new LongAdder();
+
+    private final LongAdder failedLeaseCount = new LongAdder();
+
+    private final LongAdder refreshNanos = new LongAdder();
+
+    private final LongAccumulator maxRefreshNanos = new LongAccumulator(Math::max, 0);
+
     private volatile boolean isClosed = false;
 
     /**
@@ -184,9 +225,10 @@ public final class DBLock {
      *       lock code, status, expiry time, update time, and creation time.</li>
      *   <li><b>Dead Lock Cleanup:</b> Removes any locks that were held by previous instances of the
      *       application running on the same host and that were not properly released (e.g., due to crashes).</li>
-     *   <li><b>Background Refresh Task:</b> Initiates a scheduled task that periodically refreshes
-     *       the {@code update_time} and {@code expiry_time} of all currently held locks. This prevents
-     *       long-running operations from losing their locks prematurely.</li>
+     *   <li><b>Background Refresh Task:</b> Initiates a scheduled task that, every second, refreshes
+     *       in one JDBC batch the {@code update_time} and {@code expiry_time} of the held locks approaching
+     *       expiry, and drops the locks found lost. This prevents long-running operations from losing
+     *       their locks prematurely (see {@link #getRefreshStats()}).</li>
      * </ol>
      *
      * <p>The lock table schema is designed to support optimistic locking and automatic expiration.
@@ -241,69 +283,15 @@ public final class DBLock {
             JdbcUtil.releaseConnection(conn, ds);
         }
 
-        final Runnable refreshTask = () -> {
-            if (!targetCodePool.isEmpty()) {
-                try {
-                    final Connection refreshConn = JdbcUtil.getConnection(ds);
-                    try {
-                        int refreshed = 0;
-                        int staleRemoved = 0;
-                        int failed = 0;
-
-                        // Iterate the ConcurrentHashMap directly: its iteration is weakly consistent and the
-                        // stale-entry removal below is the atomic remove(key, value), so no point-in-time
-                        // snapshot is needed.
-                        for (final Map.Entry<String, LockInfo> entry : targetCodePool.entrySet()) {
-                            final LockInfo info = entry.getValue();
-
-                            // Guard each entry individually: one failing refresh (e.g. a transient DB error
-                            // for a single target) must not abort the entire batch and leave the remaining
-                            // locks un-refreshed.
-                            try {
-                                final Timestamp now = Dates.currentTimestamp();
-                                final Timestamp expiry = expiryTimestamp(now, info.liveTime());
-
-                                final int updated = JdbcUtil.executeUpdate(refreshConn, refreshSQL, now, expiry, entry.getKey(), info.code());
-
-                                if (updated == 0) {
-                                    // Remove from pool only if the cached lock instance is still present
-                                    if (targetCodePool.remove(entry.getKey(), info)) {
-                                        staleRemoved++;
-
-                                        if (logger.isWarnEnabled()) {
-                                            logger.warn("Removed stale lock from pool(target={})", entry.getKey());
-                                        }
-                                    }
-                                } else {
-                                    refreshed++;
-                                }
-                            } catch (final SQLException e) {
-                                failed++;
-
-                                if (logger.isWarnEnabled()) {
-                                    logger.warn(e, "Failed to refresh DB lock(target={})", entry.getKey());
-                                }
-                            }
-                        }
-
-                        if (logger.isDebugEnabled() && (refreshed > 0 || staleRemoved > 0 || failed > 0)) {
-                            logger.debug("Refreshed DB locks(refreshed={}, staleRemoved={}, failed={}, active={})", refreshed, staleRemoved, failed,
-                                    targetCodePool.size());
-                        }
-                    } finally {
-                        // releaseConnection belongs in finally so a per-entry failure (or any other exception
-                        // escaping the loop) still releases the refresh connection.
-                        JdbcUtil.releaseConnection(refreshConn, ds);
-                    }
-                } catch (final Exception e) {
-                    if (logger.isWarnEnabled()) {
-                        logger.warn(e, "Error occurred in DB lock refresh task(active={})", targetCodePool.size());
-                    }
+        scheduledFuture = scheduledExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refreshLeases();
+            } catch (final Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn(e, "Error occurred in DB lock refresh task(active={})", targetCodePool.size());
                 }
             }
-        };
-
-        scheduledFuture = scheduledExecutor.scheduleWithFixedDelay(refreshTask, 1000L, 1000L, TimeUnit.MILLISECONDS);
+        }, 1000L, 1000L, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -458,6 +446,19 @@ public final class DBLock {
      * the thread's interrupt status is restored, and {@code null} is returned. When the timeout
      * elapses without success, {@code null} is returned and the last failure (if any) is logged.</p>
      *
+     * <p>While another thread of this JVM holds or is acquiring the lock on the same target, the calling thread
+     * doesn't poll the lock table: it waits, in arrival order, for that thread to finish. When the holder unlocks,
+     * the lease is handed off to the next waiter as is, without a round trip to the database, if the waiter asks
+     * for the same {@code liveTime} and the lease isn't close to expiry; the code of the previous holder then no
+     * longer releases it. After 16 consecutive hand-offs the lock goes back through the table, so that other
+     * nodes get a chance to acquire it.</p>
+     *
+     * <p>The lease is written back to the table once a third of {@code min(liveTime, 60s)} has passed since it was
+     * last written, checked every second. A lease lost in the meantime (for example, its row was reaped after a long
+     * database outage) is therefore only noticed, and dropped from this instance, at its next refresh: up to about
+     * {@code min(liveTime, 60s) / 3 + 1s}, i.e. 21 seconds for a {@code liveTime} of a minute or more, after the
+     * loss. A shorter {@code liveTime} shortens that lag at the cost of more frequent refresh writes.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * DBLock dbLock = JdbcUtil.createDBLock(dataSource, "my_locks_table");
@@ -503,10 +504,141 @@ public final class DBLock {
         N.checkArgNotNegative(retryInterval, "retryInterval");
 
         final String code = Strings.uuid();
+        final long startTime = System.currentTimeMillis();
+        final long endTime = (timeout > Long.MAX_VALUE - startTime) ? Long.MAX_VALUE : startTime + timeout;
+
+        // Only one thread per target polls the lock table; the other threads of this JVM queue on the local gate.
+        final LocalGate gate = enterGate(target);
+        boolean isPermitAcquired = false;
+        boolean isHeld = false;
+
+        try {
+            // Uncontended fast path, which doesn't consume a pending interrupt.
+            isPermitAcquired = !gate.permit.hasQueuedThreads() && gate.permit.tryAcquire();
+
+            if (!isPermitAcquired) {
+                logger.debug("Waiting for the local holder of DB lock(target={}, timeout={})", target, timeout);
 
+                try {
+                    isPermitAcquired = gate.permit.tryAcquire(Math.max(endTime - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    // Preserve the interrupt flag so callers up the stack can detect the cancellation.
+                    Thread.currentThread().interrupt();
+                    logger.warn("Interrupted while waiting for the local holder of DB lock(target={})", target);
+                    return null;
+                }
+
+                if (!isPermitAcquired) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("DB lock was not acquired(target={}) within timeout={}: held by another thread of this JVM", target, timeout);
+                    }
+
+                    return null;
+                }
+            }
+
+            assertNotClosed();
+
+            if (claimHandedOffLease(target, code, liveTime, gate)) {
+                isHeld = true;
+                return code;
+            }
+
+            final String result = acquire(target, code, liveTime, timeout, retryInterval, endTime, gate);
+            isHeld = result != null;
+            return result;
+        } finally {
+            if (!isHeld) {
+                if (isPermitAcquired) {
+                    releasePermit(gate);
+                }
+
+                exitGate(target, gate);
+            }
+        }
+    }
+
+    /**
+     * Asynchronously attempts to acquire a distributed lock on the specified target resource, without blocking any
+     * thread while waiting.
+     *
+     * <p>The acquisition attempts run on the default executor of {@link JdbcUtil}: the first one right away, the next
+     * ones after an exponentially growing delay (from 20 ms up to 1 second) with random jitter, so that contenders don't
+     * retry in lockstep, until the lock is acquired or {@code timeout} elapses. The shared scheduler of {@code DBLock}
+     * only times the delays. While another thread of this JVM holds the lock on the same target, the acquisition is
+     * queued without occupying any thread or touching the lock table, and the holder hands the lock over to it when
+     * unlocking, taking turns with the threads waiting in {@link #lock(String, long, long)}. Cancelling the returned
+     * future stops the attempts; if the lock was acquired concurrently with the cancellation, it's released.</p>
+     *
+     * <p>The returned future is completed on an executor thread: dependent actions that block or take long should be
+     * attached with the {@code *Async} methods of {@link CompletableFuture}.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * dbLock.lockAsync("report_generation", 60_000, 10_000).thenCompose(lockCode -> {
+     *     if (lockCode == null) {
+     *         return CompletableFuture.completedFuture(null);   // Not acquired within 10 seconds
+     *     }
+     *
+     *     return generateReportAsync().whenComplete((r, e) -> dbLock.unlock("report_generation", lockCode));
+     * });
+     * }</pre>
+     *
+     * @param target the unique identifier of the resource to lock. Must not be {@code null} or empty.
+     * @param liveTime the lease-expiry window in milliseconds; the background refresh task extends
+     *        this window while the lock remains held. Must be positive.
+     * @param timeout the maximum time in milliseconds to wait for the lock. Must be non-negative.
+     * @return a future completed with the unique lock code, with {@code null} if the lock could not be acquired within
+     *         the timeout, or exceptionally with {@link IllegalStateException} if this instance is closed meanwhile
+     * @throws IllegalStateException if this {@code DBLock} instance has been closed.
+     * @throws IllegalArgumentException if {@code target} is {@code null} or empty,
+     *         {@code liveTime} is not positive, or {@code timeout} is negative.
+     * @see #lock(String, long, long)
+     */
+    public CompletableFuture<String> lockAsync(final String target, final long liveTime, final long timeout) throws IllegalStateException {
+        return lockAsync(target, liveTime, timeout, JdbcUtil.asyncExecutor.getExecutor());
+    }
+
+    /**
+     * Acquires a lock on the specified target asynchronously, running the acquisition attempts on the specified executor.
+     * Otherwise the same as {@link #lockAsync(String, long, long)}.
+     *
+     * <p>A dedicated executor keeps the attempts, which block on JDBC, from competing with the other asynchronous work
+     * of the application. The returned future is completed on a thread
+     * of {@code executor}. If {@code executor} rejects an attempt, the future is completed exceptionally with the
+     * {@link RejectedExecutionException}.</p>
+     *
+     * @param target the unique identifier of the resource to lock. Must not be {@code null} or empty.
+     * @param liveTime the lease-expiry window in milliseconds; the background refresh task extends
+     *        this window while the lock remains held. Must be positive.
+     * @param timeout the maximum time in milliseconds to wait for the lock. Must be non-negative.
+     * @param executor the executor to run the acquisition attempts on. Must not be {@code null}.
+     * @return a future completed with the unique lock code, with {@code null} if the lock could not be acquired within
+     *         the timeout, or exceptionally with {@link IllegalStateException} if this instance is closed meanwhile
+     * @throws IllegalStateException if this {@code DBLock} instance has been closed.
+     * @throws IllegalArgumentException if {@code target} is {@code null} or empty, {@code liveTime} is not positive,
+     *         {@code timeout} is negative, or {@code executor} is {@code null}.
+     * @see #lockAsync(String, long, long)
+     */
+    public CompletableFuture<String> lockAsync(final String target, final long liveTime, final long timeout, final Executor executor)
+            throws IllegalStateException {
+        assertNotClosed();
+        N.checkArgNotEmpty(target, "target");
+        N.checkArgPositive(liveTime, "liveTime");
+        N.checkArgNotNegative(timeout, "timeout");
+        N.checkArgNotNull(executor, "executor");
+
+        final long startTime = System.currentTimeMillis();
+        final long endTime = (timeout > Long.MAX_VALUE - startTime) ? Long.MAX_VALUE : startTime + timeout;
+
+        logger.debug("Trying to acquire DB lock asynchronously(target={}, liveTime={}, timeout={})", target, liveTime, timeout);
+
+        return new AsyncAcquisition(target, liveTime, endTime, executor).start();
+    }
+
+    private String acquire(final String target, final String code, final long liveTime, final long timeout, final long retryInterval, final long endTime,
+            final LocalGate gate) {
         Timestamp now = Dates.currentTimestamp();
-        final long nowTime = now.getTime();
-        final long endTime = (timeout > Long.MAX_VALUE - nowTime) ? Long.MAX_VALUE : nowTime + timeout;
         int attempts = 0;
         final long maxAttemptsLong = timeout / Math.max(retryInterval, 1);
         final long maxAttemptsWithBuffer = maxAttemptsLong >= (Integer.MAX_VALUE - 1000L) ? Integer.MAX_VALUE : maxAttemptsLong + 1000L; // Safeguard against infinite loop
@@ -520,32 +652,9 @@ public final class DBLock {
         logger.debug("Trying to acquire DB lock(target={}, liveTime={}, timeout={}, retryInterval={})", target, liveTime, timeout, retryInterval);
 
         do {
-            removeExpiredLock(target);
-            now = Dates.currentTimestamp();
-
             try {
-                if (JdbcUtil.executeUpdate(ds, lockSQL, hostName, target, code, LOCKED, expiryTimestamp(now, liveTime), now, now) > 0) {
-                    // Linearize successful acquisition with close(), which synchronizes on the same
-                    // monitor. A plain post-insert volatile check still allowed close() to run after
-                    // that check but before this method returned, so lock() could report success for
-                    // a row close() had already deleted.
-                    synchronized (this) {
-                        if (isClosed) {
-                            try {
-                                JdbcUtil.executeUpdate(ds, unlockSQL, target, code);
-                            } catch (final Exception cleanupFailure) {
-                                logger.warn(cleanupFailure, "Failed to remove DB lock acquired concurrently with close(target={})", target);
-                            }
-
-                            throw new IllegalStateException("This DBLock has been closed");
-                        }
-
-                        targetCodePool.put(target, new LockInfo(code, liveTime));
-
-                        logger.info("Acquired DB lock(target={}, liveTime={}, attempts={})", target, liveTime, attempts + 1);
-
-                        return code;
-                    }
+                if (insertLock(target, code, liveTime, hostName, gate, attempts + 1)) {
+                    return code;
                 }
             } catch (final IllegalStateException e) {
                 // The closed-instance check above must not be swallowed by the retry loop.
@@ -598,6 +707,275 @@ public final class DBLock {
         return null;
     }
 
+    /**
+     * Removes the expired lock on the target, if any, and tries once to insert the lock row.
+     *
+     * @return {@code true} if the lock has been acquired
+     * @throws IllegalStateException if this instance has been closed concurrently
+     * @throws Exception if the insert fails, typically because the target is locked
+     */
+    private boolean insertLock(final String target, final String code, final long liveTime, final String hostName, final LocalGate gate,
+            final int attempt) throws Exception {
+        removeExpiredLock(target);
+        final Timestamp now = Dates.currentTimestamp();
+
+        if (JdbcUtil.executeUpdate(ds, lockSQL, hostName, target, code, LOCKED, expiryTimestamp(now, liveTime), now, now) > 0) {
+            // Linearize successful acquisition with close(), which synchronizes on the same
+            // monitor. A plain post-insert volatile check still allowed close() to run after
+            // that check but before this method returned, so lock() could report success for
+            // a row close() had already deleted.
+            synchronized (this) {
+                if (isClosed) {
+                    try {
+                        JdbcUtil.executeUpdate(ds, unlockSQL, target, code);
+                    } catch (final Exception cleanupFailure) {
+                        logger.warn(cleanupFailure, "Failed to remove DB lock acquired concurrently with close(target={})", target);
+                    }
+
+                    throw new IllegalStateException("This DBLock has been closed");
+                }
+
+                gate.holderCode = code;
+                gate.handOffCount = 0;
+                targetCodePool.put(target, new LockInfo(code, liveTime, now.getTime()));
+
+                logger.info("Acquired DB lock(target={}, liveTime={}, attempts={})", target, liveTime, attempt);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Takes over the lease that the previous local holder handed off on {@link #unlock(String, String) unlock}, without
+     * touching the lock table, if the lease was taken with the same {@code liveTime} and is neither lost nor close to
+     * expiry. Otherwise the handed-off lease is released, and the lock is acquired through the table as usual.
+     */
+    private boolean claimHandedOffLease(final String target, final String code, final long liveTime, final LocalGate gate) {
+        final LockInfo handedOff = gate.takeHandedOff();
+
+        if (handedOff == null) {
+            return false;
+        }
+
+        if (handedOff.liveTime() == liveTime && handedOff.refreshedAt + liveTime - System.currentTimeMillis() >= MIN_HAND_OFF_LEASE
+                && targetCodePool.get(target) == handedOff) {
+            // Synchronized with close(), like the acquisition through the table.
+            synchronized (this) {
+                assertNotClosed();
+
+                gate.holderCode = code;
+                gate.handOffCount++;
+            }
+
+            logger.info("Acquired DB lock by local hand-off(target={}, liveTime={}, handOffs={})", target, liveTime, gate.handOffCount);
+
+            return true;
+        }
+
+        releaseLease(target, handedOff);
+
+        return false;
+    }
+
+    private LocalGate enterGate(final String target) {
+        return localGates.compute(target, (k, gate) -> {
+            final LocalGate result = gate == null ? new LocalGate() : gate;
+            result.users++;
+            return result;
+        });
+    }
+
+    private void exitGate(final String target, final LocalGate gate) {
+        localGates.computeIfPresent(target, (k, g) -> g == gate && --g.users == 0 ? null : g);
+    }
+
+    private void releaseLease(final String target, final LockInfo info) {
+        if (targetCodePool.remove(target, info)) {
+            try {
+                JdbcUtil.executeUpdate(ds, unlockSQL, target, info.code());
+                logger.info("Released unclaimed DB lock(target={})", target);
+            } catch (final Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn(e, "Failed to release unclaimed DB lock(target={})", target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the leases handed off by {@link #unlock(String, String) unlock} to a local waiter that gave up (timed
+     * out or was interrupted) before claiming them, so they are not refreshed forever.
+     */
+    private void releaseUnclaimedHandOffs() {
+        for (final Map.Entry<String, LockInfo> entry : targetCodePool.entrySet()) {
+            final String target = entry.getKey();
+            final LocalGate gate = localGates.get(target);
+
+            if (gate == null) {
+                // All the local threads left: nobody is left to claim the lease.
+                releaseLease(target, entry.getValue());
+            } else if (gate.holderCode == null && gate.handedOff == entry.getValue()) {
+                boolean isPermitAcquired = false;
+
+                try {
+                    // Fair: fails while a waiter is queued for the permit.
+                    isPermitAcquired = gate.permit.tryAcquire(0, TimeUnit.MILLISECONDS);
+
+                    if (isPermitAcquired) {
+                        final LockInfo handedOff = gate.takeHandedOff();
+
+                        if (handedOff != null) {
+                            releaseLease(target, handedOff);
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    if (isPermitAcquired) {
+                        releasePermit(gate);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes, in one JDBC batch, the leases held by this instance that are due: those last written more than a
+     * third of {@code min(liveTime, 60s)} ago, 60 seconds being the idle time after which any node may reap a row that
+     * is no longer refreshed. A lease whose row is no longer found (expired and reaped, or deleted) is lost and is
+     * dropped from this instance. Called every second by the refresh task, so a loss is detected up to
+     * {@code min(liveTime, 60s) / 3} plus one second after it happens.
+     */
+    void refreshLeases() {
+        if (targetCodePool.isEmpty()) {
+            return;
+        }
+
+        releaseUnclaimedHandOffs();
+
+        final long now = System.currentTimeMillis();
+        final List<Map.Entry<String, LockInfo>> dueLeases = new ArrayList<>();
+
+        // Iterate the ConcurrentHashMap directly: its iteration is weakly consistent and the lost-lease removal below
+        // is the atomic remove(key, value), so no point-in-time snapshot is needed.
+        for (final Map.Entry<String, LockInfo> entry : targetCodePool.entrySet()) {
+            final LockInfo info = entry.getValue();
+
+            if (now - info.refreshedAt >= Math.min(info.liveTime(), MAX_IDLE_TIME) / 3) {
+                dueLeases.add(Map.entry(entry.getKey(), info));
+            }
+        }
+
+        if (dueLeases.isEmpty()) {
+            return;
+        }
+
+        final long startNanos = System.nanoTime();
+        final Timestamp nowTimestamp = Dates.createTimestamp(now);
+        int refreshed = 0;
+        int lost = 0;
+        int failed = 0;
+
+        try {
+            final Connection conn = JdbcUtil.getConnection(ds);
+
+            try {
+                int[] updateCounts = null;
+
+                try (PreparedStatement stmt = conn.prepareStatement(refreshSQL)) {
+                    for (final Map.Entry<String, LockInfo> lease : dueLeases) {
+                        stmt.setTimestamp(1, nowTimestamp);
+                        stmt.setTimestamp(2, expiryTimestamp(nowTimestamp, lease.getValue().liveTime()));
+                        stmt.setString(3, lease.getKey());
+                        stmt.setString(4, lease.getValue().code());
+                        stmt.addBatch();
+                    }
+
+                    updateCounts = stmt.executeBatch();
+                } catch (final SQLException e) {
+                    // E.g. a BatchUpdateException for one lease: retried one by one below, so that a single failing
+                    // lease doesn't leave the others un-refreshed.
+                    if (logger.isWarnEnabled()) {
+                        logger.warn(e, "Failed to refresh DB locks in batch(due={}); refreshing them one by one", dueLeases.size());
+                    }
+                }
+
+                for (int i = 0, size = dueLeases.size(); i < size; i++) {
+                    final String target = dueLeases.get(i).getKey();
+                    final LockInfo info = dueLeases.get(i).getValue();
+                    int updated;
+
+                    if (updateCounts != null && i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                        updated = updateCounts[i]; // Statement.SUCCESS_NO_INFO (-2) counts as refreshed.
+                    } else {
+                        try {
+                            updated = JdbcUtil.executeUpdate(conn, refreshSQL, nowTimestamp, expiryTimestamp(nowTimestamp, info.liveTime()), target,
+                                    info.code());
+                        } catch (final SQLException e) {
+                            failed++;
+
+                            if (logger.isWarnEnabled()) {
+                                logger.warn(e, "Failed to refresh DB lock(target={})", target);
+                            }
+
+                            continue;
+                        }
+                    }
+
+                    if (updated == 0) {
+                        // Remove from pool only if the cached lock instance is still present
+                        if (targetCodePool.remove(target, info)) {
+                            lost++;
+
+                            if (logger.isWarnEnabled()) {
+                                logger.warn("Lost DB lock; removed it from pool(target={})", target);
+                            }
+                        }
+                    } else {
+                        info.refreshedAt = now;
+                        refreshed++;
+                    }
+                }
+            } finally {
+                JdbcUtil.releaseConnection(conn, ds);
+            }
+        } finally {
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            refreshCount.increment();
+            refreshNanos.add(elapsedNanos);
+            maxRefreshNanos.accumulate(elapsedNanos);
+            refreshedLeaseCount.add(refreshed);
+            lostLeaseCount.add(lost);
+            failedLeaseCount.add(failed);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Refreshed DB locks(due={}, refreshed={}, lost={}, failed={}, active={}, elapsedMillis={})", dueLeases.size(), refreshed, lost,
+                    failed, targetCodePool.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Returns the cumulative statistics of the background lease refresh of this instance.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * DBLock.RefreshStats stats = dbLock.getRefreshStats();
+     * logger.info("lostLeases={}, avgRefreshMillis={}", stats.lostLeaseCount(), stats.averageRefreshMillis());
+     * }</pre>
+     *
+     * @return a snapshot of the refresh counters
+     */
+    public RefreshStats getRefreshStats() {
+        return new RefreshStats(refreshCount.sum(), refreshedLeaseCount.sum(), lostLeaseCount.sum(), failedLeaseCount.sum(), refreshNanos.sum(),
+                maxRefreshNanos.get());
+    }
+
     private static Timestamp expiryTimestamp(final Timestamp now, final long liveTime) {
         final long nowTime = now.getTime();
 
@@ -666,7 +1044,21 @@ public final class DBLock {
         N.checkArgNotEmpty(target, "target");
         N.checkArgNotEmpty(code, "code");
 
+        final LocalGate gate = localGates.get(target);
+
+        if (gate != null && code.equals(gate.holderCode)) {
+            return unlockLocalHolder(target, gate);
+        }
+
         final LockInfo lockInfo = targetCodePool.get(target);
+
+        if (gate != null && lockInfo != null && (gate.holderCode != null || gate.handedOff == lockInfo) && Strings.equals(code, lockInfo.code())) {
+            // The lease has been handed off to another local holder: the code of the thread that inserted the row no
+            // longer owns it.
+            logger.warn("DB lock was not released(target={}); it has been handed off to another owner", target);
+            return false;
+        }
+
         final boolean shouldRemoveFromLocal = lockInfo != null && Strings.equals(code, lockInfo.code());
         final boolean unlocked;
 
@@ -690,6 +1082,49 @@ public final class DBLock {
         return unlocked;
     }
 
+    private boolean unlockLocalHolder(final String target, final LocalGate gate) {
+        gate.holderCode = null;
+
+        try {
+            final LockInfo lockInfo = targetCodePool.get(target);
+
+            // Hand the lease off to the next local waiter instead of deleting the row for it to insert it again, unless
+            // other nodes have been kept waiting through too many consecutive hand-offs.
+            if (lockInfo != null && gate.handOffCount < MAX_CONSECUTIVE_HAND_OFFS && gate.hasWaiters()) {
+                gate.handedOff = lockInfo;
+
+                logger.info("Released DB lock(target={}) by local hand-off", target);
+
+                return true;
+            }
+
+            final boolean unlocked;
+
+            try {
+                // The row keeps the code of the thread that inserted it, which differs from the holder's after a hand-off.
+                unlocked = lockInfo != null && JdbcUtil.executeUpdate(ds, unlockSQL, target, lockInfo.code()) > 0;
+            } catch (final SQLException e) {
+                logger.warn(e, "Failed to release DB lock(target={})", target);
+                throw new UncheckedSQLException(e);
+            }
+
+            if (lockInfo != null) {
+                targetCodePool.remove(target, lockInfo);
+            }
+
+            if (unlocked) {
+                logger.info("Released DB lock(target={})", target);
+            } else {
+                logger.warn("DB lock was not released(target={}); it may have expired or been released by another owner", target);
+            }
+
+            return unlocked;
+        } finally {
+            releasePermit(gate);
+            exitGate(target, gate);
+        }
+    }
+
     /**
      * Closes this {@code DBLock} instance, releasing all associated resources.
      * This includes stopping the background scheduled task that refreshes locks
@@ -765,6 +1200,11 @@ public final class DBLock {
 
         targetCodePool.clear();
 
+        // Wakes up the threads waiting for a local holder: each one fails with IllegalStateException and wakes the next.
+        for (final LocalGate gate : localGates.values()) {
+            gate.permit.release();
+        }
+
         logger.info("Closed DBLock");
     }
 
@@ -774,7 +1214,381 @@ public final class DBLock {
         }
     }
 
-    private record LockInfo(String code, long liveTime) {
+    /**
+     * Cumulative statistics of the background lease refresh of a {@code DBLock}.
+     *
+     * @param refreshCount the number of refresh rounds that had at least one due lease, each issuing one JDBC batch
+     * @param refreshedLeaseCount the number of leases extended
+     * @param lostLeaseCount the number of leases found lost, i.e. whose row had expired and been reaped or was deleted;
+     *        a loss is only counted at the lease's next refresh (see {@link DBLock#lock(String, long, long, long)})
+     * @param failedLeaseCount the number of lease refreshes that failed with an error, to be retried in the next round
+     * @param totalRefreshNanos the total time spent in refresh rounds, in nanoseconds
+     * @param maxRefreshNanos the longest refresh round, in nanoseconds
+     */
+    public record RefreshStats(long refreshCount, long refreshedLeaseCount, long lostLeaseCount, long failedLeaseCount, long totalRefreshNanos,
+            long maxRefreshNanos) {
+
+        /**
+         * Returns the average duration of a refresh round.
+         *
+         * @return the average in milliseconds, or {@code 0} if there has been no refresh round
+         */
+        public double averageRefreshMillis() {
+            return refreshCount == 0 ? 0 : totalRefreshNanos / 1_000_000.0 / refreshCount;
+        }
+    }
+
+    /**
+     * One {@link #lockAsync(String, long, long) asynchronous} acquisition: each attempt is a task on the executor, and the
+     * scheduler submits the next one after the backoff. The attempts run outside of the monitor of this object, so that
+     * the cancellation never waits for JDBC; a running attempt finishes the acquisition itself when it's cancelled.
+     *
+     * <p>No thread waits for a local holder of the lock: between two attempts, the acquisition is queued on the gate, and
+     * the holder hands the permit over to it when releasing it, which submits the next attempt right away.</p>
+     */
+    private final class AsyncAcquisition {
+        private final String target;
+        private final long liveTime;
+        private final long endTime;
+        private final Executor executor;
+        private final String code = Strings.uuid();
+        private final String hostName = IOUtil.getHostName();
+        private final LocalGate gate;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        // The fields below are guarded by this, except isPermitAcquired, which only the running attempt touches while
+        // one is running. The monitor is never held during an attempt, nor while the permit is released.
+        private ScheduledFuture<?> nextAttempt;
+        private boolean isRunning = false;
+        private boolean isQueued = false;
+        private boolean isCancelled = false;
+        private boolean isPermitAcquired = false;
+        private boolean isDone = false;
+        private int attempts = 0;
+        private Exception lastException;
+
+        AsyncAcquisition(final String target, final long liveTime, final long endTime, final Executor executor) {
+            this.target = target;
+            this.liveTime = liveTime;
+            this.endTime = endTime;
+            this.executor = executor;
+            gate = enterGate(target);
+        }
+
+        CompletableFuture<String> start() {
+            result.whenComplete((r, e) -> {
+                if (e instanceof CancellationException) {
+                    cancel();
+                }
+            });
+
+            submitAttempt();
+
+            return result;
+        }
+
+        private void submitAttempt() {
+            try {
+                executor.execute(this::attempt);
+            } catch (final RejectedExecutionException e) {
+                final boolean isPermitToRelease;
+
+                synchronized (this) {
+                    if (isDone || isRunning) {
+                        return;
+                    }
+
+                    isPermitToRelease = finish();
+                }
+
+                leave(isPermitToRelease);
+                result.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Hands the permit released by a local holder over to this acquisition, and submits its next attempt right away.
+         *
+         * @return {@code false} if this acquisition is done or has an attempt running, and can't take the permit
+         */
+        boolean offerPermit() {
+            synchronized (this) {
+                isQueued = false;
+
+                if (isDone || isCancelled || isRunning || isPermitAcquired) {
+                    return false;
+                }
+
+                isPermitAcquired = true;
+
+                if (nextAttempt != null) {
+                    nextAttempt.cancel(false);
+                    nextAttempt = null;
+                }
+            }
+
+            submitAttempt();
+
+            return true;
+        }
+
+        private void attempt() {
+            synchronized (this) {
+                if (isDone || isCancelled || isRunning) {
+                    return;
+                }
+
+                nextAttempt = null;
+                isRunning = true;
+                attempts++;
+            }
+
+            String acquired = null;
+            Exception failure = null;
+
+            try {
+                acquired = tryAcquire();
+            } catch (final Exception e) {
+                failure = e;
+            }
+
+            final boolean isPermitToRelease;
+            final boolean isCancelledMeanwhile;
+
+            synchronized (this) {
+                isRunning = false;
+                isCancelledMeanwhile = isCancelled;
+
+                if (acquired != null) {
+                    // The permit is now owned by the lock holder, and released by unlock().
+                    isDone = true;
+                    isPermitToRelease = false;
+                } else if (isCancelled || failure != null || System.currentTimeMillis() >= endTime) {
+                    isPermitToRelease = finish();
+                } else {
+                    long delay = Math.min(backoffDelay(attempts), endTime - System.currentTimeMillis());
+
+                    if (!isPermitAcquired && !isQueued) {
+                        isQueued = true;
+                        gate.asyncWaiters.add(this);
+
+                        // The holder may have released the permit before this acquisition was queued.
+                        if (gate.permit.availablePermits() > 0) {
+                            delay = 0;
+                        }
+                    }
+
+                    // The scheduler only times the backoff: the attempt itself runs on the executor.
+                    nextAttempt = scheduledExecutor.schedule(this::submitAttempt, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+
+            if (acquired != null) {
+                if (!result.complete(acquired)) {
+                    // Cancelled while the lock was being acquired.
+                    unlockQuietly();
+                }
+            } else if (isCancelledMeanwhile) {
+                leave(isPermitToRelease);
+            } else if (failure != null) {
+                leave(isPermitToRelease);
+                result.completeExceptionally(failure);
+            } else {
+                leave(isPermitToRelease);
+
+                if (lastException == null) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("DB lock was not acquired asynchronously(target={}) after attempts={}", target, attempts);
+                    }
+                } else if (logger.isWarnEnabled()) {
+                    logger.warn(lastException, "Failed to acquire DB lock asynchronously(target={}) after attempts={}", target, attempts);
+                }
+
+                result.complete(null);
+            }
+        }
+
+        private String tryAcquire() {
+            assertNotClosed();
+
+            if (!isPermitAcquired) {
+                // Never barges in front of the threads queued in lock(); when the permit is held, the next attempt is
+                // submitted by the holder releasing it, or after the backoff.
+                isPermitAcquired = !gate.permit.hasQueuedThreads() && gate.permit.tryAcquire();
+
+                if (!isPermitAcquired) {
+                    return null;
+                }
+            }
+
+            synchronized (this) {
+                if (isQueued) {
+                    isQueued = false;
+                    gate.asyncWaiters.remove(this);
+                }
+
+                if (isCancelled) {
+                    return null;
+                }
+            }
+
+            if (claimHandedOffLease(target, code, liveTime, gate)) {
+                return code;
+            }
+
+            try {
+                return insertLock(target, code, liveTime, hostName, gate, attempts) ? code : null;
+            } catch (final IllegalStateException e) {
+                throw e;
+            } catch (final Exception e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(e, "Failed to acquire DB lock asynchronously(target={}, attempt={})", target, attempts);
+                }
+
+                lastException = e;
+                return null;
+            }
+        }
+
+        private void cancel() {
+            final boolean isPermitToRelease;
+
+            synchronized (this) {
+                if (isDone || isCancelled) {
+                    return;
+                }
+
+                isCancelled = true;
+
+                if (nextAttempt != null) {
+                    nextAttempt.cancel(false);
+                    nextAttempt = null;
+                }
+
+                logger.debug("Cancelled asynchronous acquisition of DB lock(target={}, attempts={})", target, attempts);
+
+                // A running attempt finishes by itself, when it returns.
+                if (isRunning) {
+                    return;
+                }
+
+                isPermitToRelease = finish();
+            }
+
+            leave(isPermitToRelease);
+        }
+
+        // Called under the monitor, when the lock was not acquired and no attempt is running. Returns whether the permit
+        // is to be released, which leave(boolean) does once out of the monitor.
+        private boolean finish() {
+            isDone = true;
+
+            if (isQueued) {
+                isQueued = false;
+                gate.asyncWaiters.remove(this);
+            }
+
+            final boolean isPermitToRelease = isPermitAcquired;
+            isPermitAcquired = false;
+
+            return isPermitToRelease;
+        }
+
+        private void leave(final boolean isPermitToRelease) {
+            if (isPermitToRelease) {
+                releasePermit(gate);
+            }
+
+            exitGate(target, gate);
+        }
+
+        private void unlockQuietly() {
+            try {
+                unlock(target, code);
+            } catch (final Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn(e, "Failed to release DB lock acquired concurrently with cancellation(target={})", target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of a gate: to the next queued asynchronous acquisition, or to the threads queued in
+     * {@code lock()}. The two kinds of waiters take turns, so that neither starves the other.
+     */
+    private static void releasePermit(final LocalGate gate) {
+        if (!gate.permit.hasQueuedThreads() || !gate.isLastHandedToAsync) {
+            AsyncAcquisition waiter;
+
+            while ((waiter = gate.asyncWaiters.poll()) != null) {
+                if (waiter.offerPermit()) {
+                    gate.isLastHandedToAsync = true;
+                    return;
+                }
+            }
+        }
+
+        gate.isLastHandedToAsync = false;
+        gate.permit.release();
+    }
+
+    /**
+     * Returns the delay before the next asynchronous acquisition attempt: exponential, capped at
+     * {@code MAX_ASYNC_RETRY_DELAY}, with "equal jitter" (a random half on top of a fixed half).
+     */
+    static long backoffDelay(final int attempts) {
+        final long delay = Math.min(MAX_ASYNC_RETRY_DELAY, INITIAL_ASYNC_RETRY_DELAY << Math.min(attempts - 1, 16));
+        final long half = delay / 2;
+
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
 
+    /**
+     * Local queue of the threads of this JVM contending for a target. The permit is held from acquisition to release of
+     * the lock, so only its holder polls the lock table, and the waiters are served in arrival order.
+     */
+    private static final class LocalGate {
+        final Semaphore permit = new Semaphore(1, true);
+        // Asynchronous acquisitions waiting for the permit between two attempts.
+        final Queue<AsyncAcquisition> asyncWaiters = new ConcurrentLinkedQueue<>();
+        volatile boolean isLastHandedToAsync;
+        // Threads in lock() or holding the lock, guarded by localGates.compute.
+        int users;
+        volatile String holderCode;
+        // The lease released by unlock() for the next waiter to take over.
+        volatile LockInfo handedOff;
+        volatile int handOffCount;
+
+        boolean hasWaiters() {
+            return permit.hasQueuedThreads() || !asyncWaiters.isEmpty();
+        }
+
+        synchronized LockInfo takeHandedOff() {
+            final LockInfo result = handedOff;
+            handedOff = null;
+            return result;
+        }
+    }
+
+    private static final class LockInfo {
+        private final String code;
+        private final long liveTime;
+        // The last time the lease was written to the lock table.
+        volatile long refreshedAt;
+
+        LockInfo(final String code, final long liveTime, final long refreshedAt) {
+            this.code = code;
+            this.liveTime = liveTime;
+            this.refreshedAt = refreshedAt;
+        }
+
+        String code() {
+            return code;
+        }
+
+        long liveTime() {
+            return liveTime;
+        }
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries DAO cache invalidations between JVMs, so that a write on one node evicts the cached results of the written
+ * table on every other node instead of leaving them stale until they expire.
+ *
+ * <p>Once installed with {@link JdbcUtil#setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)}, the
+ * table of every {@code @RefreshCache} invalidation performed by a DAO is {@link #publish(String) published}, and every
+ * table name delivered to the subscribed listener is evicted from all the DAO caches of this JVM through
+ * {@link Jdbc.DaoCache#invalidateTable(String)}. Writes that don't go through a cacheable DAO can be published with
+ * {@link JdbcUtil#publishDaoCacheInvalidation(String)}.</p>
+ *
+ * <p>{@link DBChangeLog} is the built-in transport: it needs nothing but the database. Other transports (a message
+ * broker, Redis pub/sub, ...) can be plugged in by implementing this interface. A transport may deliver a node's own
+ * invalidations back to it, and may deliver an invalidation more than once: evicting is idempotent.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * // At application start-up, on every node.
+ * JdbcUtil.setDaoCacheInvalidationTransportGlobally(JdbcUtil.createDBChangeLog(dataSource, "dao_cache_change_log"));
+ * }</pre>
+ *
+ * @see DBChangeLog
+ * @see JdbcUtil#setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)
+ */
+public interface DaoCacheInvalidationTransport {
+
+    /**
+     * Announces to all the nodes that the data of a table has changed.
+     *
+     * @param tableName the name of the written table
+     * @throws IllegalArgumentException if {@code tableName} is {@code null} or empty
+     */
+    void publish(String tableName);
+
+    /**
+     * Registers a listener to be called with the name of each table whose change was published, typically from
+     * another node. The listener may be called from any thread.
+     *
+     * @param listener the listener
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    void subscribe(Consumer<String> listener);
+
+    /**
+     * Stops delivering invalidations and releases the resources of this transport.
+     */
+    void close();
+}
@@ -28,6 +28,8 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -37,13 +39,18 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import com.landawn.abacus.annotation.Internal;
@@ -56,6 +63,7 @@ import com.landawn.abacus.jdbc.Jdbc.Columns.ColumnOne;
 import com.landawn.abacus.jdbc.Jdbc.HandlerFactory;
 import com.landawn.abacus.jdbc.annotation.Bind;
 import com.landawn.abacus.jdbc.annotation.BindList;
+import com.landawn.abacus.jdbc.annotation.CacheKeyStrategy;
 import com.landawn.abacus.jdbc.annotation.CacheResult;
 import com.landawn.abacus.jdbc.annotation.CacheSerialization;
 import com.landawn.abacus.jdbc.annotation.DaoConfig;
@@ -78,11 +86,14 @@ import com.landawn.abacus.jdbc.annotation.SqlScript;
 import com.landawn.abacus.jdbc.annotation.SqlSource;
 import com.landawn.abacus.jdbc.annotation.Transactional;
 import com.landawn.abacus.jdbc.dao.CrudDao;
+import com.landawn.abacus.jdbc.dao.CrudReadOps;
 import com.landawn.abacus.jdbc.dao.Dao;
 import com.landawn.abacus.jdbc.dao.DaoBase;
 import com.landawn.abacus.jdbc.dao.DaoUtil;
 import com.landawn.abacus.jdbc.dao.NonUpdateDao;
 import com.landawn.abacus.jdbc.dao.ReadOnlyDao;
+import com.landawn.abacus.jdbc.dao.UncheckedCrudDao;
+import com.landawn.abacus.jdbc.dao.UncheckedCrudReadOps;
 import com.landawn.abacus.logging.Logger;
 import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.parser.JsonParser;
@@ -236,6 +247,9 @@ final class DaoImpl {
 
     private static final JsonSerConfig jsc_no_bracket = JsonSerConfig.create().setStringQuotation(JdbcUtil.CHAR_ZERO).setBracketRootValue(false);
 
+    // Matches SQL ending with the opening of an IN list, e.g. "... WHERE id IN (".
+    private static final Pattern IN_CLAUSE_OPENING = Pattern.compile("(?i)\\bIN\\s*\\(\\s*$");
+
     static final ThreadLocal<Boolean> isInDaoMethod_TL = ThreadLocal.withInitial(() -> false);
 
     @SuppressWarnings("rawtypes")
@@ -1338,7 +1352,7 @@ final class DaoImpl {
     @SuppressWarnings("rawtypes")
     private static Jdbc.BiParametersSetter<AbstractQuery, Object[]> createParametersSetter(final QueryInfo queryInfo, final String fullClassMethodName,
             final Method method, final Class<?>[] paramTypes, final int paramLen, final int fragmentParamLen, final int[] stmtParamIndexes,
-            final boolean[] bindListParamFlags, final int stmtParamLen) {
+            final boolean[] bindListParamFlags, final boolean[] paddedBindListParamFlags, final int stmtParamLen) {
 
         Jdbc.BiParametersSetter<AbstractQuery, Object[]> parametersSetter = null;
 
@@ -1442,6 +1456,10 @@ final class DaoImpl {
                                 preparedQuery.setObject(idx++, Array.get(paramOne, j));
                             }
                         }
+
+                        if (paddedBindListParamFlags[0]) {
+                            padInClauseBindListParam(preparedQuery, idx, paramOne);
+                        }
                     };
                 } else if (queryInfo.isSingleParameter) {
                     parametersSetter = (preparedQuery, args) -> preparedQuery.setObject(1, args[stmtParamIndexes[0]]);
@@ -1556,6 +1574,10 @@ final class DaoImpl {
                                         preparedQuery.setObject(idx++, Array.get(paramOne, j));
                                     }
                                 }
+
+                                if (paddedBindListParamFlags[i]) {
+                                    idx = padInClauseBindListParam(preparedQuery, idx, paramOne);
+                                }
                             } else {
                                 preparedQuery.setObject(idx++, args[stmtParamIndexes[i]]);
                             }
@@ -1813,6 +1835,97 @@ final class DaoImpl {
         }
     }
 
+    /**
+     * Makes a {@link CacheSerialization#FROZEN} result read-only: a {@code Dataset} is frozen in place and a
+     * {@code List}/{@code Set}/{@code Map} is wrapped in its immutable counterpart, if the method's return type allows it.
+     * Other results (and their elements) are shared as they are.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Object freezeCacheResult(final Object result, final Class<?> returnType) {
+        if (result == null || result instanceof Immutable) {
+            return result;
+        } else if (result instanceof final Dataset dataset) {
+            dataset.freeze();
+            return dataset;
+        } else if (result instanceof final List list && returnType.isAssignableFrom(ImmutableList.class)) {
+            return ImmutableList.wrap(list);
+        } else if (result instanceof final Set set && returnType.isAssignableFrom(ImmutableSet.class)) {
+            return ImmutableSet.wrap(set);
+        } else if (result instanceof final Map map && returnType.isAssignableFrom(ImmutableMap.class)) {
+            return ImmutableMap.wrap(map);
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the default {@code batchGet(ids, selectPropNames, batchSize)} once per chunk of {@code idList} on {@code executor},
+     * keeping at most {@code parallelism} chunks in flight. Chunk results are appended in chunk order, so the merged list is
+     * what the sequential loop would return. The first failure cancels the chunks that haven't started and is rethrown as is.
+     *
+     * <p>A chunk the executor hasn't started when its result is needed runs on the caller thread, so a caller that is itself
+     * a thread of {@code executor} (e.g. through {@code asyncCall}) never waits for a task queued behind it.</p>
+     */
+    static List<Object> batchGetInParallel(final MethodHandle boundBatchGet, final List<Object> idList, final Collection<String> selectPropNames,
+            final int batchSize, final int parallelism, final Executor executor) throws Throwable {
+        final int size = idList.size();
+        final int chunkCount = (size + batchSize - 1) / batchSize;
+        final List<FutureTask<List<Object>>> tasks = new ArrayList<>(chunkCount);
+        final List<Object> resultList = new ArrayList<>(size);
+        int merged = 0;
+
+        try {
+            for (int i = 0; i < chunkCount; i++) {
+                if (i - merged >= parallelism) {
+                    resultList.addAll(getChunkResult(tasks.get(merged++)));
+                }
+
+                final List<Object> chunk = idList.subList(i * batchSize, Math.min((i + 1) * batchSize, size));
+                final FutureTask<List<Object>> task = new FutureTask<>(() -> {
+                    try {
+                        return (List<Object>) boundBatchGet.invokeWithArguments(chunk, selectPropNames, chunk.size());
+                    } catch (final Exception | Error e) {
+                        throw e;
+                    } catch (final Throwable e) { //NOSONAR
+                        throw new UndeclaredThrowableException(e);
+                    }
+                });
+
+                tasks.add(task);
+
+                try {
+                    executor.execute(task);
+                } catch (final RejectedExecutionException e) {
+                    task.run();
+                }
+            }
+
+            while (merged < chunkCount) {
+                resultList.addAll(getChunkResult(tasks.get(merged++)));
+            }
+        } finally {
+            for (int i = merged; i < tasks.size(); i++) {
+                tasks.get(i).cancel(false);
+            }
+        }
+
+        return resultList;
+    }
+
+    private static List<Object> getChunkResult(final FutureTask<List<Object>> task) throws Throwable {
+        // Runs the chunk here if no executor thread has started it; a no-op otherwise.
+        task.run();
+
+        try {
+            return task.get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof UndeclaredThrowableException ute && ute.getCause() != null ? ute.getCause() : e.getCause();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
     private static long sumUpdateCounts(final int[] updateCounts) {
         long total = 0;
 
@@ -1871,6 +1984,172 @@ final class DaoImpl {
         return entityInfo.tableName.orElseGet(() -> namingPolicy.convert(ClassUtil.getSimpleClassName(entityClass)));
     }
 
+    /**
+     * Checks, through the metadata of the database, that the id columns are the only unique key of the table. On
+     * MySQL/MariaDB, {@code ON DUPLICATE KEY UPDATE} fires on any unique key: with another one, an entity with a new id
+     * whose other unique column collides would silently overwrite a different row.
+     *
+     * @return {@code false} if the table has another unique key, or if its unique keys can't be read
+     */
+    static boolean isIdSoleUniqueKey(final javax.sql.DataSource ds, final String tableName, final Collection<String> keyColumns, final Logger daoLogger) {
+        final Set<String> keys = new HashSet<>();
+
+        for (final String keyColumn : keyColumns) {
+            keys.add(unquote(keyColumn).toLowerCase(Locale.ROOT));
+        }
+
+        final int idx = tableName.lastIndexOf('.');
+        final Map<String, Set<String>> uniqueKeys = new HashMap<>();
+        final Connection conn = JdbcUtil.getConnection(ds);
+
+        try {
+            final String catalog = idx > 0 ? unquote(tableName.substring(0, idx)) : conn.getCatalog();
+
+            try (ResultSet rs = conn.getMetaData().getIndexInfo(catalog, null, unquote(tableName.substring(idx + 1)), true, true)) {
+                while (rs.next()) {
+                    final String indexName = rs.getString("INDEX_NAME");
+                    final String columnName = rs.getString("COLUMN_NAME");
+
+                    if (indexName != null && columnName != null && !rs.getBoolean("NON_UNIQUE")) {
+                        uniqueKeys.computeIfAbsent(indexName, k -> new HashSet<>()).add(columnName.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        } catch (final SQLException e) {
+            daoLogger.warn(e, "Failed to read the unique keys of table: " + tableName + ". Native upsert is disabled");
+            return false;
+        } finally {
+            JdbcUtil.releaseConnection(conn, ds);
+        }
+
+        return !uniqueKeys.isEmpty() && uniqueKeys.values().stream().allMatch(keys::equals);
+    }
+
+    private static String unquote(final String identifier) {
+        return identifier.replace("`", "").replace("\"", "");
+    }
+
+    /**
+     * Builds the named single-statement upsert (insert-or-update by id) SQL for the given database product:
+     * {@code INSERT ... ON CONFLICT (...) DO UPDATE} for PostgreSQL/SQLite, {@code INSERT ... ON DUPLICATE KEY UPDATE}
+     * for MySQL/MariaDB and {@code MERGE INTO ... USING} for H2, Oracle, SQL Server and HSQLDB. Only the updatable
+     * columns are set when the row exists.
+     *
+     * @return the named upsert SQL, or {@code null} if the product is unknown or not every id property is insertable,
+     *         in which case callers fall back to the find-then-insert/update path.
+     */
+    static String nativeUpsertSql(final SqlDialect.ProductInfo productInfo, final String tableName, final Collection<String> insertPropNames,
+            final Collection<String> updatePropNames, final List<String> idPropNames, final Map<String, String> propColumnNameMap) {
+        if (productInfo == null || Strings.isEmpty(productInfo.name()) || Strings.isEmpty(tableName) || N.isEmpty(idPropNames)
+                || N.isEmpty(insertPropNames) || !insertPropNames.containsAll(idPropNames)) {
+            return null;
+        }
+
+        final String productName = productInfo.name();
+        final List<String> insertColumns = new ArrayList<>(insertPropNames.size());
+        final List<String> params = new ArrayList<>(insertPropNames.size());
+        final List<String> keyColumns = new ArrayList<>(idPropNames.size());
+        final List<String> updateColumns = new ArrayList<>();
+
+        for (final String propName : insertPropNames) {
+            insertColumns.add(propColumnNameMap.getOrDefault(propName, propName));
+            params.add(":" + propName);
+        }
+
+        for (final String propName : idPropNames) {
+            keyColumns.add(propColumnNameMap.getOrDefault(propName, propName));
+        }
+
+        for (final String propName : updatePropNames) {
+            // A column that isn't inserted has no incoming value to update from.
+            if (insertPropNames.contains(propName) && !idPropNames.contains(propName)) {
+                updateColumns.add(propColumnNameMap.getOrDefault(propName, propName));
+            }
+        }
+
+        final String insertInto = "INSERT INTO " + tableName + " (" + Strings.join(insertColumns, ", ") + ") VALUES (" + Strings.join(params, ", ") + ")";
+
+        if (Strings.containsAnyIgnoreCase(productName, "PostgreSQL", "SQLite")) {
+            return insertInto + " ON CONFLICT (" + Strings.join(keyColumns, ", ") + ")"
+                    + (updateColumns.isEmpty() ? " DO NOTHING" : " DO UPDATE SET " + Strings.join(N.map(updateColumns, c -> c + " = EXCLUDED." + c), ", "));
+        } else if (Strings.containsAnyIgnoreCase(productName, "MySQL", "MariaDB")) {
+            return insertInto + " ON DUPLICATE KEY UPDATE " + (updateColumns.isEmpty() ? keyColumns.get(0) + " = " + keyColumns.get(0)
+                    : Strings.join(N.map(updateColumns, c -> c + " = VALUES(" + c + ")"), ", "));
+        } else if ("H2".equalsIgnoreCase(productName)) {
+            // H2 only accepts ON CONFLICT/ON DUPLICATE KEY in its compatibility modes, and MERGE ... KEY overwrites every
+            // inserted column. The parameters are compared with/assigned to the target columns, which gives them a type.
+            final StringBuilder sb = new StringBuilder("MERGE INTO ").append(tableName).append(" tgt USING (VALUES (1)) src (one) ON (");
+
+            for (int i = 0, size = keyColumns.size(); i < size; i++) {
+                sb.append(i == 0 ? "" : " AND ").append("tgt.").append(keyColumns.get(i)).append(" = :").append(idPropNames.get(i));
+            }
+
+            sb.append(')');
+
+            if (!updateColumns.isEmpty()) {
+                sb.append(" WHEN MATCHED THEN UPDATE SET ");
+
+                for (int i = 0, size = insertColumns.size(), cnt = 0; i < size; i++) {
+                    if (updateColumns.contains(insertColumns.get(i))) {
+                        sb.append(cnt++ == 0 ? "" : ", ").append(insertColumns.get(i)).append(" = ").append(params.get(i));
+                    }
+                }
+            }
+
+            return sb.append(" WHEN NOT MATCHED THEN INSERT (")
+                    .append(Strings.join(insertColumns, ", "))
+                    .append(") VALUES (")
+                    .append(Strings.join(params, ", "))
+                    .append(')')
+                    .toString();
+        }
+
+        final boolean isOracle = Strings.containsIgnoreCase(productName, "Oracle");
+        final boolean isSQLServer = productInfo.isSQLServer();
+
+        if (!(isOracle || isSQLServer || Strings.containsIgnoreCase(productName, "HSQL"))) {
+            return null;
+        }
+
+        final StringBuilder sb = new StringBuilder("MERGE INTO ").append(tableName);
+
+        if (isOracle) {
+            sb.append(" tgt USING (SELECT ");
+
+            for (int i = 0, size = insertColumns.size(); i < size; i++) {
+                sb.append(i == 0 ? "" : ", ").append(params.get(i)).append(" AS ").append(insertColumns.get(i));
+            }
+
+            sb.append(" FROM DUAL) src");
+        } else {
+            sb.append(" AS tgt USING (VALUES (").append(Strings.join(params, ", ")).append(")) AS src (").append(Strings.join(insertColumns, ", ")).append(')');
+        }
+
+        sb.append(" ON (").append(Strings.join(N.map(keyColumns, c -> "tgt." + c + " = src." + c), " AND ")).append(')');
+
+        if (!updateColumns.isEmpty()) {
+            sb.append(" WHEN MATCHED THEN UPDATE SET ").append(Strings.join(N.map(updateColumns, c -> c + " = src." + c), ", "));
+        }
+
+        sb.append(" WHEN NOT MATCHED THEN INSERT (")
+                .append(Strings.join(insertColumns, ", "))
+                .append(") VALUES (")
+                .append(Strings.join(N.map(insertColumns, c -> "src." + c), ", "))
+                .append(')');
+
+        // SQL Server requires MERGE to be terminated by a semicolon.
+        return isSQLServer ? sb.append(';').toString() : sb.toString();
+    }
+
+    /**
+     * Whether the given database product accepts a single {@link java.sql.Array} parameter in {@code column = ANY(?)},
+     * which {@link InClauseMode#ARRAY} relies on.
+     */
+    static boolean supportsArrayInClause(final SqlDialect.ProductInfo productInfo) {
+        return productInfo != null && productInfo.name() != null
+                && (Strings.containsIgnoreCase(productInfo.name(), "PostgreSQL") || "H2".equalsIgnoreCase(productInfo.name()));
+    }
+
     private static <T extends Condition> T checkCondForPaginate(final T cond) {
         N.checkArgNotNull(cond, "Condition for \"paginate\" cannot be null");
 
@@ -1883,6 +2162,55 @@ final class DaoImpl {
         return cond;
     }
 
+    /**
+     * Binds the last element of a {@code @BindList} value to the extra placeholders its {@code IN} list was padded with
+     * (see {@link JdbcUtil#getInClauseSize(int)}).
+     *
+     * @return the index of the next parameter to bind
+     */
+    @SuppressWarnings("rawtypes")
+    private static int padInClauseBindListParam(final AbstractQuery preparedQuery, int idx, final Object param) throws SQLException {
+        final int size = param == null ? 0 : (param instanceof Collection ? ((Collection) param).size() : Array.getLength(param));
+        final int paddedSize = JdbcUtil.getInClauseSize(size);
+
+        if (paddedSize > size) {
+            Object last = null;
+
+            if (param instanceof List) {
+                last = ((List) param).get(size - 1);
+            } else if (param instanceof Collection) {
+                for (final Object e : (Collection) param) {
+                    last = e;
+                }
+            } else {
+                last = Array.get(param, size - 1);
+            }
+
+            for (int i = size; i < paddedSize; i++) {
+                preparedQuery.setObject(idx++, last);
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Whether the {@code @BindList} placeholder is the whole value list of an {@code IN (...)} predicate, the only
+     * position where padding it with a repeated value leaves the statement's meaning unchanged.
+     */
+    static boolean isInClauseBindList(final String query, final String placeholder, final BindList bindList) {
+        final int index = query.indexOf(placeholder);
+
+        if (index < 0) {
+            return false;
+        }
+
+        final String head = query.substring(0, index) + bindList.prefixForNonEmpty();
+        final String tail = bindList.suffixForNonEmpty() + query.substring(index + placeholder.length());
+
+        return IN_CLAUSE_OPENING.matcher(head).find() && tail.stripLeading().startsWith(")");
+    }
+
     private static Tuple2<Annotation, String> resolveFragmentAnnoAndPlaceholder(final Method method, final int paramIndex, final String fullClassMethodName) {
         final Annotation[] annotations = method.getParameterAnnotations()[paramIndex];
 
@@ -2082,6 +2410,8 @@ final class DaoImpl {
                     executor == null ? null : System.identityHashCode(executor));
         }
 
+        final Class<?> generatedDaoClass = GeneratedDaoSupport.findGeneratedClass(daoInterface);
+
         @SuppressWarnings("UnnecessaryLocalVariable")
         final javax.sql.DataSource primaryDataSource = ds;
         final SqlDialect.ProductInfo dbProductInfo = JdbcUtil.getDBProductInfo(ds);
@@ -2137,6 +2467,10 @@ final class DaoImpl {
         final boolean callGenerateIdForInsert = daoConfigAnno != null && daoConfigAnno.callGenerateIdForInsertIfIdNotSet();
         final boolean callGenerateIdForInsertWithSql = daoConfigAnno != null && daoConfigAnno.callGenerateIdForInsertWithSqlIfIdNotSet();
         final boolean fetchColumnByEntityClassForDatasetQuery = daoConfigAnno == null || daoConfigAnno.fetchColumnByEntityClassForDatasetQuery();
+        final int batchGetParallelism = daoConfigAnno == null ? 1 : daoConfigAnno.batchGetParallelism();
+
+        N.checkArgument(batchGetParallelism > 0, "batchGetParallelism in @DaoConfig must be positive, but it's {} in Dao class {}", batchGetParallelism,
+                daoInterface);
 
         final Map<String, String> sqlScriptMap = Stream.of(allInterfaces)
                 .flatMapArray(Class::getDeclaredFields)
@@ -2332,6 +2666,19 @@ final class DaoImpl {
 
         final ImmutableMap<String, String> propColumnNameMap = QueryUtil.propToColumnNameMap(entityClass, namingPolicy);
 
+        // Single-statement upsert by id for CrudDao.upsert(T)/batchUpsert(Collection, int). The dialect's product wins over the
+        // connected one so a DAO created for an explicit SqlDialect generates that dialect's syntax. null means fall back to find-then-write.
+        final SqlDialect.ProductInfo upsertProductInfo = sqlDialect.productInfo() != null ? sqlDialect.productInfo() : dbProductInfo;
+        final String sql_upsertById = !isCrudDao || isNoId ? null
+                : nativeUpsertSql(upsertProductInfo, tableName, JdbcUtil.getInsertPropNames(entityClass), propNamesToUpdateById, idPropNameList,
+                        propColumnNameMap);
+        // Other products fail loudly on a conflict of another unique key; MySQL/MariaDB would update the conflicting row.
+        final ParsedSql namedUpsertByIdSQL = Strings.isEmpty(sql_upsertById) || (Strings.containsAnyIgnoreCase(upsertProductInfo.name(), "MySQL", "MariaDB")
+                && !isIdSoleUniqueKey(primaryDataSource, tableName, N.map(idPropNameList, propName -> propColumnNameMap.getOrDefault(propName, propName)), daoLogger))
+                        ? null
+                        : ParsedSql.parse(sql_upsertById);
+        final boolean isArrayInClauseSupported = supportsArrayInClause(sqlDialect.productInfo() != null ? sqlDialect.productInfo() : dbProductInfo);
+
         final String[] generatedKeyColumnNames = isNoId ? N.EMPTY_STRING_ARRAY
                 : (isOneId ? Array.of(propColumnNameMap.get(oneIdPropName))
                         : Stream.of(idPropNameList).map(propColumnNameMap::get).toArray(IntFunctions.ofStringArray()));
@@ -2447,7 +2794,15 @@ final class DaoImpl {
                         : ClassUtil.invokeConstructor(ClassUtil.getDeclaredConstructor(daoClassCacheAnno.impl(), int.class, long.class), capacity, evictDelay))
                 : inputDaoCache;
 
+        // So that invalidations received from other JVMs through the installed DaoCacheInvalidationTransport reach it.
+        // The count is bumped before and after every invalidation of the cache (odd while one is in progress): by the
+        // @RefreshCache methods of the DAOs sharing the cache, and by the invalidations received through the transport.
+        // So an asynchronous refresh-ahead load which raced with an invalidation doesn't leave its possibly stale result.
+        final AtomicLong daoCacheInvalidationCount = JdbcUtil.registerDaoCache(daoCache);
+
         final Set<Method> nonDBOperationSet = N.newConcurrentHashSet();
+        // Default methods whose invoker does nothing but call the default implementation: a generated DAO class calls them directly.
+        final Set<Method> plainDefaultMethodSet = N.newConcurrentHashSet();
 
         final Map<String, JoinInfo> joinBeanInfo = DaoUtil.isJoinEntityReadOps(daoInterface) ? JoinInfo.getEntityJoinInfo(daoInterface, entityClass, tableName)
                 : null;
@@ -2541,6 +2896,7 @@ final class DaoImpl {
             }
 
             Throwables.BiFunction<DaoBase, Object[], ?, Throwable> call = null;
+            Throwables.BiFunction<DaoBase, Object[], ?, Throwable> plainDefaultCall = null;
 
             // Centralized SQL-kind gate for read-only / non-update DAOs: the prepareQuery/prepareNamedQuery (and
             // *ForLargeResult) overloads whose first argument is a raw SQL String or ParsedSql must be restricted to
@@ -2553,7 +2909,96 @@ final class DaoImpl {
                     && (paramTypes[0].equals(String.class) || paramTypes[0].equals(ParsedSql.class)) ? (isReadOnlyDao ? 1 : 2) : 0;
             final boolean prepareSqlIsParsed = prepareSqlGate != 0 && paramTypes[0].equals(ParsedSql.class);
 
-            if (!Modifier.isAbstract(method.getModifiers())) {
+            if (namedUpsertByIdSQL != null && (declaringClass.equals(CrudDao.class) || declaringClass.equals(UncheckedCrudDao.class))
+                    && ((methodName.equals("upsert") && paramLen == 1)
+                            || (methodName.equals("batchUpsert") && paramLen == 2 && Collection.class.isAssignableFrom(paramTypes[0])
+                                    && int.class.equals(paramTypes[1])))) {
+                // Entities without an id can't conflict with an existing row; they keep the default
+                // implementation so the insert path still generates/fetches their keys.
+                final MethodHandle defaultMethodHandle = createMethodHandle(method);
+                final boolean isBatch = paramLen == 2;
+                final boolean isUncheckedUpsert = declaringClass.equals(UncheckedCrudDao.class);
+
+                call = (proxy, args) -> {
+                    final Collection<Object> entities = isBatch ? (Collection<Object>) args[0] : null;
+                    final int batchSize = isBatch ? (Integer) args[1] : 0;
+
+                    if (isBatch) {
+                        N.checkArgPositive(batchSize, cs.batchSize);
+
+                        if (N.isEmpty(entities)) {
+                            return new ArrayList<>();
+                        }
+                    } else {
+                        N.checkArgNotNull(args[0], cs.entity);
+                    }
+
+                    if (isBatch ? Stream.of(entities).anyMatch(entity -> isDefaultIdTester.test(idGetter.apply(entity)))
+                            : isDefaultIdTester.test(idGetter.apply(args[0]))) {
+                        return defaultMethodHandle.bindTo(proxy).invokeWithArguments(args);
+                    }
+
+                    try {
+                        if (!isBatch) {
+                            JdbcUtil.prepareNamedQuery(proxy.dataSource(), namedUpsertByIdSQL).settParameters(args[0], objParamsSetter).update();
+
+                            return args[0];
+                        } else if (entities.size() <= batchSize) {
+                            JdbcUtil.prepareNamedQuery(proxy.dataSource(), namedUpsertByIdSQL).addBatchParameters(entities).batchUpdate();
+                        } else {
+                            final SqlTransaction tran = JdbcUtil.beginTransaction(proxy.dataSource());
+                            Throwable failure = null;
+
+                            try {
+                                try (NamedQuery nameQuery = JdbcUtil.prepareNamedQuery(proxy.dataSource(), namedUpsertByIdSQL).closeAfterExecution(false)) {
+                                    Seq.of(entities).split(batchSize).forEach(bp -> nameQuery.addBatchParameters(bp).batchUpdate());
+                                }
+
+                                tran.commit();
+                            } catch (final Throwable e) { //NOSONAR
+                                failure = e;
+                                throw e;
+                            } finally {
+                                JdbcUtil.rollbackAfterTransactionCommand(tran, failure);
+                            }
+                        }
+                    } catch (final SQLException e) {
+                        if (isUncheckedUpsert) {
+                            throw new UncheckedSQLException(e);
+                        }
+
+                        throw e;
+                    }
+
+                    return new ArrayList<>(entities);
+                };
+            } else if (batchGetParallelism > 1 && (declaringClass.equals(CrudReadOps.class) || declaringClass.equals(UncheckedCrudReadOps.class))
+                    && methodName.equals("batchGet") && paramLen == 3 && int.class.equals(paramTypes[2])) {
+                // Every other batchGet/batchRefresh overload funnels into this one through the proxy.
+                final MethodHandle defaultMethodHandle = createMethodHandle(method);
+
+                call = (proxy, args) -> {
+                    final Collection<Object> ids = (Collection<Object>) args[0];
+                    final int batchSize = (Integer) args[2];
+
+                    if (batchSize <= 0 || N.size(ids) <= batchSize || JdbcUtil.isInTransaction(proxy.dataSource())) {
+                        return defaultMethodHandle.bindTo(proxy).invokeWithArguments(args);
+                    }
+
+                    // De-duplicated up front, as the default implementation does, so no id is queried by two chunks.
+                    final List<Object> idList = ids instanceof Set ? new ArrayList<>(ids) : N.distinct(ids);
+
+                    return batchGetInParallel(defaultMethodHandle.bindTo(proxy), idList, (Collection<String>) args[1], batchSize, batchGetParallelism,
+                            asyncExecutor.getExecutor());
+                };
+            } else if (!Modifier.isAbstract(method.getModifiers()) && prepareSqlGate == 0 && N.isEmpty(sqls)) {
+                // Created on first use: a generated DAO class calls the default implementation itself unless a handler,
+                // cache, transaction or log wrapper ends up around this invoker.
+                final java.util.function.Supplier<MethodHandle> methodHandle = Fn.memoize(() -> createMethodHandle(method));
+
+                call = (proxy, args) -> methodHandle.get().bindTo(proxy).invokeWithArguments(args == null ? N.EMPTY_OBJECT_ARRAY : args);
+                plainDefaultCall = call;
+            } else if (!Modifier.isAbstract(method.getModifiers())) {
                 final MethodHandle methodHandle = createMethodHandle(method);
 
                 call = (proxy, args) -> {
@@ -5008,7 +5453,25 @@ final class DaoImpl {
                                 final Tuple2<BiFunction<Collection<String>, Integer, String>, Jdbc.BiParametersSetter<PreparedStatement, Collection<?>>> tp = propJoinInfo
                                         .batchSelectSqlPlan(parameterizedDsl);
 
+                                // One statement shape for every batch size; null unless InClauseMode.ARRAY applies to this join and database.
+                                final Tuple2<Function<Collection<String>, String>, Jdbc.BiParametersSetter<PreparedQuery, Collection<?>>> arrayTp = isArrayInClauseSupported
+                                        && JdbcUtil.getInClauseMode() == InClauseMode.ARRAY ? propJoinInfo.batchSelectByArraySqlPlan(parameterizedDsl) : null;
+
                                 Stream.of(entities).split(JdbcUtil.DEFAULT_BATCH_SIZE).forEach(bp -> {
+                                    if (arrayTp != null) {
+                                        final List<?> joinPropEntities = joinEntityDao.prepareQuery(arrayTp._1.apply(selectPropNames))
+                                                .settParameters(bp, arrayTp._2)
+                                                .list(propJoinInfo.referencedEntityClass);
+
+                                        replaceLoadedJoinPropEntities(propJoinInfo, bp,
+                                                Stream.of((Collection<Object>) joinPropEntities).groupTo(propJoinInfo.referencedEntityKeyExtractor));
+
+                                        return;
+                                    }
+
+                                    // Padding repeats the last entity; its duplicate key doesn't change the rows matched by the IN list.
+                                    final Collection<Object> paddedBp = JdbcUtil.padInClauseValues(bp);
+
                                     if (propJoinInfo.isManyToManyJoin()) {
                                         final Jdbc.BiRowMapper<Pair<Object, Object>> pairBiRowMapper = new Jdbc.BiRowMapper<>() {
                                             private Jdbc.BiRowMapper<Object> biRowMapper = null;
@@ -5027,14 +5490,14 @@ final class DaoImpl {
                                             }
                                         };
 
-                                        final List<Pair<Object, Object>> joinPropEntities = joinEntityDao.prepareQuery(tp._1.apply(selectPropNames, bp.size()))
-                                                .setParameters(bp, tp._2)
+                                        final List<Pair<Object, Object>> joinPropEntities = joinEntityDao.prepareQuery(tp._1.apply(selectPropNames, paddedBp.size()))
+                                                .setParameters(paddedBp, tp._2)
                                                 .list(pairBiRowMapper);
 
                                         replaceLoadedJoinPropEntities(propJoinInfo, bp, Stream.of(joinPropEntities).groupTo(Pair::left, Pair::right));
                                     } else {
-                                        final List<?> joinPropEntities = joinEntityDao.prepareQuery(tp._1.apply(selectPropNames, bp.size()))
-                                                .setParameters(bp, tp._2)
+                                        final List<?> joinPropEntities = joinEntityDao.prepareQuery(tp._1.apply(selectPropNames, paddedBp.size()))
+                                                .setParameters(paddedBp, tp._2)
                                                 .list(propJoinInfo.referencedEntityClass);
 
                                         replaceLoadedJoinPropEntities(propJoinInfo, bp,
@@ -5132,11 +5595,13 @@ final class DaoImpl {
                                             .batchDeleteSqlPlan(parameterizedDsl);
 
                                     result = Seq.of(entities).split(JdbcUtil.DEFAULT_BATCH_SIZE).sumLong(bp -> {
+                                        final Collection<Object> paddedBp = JdbcUtil.padInClauseValues(bp);
+
                                         if (tp._2 == null) {
-                                            return joinEntityDao.prepareQuery(tp._1.apply(bp.size())).setParameters(bp, tp._3).update();
+                                            return joinEntityDao.prepareQuery(tp._1.apply(paddedBp.size())).setParameters(paddedBp, tp._3).update();
                                         } else {
-                                            return (long) joinEntityDao.prepareQuery(tp._1.apply(bp.size())).setParameters(bp, tp._3).update()
-                                                    + joinEntityDao.prepareQuery(tp._2.apply(bp.size())).setParameters(bp, tp._3).update();
+                                            return (long) joinEntityDao.prepareQuery(tp._1.apply(paddedBp.size())).setParameters(paddedBp, tp._3).update()
+                                                    + joinEntityDao.prepareQuery(tp._2.apply(paddedBp.size())).setParameters(paddedBp, tp._3).update();
                                         }
                                     });
 
@@ -5389,6 +5854,17 @@ final class DaoImpl {
                             : Strings.repeat(SK.QUESTION_MARK, N.size((Collection) param), SK.COMMA_SPACE, ((BindList) anno).prefixForNonEmpty(),
                                     ((BindList) anno).suffixForNonEmpty());
 
+                    // Variants for a @BindList that is the value list of an IN predicate: the placeholder count follows InClauseMode.
+                    final BiFunction<Annotation, Object, String> paddedArrayBindListParamMapper = (anno, param) -> param == null || Array.getLength(param) == 0
+                            ? ""
+                            : Strings.repeat(SK.QUESTION_MARK, JdbcUtil.getInClauseSize(Array.getLength(param)), SK.COMMA_SPACE,
+                                    ((BindList) anno).prefixForNonEmpty(), ((BindList) anno).suffixForNonEmpty());
+
+                    final BiFunction<Annotation, Object, String> paddedCollBindListParamMapper = (anno, param) -> param == null
+                            || ((Collection) param).size() == 0 ? ""
+                                    : Strings.repeat(SK.QUESTION_MARK, JdbcUtil.getInClauseSize(N.size((Collection) param)), SK.COMMA_SPACE,
+                                            ((BindList) anno).prefixForNonEmpty(), ((BindList) anno).suffixForNonEmpty());
+
                     final Tuple2<Annotation, String>[] fragmentAnnos = IntStream.of(fragmentParamIndexes)
                             .mapToObj(i -> resolveFragmentAnnoAndPlaceholder(method, i, fullClassMethodName))
                             .toArray(Tuple2[]::new);
@@ -5421,6 +5897,15 @@ final class DaoImpl {
                         }
                     }
 
+                    // Indexed by method parameter index.
+                    final boolean[] inClauseBindListFlags = new boolean[paramLen];
+
+                    for (int i = 0; i < fragmentParamLen; i++) {
+                        if (fragmentAnnos[i]._1 instanceof BindList bindList) {
+                            inClauseBindListFlags[fragmentParamIndexes[i]] = isInClauseBindList(query, fragmentAnnos[i]._2, bindList);
+                        }
+                    }
+
                     final BiFunction<Annotation, Object, String>[] fragmentMappers = IntStream.of(fragmentParamIndexes)
                             .mapToObj(i -> Stream.of(method.getParameterAnnotations()[i]).map(Annotation::annotationType).map(it -> {
                                 if (SqlFragment.class.isAssignableFrom(it)) {
@@ -5428,6 +5913,10 @@ final class DaoImpl {
                                 } else if (SqlFragmentList.class.isAssignableFrom(it)) {
                                     return Collection.class.isAssignableFrom(paramTypes[i]) ? collSqlFragmentListParamMapper : arraySqlFragmentListParamMapper;
                                 } else if (BindList.class.isAssignableFrom(it)) {
+                                    if (inClauseBindListFlags[i]) {
+                                        return Collection.class.isAssignableFrom(paramTypes[i]) ? paddedCollBindListParamMapper : paddedArrayBindListParamMapper;
+                                    }
+
                                     return Collection.class.isAssignableFrom(paramTypes[i]) ? collBindListParamMapper : arrayBindListParamMapper;
                                 } else {
                                     return null;
@@ -5451,6 +5940,10 @@ final class DaoImpl {
                             .mapToObj(i -> Stream.of(method.getParameterAnnotations()[i]).anyMatch(it -> it.annotationType().equals(BindList.class)))
                             .toListThenApply(N::toBooleanArray);
 
+                    final boolean[] paddedBindListParamFlags = IntStream.of(stmtParamIndexes)
+                            .mapToObj(i -> inClauseBindListFlags[i])
+                            .toListThenApply(N::toBooleanArray);
+
                     final int stmtParamLen = stmtParamIndexes.length;
 
                     if (stmtParamLen == 1
@@ -5671,7 +6164,7 @@ final class DaoImpl {
                     }
 
                     final Jdbc.BiParametersSetter<AbstractQuery, Object[]> parametersSetter = createParametersSetter(queryInfo, fullClassMethodName, method,
-                            paramTypes, paramLen, fragmentParamLen, stmtParamIndexes, bindListParamFlags, stmtParamLen);
+                            paramTypes, paramLen, fragmentParamLen, stmtParamIndexes, bindListParamFlags, paddedBindListParamFlags, stmtParamLen);
 
                     // Constant per method: computed once here so prepareQuery does not re-derive them reflectively on every invocation.
                     final boolean isExistsQueryMethod = isExistsQuery(method, queryOperation, fullClassMethodName);
@@ -6319,6 +6812,12 @@ final class DaoImpl {
                                     "Invalid ('minSize', 'maxSize'): (" + cacheResultAnno.minSize() + ", " + cacheResultAnno.maxSize()
                                             + ") (require 0 <= minSize <= maxSize) in annotation 'CacheResult' on method: " + simpleClassMethodName);
                         }
+
+                        if (cacheResultAnno.refreshAheadMillis() < 0
+                                || (cacheResultAnno.refreshAheadMillis() > 0 && cacheResultAnno.refreshAheadMillis() >= cacheResultAnno.maxLiveTimeMillis())) {
+                            throw new UnsupportedOperationException("Invalid 'refreshAheadMillis': " + cacheResultAnno.refreshAheadMillis()
+                                    + " (require 0 <= refreshAheadMillis < maxLiveTimeMillis) in annotation 'CacheResult' on method: " + simpleClassMethodName);
+                        }
                     }
 
                     final Predicate<Object> serializationNotRequired = r -> {
@@ -6327,7 +6826,7 @@ final class DaoImpl {
                     };
 
                     final Function<Object, Object> cloneFunc = switch (serialization) {
-                        case NONE -> Fn.identity();
+                        case NONE, FROZEN -> Fn.identity();
                         case KRYO -> r -> {
                             if (serializationNotRequired.test(r)) {
                                 return r;
@@ -6343,23 +6842,110 @@ final class DaoImpl {
                         case JSON -> r -> serializationNotRequired.test(r) ? r : jsonParser.deserialize(jsonParser.serialize(r), r.getClass());
                     };
 
+                    final CacheKeyStrategy cacheKeyStrategy = cacheResultAnno == null ? CacheKeyStrategy.SERIALIZED : cacheResultAnno.keyStrategy();
+                    final String cacheKeyPrefix = Strings.concat(fullClassMethodName, JdbcUtil.CACHE_KEY_SPLITOR, tableName, JdbcUtil.CACHE_KEY_SPLITOR);
+
+                    final Predicate<Object> isCacheableResultSize = r -> {
+                        if (r instanceof final Dataset dataset) {
+                            return dataset.size() >= cacheResultAnno.minSize() && dataset.size() <= cacheResultAnno.maxSize();
+                        } else if (r instanceof final Collection<?> c) {
+                            return c.size() >= cacheResultAnno.minSize() && c.size() <= cacheResultAnno.maxSize();
+                        } else {
+                            return true;
+                        }
+                    };
+
+                    final CacheLoadCoalescer cacheLoadCoalescer = isAnnotatedCacheResult && cacheResultAnno.coalesceLoads() && !isAnnotatedRefreshResult
+                            ? new CacheLoadCoalescer()
+                            : null;
+
+                    final CacheRefreshAhead cacheRefreshAhead = isAnnotatedCacheResult && cacheResultAnno.refreshAheadMillis() > 0 && !isAnnotatedRefreshResult
+                            ? new CacheRefreshAhead(cacheLiveTime, cacheResultAnno.refreshAheadMillis())
+                            : null;
+
+                    // FROZEN results are made read-only once, when loaded, and the same instance is then shared by every caller.
+                    final Function<Object, Object> freezeFunc = serialization == CacheSerialization.FROZEN ? r -> freezeCacheResult(r, returnType)
+                            : Fn.identity();
+
                     final Throwables.BiFunction<DaoBase, Object[], ?, Throwable> temp = call;
 
+                    // Reloads the entry of cacheKey in the background; the caller keeps getting the cached value meanwhile.
+                    final Throwables.TriConsumer<DaoBase, Object[], String, RuntimeException> refreshCacheAhead = (proxy, callerArgs, cacheKey) -> {
+                        // The caller may reuse or modify its argument array once the call returns.
+                        final Object[] args = callerArgs == null ? null : callerArgs.clone();
+
+                        final Runnable refreshTask = () -> {
+                            final long invalidationCount = daoCacheInvalidationCount.get();
+                            boolean refreshed = false;
+
+                            try {
+                                final Object loaded = freezeFunc.apply(temp.apply(proxy, args));
+
+                                if (loaded != null && isCacheableResultSize.test(loaded) && (invalidationCount & 1) == 0
+                                        && daoCacheInvalidationCount.get() == invalidationCount) {
+                                    daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(loaded), cacheLiveTime, cacheMaxIdleTime, proxy, args,
+                                            methodSignature);
+
+                                    if (daoCacheInvalidationCount.get() == invalidationCount) {
+                                        refreshed = true;
+                                    } else {
+                                        // An invalidation started after the check above and may have run before the put: repeat it.
+                                        daoCacheToUseInMethod.update(cacheKey, null, proxy, args, methodSignature);
+                                    }
+                                }
+                            } catch (final Throwable e) { //NOSONAR
+                                daoLogger.warn(e, "Failed to refresh cached result ahead of expiry(method={})", fullClassMethodName);
+                            } finally {
+                                if (refreshed) {
+                                    cacheRefreshAhead.loaded(cacheKey);
+                                } else {
+                                    cacheRefreshAhead.remove(cacheKey);
+                                }
+                            }
+                        };
+
+                        try {
+                            asyncExecutor.getExecutor().execute(refreshTask);
+                        } catch (final RejectedExecutionException e) {
+                            cacheRefreshAhead.remove(cacheKey);
+                        }
+                    };
+
                     call = (proxy, args) -> {
                         final Jdbc.DaoCache localThreadCache = JdbcUtil.localThreadCache_TL.get();
                         final boolean isLocalThreadCacheEnabled = isQueryMethod && localThreadCache != null;
                         final boolean isRefreshLocalThreadCacheRequired = isUpdateMethod && localThreadCache != null;
+                        // In a tiered scope, the shared DAO cache sits behind the scope's cache instead of being bypassed by it.
+                        final boolean isTieredCacheEnabled = isLocalThreadCacheEnabled && isAnnotatedCacheResult
+                                && JdbcUtil.isTieredDaoCacheScope(localThreadCache);
+                        final boolean isSharedCacheEnabled = isAnnotatedCacheResult && (!isLocalThreadCacheEnabled || isTieredCacheEnabled);
 
                         final String cacheKey = isAnnotatedCacheResult || isAnnotatedRefreshResult || isLocalThreadCacheEnabled
-                                || isRefreshLocalThreadCacheRequired ? JdbcUtil.createCacheKey(tableName, fullClassMethodName, args, daoLogger) : null;
+                                || isRefreshLocalThreadCacheRequired
+                                        ? JdbcUtil.createCacheKey(cacheKeyStrategy, cacheKeyPrefix, tableName, fullClassMethodName, args, daoLogger)
+                                        : null;
 
                         Object result = null;
 
                         if (Strings.isNotEmpty(cacheKey)) {
                             if (isLocalThreadCacheEnabled) {
                                 result = localThreadCache.get(cacheKey, proxy, args, methodSignature);
-                            } else if (isAnnotatedCacheResult) {
+                            }
+
+                            if (result == null && isSharedCacheEnabled) {
                                 result = daoCacheToUseInMethod.get(cacheKey, proxy, args, methodSignature);
+
+                                if (cacheRefreshAhead != null) {
+                                    if (result == null) {
+                                        cacheRefreshAhead.remove(cacheKey);
+                                    } else if (cacheRefreshAhead.tryClaimRefresh(cacheKey)) {
+                                        refreshCacheAhead.accept(proxy, args, cacheKey);
+                                    }
+                                }
+
+                                if (result != null && isTieredCacheEnabled) {
+                                    localThreadCache.put(cacheKey, result, proxy, args, methodSignature);
+                                }
                             }
                         }
 
@@ -6367,6 +6953,28 @@ final class DaoImpl {
                             return cloneFunc.apply(result);
                         }
 
+                        if (cacheLoadCoalescer != null && Strings.isNotEmpty(cacheKey) && isSharedCacheEnabled && !isRefreshLocalThreadCacheRequired) {
+                            final Object coalesced = cacheLoadCoalescer.load(cacheKey, () -> {
+                                final Object loaded = freezeFunc.apply(temp.apply(proxy, args));
+
+                                if (loaded != null && isCacheableResultSize.test(loaded)) {
+                                    daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(loaded), cacheLiveTime, cacheMaxIdleTime, proxy, args, methodSignature);
+
+                                    if (cacheRefreshAhead != null) {
+                                        cacheRefreshAhead.loaded(cacheKey);
+                                    }
+                                }
+
+                                return loaded;
+                            }, cloneFunc);
+
+                            if (coalesced != null && isTieredCacheEnabled) {
+                                localThreadCache.put(cacheKey, cloneFunc.apply(coalesced), proxy, args, methodSignature);
+                            }
+
+                            return coalesced;
+                        }
+
                         if (isAnnotatedRefreshResult || isRefreshLocalThreadCacheRequired) {
                             Throwable invocationFailure = null;
 
@@ -6380,8 +6988,7 @@ final class DaoImpl {
                                 // suppress write invalidation. If an argument cannot be serialized, retain the
                                 // stable method/table portion so built-in and custom caches can still identify
                                 // the affected table (and custom caches still receive args/methodSignature).
-                                final String refreshCacheKey = Strings.isNotEmpty(cacheKey) ? cacheKey
-                                        : Strings.concat(fullClassMethodName, JdbcUtil.CACHE_KEY_SPLITOR, tableName, JdbcUtil.CACHE_KEY_SPLITOR);
+                                final String refreshCacheKey = Strings.isNotEmpty(cacheKey) ? cacheKey : cacheKeyPrefix;
 
                                 Throwable refreshFailure = null;
 
@@ -6397,7 +7004,17 @@ final class DaoImpl {
 
                                 if (isAnnotatedRefreshResult) {
                                     try {
-                                        daoCacheToUseInMethod.update(refreshCacheKey, result, proxy, args, methodSignature);
+                                        daoCacheInvalidationCount.incrementAndGet();
+
+                                        try {
+                                            daoCacheToUseInMethod.update(refreshCacheKey, result, proxy, args, methodSignature);
+                                        } finally {
+                                            daoCacheInvalidationCount.incrementAndGet();
+                                        }
+
+                                        if (invocationFailure == null) {
+                                            JdbcUtil.publishToDaoCacheInvalidationTransport(Jdbc.DaoCacheTableIndex.tableNameOf(refreshCacheKey));
+                                        }
                                     } catch (final Throwable t) {
                                         if (t == invocationFailure) {
                                             // The invocation failure is already being propagated. Do not attach it
@@ -6419,27 +7036,19 @@ final class DaoImpl {
                                 }
                             }
                         } else {
-                            result = temp.apply(proxy, args);
+                            result = freezeFunc.apply(temp.apply(proxy, args));
                         }
 
                         if (Strings.isNotEmpty(cacheKey) && result != null) {
                             if (isLocalThreadCacheEnabled) {
                                 localThreadCache.put(cacheKey, cloneFunc.apply(result), proxy, args, methodSignature);
-                            } else if (isAnnotatedCacheResult) {
-                                if (result instanceof final Dataset dataset) {
-                                    if (dataset.size() >= cacheResultAnno.minSize() && dataset.size() <= cacheResultAnno.maxSize()) {
-                                        daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(result), cacheLiveTime, cacheMaxIdleTime, proxy, args,
-                                                methodSignature);
-                                    }
-                                } else if (result instanceof Collection) {
-                                    final Collection<Object> c = (Collection<Object>) result;
+                            }
 
-                                    if (c.size() >= cacheResultAnno.minSize() && c.size() <= cacheResultAnno.maxSize()) {
-                                        daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(result), cacheLiveTime, cacheMaxIdleTime, proxy, args,
-                                                methodSignature);
-                                    }
-                                } else {
-                                    daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(result), cacheLiveTime, cacheMaxIdleTime, proxy, args, methodSignature);
+                            if (isSharedCacheEnabled && isCacheableResultSize.test(result)) {
+                                daoCacheToUseInMethod.put(cacheKey, cloneFunc.apply(result), cacheLiveTime, cacheMaxIdleTime, proxy, args, methodSignature);
+
+                                if (cacheRefreshAhead != null) {
+                                    cacheRefreshAhead.loaded(cacheKey);
                                 }
                             }
                         }
@@ -6636,6 +7245,10 @@ final class DaoImpl {
 
             methodInvokerMap.put(method, call);
 
+            if (plainDefaultCall != null && call == plainDefaultCall) {
+                plainDefaultMethodSet.add(method);
+            }
+
             if (daoLogger.isDebugEnabled()) {
                 daoLogger.debug("Registered Dao method invoker(method={}, nonDBOperation={})", fullClassMethodName, isNonDBOperation);
             }
@@ -6669,6 +7282,59 @@ final class DaoImpl {
 
             return invoker.apply(proxy, args);
         };
+
+        if (generatedDaoClass != null) {
+            // Per-call debug logging is wrapped in only if it's enabled when the DAO is created: every wrapper would
+            // otherwise be one more shared call site in front of the generated per-method ones.
+            final boolean isDebugEnabled = daoLogger.isDebugEnabled();
+
+            daoInstance = GeneratedDaoSupport.newInstance(generatedDaoClass, method -> {
+                if (plainDefaultMethodSet.contains(method)) {
+                    return null;
+                }
+
+                final Throwables.BiFunction<DaoBase, Object[], ?, Throwable> invoker = methodInvokerMap.get(method);
+
+                if (invoker == null) {
+                    throw new UnsupportedOperationException(
+                            "No method invoker found for Dao method: " + ClassUtil.getCanonicalClassName(method.getDeclaringClass()) + "." + method.getName());
+                }
+
+                if (!isDebugEnabled || nonDBOperationSet.contains(method)) {
+                    return invoker;
+                }
+
+                return (dao, args) -> {
+                    final boolean shouldLogInvocation = daoLogger.isDebugEnabled();
+
+                    if (shouldLogInvocation) {
+                        daoLogger.debug("Invoking Dao method(method={}, argCount={})", method.getName(), args == null ? 0 : args.length);
+                    }
+
+                    try {
+                        return invoker.apply(dao, args);
+                    } catch (final Throwable t) {
+                        if (shouldLogInvocation) {
+                            daoLogger.debug(t, "Dao method invocation failed(method={})", method.getName());
+                        }
+
+                        throw t;
+                    }
+                };
+            });
+
+            final DaoBase existingDaoInstance = daoPool.putIfAbsent(daoCacheKey, daoInstance);
+
+            if (existingDaoInstance != null) {
+                return (TD) existingDaoInstance;
+            }
+
+            daoLogger.info("Created Dao from generated class(interface={}, class={}, targetTableName={}, methods={})", daoClassName,
+                    generatedDaoClass.getName(), targetTableName, methodInvokerMap.size());
+
+            return daoInstance;
+        }
+
         final Class<TD>[] interfaceClasses = N.asArray(daoInterface);
 
         final InvocationHandler h = (proxy, method, args) -> {
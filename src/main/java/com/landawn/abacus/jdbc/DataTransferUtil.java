@@ -17,44 +17,78 @@
 package com.landawn.abacus.jdbc;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import com.landawn.abacus.annotation.Beta;
 import com.landawn.abacus.annotation.SequentialOnly;
 import com.landawn.abacus.annotation.Stateful;
+import com.landawn.abacus.exception.UncheckedInterruptedException;
 import com.landawn.abacus.jdbc.Jdbc.ColumnGetter;
 import com.landawn.abacus.logging.Logger;
 import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.query.ParsedSql;
 import com.landawn.abacus.query.SqlDialect.ProductInfo;
 import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.BufferedCsvWriter;
+import com.landawn.abacus.util.ContinuableFuture;
 import com.landawn.abacus.util.CsvUtil;
 import com.landawn.abacus.util.Dataset;
 import com.landawn.abacus.util.IOUtil;
+import com.landawn.abacus.util.InternalUtil;
 import com.landawn.abacus.util.LineIterator;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.Objectory;
@@ -3746,6 +3780,10 @@ public final class DataTransferUtil {
      * directly); the terminal {@code to(...)} throws {@link IllegalArgumentException} if it is not set.
      * {@link #filter(Predicate)} is independent and optional.</p>
      *
+     * <p>A CSV import into a {@link javax.sql.DataSource} can be pipelined with {@link #writers(int)}: the calling
+     * thread reads and parses the rows while several writers, each with its own connection, bind and execute the
+     * batches. A CSV {@link File} can also be parsed in parallel with {@link #parsers(int)}.</p>
+     *
      * @param <T> the per-row element type ({@code String[]} for CSV import, or the iterator element type)
      * @see DataTransferUtil#importFrom(Iterator)
      * @see DataTransferUtil#importCsvFrom(File)
@@ -3758,6 +3796,9 @@ public final class DataTransferUtil {
         private int batchSize = JdbcUtil.DEFAULT_BATCH_SIZE;
         private long batchIntervalInMillis = 0;
         private Throwables.BiConsumer<? super PreparedQuery, ? super T, SQLException> parameterSetter;
+        private int writerCount = 1;
+        private int queueCapacity = 0;
+        private int parserCount = 1;
 
         RowImportBuilder(final Iterator<? extends T> iter, final Reader reader, final File file) {
             this.iter = iter;
@@ -3814,20 +3855,85 @@ public final class DataTransferUtil {
             return this;
         }
 
+        /**
+         * Sets the number of writers importing CSV rows in parallel. With more than one writer, the calling thread
+         * only reads and parses the CSV rows, handing them over in batches of {@link #batchSize(int) batchSize} rows
+         * through a bounded queue, and each writer binds and executes the batches on its own connection, obtained from
+         * the DataSource passed to {@link #to(javax.sql.DataSource, String)}.
+         *
+         * <p>Batches are executed in no particular order, each in the auto-commit mode of its writer's connection. If a
+         * batch fails, the import stops at the next batch and the failure of the first failed batch, in CSV order, is
+         * thrown; rows of other batches may already have been imported. Each writer runs on a thread of its own, started
+         * for the import and stopped when it ends, and the {@link #parameterSetter(Throwables.BiConsumer) parameterSetter}
+         * is called from these threads.</p>
+         *
+         * @param writerCount the number of writers (must be greater than 0 when {@code to(...)} is called); {@code 1},
+         *        the default, imports on the calling thread
+         * @return this builder
+         * @see #queueCapacity(int)
+         */
+        public RowImportBuilder<T> writers(final int writerCount) {
+            this.writerCount = writerCount;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of parsed batches that can wait for a writer. Parsing blocks while the queue is full, which
+         * bounds the memory used when the database is slower than the parser. It's only used with more than one
+         * {@link #writers(int) writer}.
+         *
+         * @param queueCapacity the capacity of the queue in batches (must be greater than 0 when {@code to(...)} is
+         *        called); {@code 0}, the default, uses twice the number of writers
+         * @return this builder
+         */
+        public RowImportBuilder<T> queueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of threads parsing a CSV {@link File} in parallel. With more than one parser, the file is
+         * memory-mapped and split into chunks of a few megabytes at line breaks; the chunks are parsed concurrently, a
+         * few ahead of the rows being imported, on threads started for the import, and their rows are imported in file
+         * order. Each line is one record, as in the sequential import, so the same file yields the same rows whatever
+         * the number of parsers.
+         *
+         * <p>The file is decoded with the default charset, as by the sequential import. If that charset doesn't encode
+         * line breaks as single ASCII bytes (UTF-16, for example), the file is parsed sequentially.</p>
+         *
+         * @param parserCount the number of parsers (must be greater than 0 when {@code to(...)} is called); {@code 1},
+         *        the default, reads the file line by line on the importing thread
+         * @return this builder
+         */
+        public RowImportBuilder<T> parsers(final int parserCount) {
+            this.parserCount = parserCount;
+
+            return this;
+        }
+
         /**
          * Runs the import against a connection obtained from the given DataSource; the connection is released back to
-         * the DataSource when the import completes.
+         * the DataSource when the import completes. With more than one {@link #writers(int) writer}, each writer
+         * obtains its own connection.
          *
          * @param targetDataSource the DataSource to obtain a database connection from
          * @param insertSql the SQL insert statement with placeholders
          * @return the number of rows successfully imported
-         * @throws IllegalArgumentException if {@code parameterSetter} is not configured or {@code batchSize <= 0}
+         * @throws IllegalArgumentException if {@code parameterSetter} is not configured, {@code batchSize <= 0},
+         *         {@code writers <= 0}, {@code queueCapacity < 0} or {@code parsers <= 0}
          * @throws IllegalStateException if the builder does not have exactly one source (an iterator, reader or file)
-         *         configured; normally guaranteed by the factory methods
+         *         configured, if more than one writer is configured for an iterator source, or if more than one parser
+         *         is configured for a source other than a file
          * @throws SQLException if a database access error occurs
          * @throws UncheckedIOException if an I/O error occurs reading the file/reader
          */
         public long to(final javax.sql.DataSource targetDataSource, final String insertSql) throws SQLException {
+            if (writerCount != 1) {
+                return toPipelined(targetDataSource, insertSql);
+            }
+
             final Connection conn = JdbcUtil.getConnection(targetDataSource);
 
             try {
@@ -3843,9 +3949,11 @@ public final class DataTransferUtil {
          * @param conn the Connection to the database
          * @param insertSql the SQL insert statement with placeholders
          * @return the number of rows successfully imported
-         * @throws IllegalArgumentException if {@code parameterSetter} is not configured or {@code batchSize <= 0}
+         * @throws IllegalArgumentException if {@code parameterSetter} is not configured, {@code batchSize <= 0} or
+         *         {@code parsers <= 0}
          * @throws IllegalStateException if the builder does not have exactly one source (an iterator, reader or file)
-         *         configured; normally guaranteed by the factory methods
+         *         configured, if more than one writer is configured, or if more than one parser is configured for a
+         *         source other than a file
          * @throws SQLException if a database access error occurs
          * @throws UncheckedIOException if an I/O error occurs reading the file/reader
          */
@@ -3861,13 +3969,20 @@ public final class DataTransferUtil {
          *
          * @param stmt the PreparedStatement to be used for the import (will not be closed by this method)
          * @return the number of rows successfully imported
-         * @throws IllegalArgumentException if {@code parameterSetter} is not configured or {@code batchSize <= 0}
+         * @throws IllegalArgumentException if {@code parameterSetter} is not configured, {@code batchSize <= 0} or
+         *         {@code parsers <= 0}
          * @throws IllegalStateException if the builder does not have exactly one source (an iterator, reader or file)
-         *         configured; normally guaranteed by the factory methods
+         *         configured, if more than one writer is configured, or if more than one parser is configured for a
+         *         source other than a file
          * @throws SQLException if a database access error occurs
          * @throws UncheckedIOException if an I/O error occurs reading the file/reader
          */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
         public long to(final PreparedStatement stmt) throws SQLException {
+            if (writerCount != 1) {
+                throw new IllegalStateException("More than one writer requires to(DataSource, String): each writer needs its own connection");
+            }
+
             int configuredSources = 0;
 
             if (iter != null) {
@@ -3886,9 +4001,17 @@ public final class DataTransferUtil {
                 throw new IllegalStateException("Exactly one of 'iter', 'reader' or 'file' must be configured for a single import");
             }
 
+            checkParsers();
+
             final Throwables.BiConsumer<? super PreparedQuery, ? super T, SQLException> setter = resolveSetter();
 
-            if (iter != null) {
+            if (file != null && parserCount > 1 && MappedCsvRows.isSupported(Charset.defaultCharset())) {
+                N.checkArgPositive(batchSize, "batchSize");
+
+                try (MappedCsvRows rows = new MappedCsvRows(file, parserCount, MappedCsvRows.DEFAULT_CHUNK_SIZE)) {
+                    return importData(rows, (Predicate) filter, stmt, batchSize, batchIntervalInMillis, (Throwables.BiConsumer) setter);
+                }
+            } else if (iter != null) {
                 return importData(iter, filter, stmt, batchSize, batchIntervalInMillis, setter);
             } else if (file != null) {
                 try (Reader r = IOUtil.newFileReader(file)) {
@@ -3909,6 +4032,50 @@ public final class DataTransferUtil {
                     (Throwables.BiConsumer<? super PreparedQuery, ? super String[], SQLException>) (Throwables.BiConsumer) setter);
         }
 
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private long toPipelined(final javax.sql.DataSource targetDataSource, final String insertSql) throws SQLException {
+            N.checkArgNotNull(targetDataSource, "targetDataSource");
+            N.checkArgNotNull(insertSql, "insertSql");
+            N.checkArgPositive(writerCount, "writers");
+            N.checkArgNotNegative(queueCapacity, "queueCapacity");
+            N.checkArgPositive(batchSize, "batchSize");
+
+            if (iter != null || (reader == null) == (file == null)) {
+                throw new IllegalStateException("More than one writer is only supported for a CSV reader or file source");
+            }
+
+            checkParsers();
+
+            final PipelinedCsvImport pipeline = new PipelinedCsvImport(targetDataSource, insertSql, (Predicate) filter, batchSize, batchIntervalInMillis,
+                    (Throwables.BiConsumer<? super PreparedQuery, ? super String[], SQLException>) (Throwables.BiConsumer) resolveSetter(), writerCount,
+                    queueCapacity == 0 ? writerCount * 2 : queueCapacity);
+
+            if (file != null && parserCount > 1 && MappedCsvRows.isSupported(Charset.defaultCharset())) {
+                try (MappedCsvRows rows = new MappedCsvRows(file, parserCount, MappedCsvRows.DEFAULT_CHUNK_SIZE)) {
+                    return pipeline.run(rows);
+                }
+            } else if (file != null) {
+                try (Reader r = IOUtil.newFileReader(file); //
+                        CsvReaderRows rows = new CsvReaderRows(r)) {
+                    return pipeline.run(rows);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                try (CsvReaderRows rows = new CsvReaderRows(reader)) {
+                    return pipeline.run(rows);
+                }
+            }
+        }
+
+        private void checkParsers() {
+            N.checkArgPositive(parserCount, "parsers");
+
+            if (parserCount > 1 && file == null) {
+                throw new IllegalStateException("More than one parser is only supported for a CSV file source");
+            }
+        }
+
         private Throwables.BiConsumer<? super PreparedQuery, ? super T, SQLException> resolveSetter() {
             if (parameterSetter == null) {
                 throw new IllegalArgumentException("'parameterSetter' must be configured before calling to(...)");
@@ -3919,229 +4086,1371 @@ public final class DataTransferUtil {
     }
 
     /**
-     * Creates a fluent builder for exporting the rows of a SELECT query (run against the given
-     * {@link javax.sql.DataSource}) to CSV. A connection is obtained when a terminal {@code to(...)} runs and released
-     * before it returns.
-     *
-     * <p>It is an ergonomic alternative to the positional {@code exportCsv(DataSource, String, ...)} overloads and, via
-     * {@link CsvExportBuilder#columns(Collection)}, supports column selection for BOTH
-     * {@link CsvExportBuilder#to(File) File} and {@link CsvExportBuilder#to(Writer) Writer} targets.</p>
-     *
-     * <p><b>Usage Examples:</b></p>
-     * <pre>{@code
-     * long n = DataTransferUtil.exportCsvFrom(dataSource, "SELECT id, name, email FROM users")
-     *         .columns(List.of("id", "name"))
-     *         .to(new File("users.csv"));
-     * }</pre>
+     * A CSV import in two stages: the calling thread collects the parsed rows into batches, which writers, each with
+     * its own connection, bind and execute. The queue between the stages is bounded, so parsing waits for the writers
+     * when the database is the bottleneck.
      *
-     * @param sourceDataSource the DataSource to obtain a connection from (must not be {@code null})
-     * @param selectSql the SQL query to execute (must not be {@code null})
-     * @return a {@link CsvExportBuilder}
-     * @throws IllegalArgumentException if {@code sourceDataSource} or {@code selectSql} is {@code null}
-     * @see #exportCsvFrom(Connection, String)
+     * <p>The writers run for the whole import, so they get a pool of their own, with one thread per writer, rather
+     * than {@link JdbcUtil#asyncExecutor}: they can't starve the parsers of a {@link MappedCsvRows}, or other tasks of
+     * the shared pool, and the import can't wait on writers that never started.</p>
      */
-    @Beta
-    public static CsvExportBuilder exportCsvFrom(final javax.sql.DataSource sourceDataSource, final String selectSql) {
-        N.checkArgNotNull(sourceDataSource, "sourceDataSource");
-        N.checkArgNotNull(selectSql, "selectSql");
+    private static final class PipelinedCsvImport {
+        private static final Batch END_OF_DATA = new Batch(-1, 0, 0, N.emptyList());
+        private static final long POLL_INTERVAL = 100;
+
+        private final javax.sql.DataSource targetDataSource;
+        private final String insertSql;
+        private final Predicate<? super String[]> filter;
+        private final int batchSize;
+        private final long batchIntervalInMillis;
+        private final Throwables.BiConsumer<? super PreparedQuery, ? super String[], SQLException> parameterSetter;
+        private final int writerCount;
+        private final BlockingQueue<Batch> queue;
+        private final AtomicBoolean isAborted = new AtomicBoolean();
+        // Keyed by the sequence number of the batch that failed: the first failure in CSV order is thrown.
+        private final Map<Long, Throwable> failures = new TreeMap<>();
+
+        PipelinedCsvImport(final javax.sql.DataSource targetDataSource, final String insertSql, final Predicate<? super String[]> filter,
+                final int batchSize, final long batchIntervalInMillis,
+                final Throwables.BiConsumer<? super PreparedQuery, ? super String[], SQLException> parameterSetter, final int writerCount,
+                final int queueCapacity) {
+            this.targetDataSource = targetDataSource;
+            this.insertSql = insertSql;
+            this.filter = filter;
+            this.batchSize = batchSize;
+            this.batchIntervalInMillis = batchIntervalInMillis;
+            this.parameterSetter = parameterSetter;
+            this.writerCount = writerCount;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
 
-        return new CsvExportBuilder(sourceDataSource, null, null, null, selectSql);
-    }
+        long run(final Iterator<String[]> rows) throws SQLException {
+            logger.debug("Importing CSV data(batchSize={}, writers={}, queueCapacity={})", batchSize, writerCount,
+                    queue.remainingCapacity());
 
-    /**
-     * Creates a fluent builder for exporting the rows of a SELECT query (run against the given {@link Connection}) to
-     * CSV. The connection is NOT closed by the builder.
-     *
-     * @param conn the Connection to run the query against (must not be {@code null}; not closed by the builder)
-     * @param selectSql the SQL query to execute (must not be {@code null})
-     * @return a {@link CsvExportBuilder}
-     * @throws IllegalArgumentException if {@code conn} or {@code selectSql} is {@code null}
-     * @see #exportCsvFrom(javax.sql.DataSource, String)
-     */
-    @Beta
-    public static CsvExportBuilder exportCsvFrom(final Connection conn, final String selectSql) {
-        N.checkArgNotNull(conn, "conn");
-        N.checkArgNotNull(selectSql, "selectSql");
+            final ExecutorService writerPool = Executors.newFixedThreadPool(writerCount);
+            final AsyncExecutor writerExecutor = new AsyncExecutor(writerPool);
+            long imported = 0;
 
-        return new CsvExportBuilder(null, conn, null, null, selectSql);
-    }
+            try {
+                final List<ContinuableFuture<Long>> futures = new ArrayList<>(writerCount);
 
-    /**
-     * Creates a fluent builder for exporting the result of executing the given {@link PreparedStatement} to CSV. The
-     * statement is executed when a terminal {@code to(...)} runs; the statement is NOT closed by the builder (the
-     * {@code ResultSet} it produces is).
-     *
-     * @param stmt the PreparedStatement to execute (must not be {@code null}; not closed by the builder)
-     * @return a {@link CsvExportBuilder}
-     * @throws IllegalArgumentException if {@code stmt} is {@code null}
-     */
-    @Beta
-    public static CsvExportBuilder exportCsvFrom(final PreparedStatement stmt) {
-        N.checkArgNotNull(stmt, "stmt");
+                for (int i = 0; i < writerCount; i++) {
+                    futures.add(writerExecutor.execute(this::write));
+                }
 
-        return new CsvExportBuilder(null, null, stmt, null, null);
-    }
+                parse(rows);
+
+                for (final ContinuableFuture<Long> future : futures) {
+                    try {
+                        imported += future.get();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        isAborted.set(true);
+                        throw new UncheckedInterruptedException(e);
+                    } catch (final ExecutionException e) {
+                        fail(Long.MAX_VALUE, e.getCause());
+                    }
+                }
+            } finally {
+                // All writers have returned unless the import ended with an exception: the others stop at their next poll.
+                isAborted.set(true);
+                writerPool.shutdown();
+            }
 
-    /**
-     * Creates a fluent builder for exporting the rows of the given {@link ResultSet} to CSV. Export starts with the
-     * next row after its current cursor position. The {@code ResultSet} is NOT closed by the builder.
-     *
-     * @param rs the ResultSet to export (must not be {@code null}; not closed by the builder)
-     * @return a {@link CsvExportBuilder}
-     * @throws IllegalArgumentException if {@code rs} is {@code null}
-     */
-    @Beta
-    public static CsvExportBuilder exportCsvFrom(final ResultSet rs) {
-        N.checkArgNotNull(rs, "rs");
+            final Throwable failure;
 
-        return new CsvExportBuilder(null, null, null, rs, null);
-    }
+            synchronized (failures) {
+                if (failures.isEmpty()) {
+                    failure = null;
+                } else {
+                    final Iterator<Throwable> iter = failures.values().iterator();
+                    failure = iter.next();
 
-    /**
-     * A fluent builder that exports the rows of a query/result to CSV. Obtain an instance via one of the
-     * {@code exportCsvFrom(...)} factory methods ({@link DataTransferUtil#exportCsvFrom(javax.sql.DataSource, String)},
-     * {@link DataTransferUtil#exportCsvFrom(Connection, String)}, {@link DataTransferUtil#exportCsvFrom(PreparedStatement)} or
-     * {@link DataTransferUtil#exportCsvFrom(ResultSet)}), optionally restrict the columns with
-     * {@link #columns(Collection)}, then write to a {@link File} or a {@link Writer} with a terminal
-     * {@code to(...)} call.
-     *
-     * <p>The exported CSV always starts with a header row of column labels. A caller-supplied
-     * {@code Connection}/{@code PreparedStatement}/{@code ResultSet} is never closed; a {@code DataSource} connection is
-     * obtained and released by the terminal. A {@code File} target is created if it does not exist; a {@code Writer}
-     * target is flushed but not closed.</p>
-     *
-     * @see DataTransferUtil#exportCsvFrom(javax.sql.DataSource, String)
-     */
-    public static final class CsvExportBuilder {
-        private final javax.sql.DataSource dataSource;
-        private final Connection conn;
-        private final PreparedStatement stmt;
-        private final ResultSet rs;
-        private final String selectSql;
-        private Collection<String> columnNames;
+                    while (iter.hasNext()) {
+                        failure.addSuppressed(iter.next());
+                    }
+                }
+            }
 
-        CsvExportBuilder(final javax.sql.DataSource dataSource, final Connection conn, final PreparedStatement stmt, final ResultSet rs,
-                final String selectSql) {
-            this.dataSource = dataSource;
-            this.conn = conn;
-            this.stmt = stmt;
-            this.rs = rs;
-            this.selectSql = selectSql;
+            if (failure != null) {
+                logger.warn("Aborted CSV import(imported={}, failedBatches={})", imported, failures.size());
+
+                if (failure instanceof SQLException) {
+                    throw (SQLException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+
+                throw new SQLException(failure);
+            }
+
+            logger.info("Imported CSV data rows(imported={}, writers={})", imported, writerCount);
+
+            return imported;
         }
 
-        /**
-         * Restricts the export to the named columns (matched against the query's result-set column labels), in the
-         * order they appear in the result. {@code null} or empty exports all columns.
-         *
-         * @param columns the column names to export; {@code null} for all columns. The supplied collection is copied.
-         * @return this builder
-         */
-        public CsvExportBuilder columns(final Collection<String> columns) {
-            columnNames = N.isEmpty(columns) ? null : new ArrayList<>(columns);
+        private void parse(final Iterator<String[]> rows) {
+            long sequence = 0;
 
-            return this;
+            try {
+                List<String[]> batch = new ArrayList<>(batchSize);
+                long rowNum = 0;
+                long firstRowNum = 0;
+
+                while (!isAborted.get() && rows.hasNext()) {
+                    rowNum++;
+
+                    final String[] row = rows.next();
+
+                    if (filter != null && !filter.test(row)) {
+                        continue;
+                    }
+
+                    if (batch.isEmpty()) {
+                        firstRowNum = rowNum;
+                    }
+
+                    batch.add(row);
+
+                    if (batch.size() == batchSize) {
+                        if (!put(new Batch(sequence++, firstRowNum, rowNum, batch))) {
+                            break;
+                        }
+
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+
+                if (!batch.isEmpty() && !isAborted.get()) {
+                    put(new Batch(sequence++, firstRowNum, rowNum, batch));
+                }
+            } catch (final RuntimeException | Error e) {
+                fail(sequence, e);
+            }
+
+            for (int i = 0; i < writerCount; i++) {
+                if (!put(END_OF_DATA)) {
+                    break;
+                }
+            }
+        }
+
+        // Returns false, without queuing the batch, if the import has been aborted.
+        private boolean put(final Batch batch) {
+            try {
+                while (!isAborted.get()) {
+                    if (queue.offer(batch, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                isAborted.set(true);
+                throw new UncheckedInterruptedException(e);
+            }
+        }
+
+        private long write() {
+            Connection conn = null;
+            PreparedStatement stmt = null;
+            Batch batch = null;
+            long imported = 0;
+
+            try {
+                conn = JdbcUtil.getConnection(targetDataSource);
+                stmt = JdbcUtil.prepareStatement(conn, insertSql);
+
+                final PreparedQuery stmtForSetter = new PreparedQuery(stmt);
+                boolean hasExecutedBatch = false;
+
+                while (!isAborted.get()) {
+                    batch = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                    if (batch == END_OF_DATA) {
+                        break;
+                    } else if (batch == null) {
+                        continue;
+                    }
+
+                    for (final String[] row : batch.rows()) {
+                        parameterSetter.accept(stmtForSetter, row);
+                        stmt.addBatch();
+                    }
+
+                    pauseBeforeSubsequentBatch(hasExecutedBatch, batchIntervalInMillis);
+                    JdbcUtil.executeBatch(stmt);
+                    hasExecutedBatch = true;
+                    imported += batch.rows().size();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(Long.MAX_VALUE, new UncheckedInterruptedException(e));
+            } catch (final SQLException e) {
+                if (batch == null) {
+                    fail(-1, e);
+                } else {
+                    logger.warn("Failed to import CSV data rows(firstRow={}, lastRow={})", batch.firstRowNum(), batch.lastRowNum());
+                    fail(batch.sequence(), new SQLException("Failed to import CSV data rows " + batch.firstRowNum() + "-" + batch.lastRowNum(),
+                            e.getSQLState(), e.getErrorCode(), e));
+                }
+            } catch (final RuntimeException | Error e) {
+                if (batch != null) {
+                    logger.warn("Failed to import CSV data rows(firstRow={}, lastRow={})", batch.firstRowNum(), batch.lastRowNum());
+                }
+
+                fail(batch == null ? -1 : batch.sequence(), e);
+            } finally {
+                JdbcUtil.closeQuietly(stmt);
+                JdbcUtil.releaseConnection(conn, targetDataSource);
+            }
+
+            return imported;
+        }
+
+        private void fail(final long sequence, final Throwable e) {
+            isAborted.set(true);
+
+            synchronized (failures) {
+                final Throwable previous = failures.putIfAbsent(sequence, e);
+
+                if (previous != null && previous != e) {
+                    previous.addSuppressed(e);
+                }
+            }
         }
 
         /**
-         * Runs the export and writes the CSV to the given {@link File} (created if it does not exist).
-         *
-         * @param output the file to write to
-         * @return the number of rows exported
-         * @throws IllegalArgumentException if {@code output} is {@code null} or a configured column name is not present in the query result
-         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
-         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
-         * @throws SQLException if a database access error occurs
-         * @throws UncheckedIOException if an I/O error occurs while writing
+         * Up to {@code batchSize} parsed rows; {@code firstRowNum} and {@code lastRowNum} are the 1-based numbers of the
+         * first and last of them among the data rows, header excluded.
          */
-        public long to(final File output) throws SQLException {
-            N.checkArgNotNull(output, "output");
+        private record Batch(long sequence, long firstRowNum, long lastRowNum, List<String[]> rows) {
+        }
+    }
 
-            return export(r -> exportCsv(r, columnNames, output));
+    /**
+     * The data rows of CSV text read line by line, header excluded. Each row is a new array.
+     */
+    private static final class CsvReaderRows implements Iterator<String[]>, AutoCloseable {
+        private final BiConsumer<String, String[]> lineParser = CsvUtil.getCurrentLineParser();
+        private final boolean isBufferedReader;
+        private final BufferedReader br;
+        private final int columnCount;
+        private String nextLine;
+
+        CsvReaderRows(final Reader reader) {
+            isBufferedReader = IOUtil.isBufferedReader(reader);
+            br = isBufferedReader ? (BufferedReader) reader : Objectory.createBufferedReader(reader);
+
+            try {
+                final String header = br.readLine();
+
+                columnCount = header == null ? 0 : CsvUtil.getCurrentHeaderParser().apply(header).length;
+                nextLine = header == null ? null : br.readLine();
+            } catch (final IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public String[] next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException(InternalUtil.ERROR_MSG_FOR_NO_SUCH_EX);
+            }
+
+            final String[] row = new String[columnCount];
+            parseCsvRow(lineParser, nextLine, row);
+
+            try {
+                nextLine = br.readLine();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return row;
+        }
+
+        @Override
+        public void close() {
+            if (!isBufferedReader) {
+                Objectory.recycle(br);
+            }
+        }
+    }
+
+    /**
+     * The data rows of a CSV file, header excluded, parsed in parallel. The file is memory-mapped and split into chunks
+     * of about {@code chunkSize} bytes at line breaks; the chunks are parsed by a pool of {@code parserCount} threads
+     * owned by this instance, at most {@code parserCount + 1} ahead of the chunk being read, so that the parsers never
+     * wait behind the tasks of a shared pool, such as the writers of a {@link PipelinedCsvImport}. Rows are returned in
+     * file order, each as a new array. The pool is shut down by {@link #close()}.
+     *
+     * <p>As in the sequential CSV import and {@link CsvReaderRows}, every line, as split by
+     * {@link BufferedReader#readLine()}, is one record, whatever the double quotes or escapes in it: a parallel import
+     * reads a file exactly as a sequential one does. Only the splitting is sequential, and it only reads, without
+     * mapping, from the end of each chunk's first {@code chunkSize} bytes to the next line break.</p>
+     *
+     * <p>A chunk is mapped only while its parser decodes it, and the mapping is dropped right after, so at most
+     * {@code parserCount + 1} chunks are mapped at a time. The JDK has no way to unmap a {@link MappedByteBuffer},
+     * though: the address space of a dropped mapping is only released when the buffer is garbage collected, which
+     * may lag behind a fast import of a large file.</p>
+     */
+    static final class MappedCsvRows implements Iterator<String[]>, AutoCloseable {
+        static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+        private static final int SCAN_WINDOW_SIZE = 64 * 1024;
+
+        private final Charset charset = Charset.defaultCharset();
+        private final BiConsumer<String, String[]> lineParser = CsvUtil.getCurrentLineParser();
+        private final FileChannel channel;
+        private final long fileSize;
+        private final int chunkSize;
+        private final int maxPendingChunks;
+        private final int columnCount;
+        private final ExecutorService parserPool;
+        private final AsyncExecutor parserExecutor;
+        private final Deque<ContinuableFuture<List<String[]>>> pendingChunks = new ArrayDeque<>();
+        private final ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_WINDOW_SIZE);
+        private long position;
+        private Iterator<String[]> chunkRows = N.<String[]> emptyList().iterator();
+
+        MappedCsvRows(final File file, final int parserCount, final int chunkSize) {
+            this.chunkSize = chunkSize;
+            maxPendingChunks = parserCount + 1;
+
+            try {
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            parserPool = Executors.newFixedThreadPool(parserCount);
+            parserExecutor = new AsyncExecutor(parserPool);
+
+            try {
+                fileSize = channel.size();
+                position = lineBoundary(0, 1);
+
+                final List<String> header = new ArrayList<>(1);
+                forEachLine(0, position, header::add);
+
+                columnCount = header.isEmpty() ? 0 : CsvUtil.getCurrentHeaderParser().apply(header.get(0)).length;
+            } catch (final IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            } catch (final RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns {@code true} if line breaks are encoded as single ASCII bytes in the given charset, so that the file can
+         * be split without decoding it.
+         */
+        static boolean isSupported(final Charset charset) {
+            return charset.canEncode() && Arrays.equals("\n\r".getBytes(charset), new byte[] { '\n', '\r' });
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!chunkRows.hasNext()) {
+                scheduleChunks();
+
+                final ContinuableFuture<List<String[]>> chunk = pendingChunks.poll();
+
+                if (chunk == null) {
+                    return false;
+                }
+
+                scheduleChunks();
+
+                try {
+                    chunkRows = chunk.get().iterator();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedInterruptedException(e);
+                } catch (final ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(InternalUtil.ERROR_MSG_FOR_NO_SUCH_EX);
+            }
+
+            return chunkRows.next();
+        }
+
+        private void scheduleChunks() {
+            while (pendingChunks.size() < maxPendingChunks && position < fileSize) {
+                final long start = position;
+
+                try {
+                    position = lineBoundary(start, chunkSize);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                final long end = position;
+
+                pendingChunks.add(parserExecutor.execute(() -> parseChunk(start, end)));
+            }
+        }
+
+        // Returns the position after the first line break ending at least minLength bytes after start, or the file size.
+        // A '\r' only ends a line once the next byte is known not to be the '\n' of a "\r\n".
+        private long lineBoundary(final long start, final long minLength) throws IOException {
+            long pos = start + minLength - 1;
+            boolean afterCr = false;
+
+            while (pos < fileSize) {
+                scanBuffer.clear();
+
+                final int windowSize = channel.read(scanBuffer, pos);
+
+                if (windowSize <= 0) {
+                    break;
+                }
+
+                for (int i = 0; i < windowSize; i++) {
+                    final byte b = scanBuffer.get(i);
+
+                    if (b == '\n') {
+                        return pos + i + 1;
+                    } else if (afterCr) {
+                        return pos + i;
+                    }
+
+                    afterCr = b == '\r';
+                }
+
+                pos += windowSize;
+            }
+
+            return fileSize;
+        }
+
+        private List<String[]> parseChunk(final long start, final long end) {
+            final List<String[]> rows = new ArrayList<>();
+
+            forEachLine(start, end, line -> {
+                final String[] row = new String[columnCount];
+                parseCsvRow(lineParser, line, row);
+                rows.add(row);
+            });
+
+            return rows;
+        }
+
+        // Splits lines at '\n', '\r' or "\r\n", as BufferedReader.readLine() does.
+        private void forEachLine(final long start, final long end, final Consumer<String> action) {
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("CSV line at byte " + start + " is too large to be mapped: " + (end - start) + " bytes");
+            }
+
+            final CharBuffer chars;
+
+            try {
+                // The mapping isn't referenced once decoded.
+                chars = charset.decode(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            final int length = chars.remaining();
+            int from = 0;
+
+            for (int i = 0; i < length; i++) {
+                final char ch = chars.get(i);
+
+                if (ch == '\n' || ch == '\r') {
+                    action.accept(chars.subSequence(from, i).toString());
+
+                    if (ch == '\r' && i + 1 < length && chars.get(i + 1) == '\n') {
+                        i++;
+                    }
+
+                    from = i + 1;
+                }
+            }
+
+            if (from < length) {
+                action.accept(chars.subSequence(from, length).toString());
+            }
+        }
+
+        @Override
+        public void close() {
+            for (final ContinuableFuture<List<String[]>> chunk : pendingChunks) {
+                chunk.cancel(false);
+            }
+
+            pendingChunks.clear();
+            parserPool.shutdown();
+
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of a SELECT query (run against the given
+     * {@link javax.sql.DataSource}) to CSV. A connection is obtained when a terminal {@code to(...)} runs and released
+     * before it returns.
+     *
+     * <p>It is an ergonomic alternative to the positional {@code exportCsv(DataSource, String, ...)} overloads and, via
+     * {@link CsvExportBuilder#columns(Collection)}, supports column selection for BOTH
+     * {@link CsvExportBuilder#to(File) File} and {@link CsvExportBuilder#to(Writer) Writer} targets.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * long n = DataTransferUtil.exportCsvFrom(dataSource, "SELECT id, name, email FROM users")
+     *         .columns(List.of("id", "name"))
+     *         .to(new File("users.csv"));
+     * }</pre>
+     *
+     * @param sourceDataSource the DataSource to obtain a connection from (must not be {@code null})
+     * @param selectSql the SQL query to execute (must not be {@code null})
+     * @return a {@link CsvExportBuilder}
+     * @throws IllegalArgumentException if {@code sourceDataSource} or {@code selectSql} is {@code null}
+     * @see #exportCsvFrom(Connection, String)
+     */
+    @Beta
+    public static CsvExportBuilder exportCsvFrom(final javax.sql.DataSource sourceDataSource, final String selectSql) {
+        N.checkArgNotNull(sourceDataSource, "sourceDataSource");
+        N.checkArgNotNull(selectSql, "selectSql");
+
+        return new CsvExportBuilder(sourceDataSource, null, null, null, selectSql);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of a SELECT query (run against the given {@link Connection}) to
+     * CSV. The connection is NOT closed by the builder.
+     *
+     * @param conn the Connection to run the query against (must not be {@code null}; not closed by the builder)
+     * @param selectSql the SQL query to execute (must not be {@code null})
+     * @return a {@link CsvExportBuilder}
+     * @throws IllegalArgumentException if {@code conn} or {@code selectSql} is {@code null}
+     * @see #exportCsvFrom(javax.sql.DataSource, String)
+     */
+    @Beta
+    public static CsvExportBuilder exportCsvFrom(final Connection conn, final String selectSql) {
+        N.checkArgNotNull(conn, "conn");
+        N.checkArgNotNull(selectSql, "selectSql");
+
+        return new CsvExportBuilder(null, conn, null, null, selectSql);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the result of executing the given {@link PreparedStatement} to CSV. The
+     * statement is executed when a terminal {@code to(...)} runs; the statement is NOT closed by the builder (the
+     * {@code ResultSet} it produces is).
+     *
+     * @param stmt the PreparedStatement to execute (must not be {@code null}; not closed by the builder)
+     * @return a {@link CsvExportBuilder}
+     * @throws IllegalArgumentException if {@code stmt} is {@code null}
+     */
+    @Beta
+    public static CsvExportBuilder exportCsvFrom(final PreparedStatement stmt) {
+        N.checkArgNotNull(stmt, "stmt");
+
+        return new CsvExportBuilder(null, null, stmt, null, null);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of the given {@link ResultSet} to CSV. Export starts with the
+     * next row after its current cursor position. The {@code ResultSet} is NOT closed by the builder.
+     *
+     * @param rs the ResultSet to export (must not be {@code null}; not closed by the builder)
+     * @return a {@link CsvExportBuilder}
+     * @throws IllegalArgumentException if {@code rs} is {@code null}
+     */
+    @Beta
+    public static CsvExportBuilder exportCsvFrom(final ResultSet rs) {
+        N.checkArgNotNull(rs, "rs");
+
+        return new CsvExportBuilder(null, null, null, rs, null);
+    }
+
+    /**
+     * A fluent builder that exports the rows of a query/result to CSV. Obtain an instance via one of the
+     * {@code exportCsvFrom(...)} factory methods ({@link DataTransferUtil#exportCsvFrom(javax.sql.DataSource, String)},
+     * {@link DataTransferUtil#exportCsvFrom(Connection, String)}, {@link DataTransferUtil#exportCsvFrom(PreparedStatement)} or
+     * {@link DataTransferUtil#exportCsvFrom(ResultSet)}), optionally restrict the columns with
+     * {@link #columns(Collection)}, then write to a {@link File} or a {@link Writer} with a terminal
+     * {@code to(...)} call.
+     *
+     * <p>The exported CSV always starts with a header row of column labels. A caller-supplied
+     * {@code Connection}/{@code PreparedStatement}/{@code ResultSet} is never closed; a {@code DataSource} connection is
+     * obtained and released by the terminal. A {@code File} target is created if it does not exist; a {@code Writer}
+     * or {@code OutputStream} target is flushed but not closed.</p>
+     *
+     * <p>A {@code File} or {@code OutputStream} target can be gzip-compressed in parallel with the export, see
+     * {@link #gzip(int)}.</p>
+     *
+     * @see DataTransferUtil#exportCsvFrom(javax.sql.DataSource, String)
+     */
+    public static final class CsvExportBuilder {
+        private final javax.sql.DataSource dataSource;
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final String selectSql;
+        private Collection<String> columnNames;
+        private int compressionThreads = 0;
+        private int compressionBlockSize = ParallelGzipWriter.DEFAULT_BLOCK_SIZE;
+
+        CsvExportBuilder(final javax.sql.DataSource dataSource, final Connection conn, final PreparedStatement stmt, final ResultSet rs,
+                final String selectSql) {
+            this.dataSource = dataSource;
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.selectSql = selectSql;
+        }
+
+        /**
+         * Restricts the export to the named columns (matched against the query's result-set column labels), in the
+         * order they appear in the result. {@code null} or empty exports all columns.
+         *
+         * @param columns the column names to export; {@code null} for all columns. The supplied collection is copied.
+         * @return this builder
+         */
+        public CsvExportBuilder columns(final Collection<String> columns) {
+            columnNames = N.isEmpty(columns) ? null : new ArrayList<>(columns);
+
+            return this;
+        }
+
+        /**
+         * Compresses the CSV written to a {@link File} or {@link OutputStream} with gzip, on up to
+         * {@code compressionThreads} threads while the rows are still being fetched and formatted. The formatted CSV
+         * is cut into blocks of {@link #compressionBlockSize(int) compressionBlockSize} characters, each compressed
+         * independently into a gzip member; the members are written in order, which makes a valid gzip stream
+         * readable by {@code gunzip} or {@link java.util.zip.GZIPInputStream}. The CSV is encoded in UTF-8.
+         *
+         * <p>Independent blocks compress slightly less than a single stream: the dictionary restarts with every block.</p>
+         *
+         * @param compressionThreads the number of blocks compressed at the same time (must not be negative when
+         *        {@code to(...)} is called); {@code 0}, the default, writes uncompressed CSV
+         * @return this builder
+         */
+        public CsvExportBuilder gzip(final int compressionThreads) {
+            this.compressionThreads = compressionThreads;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of CSV characters compressed into each gzip member. It's only used with {@link #gzip(int)}.
+         *
+         * @param compressionBlockSize the block size in characters (must be greater than 0 when {@code to(...)} is
+         *        called); 1M characters by default
+         * @return this builder
+         */
+        public CsvExportBuilder compressionBlockSize(final int compressionBlockSize) {
+            this.compressionBlockSize = compressionBlockSize;
+
+            return this;
+        }
+
+        /**
+         * Runs the export and writes the CSV to the given {@link File} (created if it does not exist).
+         *
+         * @param output the file to write to
+         * @return the number of rows exported
+         * @throws IllegalArgumentException if {@code output} is {@code null}, a configured column name is not present in
+         *         the query result, or the {@link #gzip(int) compression} settings are invalid
+         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
+         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs while writing
+         */
+        public long to(final File output) throws SQLException {
+            N.checkArgNotNull(output, "output");
+
+            if (!checkCompression()) {
+                return export(r -> exportCsv(r, columnNames, output));
+            }
+
+            try (OutputStream os = new FileOutputStream(output)) {
+                return exportGzip(os);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Runs the export and writes the CSV, encoded in UTF-8 and gzip-compressed if {@link #gzip(int)} is configured,
+         * to the given {@link OutputStream} (flushed, but not closed).
+         *
+         * @param output the stream to write to
+         * @return the number of rows exported
+         * @throws IllegalArgumentException if {@code output} is {@code null}, a configured column name is not present in
+         *         the query result, or the {@link #gzip(int) compression} settings are invalid
+         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
+         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs while writing
+         */
+        public long to(final OutputStream output) throws SQLException {
+            N.checkArgNotNull(output, "output");
+
+            if (checkCompression()) {
+                return exportGzip(output);
+            }
+
+            final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+
+            return export(r -> exportCsv(r, columnNames, writer));
+        }
+
+        /**
+         * Runs the export and writes the CSV to the given {@link Writer} (flushed, but not closed).
+         *
+         * @param output the writer to write to
+         * @return the number of rows exported
+         * @throws IllegalArgumentException if {@code output} is {@code null} or a configured column name is not present in the query result
+         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
+         *         PreparedStatement or ResultSet) configured, or if {@link #gzip(int)} is configured: compressed output
+         *         needs a {@code File} or an {@code OutputStream}
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs while writing
+         */
+        public long to(final Writer output) throws SQLException {
+            N.checkArgNotNull(output, "output");
+
+            if (compressionThreads != 0) {
+                throw new IllegalStateException("gzip(...) requires a File or OutputStream target");
+            }
+
+            return export(r -> exportCsv(r, columnNames, output));
+        }
+
+        // Returns true if the output is to be compressed.
+        private boolean checkCompression() {
+            N.checkArgNotNegative(compressionThreads, "compressionThreads");
+            N.checkArgPositive(compressionBlockSize, "compressionBlockSize");
+
+            return compressionThreads > 0;
+        }
+
+        private long exportGzip(final OutputStream output) throws SQLException {
+            final ParallelGzipWriter writer = new ParallelGzipWriter(output, compressionThreads, compressionBlockSize);
+            boolean isCompleted = false;
+
+            try {
+                final long result = export(r -> exportCsv(r, columnNames, writer));
+
+                // Compresses the last block and writes the pending ones.
+                writer.flush();
+                isCompleted = true;
+
+                return result;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (!isCompleted) {
+                    writer.discard();
+                }
+            }
+        }
+
+        private long export(final ResultSetExporter exporter) throws SQLException {
+            return exportQuery(dataSource, conn, stmt, rs, selectSql, exporter);
+        }
+    }
+
+    // Runs the query of exactly one of the given sources and exports its result.
+    private static long exportQuery(final javax.sql.DataSource dataSource, final Connection conn, final PreparedStatement stmt, final ResultSet rs,
+            final String selectSql, final ResultSetExporter exporter) throws SQLException {
+        int configuredSources = 0;
+
+        if (dataSource != null) {
+            configuredSources++;
+        }
+
+        if (conn != null) {
+            configuredSources++;
+        }
+
+        if (stmt != null) {
+            configuredSources++;
+        }
+
+        if (rs != null) {
+            configuredSources++;
+        }
+
+        if (configuredSources != 1) {
+            throw new IllegalStateException("Exactly one of 'dataSource', 'conn', 'stmt' or 'rs' must be configured for a single export");
+        }
+
+        if (rs != null) {
+            return exporter.export(rs);
+        } else if (stmt != null) {
+            ResultSet r = null;
+
+            try {
+                r = JdbcUtil.executeQuery(stmt);
+
+                return exporter.export(r);
+            } finally {
+                JdbcUtil.closeQuietly(r);
+            }
+        } else if (conn != null) {
+            return exportFromConnection(conn, selectSql, exporter);
+        } else {
+            final Connection c = JdbcUtil.getConnection(dataSource);
+
+            try {
+                return exportFromConnection(c, selectSql, exporter);
+            } finally {
+                JdbcUtil.releaseConnection(c, dataSource);
+            }
+        }
+    }
+
+    private static long exportFromConnection(final Connection c, final String selectSql, final ResultSetExporter exporter) throws SQLException {
+        final ParsedSql sql = ParsedSql.parse(selectSql);
+        final PreparedStatement st = JdbcUtil.prepareStatement(c, sql.parameterizedSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+        try {
+            setFetchForLargeResult(c, st);
+
+            try (ResultSet r = JdbcUtil.executeQuery(st)) {
+                return exporter.export(r);
+            }
+        } finally {
+            JdbcUtil.closeQuietly(st);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultSetExporter {
+        long export(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * A {@link Writer} that cuts the text written to it into blocks, compresses each block into a gzip member on
+     * {@link JdbcUtil#asyncExecutor} and writes the members to the underlying stream in order. At most
+     * {@code compressionThreads} blocks are compressed at the same time: writing waits for the oldest one beyond that.
+     * {@link #flush()} compresses the current block, even if it isn't full, and writes all the pending ones.
+     */
+    private static final class ParallelGzipWriter extends Writer {
+        static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+        private final OutputStream output;
+        private final int compressionThreads;
+        private final int blockSize;
+        private final Deque<ContinuableFuture<byte[]>> pendingBlocks = new ArrayDeque<>();
+        private StringBuilder block;
+
+        ParallelGzipWriter(final OutputStream output, final int compressionThreads, final int blockSize) {
+            this.output = output;
+            this.compressionThreads = compressionThreads;
+            this.blockSize = blockSize;
+            block = new StringBuilder(blockSize);
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            block.append((char) c);
+
+            if (block.length() >= blockSize) {
+                compressBlock();
+            }
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            for (int from = off, to = off + len; from < to;) {
+                final int n = Math.min(to - from, blockSize - block.length());
+                block.append(cbuf, from, n);
+                from += n;
+
+                if (block.length() >= blockSize) {
+                    compressBlock();
+                }
+            }
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            for (int from = off, to = off + len; from < to;) {
+                final int n = Math.min(to - from, blockSize - block.length());
+                block.append(str, from, from + n);
+                from += n;
+
+                if (block.length() >= blockSize) {
+                    compressBlock();
+                }
+            }
+        }
+
+        private void compressBlock() throws IOException {
+            int end = block.length();
+
+            // A surrogate pair must be encoded in one block.
+            if (end > 1 && Character.isHighSurrogate(block.charAt(end - 1))) {
+                end--;
+            }
+
+            final String text = block.substring(0, end);
+            final StringBuilder next = new StringBuilder(blockSize);
+            next.append(block, end, block.length());
+            block = next;
+
+            pendingBlocks.add(JdbcUtil.asyncExecutor.execute(() -> compress(text)));
+
+            while (pendingBlocks.size() > compressionThreads) {
+                writeBlock();
+            }
+        }
+
+        private static byte[] compress(final String text) throws IOException {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+            try (GZIPOutputStream gzos = new GZIPOutputStream(bos, 64 * 1024)) {
+                gzos.write(bytes);
+            }
+
+            return bos.toByteArray();
+        }
+
+        private void writeBlock() throws IOException {
+            final ContinuableFuture<byte[]> compressed = pendingBlocks.poll();
+
+            try {
+                output.write(compressed.get());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedInterruptedException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+
+                throw new IOException(e.getCause());
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (block.length() > 0) {
+                compressBlock();
+            }
+
+            while (!pendingBlocks.isEmpty()) {
+                writeBlock();
+            }
+
+            output.flush();
+        }
+
+        /**
+         * Flushes this writer. The underlying stream is not closed.
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        // Drops the pending blocks after a failed export.
+        void discard() {
+            for (final ContinuableFuture<byte[]> compressed : pendingBlocks) {
+                compressed.cancel(false);
+            }
+
+            pendingBlocks.clear();
+            block.setLength(0);
+        }
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of a SELECT query (run against the given
+     * {@link javax.sql.DataSource}) in a columnar binary format, a compact and fast alternative to CSV for moving large
+     * result sets between databases or into analytics jobs. A connection is obtained when a terminal {@code to(...)}
+     * runs and released before it returns.
+     *
+     * <p>Rows are written in record batches of {@link BinaryExportBuilder#batchSize(int) batchSize} rows; within a
+     * batch, each column is stored as a typed vector with a null bitmap, and strings repeated within the batch are
+     * dictionary-encoded. Values are written in their JDBC types, so nothing is formatted or parsed as text. The
+     * export is read back by {@link #importBinaryFrom(File)}.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * long n = DataTransferUtil.exportBinaryFrom(dataSource, "SELECT id, name, amount FROM orders")
+     *         .to(new File("orders.bin"));
+     *
+     * long imported = DataTransferUtil.importBinaryFrom(new File("orders.bin"))
+     *         .to(targetDataSource, "INSERT INTO orders_archive (id, name, amount) VALUES (?, ?, ?)");
+     * }</pre>
+     *
+     * @param sourceDataSource the DataSource to obtain a connection from (must not be {@code null})
+     * @param selectSql the SQL query to execute (must not be {@code null})
+     * @return a {@link BinaryExportBuilder}
+     * @throws IllegalArgumentException if {@code sourceDataSource} or {@code selectSql} is {@code null}
+     * @see #importBinaryFrom(File)
+     */
+    @Beta
+    public static BinaryExportBuilder exportBinaryFrom(final javax.sql.DataSource sourceDataSource, final String selectSql) {
+        N.checkArgNotNull(sourceDataSource, "sourceDataSource");
+        N.checkArgNotNull(selectSql, "selectSql");
+
+        return new BinaryExportBuilder(sourceDataSource, null, null, null, selectSql);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of a SELECT query, run on the given {@link Connection}, in the
+     * columnar binary format. See {@link #exportBinaryFrom(javax.sql.DataSource, String)}. The connection is not closed.
+     *
+     * @param conn the connection to run the query on (must not be {@code null}; not closed by the builder)
+     * @param selectSql the SQL query to execute (must not be {@code null})
+     * @return a {@link BinaryExportBuilder}
+     * @throws IllegalArgumentException if {@code conn} or {@code selectSql} is {@code null}
+     */
+    @Beta
+    public static BinaryExportBuilder exportBinaryFrom(final Connection conn, final String selectSql) {
+        N.checkArgNotNull(conn, "conn");
+        N.checkArgNotNull(selectSql, "selectSql");
+
+        return new BinaryExportBuilder(null, conn, null, null, selectSql);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of the given {@link PreparedStatement} in the columnar binary
+     * format. See {@link #exportBinaryFrom(javax.sql.DataSource, String)}. The statement is not closed.
+     *
+     * @param stmt the statement to execute (must not be {@code null}; not closed by the builder)
+     * @return a {@link BinaryExportBuilder}
+     * @throws IllegalArgumentException if {@code stmt} is {@code null}
+     */
+    @Beta
+    public static BinaryExportBuilder exportBinaryFrom(final PreparedStatement stmt) {
+        N.checkArgNotNull(stmt, "stmt");
+
+        return new BinaryExportBuilder(null, null, stmt, null, null);
+    }
+
+    /**
+     * Creates a fluent builder for exporting the rows of the given {@link ResultSet}, from the row after its current
+     * cursor position, in the columnar binary format. See {@link #exportBinaryFrom(javax.sql.DataSource, String)}.
+     * The {@code ResultSet} is not closed.
+     *
+     * @param rs the ResultSet to export (must not be {@code null}; not closed by the builder)
+     * @return a {@link BinaryExportBuilder}
+     * @throws IllegalArgumentException if {@code rs} is {@code null}
+     */
+    @Beta
+    public static BinaryExportBuilder exportBinaryFrom(final ResultSet rs) {
+        N.checkArgNotNull(rs, "rs");
+
+        return new BinaryExportBuilder(null, null, null, rs, null);
+    }
+
+    /**
+     * A fluent builder that exports the rows of a query/result in the columnar binary format. Obtain an instance via
+     * one of the {@code exportBinaryFrom(...)} factory methods, optionally set the number of rows per record batch
+     * with {@link #batchSize(int)}, then write to a {@link File} or an {@link OutputStream} with a terminal
+     * {@code to(...)} call.
+     *
+     * <p>Columns are stored by their {@code java.sql.Types}: booleans, integers, floating-point numbers, decimals,
+     * dates, times, timestamps and binary values keep their type; any other column is exported with
+     * {@link ResultSet#getString(int)}. A caller-supplied {@code Connection}/{@code PreparedStatement}/{@code ResultSet}
+     * is never closed. A {@code File} target is created if it does not exist; an {@code OutputStream} target is flushed
+     * but not closed.</p>
+     *
+     * @see DataTransferUtil#exportBinaryFrom(javax.sql.DataSource, String)
+     * @see DataTransferUtil#importBinaryFrom(File)
+     */
+    public static final class BinaryExportBuilder {
+        private final javax.sql.DataSource dataSource;
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final String selectSql;
+        private int batchSize = ColumnarBinaryFormat.DEFAULT_BATCH_SIZE;
+
+        BinaryExportBuilder(final javax.sql.DataSource dataSource, final Connection conn, final PreparedStatement stmt, final ResultSet rs,
+                final String selectSql) {
+            this.dataSource = dataSource;
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.selectSql = selectSql;
+        }
+
+        /**
+         * Sets the number of rows per record batch. Larger batches compress strings better and cost more memory on
+         * both sides of the export.
+         *
+         * @param batchSize the number of rows per record batch (must be greater than 0 when {@code to(...)} is called);
+         *        8192 by default
+         * @return this builder
+         */
+        public BinaryExportBuilder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+
+            return this;
+        }
+
+        /**
+         * Runs the export and writes it to the given {@link File} (created if it does not exist).
+         *
+         * @param output the file to write to
+         * @return the number of rows exported
+         * @throws IllegalArgumentException if {@code output} is {@code null} or {@code batchSize <= 0}
+         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
+         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs while writing
+         */
+        public long to(final File output) throws SQLException {
+            N.checkArgNotNull(output, "output");
+            N.checkArgPositive(batchSize, "batchSize");
+
+            try (OutputStream os = new FileOutputStream(output)) {
+                return to(os);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Runs the export and writes it to the given {@link OutputStream} (flushed, but not closed).
+         *
+         * @param output the stream to write to
+         * @return the number of rows exported
+         * @throws IllegalArgumentException if {@code output} is {@code null} or {@code batchSize <= 0}
+         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
+         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs while writing
+         */
+        public long to(final OutputStream output) throws SQLException {
+            N.checkArgNotNull(output, "output");
+            N.checkArgPositive(batchSize, "batchSize");
+
+            return exportQuery(dataSource, conn, stmt, rs, selectSql, r -> {
+                try {
+                    final long result = ColumnarBinaryFormat.write(r, output, batchSize);
+
+                    logger.info("Exported columnar binary rows(exported={}, batchSize={})", result, batchSize);
+
+                    return result;
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates a fluent builder for importing a {@link File} written by
+     * {@link #exportBinaryFrom(javax.sql.DataSource, String)} into a database table. The file is opened when a
+     * terminal method runs and closed before it returns.
+     *
+     * <p>Each record batch of the file is bound column by column to the parameters of the insert statement, column
+     * {@code i} to parameter {@code i}, and executed as one JDBC batch; a {@code null} value is bound with
+     * {@link PreparedStatement#setNull(int, int)} and the exported column's SQL type.</p>
+     *
+     * @param file the file to import (must not be {@code null})
+     * @return a {@link BinaryImportBuilder}
+     * @throws IllegalArgumentException if {@code file} is {@code null}
+     * @see #exportBinaryFrom(javax.sql.DataSource, String)
+     */
+    @Beta
+    public static BinaryImportBuilder importBinaryFrom(final File file) {
+        N.checkArgNotNull(file, "file");
+
+        return new BinaryImportBuilder(file, null);
+    }
+
+    /**
+     * Creates a fluent builder for importing a stream written by
+     * {@link #exportBinaryFrom(javax.sql.DataSource, String)} into a database table. See {@link #importBinaryFrom(File)}.
+     * The stream is not closed.
+     *
+     * @param input the stream to read (must not be {@code null}; not closed by the builder)
+     * @return a {@link BinaryImportBuilder}
+     * @throws IllegalArgumentException if {@code input} is {@code null}
+     */
+    @Beta
+    public static BinaryImportBuilder importBinaryFrom(final InputStream input) {
+        N.checkArgNotNull(input, "input");
+
+        return new BinaryImportBuilder(null, input);
+    }
+
+    /**
+     * A fluent builder that imports the columnar binary format into a database table, or reads it into a
+     * {@link Dataset}. Obtain an instance via {@link DataTransferUtil#importBinaryFrom(File)} or
+     * {@link DataTransferUtil#importBinaryFrom(InputStream)}.
+     *
+     * @see DataTransferUtil#exportBinaryFrom(javax.sql.DataSource, String)
+     */
+    public static final class BinaryImportBuilder {
+        private final File file;
+        private final InputStream input;
+        private long batchIntervalInMillis = 0;
+
+        BinaryImportBuilder(final File file, final InputStream input) {
+            this.file = file;
+            this.input = input;
+        }
+
+        /**
+         * Sets the pause between consecutive batch executions.
+         *
+         * @param delay the delay between completed batches; must not be {@code null}, negative, or too large to represent in milliseconds
+         * @return this builder
+         * @throws IllegalArgumentException if {@code delay} is {@code null}, negative, or too large to represent in milliseconds
+         */
+        public BinaryImportBuilder batchDelay(final Duration delay) {
+            batchIntervalInMillis = toBatchIntervalMillis(delay);
+
+            return this;
+        }
+
+        /**
+         * Runs the import against a connection obtained from the given DataSource; the connection is released back to
+         * the DataSource when the import completes.
+         *
+         * @param targetDataSource the DataSource to obtain a database connection from
+         * @param insertSql the SQL insert statement, with one placeholder per exported column
+         * @return the number of rows imported
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs, or if the input isn't in the columnar binary format
+         */
+        public long to(final javax.sql.DataSource targetDataSource, final String insertSql) throws SQLException {
+            final Connection conn = JdbcUtil.getConnection(targetDataSource);
+
+            try {
+                return to(conn, insertSql);
+            } finally {
+                JdbcUtil.releaseConnection(conn, targetDataSource);
+            }
+        }
+
+        /**
+         * Runs the import against the given Connection.
+         *
+         * @param conn the Connection to the database
+         * @param insertSql the SQL insert statement, with one placeholder per exported column
+         * @return the number of rows imported
+         * @throws SQLException if a database access error occurs
+         * @throws UncheckedIOException if an I/O error occurs, or if the input isn't in the columnar binary format
+         */
+        public long to(final Connection conn, final String insertSql) throws SQLException {
+            try (PreparedStatement stmt = JdbcUtil.prepareStatement(conn, insertSql)) {
+                return to(stmt);
+            }
         }
 
         /**
-         * Runs the export and writes the CSV to the given {@link Writer} (flushed, but not closed).
+         * Runs the import against the given PreparedStatement.
          *
-         * @param output the writer to write to
-         * @return the number of rows exported
-         * @throws IllegalArgumentException if {@code output} is {@code null} or a configured column name is not present in the query result
-         * @throws IllegalStateException if the builder does not have exactly one query source (a DataSource, Connection,
-         *         PreparedStatement or ResultSet) configured; normally guaranteed by the factory methods
+         * @param stmt the PreparedStatement to be used for the import (will not be closed by this method)
+         * @return the number of rows imported
          * @throws SQLException if a database access error occurs
-         * @throws UncheckedIOException if an I/O error occurs while writing
+         * @throws UncheckedIOException if an I/O error occurs, or if the input isn't in the columnar binary format
          */
-        public long to(final Writer output) throws SQLException {
-            N.checkArgNotNull(output, "output");
-
-            return export(r -> exportCsv(r, columnNames, output));
-        }
-
-        private long export(final ResultSetExporter exporter) throws SQLException {
-            int configuredSources = 0;
-
-            if (dataSource != null) {
-                configuredSources++;
-            }
-
-            if (conn != null) {
-                configuredSources++;
-            }
-
-            if (stmt != null) {
-                configuredSources++;
-            }
-
-            if (rs != null) {
-                configuredSources++;
-            }
-
-            if (configuredSources != 1) {
-                throw new IllegalStateException("Exactly one of 'dataSource', 'conn', 'stmt' or 'rs' must be configured for a single export");
-            }
+        public long to(final PreparedStatement stmt) throws SQLException {
+            N.checkArgNotNull(stmt, "stmt");
 
-            if (rs != null) {
-                return exporter.export(rs);
-            } else if (stmt != null) {
-                ResultSet r = null;
+            return read(reader -> {
+                long result = 0;
+                boolean hasExecutedBatch = false;
+                int rowCount;
 
-                try {
-                    r = JdbcUtil.executeQuery(stmt);
+                while ((rowCount = reader.next()) > 0) {
+                    for (int row = 0; row < rowCount; row++) {
+                        reader.bind(stmt, row);
+                        stmt.addBatch();
+                    }
 
-                    return exporter.export(r);
-                } finally {
-                    JdbcUtil.closeQuietly(r);
+                    pauseBeforeSubsequentBatch(hasExecutedBatch, batchIntervalInMillis);
+                    JdbcUtil.executeBatch(stmt);
+                    hasExecutedBatch = true;
+                    result += rowCount;
                 }
-            } else if (conn != null) {
-                return exportFromConnection(conn, exporter);
-            } else {
-                final Connection c = JdbcUtil.getConnection(dataSource);
 
-                try {
-                    return exportFromConnection(c, exporter);
-                } finally {
-                    JdbcUtil.releaseConnection(c, dataSource);
-                }
-            }
-        }
+                logger.info("Imported columnar binary rows(imported={})", result);
 
-        private long exportFromConnection(final Connection c, final ResultSetExporter exporter) throws SQLException {
-            final ParsedSql sql = ParsedSql.parse(selectSql);
-            final PreparedStatement st = JdbcUtil.prepareStatement(c, sql.parameterizedSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                return result;
+            });
+        }
 
+        /**
+         * Reads all the rows into a {@link Dataset}, with the exported column labels as column names. Values have
+         * the Java types of their JDBC getters: {@code Boolean}, {@code Integer}, {@code Long}, {@code Float},
+         * {@code Double}, {@code BigDecimal}, {@code java.sql.Date}, {@code java.sql.Time},
+         * {@code java.sql.Timestamp}, {@code byte[]} or {@code String}.
+         *
+         * @return a Dataset holding every row of the input
+         * @throws UncheckedIOException if an I/O error occurs, or if the input isn't in the columnar binary format
+         */
+        public Dataset toDataset() {
             try {
-                setFetchForLargeResult(c, st);
+                return read(reader -> {
+                    final List<Object[]> rows = new ArrayList<>();
+                    int rowCount;
 
-                try (ResultSet r = JdbcUtil.executeQuery(st)) {
-                    return exporter.export(r);
-                }
-            } finally {
-                JdbcUtil.closeQuietly(st);
+                    while ((rowCount = reader.next()) > 0) {
+                        for (int row = 0; row < rowCount; row++) {
+                            rows.add(reader.row(row));
+                        }
+                    }
+
+                    return Dataset.rows(reader.columnLabels(), rows.toArray(new Object[0][]));
+                });
+            } catch (final SQLException e) {
+                // Unreachable: reading into a Dataset doesn't touch the database.
+                throw new IllegalStateException(e);
             }
         }
 
-        @FunctionalInterface
-        private interface ResultSetExporter {
-            long export(ResultSet rs) throws SQLException;
+        private <R> R read(final Throwables.Function<ColumnarBinaryFormat.BatchReader, R, Exception> action) throws SQLException {
+            try (InputStream is = file == null ? null : new FileInputStream(file)) {
+                return action.apply(new ColumnarBinaryFormat.BatchReader(file == null ? input : is));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final SQLException | RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
         }
     }
 
@@ -4549,6 +5858,20 @@ public final class DataTransferUtil {
      * and {@link #batchSize(int)}, then call the terminal {@link #to(javax.sql.DataSource, String)} to run the copy.
      * Each configuration method returns {@code this}.
      *
+     * <p>A large table can be copied in parallel: {@link #partitionBy(String)} splits it into key ranges and
+     * {@link #parallelism(int)} copies up to that many ranges at once, each through its own source cursor and target
+     * connection. {@link #commitInterval(long)} and {@link #onProgress(Consumer)} apply to each partition.</p>
+     *
+     * <pre>{@code
+     * long copied = DataTransferUtil.copyTable(sourceDataSource, "orders")
+     *         .partitionBy("id")
+     *         .parallelism(8)
+     *         .batchSize(5000)
+     *         .commitInterval(100_000)
+     *         .onProgress(p -> logger.info("partition {}/{}: {} rows", p.partition() + 1, p.partitionCount(), p.copiedRows()))
+     *         .to(targetDataSource, "orders");
+     * }</pre>
+     *
      * <p>Connections are obtained from the source and target data sources and released back to them when the
      * copy completes.</p>
      *
@@ -4559,6 +5882,10 @@ public final class DataTransferUtil {
         private final String sourceTableName;
         private Collection<String> columnNames;
         private int batchSize = JdbcUtil.DEFAULT_BATCH_SIZE;
+        private int parallelism = 1;
+        private String partitionColumn;
+        private long commitInterval = 0;
+        private Consumer<? super PartitionProgress> progressListener;
 
         CopyTableFromDataSource(final javax.sql.DataSource sourceDataSource, final String sourceTableName) {
             this.sourceDataSource = sourceDataSource;
@@ -4589,18 +5916,91 @@ public final class DataTransferUtil {
             return this;
         }
 
+        /**
+         * Sets the number of key ranges copied in parallel, each on its own pair of source and target connections.
+         * A value greater than 1 requires {@link #partitionBy(String)}. The default is 1.
+         *
+         * @param parallelism the maximum number of partitions (must be greater than 0 when {@code to(...)} is called)
+         * @return this builder
+         * @see #partitionBy(String)
+         */
+        public CopyTableFromDataSource parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+
+            return this;
+        }
+
+        /**
+         * Sets the column whose value ranges split the source table into partitions, ideally the (indexed) primary
+         * key. For a numeric or date/time column, the ranges evenly divide {@code MIN..MAX}; for another type, their
+         * boundaries are quantiles read by one ordered scan of the column. Rows with a {@code null} key are copied
+         * with the first partition.
+         *
+         * @param column the name of the partition column
+         * @return this builder
+         * @see #parallelism(int)
+         */
+        public CopyTableFromDataSource partitionBy(final String column) {
+            partitionColumn = column;
+
+            return this;
+        }
+
+        /**
+         * Makes each partition commit its own transaction on the target every {@code rows} rows (rounded up to a
+         * whole batch) and at its end, instead of relying on the auto-commit of the target connections. A partition
+         * that fails rolls back its uncommitted rows; the rows it committed earlier, and those of the other
+         * partitions, are kept. The default, 0, leaves the commit mode of the target connections unchanged.
+         *
+         * @param rows the number of rows per commit (0 to disable; must not be negative when {@code to(...)} is called)
+         * @return this builder
+         */
+        public CopyTableFromDataSource commitInterval(final long rows) {
+            commitInterval = rows;
+
+            return this;
+        }
+
+        /**
+         * Sets a listener notified after each batch inserted by a partition, and when a partition completes. The
+         * partitions run concurrently, so the listener must be thread-safe.
+         *
+         * @param listener the progress listener
+         * @return this builder
+         */
+        public CopyTableFromDataSource onProgress(final Consumer<? super PartitionProgress> listener) {
+            progressListener = listener;
+
+            return this;
+        }
+
         /**
          * Runs the copy into the given target DataSource and table.
          *
+         * <p>With {@link #parallelism(int)} greater than 1, the partitions are copied concurrently and this method
+         * returns when all of them have completed. If one fails, the others stop at their next row and the first
+         * failure is thrown.</p>
+         *
          * @param targetDataSource the data source to write to
          * @param targetTableName the name of the target table
          * @return the number of rows copied
-         * @throws IllegalArgumentException if {@code batchSize <= 0}
+         * @throws IllegalArgumentException if {@code batchSize <= 0}, {@code parallelism <= 0} or {@code commitInterval < 0},
+         *         or if {@code parallelism > 1} without a partition column
          * @throws SQLException if a database access error occurs
          */
         public long to(final javax.sql.DataSource targetDataSource, final String targetTableName) throws SQLException {
-            return N.isEmpty(columnNames) ? copy(sourceDataSource, targetDataSource, sourceTableName, targetTableName, batchSize)
-                    : copy(sourceDataSource, targetDataSource, sourceTableName, targetTableName, columnNames, batchSize);
+            if (parallelism == 1 && Strings.isEmpty(partitionColumn) && commitInterval == 0 && progressListener == null) {
+                return N.isEmpty(columnNames) ? copy(sourceDataSource, targetDataSource, sourceTableName, targetTableName, batchSize)
+                        : copy(sourceDataSource, targetDataSource, sourceTableName, targetTableName, columnNames, batchSize);
+            }
+
+            N.checkArgPositive(batchSize, cs.batchSize);
+            N.checkArgPositive(parallelism, "parallelism");
+            N.checkArgNotNegative(commitInterval, "commitInterval");
+            N.checkArgument(parallelism == 1 || Strings.isNotEmpty(partitionColumn), "'partitionBy(column)' is required for 'parallelism'=%s", parallelism);
+
+            return new PartitionedTableCopy(sourceDataSource, sourceTableName, columnNames, targetDataSource, targetTableName, batchSize, commitInterval,
+                    progressListener).run(partitionColumn, parallelism);
         }
     }
 
@@ -4664,4 +6064,410 @@ public final class DataTransferUtil {
                     : copy(sourceConn, targetConn, sourceTableName, targetTableName, columnNames, batchSize);
         }
     }
+
+    /**
+     * Progress of one partition of a {@link CopyTableFromDataSource#partitionBy(String) partitioned} table copy,
+     * reported to the {@link CopyTableFromDataSource#onProgress(Consumer) progress listener}.
+     *
+     * @param partition the index of the partition, from 0
+     * @param partitionCount the number of partitions
+     * @param lowerBound the inclusive lower bound of the partition key, or {@code null} for the first partition
+     * @param upperBound the exclusive upper bound of the partition key, or {@code null} for the last partition
+     * @param copiedRows the number of rows of the partition inserted so far
+     * @param done whether the partition has been completely copied
+     */
+    public record PartitionProgress(int partition, int partitionCount, Object lowerBound, Object upperBound, long copiedRows, boolean done) {
+    }
+
+    /**
+     * The partitioned table copy run by {@link CopyTableFromDataSource#to(javax.sql.DataSource, String)}.
+     */
+    private static final class PartitionedTableCopy {
+        private final javax.sql.DataSource sourceDataSource;
+        private final String sourceTableName;
+        private final Collection<String> columnNames;
+        private final javax.sql.DataSource targetDataSource;
+        private final String targetTableName;
+        private final int batchSize;
+        private final long commitInterval;
+        private final Consumer<? super PartitionProgress> progressListener;
+        private final AtomicBoolean isAborted = new AtomicBoolean();
+        private String selectSql;
+        private String insertSql;
+        private String quotedPartitionColumn;
+        private List<Object> boundaries = N.emptyList();
+
+        PartitionedTableCopy(final javax.sql.DataSource sourceDataSource, final String sourceTableName, final Collection<String> columnNames,
+                final javax.sql.DataSource targetDataSource, final String targetTableName, final int batchSize, final long commitInterval,
+                final Consumer<? super PartitionProgress> progressListener) {
+            this.sourceDataSource = sourceDataSource;
+            this.sourceTableName = sourceTableName;
+            this.columnNames = columnNames;
+            this.targetDataSource = targetDataSource;
+            this.targetTableName = targetTableName;
+            this.batchSize = batchSize;
+            this.commitInterval = commitInterval;
+            this.progressListener = progressListener;
+        }
+
+        long run(final String partitionColumn, final int parallelism) throws SQLException {
+            Connection sourceConn = null;
+            Connection targetConn = null;
+
+            try {
+                sourceConn = JdbcUtil.getConnection(sourceDataSource);
+                targetConn = JdbcUtil.getConnection(targetDataSource);
+
+                if (N.isEmpty(columnNames)) {
+                    selectSql = JdbcCodeGenerationUtil.generateSelectSql(sourceConn, sourceTableName);
+                    insertSql = generateInsertSqlFromSelectColumns(sourceConn, selectSql, targetConn, targetTableName);
+                } else {
+                    selectSql = generateSelectSql(sourceConn, sourceTableName, columnNames);
+                    insertSql = generateInsertSql(targetConn, targetTableName, columnNames);
+                }
+
+                if (Strings.isNotEmpty(partitionColumn) && parallelism > 1) {
+                    final ProductInfo dbProductInfo = JdbcUtil.getDBProductInfo(sourceConn);
+                    quotedPartitionColumn = checkColumnName(partitionColumn, dbProductInfo);
+                    boundaries = partitionBoundaries(sourceConn, checkTableName(sourceTableName, dbProductInfo), quotedPartitionColumn, parallelism);
+                }
+            } finally {
+                // Release both connections even if one release throws (avoid leaking the second).
+                try {
+                    JdbcUtil.releaseConnection(sourceConn, sourceDataSource);
+                } finally {
+                    JdbcUtil.releaseConnection(targetConn, targetDataSource);
+                }
+            }
+
+            final int partitionCount = boundaries.size() + 1;
+
+            logger.info("Copying table(source={}, target={}, partitionColumn={}, partitions={})", sourceTableName, targetTableName, partitionColumn,
+                    partitionCount);
+
+            if (partitionCount == 1) {
+                return copyPartition(0);
+            }
+
+            final List<ContinuableFuture<Long>> futures = new ArrayList<>(partitionCount);
+
+            for (int i = 0; i < partitionCount; i++) {
+                final int partition = i;
+                futures.add(JdbcUtil.asyncExecutor.execute(() -> copyPartition(partition)));
+            }
+
+            long copied = 0;
+            Throwable failure = null;
+
+            for (final ContinuableFuture<Long> future : futures) {
+                try {
+                    copied += future.get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    isAborted.set(true);
+                    throw new UncheckedInterruptedException(e);
+                } catch (final ExecutionException e) {
+                    // Stops the other partitions at their next row.
+                    isAborted.set(true);
+
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                }
+            }
+
+            if (failure != null) {
+                if (failure instanceof SQLException) {
+                    throw (SQLException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+
+                throw new SQLException(failure);
+            }
+
+            logger.info("Copied table(source={}, target={}, partitions={}, copied={})", sourceTableName, targetTableName, partitionCount, copied);
+
+            return copied;
+        }
+
+        private long copyPartition(final int partition) throws SQLException {
+            final int partitionCount = boundaries.size() + 1;
+            final Object lowerBound = partition == 0 ? null : boundaries.get(partition - 1);
+            final Object upperBound = partition == partitionCount - 1 ? null : boundaries.get(partition);
+            final String partitionSelectSql;
+
+            if (partitionCount == 1) {
+                partitionSelectSql = selectSql;
+            } else if (lowerBound == null) {
+                partitionSelectSql = selectSql + " WHERE " + quotedPartitionColumn + " < ? OR " + quotedPartitionColumn + " IS NULL";
+            } else if (upperBound == null) {
+                partitionSelectSql = selectSql + " WHERE " + quotedPartitionColumn + " >= ?";
+            } else {
+                partitionSelectSql = selectSql + " WHERE " + quotedPartitionColumn + " >= ? AND " + quotedPartitionColumn + " < ?";
+            }
+
+            Connection sourceConn = null;
+            Connection targetConn = null;
+            PreparedStatement selectStmt = null;
+            PreparedStatement insertStmt = null;
+            ResultSet rs = null;
+            boolean isAutoCommitChanged = false;
+            boolean isCompleted = false;
+
+            try {
+                sourceConn = JdbcUtil.getConnection(sourceDataSource);
+                targetConn = JdbcUtil.getConnection(targetDataSource);
+
+                selectStmt = JdbcUtil.prepareStatement(sourceConn, partitionSelectSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                setFetchForLargeResult(sourceConn, selectStmt, N.max(JdbcUtil.DEFAULT_FETCH_SIZE_FOR_LARGE_RESULT_SET, batchSize));
+
+                int parameterIndex = 1;
+
+                if (lowerBound != null) {
+                    selectStmt.setObject(parameterIndex++, lowerBound);
+                }
+
+                if (upperBound != null) {
+                    selectStmt.setObject(parameterIndex, upperBound);
+                }
+
+                insertStmt = JdbcUtil.prepareStatement(targetConn, insertSql);
+
+                if (commitInterval > 0 && targetConn.getAutoCommit()) {
+                    targetConn.setAutoCommit(false);
+                    isAutoCommitChanged = true;
+                }
+
+                final Throwables.BiConsumer<PreparedQuery, ResultSet, SQLException> stmtSetterForInsert = supplierOfStmtSetterByRS.get();
+                final PreparedQuery preparedQueryForInsert = new PreparedQuery(insertStmt);
+
+                rs = JdbcUtil.executeQuery(selectStmt);
+
+                long cnt = 0;
+                long uncommitted = 0;
+
+                while (rs.next()) {
+                    if (isAborted.get()) {
+                        logger.info("Aborted copy of partition(partition={}/{}, copied={})", partition + 1, partitionCount, cnt);
+                        return cnt;
+                    }
+
+                    cnt++;
+
+                    stmtSetterForInsert.accept(preparedQueryForInsert, rs);
+                    insertStmt.addBatch();
+
+                    if (cnt % batchSize == 0) {
+                        JdbcUtil.executeBatch(insertStmt);
+                        uncommitted += batchSize;
+
+                        if (commitInterval > 0 && uncommitted >= commitInterval) {
+                            targetConn.commit();
+                            uncommitted = 0;
+                        }
+
+                        reportProgress(partition, partitionCount, lowerBound, upperBound, cnt, false);
+                    }
+                }
+
+                if (cnt % batchSize > 0) {
+                    JdbcUtil.executeBatch(insertStmt);
+                }
+
+                if (commitInterval > 0) {
+                    targetConn.commit();
+                }
+
+                isCompleted = true;
+
+                reportProgress(partition, partitionCount, lowerBound, upperBound, cnt, true);
+
+                logger.info("Copied partition(partition={}/{}, lowerBound={}, upperBound={}, copied={})", partition + 1, partitionCount, lowerBound,
+                        upperBound, cnt);
+
+                return cnt;
+            } finally {
+                if (!isCompleted) {
+                    // Stops the other partitions at their next row, without waiting for run() to reach this partition.
+                    isAborted.set(true);
+                }
+
+                JdbcUtil.closeQuietly(rs);
+                JdbcUtil.closeQuietly(selectStmt);
+                JdbcUtil.closeQuietly(insertStmt);
+
+                try {
+                    if (commitInterval > 0 && !isCompleted && targetConn != null) {
+                        rollbackQuietly(targetConn);
+                    }
+
+                    if (isAutoCommitChanged) {
+                        targetConn.setAutoCommit(true);
+                    }
+                } finally {
+                    try {
+                        JdbcUtil.releaseConnection(sourceConn, sourceDataSource);
+                    } finally {
+                        JdbcUtil.releaseConnection(targetConn, targetDataSource);
+                    }
+                }
+            }
+        }
+
+        private void reportProgress(final int partition, final int partitionCount, final Object lowerBound, final Object upperBound, final long copiedRows,
+                final boolean done) {
+            if (progressListener != null) {
+                progressListener.accept(new PartitionProgress(partition, partitionCount, lowerBound, upperBound, copiedRows, done));
+            }
+        }
+
+        private static void rollbackQuietly(final Connection conn) {
+            try {
+                conn.rollback();
+            } catch (final SQLException e) {
+                logger.warn(e, "Failed to roll back partition copy");
+            }
+        }
+    }
+
+    /**
+     * Returns at most {@code parallelism - 1} strictly increasing values of {@code column} splitting the table into
+     * key ranges: evenly spaced between {@code MIN} and {@code MAX} for a numeric or date/time column, otherwise
+     * the quantiles of the non-{@code null} values, read as a sample of one row per partition. If the database can't
+     * sample the column, there's no boundary and the table is copied as one partition.
+     */
+    static List<Object> partitionBoundaries(final Connection conn, final String table, final String column, final int parallelism) throws SQLException {
+        Object min = null;
+        Object max = null;
+
+        try (PreparedStatement stmt = JdbcUtil.prepareStatement(conn, "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + table);
+             ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                min = rs.getObject(1);
+                max = rs.getObject(2);
+            }
+        }
+
+        if (min == null || max == null || min.equals(max)) {
+            return N.emptyList();
+        }
+
+        final List<Object> boundaries = new ArrayList<>(parallelism - 1);
+
+        // Each boundary must be greater than MIN, which would leave the first partition empty, and than the previous
+        // boundary, which would leave a partition empty: with a narrow range there can be fewer than parallelism - 1.
+        if (isIntegral(min) && isIntegral(max)) {
+            final BigInteger lower = new BigInteger(min.toString());
+            final BigInteger range = new BigInteger(max.toString()).subtract(lower).add(BigInteger.ONE);
+            BigInteger previous = lower;
+
+            for (int i = 1; i < parallelism; i++) {
+                final BigInteger boundary = lower.add(range.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(parallelism)));
+
+                if (boundary.compareTo(previous) > 0) {
+                    boundaries.add(boundary.bitLength() < 64 ? (Object) boundary.longValue() : new BigDecimal(boundary));
+                    previous = boundary;
+                }
+            }
+        } else if (min instanceof Number && max instanceof Number) {
+            final BigDecimal lower;
+            final BigDecimal upper;
+
+            try {
+                lower = new BigDecimal(min.toString());
+                upper = new BigDecimal(max.toString());
+            } catch (final NumberFormatException e) {
+                // NaN or infinite.
+                return quantileBoundaries(conn, table, column, parallelism);
+            }
+
+            final BigDecimal range = upper.subtract(lower);
+            BigDecimal previous = lower;
+
+            for (int i = 1; i < parallelism; i++) {
+                final BigDecimal boundary = lower.add(range.multiply(BigDecimal.valueOf(i)).divide(BigDecimal.valueOf(parallelism), MathContext.DECIMAL64));
+
+                if (boundary.compareTo(previous) > 0) {
+                    boundaries.add(boundary);
+                    previous = boundary;
+                }
+            }
+        } else if (min instanceof java.util.Date && max instanceof java.util.Date) {
+            final long lower = ((java.util.Date) min).getTime();
+            final long range = ((java.util.Date) max).getTime() - lower;
+            long previous = lower;
+
+            for (int i = 1; i < parallelism; i++) {
+                final long boundary = lower + range / parallelism * i + range % parallelism * i / parallelism;
+
+                if (boundary > previous) {
+                    boundaries.add(new Timestamp(boundary));
+                    previous = boundary;
+                }
+            }
+        } else {
+            return quantileBoundaries(conn, table, column, parallelism);
+        }
+
+        return boundaries;
+    }
+
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+    }
+
+    // Only the rows at the quantile positions are read: the database numbers the non-null values in key order and returns
+    // parallelism of them, the first value and the parallelism - 1 quantiles, instead of the whole column. Without window
+    // functions, the table is copied as one partition.
+    private static List<Object> quantileBoundaries(final Connection conn, final String table, final String column, final int parallelism) throws SQLException {
+        long count = 0;
+
+        try (PreparedStatement stmt = JdbcUtil.prepareStatement(conn, "SELECT COUNT(" + column + ") FROM " + table);
+             ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                count = rs.getLong(1);
+            }
+        }
+
+        final List<Object> boundaries = new ArrayList<>(parallelism - 1);
+
+        if (count < parallelism) {
+            return boundaries;
+        }
+
+        final String sql = "SELECT " + column + " FROM (SELECT " + column + ", ROW_NUMBER() OVER (ORDER BY " + column + ") AS row_num FROM " + table
+                + " WHERE " + column + " IS NOT NULL) sampled WHERE row_num IN (" + Strings.repeat("?", parallelism, ", ") + ") ORDER BY row_num";
+
+        try (PreparedStatement stmt = JdbcUtil.prepareStatement(conn, sql)) {
+            for (int i = 0; i < parallelism; i++) {
+                stmt.setLong(i + 1, count * i / parallelism + 1);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                Object first = null;
+
+                while (rs.next()) {
+                    final Object value = rs.getObject(1);
+
+                    if (first == null) {
+                        first = value;
+                    } else if (!value.equals(first) && (boundaries.isEmpty() || !value.equals(boundaries.get(boundaries.size() - 1)))) {
+                        // Values equal to the previous boundary, or to the first value, can't start a new range.
+                        boundaries.add(value);
+                    }
+                }
+            }
+        } catch (final SQLException e) {
+            logger.warn(e, "Failed to sample partition boundaries(table=" + table + ", column=" + column + "), copying as one partition");
+
+            return N.emptyList();
+        }
+
+        return boundaries;
+    }
 }
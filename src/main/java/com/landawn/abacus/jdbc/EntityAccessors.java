@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.parser.ParserUtil.BeanInfo;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.ObjectPool;
+import com.landawn.abacus.util.Strings;
+
+/**
+ * Per-entity-class column readers and parameter writers generated with {@link LambdaMetafactory}, used instead of
+ * {@code PropInfo.setPropValue/getPropValue} plus {@code Type.get/set} when
+ * {@link JdbcUtil#enableGeneratedEntityAccessorsGlobally()} is on.
+ *
+ * <p>For {@code long}/{@code int}/{@code double} properties (and {@code boolean} getters) the generated accessor calls
+ * the typed {@code ResultSet.getXxx}/{@code PreparedStatement.setXxx} and the bean's setter/getter directly, without boxing.
+ * Wrapper and {@code String} properties use the typed JDBC call plus a generated (boxed) setter/getter; any other
+ * property type goes through its {@link Type} with a generated setter/getter.</p>
+ *
+ * <p>A property falls back to the reflective path (its reader/writer is {@code null}) when it has a custom
+ * {@code @Type}/{@code dbType}, no accessible conventional getter/setter, or when generation fails, e.g. because the
+ * bean class lives in a module that is not open to this library. Readers are only generated for mutable beans, whose
+ * {@code createBeanResult()} is the bean itself; records and builder-based classes keep the reflective path.</p>
+ */
+final class EntityAccessors {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityAccessors.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Map<Class<?>, EntityAccessors> accessorsPool = new ObjectPool<>(1024);
+
+    private final Map<String, ColumnReader> readers;
+
+    private final Map<String, ParameterWriter> writers;
+
+    private EntityAccessors(final Class<?> beanClass) {
+        final BeanInfo entityInfo = ParserUtil.getBeanInfo(beanClass);
+        final boolean isMutable = isMutableBean(beanClass, entityInfo);
+
+        readers = new HashMap<>(entityInfo.propInfoList.size() * 2);
+        writers = new HashMap<>(entityInfo.propInfoList.size() * 2);
+
+        for (final PropInfo propInfo : entityInfo.propInfoList) {
+            if (!propInfo.dbType.equals(N.typeOf(propInfo.clazz))) {
+                continue;
+            }
+
+            try {
+                if (isMutable) {
+                    final Method setter = findSetter(beanClass, propInfo);
+
+                    if (setter != null) {
+                        readers.put(propInfo.name, createReader(setter, propInfo));
+                    }
+                }
+
+                final Method getter = findGetter(beanClass, propInfo);
+
+                if (getter != null) {
+                    writers.put(propInfo.name, createWriter(getter, propInfo));
+                }
+            } catch (final Throwable e) { //NOSONAR
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Falling back to reflection for property: " + propInfo.name + " in class: " + beanClass.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the (cached) accessors of the specified bean class.
+     *
+     * @param beanClass the bean class
+     * @return the accessors, never {@code null}
+     */
+    static EntityAccessors of(final Class<?> beanClass) {
+        EntityAccessors accessors = accessorsPool.get(beanClass);
+
+        if (accessors == null) {
+            accessors = new EntityAccessors(beanClass);
+            accessorsPool.put(beanClass, accessors);
+        }
+
+        return accessors;
+    }
+
+    /**
+     * Returns the generated reader for the specified property, or {@code null} if the reflective path must be used.
+     *
+     * @param propInfo a direct (non-nested) property of the bean class
+     * @return the reader, or {@code null}
+     */
+    ColumnReader reader(final PropInfo propInfo) {
+        return readers.get(propInfo.name);
+    }
+
+    /**
+     * Returns the generated writer for the specified property, or {@code null} if the reflective path must be used.
+     *
+     * @param propInfo a direct (non-nested) property of the bean class
+     * @return the writer, or {@code null}
+     */
+    ParameterWriter writer(final PropInfo propInfo) {
+        return writers.get(propInfo.name);
+    }
+
+    private static boolean isMutableBean(final Class<?> beanClass, final BeanInfo entityInfo) {
+        try {
+            final Object bean = entityInfo.createBeanResult();
+
+            return beanClass.isInstance(bean) && entityInfo.finishBeanResult(bean) == bean;
+        } catch (final RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static Method findSetter(final Class<?> beanClass, final PropInfo propInfo) {
+        try {
+            final Method method = beanClass.getMethod("set" + Strings.capitalize(propInfo.name), propInfo.clazz);
+
+            return Modifier.isStatic(method.getModifiers()) ? null : method;
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Method findGetter(final Class<?> beanClass, final PropInfo propInfo) {
+        final String capitalizedName = Strings.capitalize(propInfo.name);
+
+        for (final String methodName : new String[] { "get" + capitalizedName, "is" + capitalizedName, propInfo.name }) {
+            try {
+                final Method method = beanClass.getMethod(methodName);
+
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType().equals(propInfo.clazz)) {
+                    return method;
+                }
+            } catch (final NoSuchMethodException e) {
+                // try next naming convention.
+            }
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ColumnReader createReader(final Method setter, final PropInfo propInfo) throws Throwable {
+        final Class<?> cls = propInfo.clazz;
+
+        if (cls.equals(long.class)) {
+            final ObjLongConsumer<Object> s = generate(setter, ObjLongConsumer.class, MethodType.methodType(void.class, Object.class, long.class));
+            return (rs, columnIndex, bean) -> s.accept(bean, rs.getLong(columnIndex));
+        } else if (cls.equals(int.class)) {
+            final ObjIntConsumer<Object> s = generate(setter, ObjIntConsumer.class, MethodType.methodType(void.class, Object.class, int.class));
+            return (rs, columnIndex, bean) -> s.accept(bean, rs.getInt(columnIndex));
+        } else if (cls.equals(double.class)) {
+            final ObjDoubleConsumer<Object> s = generate(setter, ObjDoubleConsumer.class, MethodType.methodType(void.class, Object.class, double.class));
+            return (rs, columnIndex, bean) -> s.accept(bean, rs.getDouble(columnIndex));
+        }
+
+        final BiConsumer<Object, Object> s = generate(setter, BiConsumer.class, MethodType.methodType(void.class, Object.class, Object.class));
+
+        if (cls.equals(boolean.class)) {
+            // java.util.function has no ObjBooleanConsumer; Boolean.valueOf is cached, so this still doesn't allocate.
+            return (rs, columnIndex, bean) -> s.accept(bean, rs.getBoolean(columnIndex));
+        } else if (cls.equals(Long.class)) {
+            return (rs, columnIndex, bean) -> {
+                final long value = rs.getLong(columnIndex);
+                s.accept(bean, rs.wasNull() ? null : value);
+            };
+        } else if (cls.equals(Integer.class)) {
+            return (rs, columnIndex, bean) -> {
+                final int value = rs.getInt(columnIndex);
+                s.accept(bean, rs.wasNull() ? null : value);
+            };
+        } else if (cls.equals(Double.class)) {
+            return (rs, columnIndex, bean) -> {
+                final double value = rs.getDouble(columnIndex);
+                s.accept(bean, rs.wasNull() ? null : value);
+            };
+        } else if (cls.equals(Boolean.class)) {
+            return (rs, columnIndex, bean) -> {
+                final boolean value = rs.getBoolean(columnIndex);
+                s.accept(bean, rs.wasNull() ? null : value);
+            };
+        } else if (cls.equals(String.class)) {
+            return (rs, columnIndex, bean) -> s.accept(bean, rs.getString(columnIndex));
+        } else {
+            final Type<?> type = propInfo.dbType;
+            return (rs, columnIndex, bean) -> s.accept(bean, type.get(rs, columnIndex));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ParameterWriter createWriter(final Method getter, final PropInfo propInfo) throws Throwable {
+        final Class<?> cls = propInfo.clazz;
+
+        if (cls.equals(long.class)) {
+            final ToLongFunction<Object> g = generate(getter, ToLongFunction.class, MethodType.methodType(long.class, Object.class));
+            return (stmt, parameterIndex, bean) -> stmt.setLong(parameterIndex, g.applyAsLong(bean));
+        } else if (cls.equals(int.class)) {
+            final ToIntFunction<Object> g = generate(getter, ToIntFunction.class, MethodType.methodType(int.class, Object.class));
+            return (stmt, parameterIndex, bean) -> stmt.setInt(parameterIndex, g.applyAsInt(bean));
+        } else if (cls.equals(double.class)) {
+            final ToDoubleFunction<Object> g = generate(getter, ToDoubleFunction.class, MethodType.methodType(double.class, Object.class));
+            return (stmt, parameterIndex, bean) -> stmt.setDouble(parameterIndex, g.applyAsDouble(bean));
+        } else if (cls.equals(boolean.class)) {
+            final Predicate<Object> g = generate(getter, Predicate.class, MethodType.methodType(boolean.class, Object.class));
+            return (stmt, parameterIndex, bean) -> stmt.setBoolean(parameterIndex, g.test(bean));
+        }
+
+        final Function<Object, Object> g = generate(getter, Function.class, MethodType.methodType(Object.class, Object.class));
+        final Type<Object> type = (Type<Object>) propInfo.dbType;
+
+        if (cls.equals(String.class)) {
+            return (stmt, parameterIndex, bean) -> {
+                final Object value = g.apply(bean);
+
+                if (value == null) {
+                    type.set(stmt, parameterIndex, null);
+                } else {
+                    stmt.setString(parameterIndex, (String) value);
+                }
+            };
+        } else if (cls.equals(Long.class)) {
+            return (stmt, parameterIndex, bean) -> {
+                final Object value = g.apply(bean);
+
+                if (value == null) {
+                    type.set(stmt, parameterIndex, null);
+                } else {
+                    stmt.setLong(parameterIndex, (Long) value);
+                }
+            };
+        } else if (cls.equals(Integer.class)) {
+            return (stmt, parameterIndex, bean) -> {
+                final Object value = g.apply(bean);
+
+                if (value == null) {
+                    type.set(stmt, parameterIndex, null);
+                } else {
+                    stmt.setInt(parameterIndex, (Integer) value);
+                }
+            };
+        } else {
+            // Double, Boolean and everything else: the Type already knows how to bind (and null-bind) the value.
+            return (stmt, parameterIndex, bean) -> type.set(stmt, parameterIndex, g.apply(bean));
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <F> F generate(final Method method, final Class fnType, final MethodType samMethodType) throws Throwable {
+        // A lookup private to the bean class lets the generated hidden class call public accessors of non-public beans too.
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+        final MethodHandle implMethod = lookup.unreflect(method);
+        final Method samMethod = findSingleAbstractMethod(fnType);
+
+        // The same shape javac emits for a method reference: the receiver stays the bean class, primitives the SAM passes
+        // as Object are boxed (e.g. setFlag(boolean) behind BiConsumer), and fluent setters have their return dropped.
+        MethodType instantiatedMethodType = implMethod.type();
+
+        for (int i = 1, len = instantiatedMethodType.parameterCount(); i < len; i++) {
+            if (!samMethodType.parameterType(i).isPrimitive()) {
+                instantiatedMethodType = instantiatedMethodType.changeParameterType(i, instantiatedMethodType.wrap().parameterType(i));
+            }
+        }
+
+        if (samMethodType.returnType().equals(void.class)) {
+            instantiatedMethodType = instantiatedMethodType.changeReturnType(void.class);
+        } else if (!samMethodType.returnType().isPrimitive()) {
+            instantiatedMethodType = instantiatedMethodType.changeReturnType(instantiatedMethodType.wrap().returnType());
+        }
+
+        return (F) LambdaMetafactory.metafactory(lookup, samMethod.getName(), MethodType.methodType(fnType), samMethodType, implMethod, instantiatedMethodType)
+                .getTarget()
+                .invoke();
+    }
+
+    private static Method findSingleAbstractMethod(final Class<?> fnType) {
+        for (final Method method : fnType.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                return method;
+            }
+        }
+
+        throw new IllegalArgumentException("Not a functional interface: " + fnType.getName());
+    }
+
+    /**
+     * Reads one column of the current row into a property of a mutable bean.
+     */
+    @FunctionalInterface
+    interface ColumnReader {
+        void read(ResultSet rs, int columnIndex, Object bean) throws SQLException;
+    }
+
+    /**
+     * Binds one property of a bean to a statement parameter.
+     */
+    @FunctionalInterface
+    interface ParameterWriter {
+        void write(PreparedStatement stmt, int parameterIndex, Object bean) throws SQLException;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+
+import com.landawn.abacus.annotation.Internal;
+import com.landawn.abacus.jdbc.annotation.GenerateDao;
+import com.landawn.abacus.jdbc.dao.DaoBase;
+import com.landawn.abacus.util.ClassUtil;
+import com.landawn.abacus.util.Throwables;
+
+/**
+ * Base class of the DAO implementations generated for {@link GenerateDao @GenerateDao} interfaces. Not meant to be
+ * extended by hand.
+ *
+ * <p>A generated class declares one method per DAO method, each with its own body. A default method whose invoker would
+ * only call the default implementation (no handler, cache, transaction or log annotation applies to it) calls
+ * {@code Dao.super.method(...)} directly, so no method handle is created for it. Every other method calls the invoker
+ * {@code DaoImpl} builds for the proxy, held in a final field of its own: each call site sees a single invoker, instead
+ * of sharing one {@code Map<Method, ...>} lookup behind {@code InvocationHandler}.</p>
+ *
+ * <p>Only the per-call dispatch differs from the proxy: {@code DaoImpl} still builds the invoker of every method when
+ * the DAO is created, so creating a generated DAO costs as much as creating a proxy.</p>
+ */
+@Internal
+public abstract class GeneratedDaoSupport {
+
+    /** Appended to the flattened DAO interface name to form the generated class name. Must match {@code DaoImplProcessor}. */
+    static final String GENERATED_CLASS_SUFFIX = "_Impl";
+
+    private final Class<?> daoInterface;
+
+    private final Method[] methods;
+
+    /**
+     * Binds a generated DAO to its interface. The generated constructor then resolves the invoker of each method with
+     * the resolver it receives; {@code null} means the default implementation is called directly.
+     *
+     * @param daoInterface the DAO interface implemented by the generated class
+     * @param methods the DAO methods, in slot order
+     */
+    protected GeneratedDaoSupport(final Class<?> daoInterface, final Method[] methods) {
+        this.daoInterface = daoInterface;
+        this.methods = methods;
+    }
+
+    /**
+     * Translates a failure of the DAO method in the specified slot the way the JDK proxy does: unchecked exceptions and
+     * checked exceptions declared by the DAO method are rethrown as they are, anything else is wrapped in
+     * {@link UndeclaredThrowableException}. Called from the {@code catch} block of every generated method.
+     *
+     * @param methodIndex the slot index
+     * @param e the failure
+     * @return never returns normally; declared as a return value so generated code can {@code throw} it
+     */
+    protected final RuntimeException rethrow(final int methodIndex, final Throwable e) {
+        if (e instanceof RuntimeException || e instanceof Error) {
+            throw GeneratedDaoSupport.<RuntimeException> sneakyThrow(e);
+        }
+
+        for (final Class<?> exceptionType : methods[methodIndex].getExceptionTypes()) {
+            if (exceptionType.isInstance(e)) {
+                throw GeneratedDaoSupport.<RuntimeException> sneakyThrow(e);
+            }
+        }
+
+        throw new UndeclaredThrowableException(e);
+    }
+
+    /**
+     * Looks up a public method of the DAO interface. Called from the static initializer of generated classes.
+     *
+     * @param daoInterface the DAO interface
+     * @param methodName the method name
+     * @param parameterTypes the erased parameter types
+     * @return the method
+     * @throws IllegalStateException if the interface no longer declares the method, i.e. the generated class is stale
+     */
+    protected static Method method(final Class<?> daoInterface, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return daoInterface.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("Generated DAO class is out of date with: " + ClassUtil.getCanonicalClassName(daoInterface) + ". Recompile it", e);
+        }
+    }
+
+    /**
+     * Finds and initializes the class generated for the specified DAO interface.
+     *
+     * @param daoInterface the DAO interface
+     * @return the generated class, or {@code null} if there isn't one
+     */
+    static Class<?> findGeneratedClass(final Class<?> daoInterface) {
+        final String interfaceName = daoInterface.getName();
+        final String packageName = daoInterface.getPackageName();
+        final String flatName = (packageName.isEmpty() ? interfaceName : interfaceName.substring(packageName.length() + 1)).replace('$', '_');
+        final String generatedClassName = (packageName.isEmpty() ? "" : packageName + ".") + flatName + GENERATED_CLASS_SUFFIX;
+
+        try {
+            final Class<?> cls = Class.forName(generatedClassName, true, daoInterface.getClassLoader());
+
+            return daoInterface.isAssignableFrom(cls) && GeneratedDaoSupport.class.isAssignableFrom(cls) ? cls : null;
+        } catch (final ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Instantiates a generated DAO class.
+     *
+     * @param <TD> the DAO type
+     * @param generatedClass the class returned by {@link #findGeneratedClass(Class)}
+     * @param invokerResolver resolves the invoker of a DAO method, or {@code null} for a default method the generated
+     *        class calls directly
+     * @return the DAO instance
+     */
+    @SuppressWarnings("unchecked")
+    static <TD> TD newInstance(final Class<?> generatedClass, final Function<Method, Throwables.BiFunction<DaoBase, Object[], ?, Throwable>> invokerResolver) {
+        return (TD) ClassUtil.invokeConstructor(ClassUtil.getDeclaredConstructor(generatedClass, Function.class), invokerResolver);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(final Throwable e) throws E {
+        throw (E) e;
+    }
+
+    @Override
+    public String toString() {
+        return daoInterface.getSimpleName() + "Impl@" + Integer.toHexString(System.identityHashCode(this));
+    }
+}
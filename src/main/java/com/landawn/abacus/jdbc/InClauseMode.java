@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.jdbc;
+
+/**
+ * Controls how the framework renders the {@code IN (...)} lists it generates for batch operations:
+ * {@code CrudDao.batchGet}, {@code CrudDao.count(Collection)}, {@code loadJoinEntities} / {@code deleteJoinEntities}
+ * on collections of entities, and {@code @BindList} parameters expanded inside an {@code IN (...)} of a {@code @Query}.
+ *
+ * <p>With {@link #EXACT} every distinct list size produces a distinct SQL text, so a workload with varying batch sizes
+ * misses the driver/server statement cache and fills statement statistics (e.g. {@code pg_stat_statements}) with
+ * near-duplicate entries. {@link #PADDED} and {@link #ARRAY} bound the number of distinct statements.</p>
+ *
+ * <p>The mode is set once, typically at application start-up, through {@link JdbcUtil#setInClauseModeGlobally(InClauseMode)}.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+ *
+ * // 5 ids are now queried as: SELECT ... WHERE id IN (?, ?, ?, ?, ?, ?, ?, ?)
+ * // with the last id bound to the 3 extra placeholders.
+ * List<User> users = userDao.batchGet(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+ * }</pre>
+ *
+ * @see JdbcUtil#setInClauseModeGlobally(InClauseMode)
+ * @see JdbcUtil#padInClauseValues(Collection)
+ */
+public enum InClauseMode {
+
+    /**
+     * One placeholder per value. This is the default.
+     */
+    EXACT,
+
+    /**
+     * Pads the list to the next power of two by repeating its last value, so a list of {@code n} values uses one of
+     * {@code log2(n)} statement shapes. Repeated values in an {@code IN} list do not change the matched rows.
+     */
+    PADDED,
+
+    /**
+     * Binds the values as a single {@link java.sql.Array} parameter ({@code column = ANY(?)}, created with
+     * {@link java.sql.Connection#createArrayOf(String, Object[])}) where the database supports it (PostgreSQL, H2) and
+     * the statement is a single-column join load; every other {@code IN} list falls back to {@link #PADDED}.
+     */
+    ARRAY
+}
@@ -32,6 +32,7 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -41,6 +42,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -3282,110 +3284,21 @@ public final class Jdbc {
                     };
                 }
             } else if (Beans.isBeanClass(targetClass)) { // isBeanClass already covers records
-                final BeanInfo entityInfo = ParserUtil.getBeanInfo(targetClass);
+                // Default filter/converter: the resolved plan depends only on (class, labels, ignoreUnmatchedColumns) and is shared.
+                final boolean isPlanCacheable = (columnNameFilter == null || Objects.equals(columnNameFilter, Fn.alwaysTrue()))
+                        && (columnNameConverter == null || Objects.equals(columnNameConverter, Fn.identity()));
 
                 return new BiRowMapper<>() {
-                    private String[] columnLabels = null;
-                    private PropInfo[] propInfos;
-                    private Type<?>[] columnTypes = null;
-                    private int columnCount = -1;
+                    private RowMapperPlan plan = null;
 
                     @Override
                     public T apply(final ResultSet rs, final List<String> columnLabelList) throws SQLException {
-                        if (columnLabels == null) {
-                            final Map<String, String> columnToPropNameMap = JdbcUtil.getColumnToPropNameMap(targetClass);
-
-                            columnCount = columnLabelList.size();
-                            columnLabels = columnLabelList.toArray(new String[columnCount]);
-                            propInfos = new PropInfo[columnCount];
-                            columnTypes = new Type[columnCount];
-
-                            for (int i = 0; i < columnCount; i++) {
-                                if (columnNameFilterToBeUsed.test(columnLabels[i])) {
-                                    columnLabels[i] = columnNameConverterToBeUsed.apply(columnLabels[i]);
-
-                                    // A converter that returns null signals "skip this column", mirroring the
-                                    // filtered-out branch below; without this guard the subsequent lookups would
-                                    // dereference the null label and throw NPE (Array/List/Map siblings defend too).
-                                    if (columnLabels[i] == null) {
-                                        propInfos[i] = null;
-                                        columnTypes[i] = null;
-                                        continue;
-                                    }
-
-                                    propInfos[i] = entityInfo.getPropInfo(columnLabels[i]);
-
-                                    if (propInfos[i] == null) {
-                                        String fieldName = columnToPropNameMap.get(columnLabels[i]);
-
-                                        if (Strings.isEmpty(fieldName)) {
-                                            fieldName = columnToPropNameMap.get(columnLabels[i].toLowerCase(Locale.ROOT));
-                                        }
-
-                                        if (Strings.isNotEmpty(fieldName)) {
-                                            propInfos[i] = entityInfo.getPropInfo(fieldName);
-                                        }
-                                    }
-
-                                    if (propInfos[i] == null) {
-                                        final String newColumnName = JdbcUtil.checkPrefix(entityInfo, columnLabels[i], null, columnLabelList);
-                                        propInfos[i] = JdbcUtil.getSubPropInfo(targetClass, newColumnName);
-
-                                        if (propInfos[i] == null) {
-                                            String fieldName = columnToPropNameMap.get(newColumnName);
-
-                                            if (Strings.isEmpty(fieldName)) {
-                                                fieldName = columnToPropNameMap.get(newColumnName.toLowerCase(Locale.ROOT));
-                                            }
-
-                                            if (Strings.isNotEmpty(fieldName)) {
-                                                propInfos[i] = JdbcUtil.getSubPropInfo(targetClass, fieldName);
-
-                                                if (propInfos[i] != null) {
-                                                    columnLabels[i] = fieldName;
-                                                }
-                                            }
-                                        } else {
-                                            columnLabels[i] = newColumnName;
-                                        }
-
-                                        if (propInfos[i] == null) {
-                                            if (ignoreUnmatchedColumns) {
-                                                columnLabels[i] = null;
-                                            } else {
-                                                throw new IllegalArgumentException("No property in class: " + ClassUtil.getCanonicalClassName(targetClass)
-                                                        + " mapping to column: " + columnLabels[i]);
-                                            }
-                                        } else {
-                                            columnTypes[i] = propInfos[i].dbType;
-                                            propInfos[i] = null;
-                                        }
-                                    } else {
-                                        columnTypes[i] = propInfos[i].dbType;
-                                    }
-                                } else {
-                                    columnLabels[i] = null;
-                                    propInfos[i] = null;
-                                    columnTypes[i] = null;
-                                }
-                            }
-                        }
-
-                        final Object result = entityInfo.createBeanResult();
-
-                        for (int i = 0; i < columnCount; i++) {
-                            if (columnLabels[i] == null) {
-                                continue;
-                            }
-
-                            if (propInfos[i] == null) {
-                                entityInfo.setPropValue(result, columnLabels[i], columnTypes[i].get(rs, i + 1));
-                            } else {
-                                propInfos[i].setPropValue(result, columnTypes[i].get(rs, i + 1));
-                            }
+                        if (plan == null) {
+                            plan = isPlanCacheable ? RowMapperPlan.get(targetClass, columnLabelList, null, ignoreUnmatchedColumns)
+                                    : RowMapperPlan.resolve(targetClass, columnLabelList, columnNameFilter, columnNameConverter, null, ignoreUnmatchedColumns);
                         }
 
-                        return entityInfo.finishBeanResult(result);
+                        return plan.apply(rs);
                     }
                 };
             } else {
@@ -3478,96 +3391,18 @@ public final class Jdbc {
 
             N.checkArgument(Beans.isBeanClass(entityClass), "{} is not an entity class", entityClass);
 
-            final BeanInfo entityInfo = ParserUtil.getBeanInfo(entityClass);
             final Map<String, String> configuredPrefixAndFieldNameMap = new HashMap<>(prefixAndFieldNameMap);
 
             return new BiRowMapper<>() {
-                private String[] columnLabels = null;
-                private PropInfo[] propInfos;
-                private Type<?>[] columnTypes = null;
-                private int columnCount = -1;
+                private RowMapperPlan plan = null;
 
                 @Override
                 public T apply(final ResultSet rs, final List<String> columnLabelList) throws SQLException {
-
-                    if (columnLabels == null) {
-                        final Map<String, String> columnToPropNameMap = JdbcUtil.getColumnToPropNameMap(entityClass);
-
-                        columnCount = columnLabelList.size();
-                        columnLabels = columnLabelList.toArray(new String[columnCount]);
-                        propInfos = new PropInfo[columnCount];
-                        columnTypes = new Type[columnCount];
-
-                        for (int i = 0; i < columnCount; i++) {
-                            propInfos[i] = entityInfo.getPropInfo(columnLabels[i]);
-
-                            if (propInfos[i] == null) {
-                                String fieldName = columnToPropNameMap.get(columnLabels[i]);
-
-                                if (Strings.isEmpty(fieldName)) {
-                                    fieldName = columnToPropNameMap.get(columnLabels[i].toLowerCase(Locale.ROOT));
-                                }
-
-                                if (Strings.isNotEmpty(fieldName)) {
-                                    propInfos[i] = entityInfo.getPropInfo(fieldName);
-                                }
-                            }
-
-                            if (propInfos[i] == null) {
-                                final String newColumnName = JdbcUtil.checkPrefix(entityInfo, columnLabels[i], configuredPrefixAndFieldNameMap,
-                                        columnLabelList);
-                                propInfos[i] = JdbcUtil.getSubPropInfo(entityClass, newColumnName);
-
-                                if (propInfos[i] == null) {
-                                    String fieldName = columnToPropNameMap.get(newColumnName);
-
-                                    if (Strings.isEmpty(fieldName)) {
-                                        fieldName = columnToPropNameMap.get(newColumnName.toLowerCase(Locale.ROOT));
-                                    }
-
-                                    if (Strings.isNotEmpty(fieldName)) {
-                                        propInfos[i] = JdbcUtil.getSubPropInfo(entityClass, fieldName);
-
-                                        if (propInfos[i] != null) {
-                                            columnLabels[i] = fieldName;
-                                        }
-                                    }
-                                } else {
-                                    columnLabels[i] = newColumnName;
-                                }
-
-                                if (propInfos[i] == null) {
-                                    if (ignoreUnmatchedColumns) {
-                                        columnLabels[i] = null;
-                                    } else {
-                                        throw new IllegalArgumentException("No property in class: " + ClassUtil.getCanonicalClassName(entityClass)
-                                                + " mapping to column: " + columnLabels[i]);
-                                    }
-                                } else {
-                                    columnTypes[i] = propInfos[i].dbType;
-                                    propInfos[i] = null;
-                                }
-                            } else {
-                                columnTypes[i] = propInfos[i].dbType;
-                            }
-                        }
-                    }
-
-                    final Object result = entityInfo.createBeanResult();
-
-                    for (int i = 0; i < columnCount; i++) {
-                        if (columnLabels[i] == null) {
-                            continue;
-                        }
-
-                        if (propInfos[i] == null) {
-                            entityInfo.setPropValue(result, columnLabels[i], columnTypes[i].get(rs, i + 1));
-                        } else {
-                            propInfos[i].setPropValue(result, columnTypes[i].get(rs, i + 1));
-                        }
+                    if (plan == null) {
+                        plan = RowMapperPlan.get(entityClass, columnLabelList, configuredPrefixAndFieldNameMap, ignoreUnmatchedColumns);
                     }
 
-                    return entityInfo.finishBeanResult(result);
+                    return plan.apply(rs);
                 }
             };
         }
@@ -7332,6 +7167,21 @@ public final class Jdbc {
             // No bulk-invalidation operation is required of custom caches.
         }
 
+        /**
+         * Removes the entries whose cache key references the given table (matched case-insensitively). It's called for
+         * invalidations that don't originate from a DAO method of this JVM, e.g. those received from other nodes through
+         * the {@link DaoCacheInvalidationTransport} installed by
+         * {@link JdbcUtil#setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)}.
+         *
+         * <p>The default implementation calls {@link #clear()}, so that a custom cache never serves results written on
+         * other nodes. Caches that can find the entries of a table should override it to remove only those.</p>
+         *
+         * @param tableName the name of the table whose cached results are stale
+         */
+        default void invalidateTable(final String tableName) {
+            clear();
+        }
+
     }
 
     /**
@@ -7340,12 +7190,14 @@ public final class Jdbc {
      *
      * <p>When a data modification operation occurs (insert, update, delete), this cache invalidates all
      * entries associated with the affected table. If the table name cannot be determined from the cache key,
-     * the entire cache is cleared.</p>
+     * the entire cache is cleared. Entries are indexed by table name when they are cached, so invalidation
+     * only touches the entries of the affected table instead of scanning every key.</p>
      *
      * @see DaoCache#create(int, long)
      */
     public static final class DefaultDaoCache implements DaoCache {
         private final KeyedObjectPool<String, PoolableAdapter<Object>> pool;
+        private final DaoCacheTableIndex tableIndex;
 
         /**
          * Creates a {@code DefaultDaoCache} with a specified capacity and eviction delay.
@@ -7364,6 +7216,7 @@ public final class Jdbc {
          */
         public DefaultDaoCache(final int capacity, final long evictDelay) {
             pool = PoolFactory.createKeyedObjectPool(capacity, evictDelay);
+            tableIndex = new DaoCacheTableIndex(capacity);
         }
 
         /**
@@ -7383,7 +7236,13 @@ public final class Jdbc {
                 final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
             final PoolableAdapter<Object> w = pool.get(defaultCacheKey);
 
-            return w == null ? null : w.value();
+            if (w == null) {
+                // The pool evicts expired entries without notification; drop them from the index lazily.
+                tableIndex.remove(defaultCacheKey);
+                return null;
+            }
+
+            return w.value();
         }
 
         /**
@@ -7416,7 +7275,7 @@ public final class Jdbc {
                 return false;
             }
 
-            return pool.put(defaultCacheKey, Poolable.wrap(result, JdbcUtil.DEFAULT_CACHE_LIVE_TIME, JdbcUtil.DEFAULT_CACHE_MAX_IDLE_TIME));
+            return put(defaultCacheKey, Poolable.wrap(result, JdbcUtil.DEFAULT_CACHE_LIVE_TIME, JdbcUtil.DEFAULT_CACHE_MAX_IDLE_TIME));
         }
 
         /**
@@ -7445,12 +7304,32 @@ public final class Jdbc {
                 return false;
             }
 
-            return pool.put(defaultCacheKey, Poolable.wrap(result, liveTime, maxIdleTime));
+            return put(defaultCacheKey, Poolable.wrap(result, liveTime, maxIdleTime));
+        }
+
+        private boolean put(final String defaultCacheKey, final PoolableAdapter<Object> wrapper) {
+            // Indexed before it becomes visible, so a concurrent update of the table can't miss it, and again after,
+            // in case a concurrent removeTable (or sweep) dropped the key from the index before the entry was stored.
+            tableIndex.add(defaultCacheKey);
+
+            if (!pool.put(defaultCacheKey, wrapper)) {
+                tableIndex.remove(defaultCacheKey);
+                return false;
+            }
+
+            tableIndex.add(defaultCacheKey);
+
+            if (tableIndex.isSweepDue()) {
+                tableIndex.retainAll(pool.keySet());
+            }
+
+            return true;
         }
 
         /**
          * Updates the cache after a data modification. If the table name can be determined from the cache key,
-         * it removes all cache entries whose key references that table (matched case-insensitively).
+         * it removes all cache entries whose key references that table (matched case-insensitively), looked up
+         * through the table index rather than by scanning all keys.
          * Otherwise, it clears the entire cache.
          * No action is taken for built-in update operations that report zero affected rows (an
          * {@code int}/{@code long} result of {@code 0}). The {@code daoProxy} and {@code args} arguments are unused.
@@ -7483,18 +7362,24 @@ public final class Jdbc {
                 }
             }
 
-            final String updatedTableName = Strings.substringBetween(defaultCacheKey, JdbcUtil.CACHE_KEY_SPLITOR);
+            final String updatedTableName = DaoCacheTableIndex.tableNameOf(defaultCacheKey);
 
             if (Strings.isEmpty(updatedTableName)) {
-                pool.clear();
+                clear();
             } else {
-                pool.keySet().stream().filter(k -> cacheKeyMatchesTable(k, updatedTableName)).toList().forEach(pool::remove);
+                tableIndex.removeTable(updatedTableName).forEach(pool::remove);
             }
         }
 
+        @Override
+        public void invalidateTable(final String tableName) {
+            tableIndex.removeTable(tableName).forEach(pool::remove);
+        }
+
         @Override
         public void clear() {
             pool.clear();
+            tableIndex.clear();
         }
     }
 
@@ -7504,12 +7389,16 @@ public final class Jdbc {
      * support automatic eviction or TTL-based expiration. Entries remain in the cache until explicitly
      * invalidated by a data modification operation or manual clearing.
      *
-     * <p>This is suitable for lightweight caching scenarios or testing where time-based eviction is not required.</p>
+     * <p>This is suitable for lightweight caching scenarios or testing where time-based eviction is not required.
+     * Like {@link DefaultDaoCache}, entries are indexed by table name so invalidation doesn't scan every key.</p>
      *
      * @see DaoCache#createByMap()
      * @see DaoCache#createByMap(Map)
      */
-    record DaoCacheByMap(Map<String, Object> cache) implements DaoCache {
+    static final class DaoCacheByMap implements DaoCache {
+        private final Map<String, Object> cache;
+        private final DaoCacheTableIndex tableIndex = new DaoCacheTableIndex(DaoCacheTableIndex.DEFAULT_SWEEP_INTERVAL);
+
         /**
          * Creates a {@code DaoCacheByMap} with a new {@code ConcurrentHashMap}.
          */
@@ -7532,8 +7421,19 @@ public final class Jdbc {
          * @param cache the map to be used for caching.
          * @throws IllegalArgumentException if {@code cache} is {@code null}.
          */
-        DaoCacheByMap {
+        DaoCacheByMap(final Map<String, Object> cache) {
             N.checkArgNotNull(cache, "cache");
+
+            this.cache = cache;
+        }
+
+        /**
+         * Returns the backing map.
+         *
+         * @return the map holding the cached results
+         */
+        Map<String, Object> cache() {
+            return cache;
         }
 
         @Override
@@ -7553,7 +7453,7 @@ public final class Jdbc {
                 return false;
             }
 
-            cache.put(defaultCacheKey, result);
+            put(defaultCacheKey, result);
 
             return true;
         }
@@ -7571,14 +7471,27 @@ public final class Jdbc {
                 return false;
             }
 
-            cache.put(defaultCacheKey, result);
+            put(defaultCacheKey, result);
 
             return true;
         }
 
+        private void put(final String defaultCacheKey, final Object result) {
+            // Indexed both before and after the entry becomes visible; see DefaultDaoCache.put.
+            tableIndex.add(defaultCacheKey);
+            cache.put(defaultCacheKey, result);
+            tableIndex.add(defaultCacheKey);
+
+            // Entries removed from a caller-supplied map behind our back (e.g. an LRU map) leave stale index entries.
+            if (tableIndex.isSweepDue()) {
+                tableIndex.retainAll(cache.keySet());
+            }
+        }
+
         /**
          * Updates the cache after a data modification. If the table name can be determined from the cache key,
-         * it removes all cache entries whose key references that table (matched case-insensitively).
+         * it removes all cache entries whose key references that table (matched case-insensitively), looked up
+         * through the table index rather than by scanning all keys.
          * Otherwise, it clears the entire cache.
          * No action is taken for built-in update operations that report zero affected rows (an
          * {@code int}/{@code long} result of {@code 0}).
@@ -7595,25 +7508,165 @@ public final class Jdbc {
                 }
             }
 
-            final String updatedTableName = Strings.substringBetween(defaultCacheKey, JdbcUtil.CACHE_KEY_SPLITOR);
+            final String updatedTableName = DaoCacheTableIndex.tableNameOf(defaultCacheKey);
 
             if (Strings.isEmpty(updatedTableName)) {
-                cache.clear();
+                clear();
             } else {
-                cache.entrySet().removeIf(e -> cacheKeyMatchesTable(e.getKey(), updatedTableName));
+                tableIndex.removeTable(updatedTableName).forEach(cache::remove);
             }
         }
 
+        @Override
+        public void invalidateTable(final String tableName) {
+            tableIndex.removeTable(tableName).forEach(cache::remove);
+        }
+
         @Override
         public void clear() {
             cache.clear();
+            tableIndex.clear();
         }
 
     }
 
-    private static boolean cacheKeyMatchesTable(final String defaultCacheKey, final String tableName) {
-        final String cachedTableName = Strings.substringBetween(defaultCacheKey, JdbcUtil.CACHE_KEY_SPLITOR);
+    /**
+     * Secondary index from table name to the cache keys ({@code fullMethodName#tableName#parameters}) cached for it,
+     * shared by {@link DefaultDaoCache} and {@link DaoCacheByMap}. Table names are matched case-insensitively.
+     *
+     * <p>Keys whose entries disappear without going through the owning cache (expiry, capacity eviction) are pruned
+     * lazily: by the owner on a miss, and by {@link #retainAll(Collection)} once every {@code sweepInterval} additions,
+     * which keeps the index bounded at an amortized constant cost per put.</p>
+     */
+    static final class DaoCacheTableIndex {
+        static final int DEFAULT_SWEEP_INTERVAL = 8192;
+
+        private final Map<String, Set<String>> keysByTable = new ConcurrentHashMap<>();
+        private final int sweepInterval;
+        private final AtomicInteger addsSinceSweep = new AtomicInteger();
 
-        return Strings.isNotEmpty(cachedTableName) && cachedTableName.equalsIgnoreCase(tableName);
+        DaoCacheTableIndex(final int sweepInterval) {
+            this.sweepInterval = sweepInterval > 0 ? sweepInterval : DEFAULT_SWEEP_INTERVAL;
+        }
+
+        /**
+         * Extracts the table segment of a cache key, i.e. the text between its first two {@code #} separators.
+         *
+         * @return the table name, or {@code null} if the key has no table segment
+         */
+        static String tableNameOf(final String cacheKey) {
+            if (cacheKey == null) {
+                return null;
+            }
+
+            final int start = cacheKey.indexOf(JdbcUtil.CACHE_KEY_SPLITOR);
+            final int end = start < 0 ? -1 : cacheKey.indexOf(JdbcUtil.CACHE_KEY_SPLITOR, start + 1);
+
+            return end < 0 ? null : cacheKey.substring(start + 1, end);
+        }
+
+        void add(final String cacheKey) {
+            final String tableName = tableNameOf(cacheKey);
+
+            if (Strings.isEmpty(tableName)) {
+                return;
+            }
+
+            // compute(...) keeps the add atomic with respect to removeTable/retainAll dropping the key set.
+            keysByTable.compute(tableName.toLowerCase(Locale.ROOT), (k, keys) -> {
+                final Set<String> result = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                result.add(cacheKey);
+                return result;
+            });
+
+            addsSinceSweep.incrementAndGet();
+        }
+
+        void remove(final String cacheKey) {
+            final String tableName = tableNameOf(cacheKey);
+
+            if (Strings.isNotEmpty(tableName)) {
+                keysByTable.computeIfPresent(tableName.toLowerCase(Locale.ROOT), (k, keys) -> keys.remove(cacheKey) && keys.isEmpty() ? null : keys);
+            }
+        }
+
+        /**
+         * Removes and returns the keys indexed for the table.
+         *
+         * @return the keys of the table; empty if none are indexed
+         */
+        Set<String> removeTable(final String tableName) {
+            final Set<String> keys = keysByTable.remove(tableName.toLowerCase(Locale.ROOT));
+
+            return keys == null ? Collections.emptySet() : keys;
+        }
+
+        boolean isSweepDue() {
+            return addsSinceSweep.get() >= sweepInterval;
+        }
+
+        /**
+         * Drops every indexed key that is not in {@code liveKeys}.
+         */
+        void retainAll(final Collection<String> liveKeys) {
+            addsSinceSweep.set(0);
+
+            for (final String tableName : keysByTable.keySet()) {
+                keysByTable.computeIfPresent(tableName, (k, keys) -> {
+                    keys.retainAll(liveKeys);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+
+        void clear() {
+            keysByTable.clear();
+            addsSinceSweep.set(0);
+        }
+
+        int size() {
+            int size = 0;
+
+            for (final Set<String> keys : keysByTable.values()) {
+                size += keys.size();
+            }
+
+            return size;
+        }
     }
+
+    /**
+     * A point-in-time snapshot of an internal, process-wide metadata cache (for example the resolved bean
+     * row-mapper plans reported by {@link JdbcUtil#getRowMapperPlanCacheStats()}).
+     *
+     * <p>Counters are cumulative since class initialization (or the last reset) and are read without
+     * synchronization, so {@code hitCount + missCount} may be off by in-flight lookups.</p>
+     *
+     * @param size the number of entries currently cached
+     * @param hitCount the number of lookups served from the cache
+     * @param missCount the number of lookups that had to resolve and populate an entry
+     */
+    public static final record CacheStats(int size, long hitCount, long missCount) {
+
+        /**
+         * Returns the number of lookups, {@code hitCount + missCount}.
+         *
+         * @return the total number of lookups
+         */
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        /**
+         * Returns the fraction of lookups served from the cache, or {@code 1.0} if there have been no lookups.
+         *
+         * @return the hit rate in {@code [0.0, 1.0]}
+         */
+        public double hitRate() {
+            final long requestCount = requestCount();
+
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+    }
+
 }
@@ -37,6 +37,7 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,10 +47,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -70,6 +73,7 @@ import com.landawn.abacus.jdbc.Jdbc.RowExtractor;
 import com.landawn.abacus.jdbc.Jdbc.RowFilter;
 import com.landawn.abacus.jdbc.Jdbc.RowMapper;
 import com.landawn.abacus.jdbc.SqlTransaction.CreatedBy;
+import com.landawn.abacus.jdbc.annotation.CacheKeyStrategy;
 import com.landawn.abacus.jdbc.annotation.NonDBOperation;
 import com.landawn.abacus.jdbc.dao.CrudDao;
 import com.landawn.abacus.jdbc.dao.Dao;
@@ -108,6 +112,7 @@ import com.landawn.abacus.util.InternalUtil;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.NamingPolicy;
 import com.landawn.abacus.util.ObjectPool;
+import com.landawn.abacus.util.Objectory;
 import com.landawn.abacus.util.RowDataset;
 import com.landawn.abacus.util.Seid;
 import com.landawn.abacus.util.Splitter;
@@ -361,6 +366,16 @@ public final class JdbcUtil {
 
     static volatile boolean isInSpring = true;
 
+    static volatile boolean isGeneratedEntityAccessorEnabled = false;
+
+    static volatile InClauseMode inClauseMode = InClauseMode.EXACT;
+
+    static volatile DaoCacheInvalidationTransport daoCacheInvalidationTransport = null;
+
+    // The caches of the DAOs created in this JVM, weakly referenced so a discarded DAO's cache can be collected, with the
+    // invalidation count of each: bumped before and after every invalidation of the cache, whichever DAO or node it comes from.
+    static final Map<Jdbc.DaoCache, AtomicLong> registeredDaoCaches = Collections.synchronizedMap(new WeakHashMap<>());
+
     static volatile TriConsumer<String, Long, Long> _sqlLogHandler = null; //NOSONAR
 
     @SuppressWarnings("rawtypes")
@@ -2629,6 +2644,91 @@ public final class JdbcUtil {
         return QueryUtil.columnToPropNameMap(entityClass);
     }
 
+    /**
+     * Returns a snapshot of the process-wide cache of resolved bean row-mapper plans.
+     *
+     * <p>Bean mappers created by {@code BiRowMapper.to(Class, ...)} (and therefore by {@code list(Class)},
+     * {@code findFirst(Class)}, {@code stream(Class)}, etc.) resolve each column label to a bean property on their
+     * first row. With the default column-name filter and converter that resolution depends only on the bean class,
+     * the column labels, the prefix map and {@code ignoreUnmatchedColumns}, so it is cached and reused across
+     * executions of the same query. A low hit rate usually means queries with ever-changing column lists.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * Jdbc.CacheStats stats = JdbcUtil.getRowMapperPlanCacheStats();
+     * logger.info("row-mapper plans: size={}, hitRate={}", stats.size(), stats.hitRate());
+     * }</pre>
+     *
+     * @return the current size and cumulative hit/miss counts of the row-mapper plan cache
+     */
+    public static Jdbc.CacheStats getRowMapperPlanCacheStats() {
+        return RowMapperPlan.stats();
+    }
+
+    /**
+     * Returns a snapshot of the process-wide cache of bean parameter binders used by {@code NamedQuery}.
+     *
+     * <p>{@code NamedQuery.setParameters(Object)} and {@code NamedQuery.addBatchParameters(...)} with beans resolve each
+     * named parameter to a bean property once per (parsed SQL, bean class) and reuse that binder for every
+     * later statement and batch row.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * Jdbc.CacheStats stats = JdbcUtil.getNamedParameterBinderCacheStats();
+     * logger.info("parameter binders: size={}, hitRate={}", stats.size(), stats.hitRate());
+     * }</pre>
+     *
+     * @return the current size and cumulative hit/miss counts of the parameter binder cache
+     * @see #getRowMapperPlanCacheStats()
+     */
+    public static Jdbc.CacheStats getNamedParameterBinderCacheStats() {
+        return NamedParameterBinder.stats();
+    }
+
+    /**
+     * Returns how many database loads have been saved by {@code @CacheResult(coalesceLoads = true)}: the number of
+     * calls that missed the cache while a load for the same key was already in flight, and waited for that load
+     * instead of running the query themselves.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * logger.info("coalesced DAO cache loads: {}", JdbcUtil.getCoalescedCacheLoadCount());
+     * }</pre>
+     *
+     * @return the cumulative number of coalesced cache loads since class initialization
+     * @see com.landawn.abacus.jdbc.annotation.CacheResult#coalesceLoads()
+     */
+    public static long getCoalescedCacheLoadCount() {
+        return CacheLoadCoalescer.coalescedLoadCount();
+    }
+
+    /**
+     * Returns a modifiable view of a shared, typically read-only list, such as a result cached with
+     * {@code @CacheResult(serialization = CacheSerialization.FROZEN)}. Reads go to {@code list} until the first
+     * modification, which copies the elements into a private list; {@code list} itself is never modified.
+     *
+     * <p>The copy is shallow: the elements (e.g. entities) are still shared with {@code list}. The returned list is
+     * not thread-safe.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * List<User> users = JdbcUtil.copyOnWrite(userDao.findByStatus("active"));   // no copy yet
+     * users.removeIf(u -> u.getAge() < 18);                                      // copies, then removes
+     * }</pre>
+     *
+     * @param <T> the element type
+     * @param list the shared list to read through
+     * @return a list that copies {@code list} on its first modification
+     * @throws IllegalArgumentException if {@code list} is {@code null}
+     * @see com.landawn.abacus.jdbc.annotation.CacheSerialization#FROZEN
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> copyOnWrite(final List<? extends T> list) {
+        N.checkArgNotNull(list, "list");
+
+        return new CopyOnWriteList<>((List<T>) list);
+    }
+
     /**
      * Determines the {@link SqlOperation} type from a given SQL string by analyzing its leading keyword.
      * Leading parentheses and comments are ignored. For a common-table expression introduced by
@@ -8919,6 +9019,143 @@ public final class JdbcUtil {
         return new DBLock(ds, tableName);
     }
 
+    /**
+     * Creates a new {@link DBChangeLog}, polled every {@link DBChangeLog#DEFAULT_POLL_INTERVAL} milliseconds, to carry
+     * DAO cache invalidations between JVMs sharing the database.
+     *
+     * @param ds the {@link javax.sql.DataSource} of the shared database
+     * @param tableName the name of the change-log table; created when absent
+     * @return a new {@link DBChangeLog}, to be installed with {@link #setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)}
+     * @see #createDBChangeLog(javax.sql.DataSource, String, long)
+     */
+    public static DBChangeLog createDBChangeLog(final javax.sql.DataSource ds, final String tableName) {
+        return createDBChangeLog(ds, tableName, DBChangeLog.DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Creates a new {@link DBChangeLog} to carry DAO cache invalidations between JVMs sharing the database.
+     * A node evicts the results of a table written on another node at most about {@code pollInterval} milliseconds
+     * after the write is committed.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // At application start-up, on every node.
+     * JdbcUtil.setDaoCacheInvalidationTransportGlobally(JdbcUtil.createDBChangeLog(dataSource, "dao_cache_change_log", 500));
+     * }</pre>
+     *
+     * @param ds the {@link javax.sql.DataSource} of the shared database
+     * @param tableName the name of the change-log table; created when absent
+     * @param pollInterval the interval in milliseconds between two polls of the change-log table
+     * @return a new {@link DBChangeLog}, to be installed with {@link #setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)}
+     * @throws IllegalArgumentException if {@code ds} is {@code null}, {@code tableName} is empty or {@code pollInterval} is not positive
+     * @see DBChangeLog
+     */
+    public static DBChangeLog createDBChangeLog(final javax.sql.DataSource ds, final String tableName, final long pollInterval) {
+        N.checkArgNotNull(ds, "ds");
+        N.checkArgNotEmpty(tableName, "tableName");
+        N.checkArgPositive(pollInterval, "pollInterval");
+
+        return new DBChangeLog(ds, tableName, pollInterval);
+    }
+
+    /**
+     * Globally installs the transport that carries DAO cache invalidations between JVMs, or uninstalls it with
+     * {@code null}. Once installed, the table of every {@code @RefreshCache} invalidation is published, and the tables
+     * received from the transport are evicted from the caches of all the DAOs of this JVM.
+     * The previously installed transport, if any, is no longer listened to, but it isn't closed.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // At application start-up, on every node.
+     * JdbcUtil.setDaoCacheInvalidationTransportGlobally(JdbcUtil.createDBChangeLog(dataSource, "dao_cache_change_log"));
+     * }</pre>
+     *
+     * @param transport the transport to use, or {@code null} to keep invalidations local to each JVM
+     * @see DaoCacheInvalidationTransport
+     * @see #publishDaoCacheInvalidation(String)
+     */
+    public static synchronized void setDaoCacheInvalidationTransportGlobally(final DaoCacheInvalidationTransport transport) {
+        if (transport != null && transport != daoCacheInvalidationTransport) {
+            transport.subscribe(tableName -> {
+                if (daoCacheInvalidationTransport == transport) {
+                    invalidateRegisteredDaoCaches(tableName);
+                }
+            });
+        }
+
+        daoCacheInvalidationTransport = transport;
+    }
+
+    /**
+     * Returns the transport installed by {@link #setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)}.
+     *
+     * @return the installed transport, or {@code null} if invalidations are local to each JVM
+     */
+    public static DaoCacheInvalidationTransport getDaoCacheInvalidationTransport() {
+        return daoCacheInvalidationTransport;
+    }
+
+    /**
+     * Evicts the cached results of a table from the caches of all the DAOs of this JVM and, if a transport is installed,
+     * publishes the invalidation to the other JVMs. Use it after writes that don't go through a cacheable DAO with
+     * {@code @RefreshCache}, preferably inside the transaction of the write.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * userDao.update(user);
+     * JdbcUtil.publishDaoCacheInvalidation("user");
+     * }</pre>
+     *
+     * @param tableName the name of the written table, matched case-insensitively
+     * @throws IllegalArgumentException if {@code tableName} is {@code null} or empty
+     * @see #setDaoCacheInvalidationTransportGlobally(DaoCacheInvalidationTransport)
+     */
+    public static void publishDaoCacheInvalidation(final String tableName) {
+        N.checkArgNotEmpty(tableName, "tableName");
+
+        invalidateRegisteredDaoCaches(tableName);
+        publishToDaoCacheInvalidationTransport(tableName);
+    }
+
+    /**
+     * Registers the cache of a DAO, so that the invalidations received through the installed transport reach it.
+     *
+     * @return the invalidation count of the cache, shared by all the DAOs using it
+     */
+    static AtomicLong registerDaoCache(final Jdbc.DaoCache daoCache) {
+        return registeredDaoCaches.computeIfAbsent(daoCache, k -> new AtomicLong());
+    }
+
+    static void publishToDaoCacheInvalidationTransport(final String tableName) {
+        final DaoCacheInvalidationTransport transport = daoCacheInvalidationTransport;
+
+        if (transport != null && Strings.isNotEmpty(tableName)) {
+            transport.publish(tableName);
+        }
+    }
+
+    static void invalidateRegisteredDaoCaches(final String tableName) {
+        final List<Map.Entry<Jdbc.DaoCache, AtomicLong>> daoCaches;
+
+        synchronized (registeredDaoCaches) {
+            daoCaches = new ArrayList<>(registeredDaoCaches.entrySet());
+        }
+
+        for (final Map.Entry<Jdbc.DaoCache, AtomicLong> entry : daoCaches) {
+            final AtomicLong invalidationCount = entry.getValue();
+
+            invalidationCount.incrementAndGet();
+
+            try {
+                entry.getKey().invalidateTable(tableName);
+            } catch (final Exception e) {
+                logger.warn(e, "Failed to invalidate DAO cache(table={})", tableName);
+            } finally {
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
     /**
      * Checks if the given exception indicates a "table not exists" error.
      *
@@ -10047,6 +10284,119 @@ public final class JdbcUtil {
         isDaoMethodPerfLogAllowed = false;
     }
 
+    /**
+     * Globally switches bean row mapping ({@code BiRowMapper.to(Class, ...)} and everything built on it, such as
+     * {@code list(Class)}) and bean parameter binding ({@code NamedQuery.setParameters(Object)}) from reflection to
+     * accessors generated per entity class with {@code LambdaMetafactory}. Generated readers call the typed
+     * {@code ResultSet.getLong/getInt/getString/...} and the setter directly, so primitive properties are not boxed.
+     *
+     * <p>Properties with a custom {@code dbType}, without a conventional public getter/setter, or of records and
+     * builder-based classes keep the reflective path. Unlike the log switches, this one can be reversed with
+     * {@link #disableGeneratedEntityAccessorsGlobally()}.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // At application start-up
+     * JdbcUtil.enableGeneratedEntityAccessorsGlobally();
+     * }</pre>
+     *
+     */
+    public static void enableGeneratedEntityAccessorsGlobally() {
+        isGeneratedEntityAccessorEnabled = true;
+    }
+
+    /**
+     * Globally switches bean row mapping and bean parameter binding back to the default reflective accessors.
+     *
+     * @see #enableGeneratedEntityAccessorsGlobally()
+     */
+    public static void disableGeneratedEntityAccessorsGlobally() {
+        isGeneratedEntityAccessorEnabled = false;
+    }
+
+    /**
+     * Globally sets how the {@code IN (...)} lists generated for batch operations ({@code batchGet},
+     * {@code count(Collection)}, batch join-entity loading/deleting and {@code @BindList} IN lists) are rendered.
+     * See {@link InClauseMode} for the available modes. It should be set once, at application start-up.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // At application start-up
+     * JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+     * }</pre>
+     *
+     * @param mode the mode to use; must not be {@code null}
+     * @throws IllegalArgumentException if {@code mode} is {@code null}
+     * @see InClauseMode
+     */
+    public static void setInClauseModeGlobally(final InClauseMode mode) {
+        N.checkArgNotNull(mode, "mode");
+
+        inClauseMode = mode;
+    }
+
+    /**
+     * Returns the global {@link InClauseMode}; {@link InClauseMode#EXACT} unless changed by
+     * {@link #setInClauseModeGlobally(InClauseMode)}.
+     *
+     * @return the current mode
+     */
+    public static InClauseMode getInClauseMode() {
+        return inClauseMode;
+    }
+
+    /**
+     * Returns the number of placeholders an {@code IN} list of {@code size} values is rendered with under the current
+     * {@link InClauseMode}: {@code size} itself for {@link InClauseMode#EXACT}, otherwise the smallest power of two that
+     * is {@code >= size}.
+     *
+     * @param size the number of values
+     * @return the number of placeholders to render
+     */
+    public static int getInClauseSize(final int size) {
+        if (size <= 1 || inClauseMode == InClauseMode.EXACT) {
+            return size;
+        }
+
+        return size > (1 << 30) ? size : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Pads {@code values} to {@link #getInClauseSize(int)} elements by repeating its last element, so that the
+     * {@code IN} list built from the result has a stable shape. The collection is returned as is when no padding is
+     * needed (including under {@link InClauseMode#EXACT}).
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+     * JdbcUtil.padInClauseValues(Arrays.asList(1, 2, 3));   // [1, 2, 3, 3]
+     * JdbcUtil.padInClauseValues(Arrays.asList(1, 2, 3, 4));   // [1, 2, 3, 4] (same instance)
+     * }</pre>
+     *
+     * @param <T> the element type
+     * @param values the values of the {@code IN} list; may be {@code null} or empty
+     * @return {@code values} itself, or a new list holding its elements followed by copies of its last element
+     */
+    public static <T> Collection<T> padInClauseValues(final Collection<T> values) {
+        final int size = N.size(values);
+        final int paddedSize = getInClauseSize(size);
+
+        if (paddedSize == size) {
+            return values;
+        }
+
+        final List<T> result = new ArrayList<>(paddedSize);
+        result.addAll(values);
+
+        final T last = result.get(size - 1);
+
+        for (int i = size; i < paddedSize; i++) {
+            result.add(last);
+        }
+
+        return result;
+    }
+
     /**
      * Sets the current thread's SQL-logging state and maximum log length. This is the shared implementation
      * behind the public {@link #enableSqlLog(int)} / {@link #disableSqlLog()} entry points.
@@ -12123,7 +12473,7 @@ public final class JdbcUtil {
      * @see Jdbc.DaoCache#createByMap()
      */
     public static DaoCacheScope openDaoCacheScope() {
-        return openDaoCacheScope(Jdbc.DaoCache.createByMap(), true);
+        return openDaoCacheScope(Jdbc.DaoCache.createByMap(), true, false);
     }
 
     /**
@@ -12141,14 +12491,60 @@ public final class JdbcUtil {
     public static DaoCacheScope openDaoCacheScope(final Jdbc.DaoCache localThreadCache) throws IllegalArgumentException {
         N.checkArgNotNull(localThreadCache, cs.localThreadCache);
 
-        return openDaoCacheScope(localThreadCache, false);
+        return openDaoCacheScope(localThreadCache, false, false);
     }
 
-    private static DaoCacheScope openDaoCacheScope(final Jdbc.DaoCache localThreadCache, final boolean clearCacheOnClose) {
+    /**
+     * Opens a tiered DAO-cache scope for the current thread using a new map-backed cache. Like
+     * {@link #openDaoCacheScope()}, except for the methods annotated with {@code @CacheResult}: the scope's cache is the
+     * first tier and the DAO's shared cache the second one, instead of the scope's cache replacing the shared cache.
+     * A lookup that misses the scope's cache is served by the shared cache, and then by the database, and populates
+     * both tiers. Repeated lookups within the scope (typically a request) stay in the scope's map, while results are
+     * reused across scopes through the shared cache. Writes invalidate the scope's cache, and the shared cache as well
+     * for methods annotated with {@code @RefreshCache}.
+     *
+     * <p><b>Usage Example:</b></p>
+     * <pre>{@code
+     * try (JdbcUtil.DaoCacheScope scope = JdbcUtil.openTieredDaoCacheScope()) {
+     *     handleRequest();
+     * }
+     * }</pre>
+     *
+     * @return a tiered scope containing the newly created cache
+     * @see #openTieredDaoCacheScope(Jdbc.DaoCache)
+     */
+    public static DaoCacheScope openTieredDaoCacheScope() {
+        return openDaoCacheScope(Jdbc.DaoCache.createByMap(), true, true);
+    }
+
+    /**
+     * Opens a tiered DAO-cache scope for the current thread using the specified cache as the first tier.
+     * See {@link #openTieredDaoCacheScope()}; like {@link #openDaoCacheScope(Jdbc.DaoCache)}, closing the scope doesn't
+     * clear the supplied cache.
+     *
+     * @param localThreadCache the cache to use as the first tier in the scope, must not be {@code null}
+     * @return a tiered scope containing {@code localThreadCache}
+     * @throws IllegalArgumentException if {@code localThreadCache} is {@code null}
+     * @see #openTieredDaoCacheScope()
+     */
+    public static DaoCacheScope openTieredDaoCacheScope(final Jdbc.DaoCache localThreadCache) throws IllegalArgumentException {
+        N.checkArgNotNull(localThreadCache, cs.localThreadCache);
+
+        return openDaoCacheScope(localThreadCache, false, true);
+    }
+
+    static boolean isTieredDaoCacheScope(final Jdbc.DaoCache localThreadCache) {
+        final DaoCacheScope scope = daoCacheScope_TL.get();
+
+        // The legacy enableDaoCacheOnCurrentThread(...) binds a cache without a scope.
+        return scope != null && scope.tiered && scope.cache == localThreadCache;
+    }
+
+    private static DaoCacheScope openDaoCacheScope(final Jdbc.DaoCache localThreadCache, final boolean clearCacheOnClose, final boolean tiered) {
 
         final Jdbc.DaoCache previousCache = localThreadCache_TL.get();
         final DaoCacheScope previousScope = daoCacheScope_TL.get();
-        final DaoCacheScope scope = new DaoCacheScope(localThreadCache, previousCache, previousScope, clearCacheOnClose);
+        final DaoCacheScope scope = new DaoCacheScope(localThreadCache, previousCache, previousScope, clearCacheOnClose, tiered);
 
         localThreadCache_TL.set(localThreadCache);
         daoCacheScope_TL.set(scope);
@@ -12170,14 +12566,16 @@ public final class JdbcUtil {
         private final DaoCacheScope previousScope;
         private final Thread ownerThread;
         private final boolean clearCacheOnClose;
+        private final boolean tiered;
         private boolean closed;
 
         private DaoCacheScope(final Jdbc.DaoCache cache, final Jdbc.DaoCache previousCache, final DaoCacheScope previousScope,
-                final boolean clearCacheOnClose) {
+                final boolean clearCacheOnClose, final boolean tiered) {
             this.cache = cache;
             this.previousCache = previousCache;
             this.previousScope = previousScope;
             this.clearCacheOnClose = clearCacheOnClose;
+            this.tiered = tiered;
             ownerThread = Thread.currentThread();
         }
 
@@ -12190,6 +12588,16 @@ public final class JdbcUtil {
             return cache;
         }
 
+        /**
+         * Returns whether this scope's cache is a first tier in front of the DAOs' shared caches.
+         *
+         * @return {@code true} if this scope was opened by {@link JdbcUtil#openTieredDaoCacheScope()} or
+         *         {@link JdbcUtil#openTieredDaoCacheScope(Jdbc.DaoCache)}
+         */
+        public boolean isTiered() {
+            return tiered;
+        }
+
         /**
          * Restores the DAO-cache binding that preceded this scope. Repeated calls have no effect.
          * Nested scopes must be closed in reverse order. If this scope was created by
@@ -12370,5 +12778,112 @@ public final class JdbcUtil {
         return Strings.concat(fullClassMethodName, CACHE_KEY_SPLITOR, tableName, CACHE_KEY_SPLITOR, paramKey);
     }
 
+    /**
+     * Creates the cache key of a DAO method call with the given strategy. A {@link CacheKeyStrategy#COMPACT} key
+     * falls back to {@link #createCacheKey(String, String, Object[], Logger)} if an argument can't be encoded directly.
+     *
+     * @param cacheKeyPrefix {@code fullClassMethodName#tableName#}, computed once per method
+     * @return the cache key, or {@code null} if the arguments can't be serialized
+     */
+    static String createCacheKey(final CacheKeyStrategy keyStrategy, final String cacheKeyPrefix, final String tableName, final String fullClassMethodName,
+            final Object[] args, final Logger daoLogger) {
+        if (keyStrategy == CacheKeyStrategy.COMPACT) {
+            final String cacheKey = createCompactCacheKey(cacheKeyPrefix, args);
+
+            if (cacheKey != null) {
+                return cacheKey;
+            }
+        }
+
+        return createCacheKey(tableName, fullClassMethodName, args, daoLogger);
+    }
+
+    /**
+     * Encodes the arguments after {@code cacheKeyPrefix} without a serializer: every value is prefixed by a type tag,
+     * strings by their length, and collections by their size, so two different argument lists never share a key.
+     *
+     * @return the key, or {@code null} if an argument is not of a supported type
+     */
+    static String createCompactCacheKey(final String cacheKeyPrefix, final Object[] args) {
+        final StringBuilder sb = Objectory.createStringBuilder();
+
+        try {
+            sb.append(cacheKeyPrefix);
+
+            if (args != null) {
+                for (final Object arg : args) {
+                    if (!appendCompactCacheKeyPart(sb, arg)) {
+                        return null;
+                    }
+                }
+            }
+
+            return sb.toString();
+        } finally {
+            Objectory.recycle(sb);
+        }
+    }
+
+    private static boolean appendCompactCacheKeyPart(final StringBuilder sb, final Object value) {
+        if (value == null) {
+            sb.append('N');
+        } else if (value instanceof final String str) {
+            sb.append('S').append(str.length()).append(':').append(str);
+        } else if (value instanceof final Integer num) {
+            sb.append('I').append(num.intValue()).append(',');
+        } else if (value instanceof final Long num) {
+            sb.append('J').append(num.longValue()).append(',');
+        } else if (value instanceof final Boolean b) {
+            sb.append(b ? 'T' : 'F');
+        } else if (value instanceof final Character ch) {
+            sb.append('C').append(ch.charValue());
+        } else if (value instanceof final Short num) {
+            sb.append('H').append(num.shortValue()).append(',');
+        } else if (value instanceof final Byte num) {
+            sb.append('B').append(num.byteValue()).append(',');
+        } else if (value instanceof final Double num) {
+            sb.append('D').append(num.doubleValue()).append(',');
+        } else if (value instanceof final Float num) {
+            sb.append('G').append(num.floatValue()).append(',');
+        } else if (value instanceof final BigDecimal num) {
+            sb.append('M').append(num).append(',');
+        } else if (value instanceof final BigInteger num) {
+            sb.append('R').append(num).append(',');
+        } else if (value instanceof final Enum<?> e) {
+            final String enumClassName = e.getDeclaringClass().getName();
+            sb.append('E').append(enumClassName.length()).append(':').append(enumClassName).append(e.ordinal()).append(',');
+        } else if (value instanceof final EntityId entityId) {
+            sb.append('K').append(entityId.keySet().size()).append(':');
+
+            for (final String propName : entityId.keySet()) {
+                sb.append(propName.length()).append(':').append(propName);
+
+                if (!appendCompactCacheKeyPart(sb, entityId.get(propName))) {
+                    return false;
+                }
+            }
+        } else if (value instanceof final Collection<?> c) {
+            sb.append(c instanceof List ? 'L' : (c instanceof Set ? 'U' : 'O')).append(c.size()).append(':');
+
+            for (final Object e : c) {
+                if (!appendCompactCacheKeyPart(sb, e)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof final Object[] a) {
+            sb.append('A').append(a.length).append(':');
+
+            for (final Object e : a) {
+                if (!appendCompactCacheKeyPart(sb, e)) {
+                    return false;
+                }
+            }
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
     // ==============================================Jdbc Context=======================================================>>
 }
@@ -20,6 +20,7 @@ import static com.landawn.abacus.query.Dsl.PLC;
 import static com.landawn.abacus.query.Dsl.PSC;
 
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +33,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.landawn.abacus.annotation.Internal;
 import com.landawn.abacus.annotation.JoinedBy;
 import com.landawn.abacus.jdbc.annotation.DaoConfig;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.parser.ParserUtil;
 import com.landawn.abacus.parser.ParserUtil.BeanInfo;
 import com.landawn.abacus.parser.ParserUtil.PropInfo;
@@ -116,6 +119,8 @@ import com.landawn.abacus.util.stream.Stream;
 @SuppressWarnings({ "java:S1192", "resource" })
 public final class JoinInfo {
 
+    private static final Logger logger = LoggerFactory.getLogger(JoinInfo.class);
+
     // Per-SqlBuilder factory functions, keyed by builder DSL (PSC/PAC/PLC). The Tuple4 slots are:
     //   _1 = select(columns), _2 = selectFrom(entityClass), _3 = update(entityClass), _4 = deleteFrom(entityClass).
     // Referenced as entry.getValue()._1.._4 throughout the constructor.
@@ -147,6 +152,9 @@ public final class JoinInfo {
 
     private final Map<Dsl, Tuple2<BiFunction<Collection<String>, Integer, String>, Jdbc.BiParametersSetter<PreparedStatement, Collection<?>>>> batchSelectSqlBuilderAndParamSetterPool = new HashMap<>();
 
+    // Only populated for single-column, non-many-to-many joins whose key type maps to a SQL array element type.
+    private final Map<Dsl, Tuple2<Function<Collection<String>, String>, Jdbc.BiParametersSetter<PreparedQuery, Collection<?>>>> batchSelectByArraySqlBuilderAndParamSetterPool = new HashMap<>();
+
     private final Map<Dsl, Tuple2<String, Jdbc.BiParametersSetter<PreparedStatement, Object>>> setNullSqlAndParamSetterPool = new HashMap<>();
 
     private final Map<Dsl, Tuple3<String, String, Jdbc.BiParametersSetter<PreparedStatement, Object>>> deleteSqlAndParamSetterPool = new HashMap<>();
@@ -600,6 +608,30 @@ public final class JoinInfo {
                 }
             });
 
+            final String arrayElementTypeName = srcPropInfos.length == 1 ? sqlArrayElementTypeName(referencedPropInfos[0].clazz) : null;
+
+            final Jdbc.BiParametersSetter<PreparedQuery, Collection<?>> batchArrayParaSetter = (query, entities) -> {
+                final Object[] keys = new Object[entities.size()];
+                int index = 0;
+
+                for (final Object entity : entities) {
+                    keys[index++] = getJoinPropValue(srcPropInfos[0], entity);
+                }
+
+                final java.sql.Array array = query.stmt.getConnection().createArrayOf(arrayElementTypeName, keys);
+
+                // The driver may hold the array's elements until it's freed; release them together with the statement.
+                query.onClose(() -> {
+                    try {
+                        array.free();
+                    } catch (final SQLException e) {
+                        logger.warn("Failed to free the join key array", e);
+                    }
+                });
+
+                query.setArray(1, array);
+            };
+
             final Jdbc.BiParametersSetter<PreparedStatement, Object> setNullParamSetterForUpdate = srcPropInfos.length == 1 ? (stmt, entity) -> {
                 referencedPropInfos[0].dbType.set(stmt, 1, referencedPropInfos[0].dbType.defaultValue());
                 srcPropInfos[0].dbType.set(stmt, 2, getJoinPropValue(srcPropInfos[0], entity));
@@ -681,6 +713,27 @@ public final class JoinInfo {
 
                 batchSelectSqlBuilderAndParamSetterPool.put(entry.getKey(), Tuple.of(batchSelectSqlBuilder, batchParaSetter));
 
+                if (arrayElementTypeName != null) {
+                    final Function<SqlBuilder, SqlBuilder> appendArrayWhereFunc = sb -> sb.append(Filters.expr(referencedPropInfos[0].name))
+                            .append(" = ANY(?)");
+
+                    final Function<Collection<String>, String> batchSelectByArraySqlBuilder = selectPropNames -> {
+                        if (N.isEmpty(selectPropNames)) {
+                            return appendArrayWhereFunc.apply(entry.getValue()._2.apply(referencedEntityClass)).build().query();
+                        } else if (!selectPropNames.contains(referencedPropInfos[0].name)) {
+                            final Collection<String> newSelectPropNames = N.newLinkedHashSet(selectPropNames.size() + 1);
+                            newSelectPropNames.add(referencedPropInfos[0].name);
+                            newSelectPropNames.addAll(selectPropNames);
+
+                            return appendArrayWhereFunc.apply(entry.getValue()._1.apply(newSelectPropNames).from(referencedEntityClass)).build().query();
+                        } else {
+                            return appendArrayWhereFunc.apply(entry.getValue()._1.apply(selectPropNames).from(referencedEntityClass)).build().query();
+                        }
+                    };
+
+                    batchSelectByArraySqlBuilderAndParamSetterPool.put(entry.getKey(), Tuple.of(batchSelectByArraySqlBuilder, batchArrayParaSetter));
+                }
+
                 final List<String> referencedPropNames = Stream.of(referencedPropInfos).map(p -> p.name).toList();
                 final String setNullSql = entry.getValue()._3.apply(referencedEntityClass).set(referencedPropNames).where(cond).build().query();
                 final String deleteSql = entry.getValue()._4.apply(referencedEntityClass).where(cond).build().query();
@@ -834,6 +887,44 @@ public final class JoinInfo {
         return tp;
     }
 
+    /**
+     * Retrieves the SQL plan for loading joined entities in batches by binding all join keys as one
+     * {@link java.sql.Array} parameter ({@code referencedColumn = ANY(?)}), so the SQL text does not depend on the
+     * batch size. It is only available for single-column, one-to-many joins whose key type has a SQL array element
+     * type ({@code BIGINT}, {@code INTEGER}, {@code SMALLINT}, {@code VARCHAR}, {@code UUID}); the caller is responsible
+     * for only using it against a database that supports {@code = ANY(array)}.
+     *
+     * @param dsl the SQL builder DSL to use; must be one of {@link Dsl#PSC}, {@link Dsl#PAC}, or {@link Dsl#PLC}
+     * @return a tuple whose {@code _1} builds the SELECT SQL from the selected property names (the referenced join
+     *         property is always selected) and whose {@code _2} binds the join keys of the batch as parameter 1
+     *         (the created array is freed when the query is closed), or {@code null} if the join does not support
+     *         array binding
+     * @see #batchSelectSqlPlan(Dsl)
+     * @see InClauseMode#ARRAY
+     */
+    public Tuple2<Function<Collection<String>, String>, Jdbc.BiParametersSetter<PreparedQuery, Collection<?>>> batchSelectByArraySqlPlan( //NOSONAR
+            final Dsl dsl) {
+        return batchSelectByArraySqlBuilderAndParamSetterPool.get(dsl);
+    }
+
+    private static String sqlArrayElementTypeName(final Class<?> cls) {
+        final Class<?> wrapped = ClassUtil.wrap(cls);
+
+        if (Long.class.equals(wrapped)) {
+            return "BIGINT";
+        } else if (Integer.class.equals(wrapped)) {
+            return "INTEGER";
+        } else if (Short.class.equals(wrapped)) {
+            return "SMALLINT";
+        } else if (String.class.equals(wrapped)) {
+            return "VARCHAR";
+        } else if (java.util.UUID.class.equals(wrapped)) {
+            return "UUID";
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Retrieves the SQL plan for delete operations.
      * This method returns SQL statements for deleting joined entities.
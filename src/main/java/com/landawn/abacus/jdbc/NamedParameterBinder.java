@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.parser.ParserUtil.BeanInfo;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.query.ParsedSql;
+import com.landawn.abacus.util.ClassUtil;
+import com.landawn.abacus.util.ObjectPool;
+
+/**
+ * An immutable, thread-safe binding of the named parameters of a SQL statement to the properties of a bean class,
+ * used by {@code NamedQuery.setParameters(Object)} and the bean branch of {@code NamedQuery.addBatchParameters(...)}.
+ *
+ * <p>Binders are cached process-wide, keyed by the {@code ParsedSql} of the statement: the binders of the bean classes
+ * bound to one statement are chained behind that key and told apart by class identity, so a lookup allocates nothing
+ * and doesn't hash the parameter names. Binding a bean is then an indexed loop over the resolved
+ * {@link PropInfo PropInfo[]}, or over the generated writers when
+ * {@link JdbcUtil#enableGeneratedEntityAccessorsGlobally()} is on.</p>
+ *
+ * @see JdbcUtil#getNamedParameterBinderCacheStats()
+ */
+final class NamedParameterBinder {
+
+    static final int MAX_CACHED_BINDERS = 4096;
+
+    /** Maximum number of bean classes chained behind one {@code ParsedSql}; a longer chain is restarted. */
+    static final int MAX_BINDERS_PER_SQL = 8;
+
+    private static final ObjectPool<ParsedSql, NamedParameterBinder> binderPool = new ObjectPool<>(MAX_CACHED_BINDERS);
+
+    private static final LongAdder hitCount = new LongAdder();
+
+    private static final LongAdder missCount = new LongAdder();
+
+    private final Class<?> beanClass;
+
+    private final int parameterCount;
+
+    /** {@code null} for a reserved system date/time parameter ({@code now}, {@code sysTime}, ...) without a matching property: left unbound. */
+    private final PropInfo[] propInfos;
+
+    private volatile EntityAccessors.ParameterWriter[] parameterWriters; //NOSONAR
+
+    /** The binder of another bean class for the same {@code ParsedSql}, or {@code null}. */
+    private final NamedParameterBinder next;
+
+    private final int chainLength;
+
+    private NamedParameterBinder(final Class<?> beanClass, final PropInfo[] propInfos, final NamedParameterBinder next) {
+        this.beanClass = beanClass;
+        this.parameterCount = propInfos.length;
+        this.propInfos = propInfos;
+        this.next = next;
+        this.chainLength = next == null ? 1 : next.chainLength + 1;
+    }
+
+    /**
+     * Returns the cached binder for the given parsed SQL and bean class, resolving and caching it on a miss.
+     *
+     * @param parsedSql the parsed SQL, whose named parameters are one per placeholder, in placeholder order
+     * @param beanClass the bean class
+     * @return the shared binder
+     * @throws IllegalArgumentException if a parameter (other than a reserved system date/time name) has no matching property
+     */
+    static NamedParameterBinder get(final ParsedSql parsedSql, final Class<?> beanClass) {
+        final NamedParameterBinder head = binderPool.get(parsedSql);
+
+        for (NamedParameterBinder binder = head; binder != null; binder = binder.next) {
+            if (binder.beanClass == beanClass) {
+                hitCount.increment();
+                return binder;
+            }
+        }
+
+        missCount.increment();
+
+        final List<String> parameterNames = parsedSql.namedParameters();
+        final BeanInfo entityInfo = ParserUtil.getBeanInfo(beanClass);
+        final PropInfo[] propInfos = new PropInfo[parameterNames.size()];
+
+        for (int i = 0, len = propInfos.length; i < len; i++) {
+            propInfos[i] = entityInfo.getPropInfo(parameterNames.get(i));
+
+            if (propInfos[i] == null && !JdbcUtil.SYS_DATE_TIME_NAME_SET.contains(parameterNames.get(i))) {
+                throw new IllegalArgumentException(
+                        "No property found with name: " + parameterNames.get(i) + " in class: " + ClassUtil.getCanonicalClassName(beanClass));
+            }
+        }
+
+        // Benign race: a binder chained by a concurrent miss for another class may be dropped, and is resolved again.
+        final NamedParameterBinder binder = new NamedParameterBinder(beanClass, propInfos,
+                head == null || head.chainLength >= MAX_BINDERS_PER_SQL ? null : head);
+        binderPool.put(parsedSql, binder);
+
+        return binder;
+    }
+
+    /**
+     * Binds the properties of {@code bean} to the parameters of {@code stmt}. Parameters of reserved system date/time
+     * names without a matching property are left untouched.
+     *
+     * @param stmt the statement
+     * @param bean the bean, an instance of the binder's bean class
+     * @throws SQLException if binding a parameter fails
+     */
+    void bind(final PreparedStatement stmt, final Object bean) throws SQLException {
+        final EntityAccessors.ParameterWriter[] writers = JdbcUtil.isGeneratedEntityAccessorEnabled ? parameterWriters() : null;
+        PropInfo propInfo = null;
+
+        for (int i = 0; i < parameterCount; i++) {
+            propInfo = propInfos[i];
+
+            if (propInfo == null) {
+                continue;
+            }
+
+            if (writers != null && writers[i] != null) {
+                writers[i].write(stmt, i + 1, bean);
+            } else {
+                propInfo.dbType.set(stmt, i + 1, propInfo.getPropValue(bean));
+            }
+        }
+    }
+
+    private EntityAccessors.ParameterWriter[] parameterWriters() {
+        EntityAccessors.ParameterWriter[] writers = parameterWriters;
+
+        if (writers == null) {
+            // Benign race: concurrent first binds may each build the (identical) array.
+            final EntityAccessors accessors = EntityAccessors.of(beanClass);
+            writers = new EntityAccessors.ParameterWriter[parameterCount];
+
+            for (int i = 0; i < parameterCount; i++) {
+                if (propInfos[i] != null) {
+                    writers[i] = accessors.writer(propInfos[i]);
+                }
+            }
+
+            parameterWriters = writers;
+        }
+
+        return writers;
+    }
+
+    static Jdbc.CacheStats stats() {
+        return new Jdbc.CacheStats(binderPool.size(), hitCount.sum(), missCount.sum());
+    }
+}
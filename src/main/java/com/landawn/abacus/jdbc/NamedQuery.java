@@ -3891,22 +3891,8 @@ public final class NamedQuery extends AbstractQuery<PreparedStatement, NamedQuer
         final Class<?> cls = parameters.getClass();
 
         if (Beans.isBeanClass(cls)) {
-            final BeanInfo entityInfo = ParserUtil.getBeanInfo(cls);
-            PropInfo propInfo = null;
-
             try {
-                for (int i = 0; i < parameterCount; i++) {
-                    propInfo = entityInfo.getPropInfo(parameterNames.get(i));
-
-                    if (propInfo == null) {
-                        if (!JdbcUtil.SYS_DATE_TIME_NAME_SET.contains(parameterNames.get(i))) {
-                            throw new IllegalArgumentException(
-                                    "No property found with name: " + parameterNames.get(i) + " in class: " + ClassUtil.getCanonicalClassName(cls));
-                        }
-                    } else {
-                        propInfo.dbType.set(stmt, i + 1, propInfo.getPropValue(parameters));
-                    }
-                }
+                NamedParameterBinder.get(namedSql, cls).bind(stmt, parameters);
             } catch (final SQLException | RuntimeException | Error e) {
                 closeSuppressingFailure(e);
                 throw e;
@@ -4236,28 +4222,9 @@ public final class NamedQuery extends AbstractQuery<PreparedStatement, NamedQuer
                 final Class<?> cls = first.getClass();
 
                 if (Beans.isBeanClass(cls)) {
-                    final BeanInfo entityInfo = ParserUtil.getBeanInfo(cls);
-                    final PropInfo[] propInfos = new PropInfo[parameterCount];
-
-                    for (int i = 0; i < parameterCount; i++) {
-                        propInfos[i] = entityInfo.getPropInfo(parameterNames.get(i));
-
-                        if (propInfos[i] == null && !JdbcUtil.SYS_DATE_TIME_NAME_SET.contains(parameterNames.get(i))) {
-                            throw new IllegalArgumentException(
-                                    "No property found with name: " + parameterNames.get(i) + " in class: " + ClassUtil.getCanonicalClassName(cls));
-                        }
-                    }
-
-                    PropInfo propInfo = null;
-
-                    for (int i = 0; i < parameterCount; i++) {
-                        propInfo = propInfos[i];
-
-                        if (propInfo != null) {
-                            propInfo.dbType.set(stmt, i + 1, propInfo.getPropValue(first));
-                        }
-                    }
+                    final NamedParameterBinder binder = NamedParameterBinder.get(namedSql, cls);
 
+                    binder.bind(stmt, first);
                     addBatch();
 
                     Object params = null;
@@ -4269,14 +4236,7 @@ public final class NamedQuery extends AbstractQuery<PreparedStatement, NamedQuer
                             continue;
                         }
 
-                        for (int i = 0; i < parameterCount; i++) {
-                            propInfo = propInfos[i];
-
-                            if (propInfo != null) {
-                                propInfo.dbType.set(stmt, i + 1, propInfo.getPropValue(params));
-                            }
-                        }
-
+                        binder.bind(stmt, params);
                         addBatch();
                     }
                 } else if (Map.class.isAssignableFrom(cls)) {
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.landawn.abacus.jdbc.Jdbc.DaoCacheTableIndex;
+import com.landawn.abacus.jdbc.annotation.CacheResult;
+import com.landawn.abacus.jdbc.annotation.CacheSerialization;
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Strings;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+/**
+ * A {@link Jdbc.DaoCache} that keeps cached results serialized outside the Java heap, in direct {@link ByteBuffer}s,
+ * so that large cached results (e.g. a {@code Dataset} of many rows) don't add to old-gen occupancy and GC pauses.
+ *
+ * <p>The storage is a fixed byte budget split into {@value #BLOCK_SIZE}-byte blocks, allocated in slabs of up to
+ * 64 MB as they are first used. An entry occupies as many blocks as its serialized form needs, so freed space is
+ * always reusable without compaction. When the budget or the entry capacity is exhausted, the least recently used
+ * entries are evicted. An entry larger than the whole budget is not cached.</p>
+ *
+ * <p>Results are serialized with Kryo if it's available, unless the method's {@code @CacheResult} asks for
+ * {@link CacheSerialization#JSON}; otherwise with JSON. Kryo results are stored in Kryo's binary form, JSON results
+ * as UTF-8 text. Every hit deserializes a new copy, so callers never share a cached instance. JSON results are
+ * deserialized to the method's declared (generic) return type.</p>
+ *
+ * <p>Expiry ({@code liveTime} / {@code maxIdleTime}) is checked on access; expired entries also leave the cache
+ * through LRU eviction. Like {@link Jdbc.DefaultDaoCache}, write invalidation removes the entries of the affected
+ * table through a table index. All operations are thread-safe; (de)serialization runs outside the lock.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * @Cache(capacity = 10000, impl = OffHeapDaoCache.class)   // DEFAULT_MAX_BYTES budget
+ * public interface ReportDao extends NonUpdateDao<Report, SQLBuilder.PSC, ReportDao> {
+ *     @CacheResult(enabled = true, serialization = CacheSerialization.KRYO)
+ *     @Query("SELECT * FROM report_rows WHERE report_id = :id")
+ *     Dataset getRows(@Bind("id") long reportId) throws SQLException;
+ * }
+ *
+ * // Or with an explicit budget:
+ * ReportDao dao = JdbcUtil.createDao(ReportDao.class, dataSource, new OffHeapDaoCache(10000, 0, 512L * 1024 * 1024));
+ * }</pre>
+ *
+ * @see com.landawn.abacus.jdbc.annotation.Cache#impl()
+ */
+public final class OffHeapDaoCache implements Jdbc.DaoCache {
+
+    /** The byte budget used by the {@code (capacity, evictDelay)} constructor, and so by {@code @Cache(impl = OffHeapDaoCache.class)}: 64 MB. */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    /** The allocation unit of the off-heap storage, in bytes. */
+    public static final int BLOCK_SIZE = 8 * 1024;
+
+    private static final int BLOCKS_PER_SLAB = 64 * 1024 * 1024 / BLOCK_SIZE;
+
+    private final int capacity;
+
+    private final ByteBuffer[] slabs;
+
+    private final int blockCount;
+
+    /** Stack of free block ids; the lowest ids are handed out first, so slabs are allocated in order. */
+    private final int[] freeBlocks;
+
+    private int freeBlockCount;
+
+    /** In access order: the first entry is the least recently used one. */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final DaoCacheTableIndex tableIndex;
+
+    private final Map<Method, Type<?>> jsonResultTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an off-heap cache with the {@link #DEFAULT_MAX_BYTES} byte budget.
+     * This is the constructor used by {@code @Cache(impl = OffHeapDaoCache.class)}.
+     *
+     * @param capacity the maximum number of entries; {@code 0} for no limit other than the byte budget
+     * @param evictDelay unused: expiry is checked on access
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public OffHeapDaoCache(final int capacity, final long evictDelay) {
+        this(capacity, evictDelay, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates an off-heap cache with the given byte budget.
+     *
+     * @param capacity the maximum number of entries; {@code 0} for no limit other than the byte budget
+     * @param evictDelay unused: expiry is checked on access
+     * @param maxBytes the maximum number of bytes of off-heap memory to use, rounded down to a multiple of {@link #BLOCK_SIZE}
+     * @throws IllegalArgumentException if {@code capacity} is negative, or {@code maxBytes} is less than {@link #BLOCK_SIZE}
+     *         or more than {@code Integer.MAX_VALUE} blocks
+     */
+    @SuppressWarnings("unused")
+    public OffHeapDaoCache(final int capacity, final long evictDelay, final long maxBytes) {
+        N.checkArgument(capacity >= 0, "'capacity'=%s can't be negative", capacity);
+        N.checkArgument(maxBytes >= BLOCK_SIZE && maxBytes / BLOCK_SIZE <= Integer.MAX_VALUE,
+                "'maxBytes'=%s must be at least BLOCK_SIZE and at most Integer.MAX_VALUE blocks", maxBytes);
+
+        this.capacity = capacity == 0 ? Integer.MAX_VALUE : capacity;
+        this.blockCount = (int) (maxBytes / BLOCK_SIZE);
+        this.slabs = new ByteBuffer[(blockCount + BLOCKS_PER_SLAB - 1) / BLOCKS_PER_SLAB];
+        this.freeBlocks = new int[blockCount];
+
+        for (int i = 0; i < blockCount; i++) {
+            freeBlocks[i] = blockCount - 1 - i;
+        }
+
+        this.freeBlockCount = blockCount;
+        this.tableIndex = new DaoCacheTableIndex(capacity);
+    }
+
+    /**
+     * Retrieves and deserializes a cached result. Returns {@code null} if there is no entry, it has expired, or it can't be
+     * deserialized (in which case it is dropped).
+     */
+    @Override
+    @SuppressWarnings("unused")
+    public Object get(final String defaultCacheKey, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        final Entry entry;
+        final byte[] bytes;
+
+        synchronized (this) {
+            entry = entries.get(defaultCacheKey);
+
+            if (entry == null) {
+                tableIndex.remove(defaultCacheKey);
+                return null;
+            }
+
+            final long now = System.currentTimeMillis();
+
+            if (now >= entry.expirationTime || (entry.maxIdleTime > 0 && now - entry.lastAccessTime >= entry.maxIdleTime)) {
+                remove(defaultCacheKey);
+                return null;
+            }
+
+            entry.lastAccessTime = now;
+            bytes = read(entry);
+        }
+
+        try {
+            return deserialize(bytes, entry, methodSignature);
+        } catch (final Exception e) {
+            synchronized (this) {
+                if (entries.get(defaultCacheKey) == entry) {
+                    remove(defaultCacheKey);
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Serializes and caches a result with the default live time and max idle time.
+     */
+    @Override
+    public boolean put(final String defaultCacheKey, final Object result, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        return put(defaultCacheKey, result, JdbcUtil.DEFAULT_CACHE_LIVE_TIME, JdbcUtil.DEFAULT_CACHE_MAX_IDLE_TIME, daoProxy, args, methodSignature);
+    }
+
+    /**
+     * Serializes and caches a result, evicting least recently used entries as needed.
+     *
+     * @return {@code true} if the result was cached; {@code false} if it is {@code null}, can't be serialized, or its
+     *         serialized form is larger than the byte budget
+     * @throws IllegalArgumentException if {@code defaultCacheKey} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unused")
+    public boolean put(final String defaultCacheKey, final Object result, final long liveTime, final long maxIdleTime, final Object daoProxy,
+            final Object[] args, final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        N.checkArgNotNull(defaultCacheKey, "Key cannot be null");
+
+        if (result == null) {
+            return false;
+        }
+
+        final boolean kryo = usesKryo(methodSignature);
+        final byte[] bytes;
+
+        try {
+            bytes = kryo ? serializeKryo(result) : JdbcUtil.jsonParser.serialize(result).getBytes(StandardCharsets.UTF_8);
+        } catch (final Exception e) {
+            return false;
+        }
+
+        final int blocksNeeded = Math.max(1, (bytes.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+
+        if (blocksNeeded > blockCount) {
+            return false;
+        }
+
+        final long now = System.currentTimeMillis();
+        final Entry entry = new Entry(new int[blocksNeeded], bytes.length, result.getClass(), kryo, liveTime > 0 ? now + liveTime : Long.MAX_VALUE,
+                maxIdleTime, now);
+
+        synchronized (this) {
+            final Entry old = entries.remove(defaultCacheKey);
+
+            if (old != null) {
+                release(old);
+            }
+
+            while (freeBlockCount < blocksNeeded || entries.size() >= capacity) {
+                evictEldest();
+            }
+
+            for (int i = 0; i < blocksNeeded; i++) {
+                entry.blocks[i] = freeBlocks[--freeBlockCount];
+            }
+
+            write(entry, bytes);
+            entries.put(defaultCacheKey, entry);
+            // Under the same monitor as invalidateTable, so the entry and its index key appear together.
+            tableIndex.add(defaultCacheKey);
+
+            if (tableIndex.isSweepDue()) {
+                tableIndex.retainAll(entries.keySet());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the cached entries of the table in the cache key, or all entries if the key has no table segment.
+     * No action is taken for built-in update operations that report zero affected rows.
+     */
+    @Override
+    @SuppressWarnings("unused")
+    public void update(final String defaultCacheKey, final Object result, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (JdbcUtil.BUILT_IN_DAO_UPDATE_METHODS.contains(methodSignature._1)
+                && (methodSignature._3.equals(int.class) || methodSignature._3.equals(long.class)) && (result != null && ((Number) result).longValue() == 0)) {
+            return;
+        }
+
+        final String updatedTableName = DaoCacheTableIndex.tableNameOf(defaultCacheKey);
+
+        if (Strings.isEmpty(updatedTableName)) {
+            clear();
+        } else {
+            invalidateTable(updatedTableName);
+        }
+    }
+
+    @Override
+    public synchronized void invalidateTable(final String tableName) {
+        for (final String key : tableIndex.removeTable(tableName)) {
+            final Entry entry = entries.remove(key);
+
+            if (entry != null) {
+                release(entry);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        for (final Entry entry : entries.values()) {
+            release(entry);
+        }
+
+        entries.clear();
+        tableIndex.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries, including expired ones not yet removed
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the off-heap bytes currently occupied by cached entries, in whole blocks.
+     *
+     * @return the used bytes, at most the byte budget
+     */
+    public synchronized long usedBytes() {
+        return (long) (blockCount - freeBlockCount) * BLOCK_SIZE;
+    }
+
+    private void remove(final String key) {
+        final Entry entry = entries.remove(key);
+
+        if (entry != null) {
+            release(entry);
+        }
+
+        tableIndex.remove(key);
+    }
+
+    private void evictEldest() {
+        final Iterator<Map.Entry<String, Entry>> iter = entries.entrySet().iterator();
+        final Map.Entry<String, Entry> eldest = iter.next();
+
+        iter.remove();
+        release(eldest.getValue());
+        tableIndex.remove(eldest.getKey());
+    }
+
+    private void release(final Entry entry) {
+        for (final int block : entry.blocks) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    private void write(final Entry entry, final byte[] bytes) {
+        for (int i = 0, offset = 0; offset < bytes.length; i++, offset += BLOCK_SIZE) {
+            final int block = entry.blocks[i];
+            slab(block).put((block % BLOCKS_PER_SLAB) * BLOCK_SIZE, bytes, offset, Math.min(BLOCK_SIZE, bytes.length - offset));
+        }
+    }
+
+    private byte[] read(final Entry entry) {
+        final byte[] bytes = new byte[entry.length];
+
+        for (int i = 0, offset = 0; offset < bytes.length; i++, offset += BLOCK_SIZE) {
+            final int block = entry.blocks[i];
+            slabs[block / BLOCKS_PER_SLAB].get((block % BLOCKS_PER_SLAB) * BLOCK_SIZE, bytes, offset, Math.min(BLOCK_SIZE, bytes.length - offset));
+        }
+
+        return bytes;
+    }
+
+    private ByteBuffer slab(final int block) {
+        final int slabIndex = block / BLOCKS_PER_SLAB;
+
+        if (slabs[slabIndex] == null) {
+            slabs[slabIndex] = ByteBuffer.allocateDirect(Math.min(BLOCKS_PER_SLAB, blockCount - slabIndex * BLOCKS_PER_SLAB) * BLOCK_SIZE);
+        }
+
+        return slabs[slabIndex];
+    }
+
+    // Kryo output is binary: it's stored as is, not as the base64 text of KryoParser.serialize(Object).
+    private static byte[] serializeKryo(final Object result) {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream(BLOCK_SIZE);
+        JdbcUtil.kryoParser.serialize(result, os);
+
+        return os.toByteArray();
+    }
+
+    private Object deserialize(final byte[] bytes, final Entry entry, final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (entry.kryo) {
+            return JdbcUtil.kryoParser.deserialize(new ByteArrayInputStream(bytes), entry.resultClass);
+        }
+
+        final String str = new String(bytes, StandardCharsets.UTF_8);
+        final Type<?> resultType = jsonResultType(methodSignature);
+
+        return resultType == null ? JdbcUtil.jsonParser.deserialize(str, entry.resultClass) : N.fromJson(str, resultType);
+    }
+
+    /**
+     * Returns the declared return type of the method if it's parameterized (e.g. {@code List<User>}), so that JSON
+     * restores the element types; otherwise {@code null}, to deserialize to the class of the cached result.
+     */
+    private Type<?> jsonResultType(final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (methodSignature == null || methodSignature._1 == null || !(methodSignature._1.getGenericReturnType() instanceof ParameterizedType)) {
+            return null;
+        }
+
+        return jsonResultTypes.computeIfAbsent(methodSignature._1, method -> N.typeOf(method.getGenericReturnType().getTypeName()));
+    }
+
+    private static boolean usesKryo(final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (JdbcUtil.kryoParser == null) {
+            return false;
+        }
+
+        final CacheResult cacheResultAnno = methodSignature == null || methodSignature._1 == null ? null
+                : methodSignature._1.getAnnotation(CacheResult.class);
+
+        return cacheResultAnno == null || cacheResultAnno.serialization() != CacheSerialization.JSON;
+    }
+
+    private static final class Entry {
+        final int[] blocks;
+        final int length;
+        final Class<?> resultClass;
+        final boolean kryo;
+        final long expirationTime;
+        final long maxIdleTime;
+        long lastAccessTime;
+
+        Entry(final int[] blocks, final int length, final Class<?> resultClass, final boolean kryo, final long expirationTime, final long maxIdleTime,
+                final long lastAccessTime) {
+            this.blocks = blocks;
+            this.length = length;
+            this.resultClass = resultClass;
+            this.kryo = kryo;
+            this.expirationTime = expirationTime;
+            this.maxIdleTime = maxIdleTime;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+}
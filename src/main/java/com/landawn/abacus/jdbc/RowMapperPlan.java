@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.parser.ParserUtil.BeanInfo;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.ClassUtil;
+import com.landawn.abacus.util.ImmutableMap;
+import com.landawn.abacus.util.ObjectPool;
+import com.landawn.abacus.util.Strings;
+
+/**
+ * An immutable, thread-safe resolution of a result-set column layout to the properties of a bean class,
+ * used by the bean branches of {@code Jdbc.BiRowMapper.to(...)}.
+ *
+ * <p>Resolving a column label to a {@link PropInfo} goes through {@code getColumnToPropNameMap}, lower-casing and
+ * {@code checkPrefix}. That work depends only on the bean class, the column-label list, the prefix map and the
+ * {@code ignoreUnmatchedColumns} flag, so plans are cached process-wide under exactly that key and shared by every
+ * execution of the same query shape. Mappers built with a custom column-name filter or converter cannot be keyed
+ * (lambdas have no useful equality) and resolve an uncached plan on their first row instead.</p>
+ *
+ * <p>A plan never changes after construction; its arrays are neither exposed nor written to.</p>
+ *
+ * @see JdbcUtil#getRowMapperPlanCacheStats()
+ */
+final class RowMapperPlan {
+
+    static final int MAX_CACHED_PLANS = 4096;
+
+    private static final ObjectPool<PlanKey, RowMapperPlan> planPool = new ObjectPool<>(MAX_CACHED_PLANS);
+
+    private static final LongAdder hitCount = new LongAdder();
+
+    private static final LongAdder missCount = new LongAdder();
+
+    private final Class<?> targetClass;
+
+    private final BeanInfo entityInfo;
+
+    private final int columnCount;
+
+    /** {@code null} marks a skipped column; otherwise the (possibly nested) property path used when {@code propInfos[i]} is {@code null}. */
+    private final String[] columnLabels;
+
+    /** Direct property of the bean, or {@code null} when the column maps to a nested path set by name. */
+    private final PropInfo[] propInfos;
+
+    private final Type<?>[] columnTypes;
+
+    /** Generated per-column readers, resolved on first use in generated-accessor mode; a {@code null} element keeps the reflective path. */
+    private volatile EntityAccessors.ColumnReader[] columnReaders; //NOSONAR
+
+    private RowMapperPlan(final Class<?> targetClass, final BeanInfo entityInfo, final String[] columnLabels, final PropInfo[] propInfos, final Type<?>[] columnTypes) {
+        this.targetClass = targetClass;
+        this.entityInfo = entityInfo;
+        this.columnCount = columnLabels.length;
+        this.columnLabels = columnLabels;
+        this.propInfos = propInfos;
+        this.columnTypes = columnTypes;
+    }
+
+    /**
+     * Returns the cached plan for the given query shape, resolving and caching it on a miss.
+     *
+     * @param targetClass the bean class rows are mapped to
+     * @param columnLabelList the column labels of the result set, in column order
+     * @param prefixAndFieldNameMap the column-prefix to property map, or {@code null}
+     * @param ignoreUnmatchedColumns whether columns without a matching property are skipped
+     * @return the shared plan
+     * @throws IllegalArgumentException if a column has no matching property and {@code ignoreUnmatchedColumns} is {@code false}
+     */
+    static RowMapperPlan get(final Class<?> targetClass, final List<String> columnLabelList, final Map<String, String> prefixAndFieldNameMap,
+            final boolean ignoreUnmatchedColumns) {
+        // Probe with the caller's list; only a miss pays for the defensive copy stored in the key.
+        RowMapperPlan plan = planPool.get(new PlanKey(targetClass, columnLabelList, prefixAndFieldNameMap, ignoreUnmatchedColumns));
+
+        if (plan != null) {
+            hitCount.increment();
+            return plan;
+        }
+
+        missCount.increment();
+
+        plan = resolve(targetClass, columnLabelList, null, null, prefixAndFieldNameMap, ignoreUnmatchedColumns);
+
+        planPool.put(new PlanKey(targetClass, List.copyOf(columnLabelList), prefixAndFieldNameMap == null ? null : new HashMap<>(prefixAndFieldNameMap),
+                ignoreUnmatchedColumns), plan);
+
+        return plan;
+    }
+
+    /**
+     * Resolves a plan without consulting or populating the cache.
+     *
+     * @param targetClass the bean class rows are mapped to
+     * @param columnLabelList the column labels of the result set, in column order
+     * @param columnNameFilter columns failing this predicate are skipped; {@code null} keeps every column
+     * @param columnNameConverter converts a label before matching; a {@code null} result skips the column. {@code null} means identity
+     * @param prefixAndFieldNameMap the column-prefix to property map, or {@code null}
+     * @param ignoreUnmatchedColumns whether columns without a matching property are skipped
+     * @return a new plan
+     * @throws IllegalArgumentException if a column has no matching property and {@code ignoreUnmatchedColumns} is {@code false}
+     */
+    static RowMapperPlan resolve(final Class<?> targetClass, final List<String> columnLabelList, final Predicate<? super String> columnNameFilter,
+            final Function<? super String, String> columnNameConverter, final Map<String, String> prefixAndFieldNameMap,
+            final boolean ignoreUnmatchedColumns) {
+        final BeanInfo entityInfo = ParserUtil.getBeanInfo(targetClass);
+        final ImmutableMap<String, String> columnToPropNameMap = JdbcUtil.getColumnToPropNameMap(targetClass);
+
+        final int columnCount = columnLabelList.size();
+        final String[] columnLabels = columnLabelList.toArray(new String[columnCount]);
+        final PropInfo[] propInfos = new PropInfo[columnCount];
+        final Type<?>[] columnTypes = new Type[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            if (columnNameFilter != null && !columnNameFilter.test(columnLabels[i])) {
+                columnLabels[i] = null;
+                continue;
+            }
+
+            if (columnNameConverter != null) {
+                columnLabels[i] = columnNameConverter.apply(columnLabels[i]);
+
+                // A converter that returns null signals "skip this column", mirroring the filtered-out branch above.
+                if (columnLabels[i] == null) {
+                    continue;
+                }
+            }
+
+            propInfos[i] = entityInfo.getPropInfo(columnLabels[i]);
+
+            if (propInfos[i] == null) {
+                final String fieldName = lookupPropName(columnToPropNameMap, columnLabels[i]);
+
+                if (Strings.isNotEmpty(fieldName)) {
+                    propInfos[i] = entityInfo.getPropInfo(fieldName);
+                }
+            }
+
+            if (propInfos[i] != null) {
+                columnTypes[i] = propInfos[i].dbType;
+                continue;
+            }
+
+            final String newColumnName = JdbcUtil.checkPrefix(entityInfo, columnLabels[i], prefixAndFieldNameMap, columnLabelList);
+            PropInfo subPropInfo = JdbcUtil.getSubPropInfo(targetClass, newColumnName);
+
+            if (subPropInfo == null) {
+                final String fieldName = lookupPropName(columnToPropNameMap, newColumnName);
+
+                if (Strings.isNotEmpty(fieldName)) {
+                    subPropInfo = JdbcUtil.getSubPropInfo(targetClass, fieldName);
+
+                    if (subPropInfo != null) {
+                        columnLabels[i] = fieldName;
+                    }
+                }
+            } else {
+                columnLabels[i] = newColumnName;
+            }
+
+            if (subPropInfo == null) {
+                if (ignoreUnmatchedColumns) {
+                    columnLabels[i] = null;
+                } else {
+                    throw new IllegalArgumentException(
+                            "No property in class: " + ClassUtil.getCanonicalClassName(targetClass) + " mapping to column: " + columnLabels[i]);
+                }
+            } else {
+                // Nested path: set by name through the bean info, typed by the leaf property.
+                columnTypes[i] = subPropInfo.dbType;
+            }
+        }
+
+        return new RowMapperPlan(targetClass, entityInfo, columnLabels, propInfos, columnTypes);
+    }
+
+    private static String lookupPropName(final Map<String, String> columnToPropNameMap, final String columnName) {
+        final String fieldName = columnToPropNameMap.get(columnName);
+
+        return Strings.isEmpty(fieldName) ? columnToPropNameMap.get(columnName.toLowerCase(Locale.ROOT)) : fieldName;
+    }
+
+    /**
+     * Maps the current row of {@code rs} to a new bean.
+     *
+     * @param <T> the bean type
+     * @param rs the result set positioned on the row to map
+     * @return the mapped bean
+     * @throws SQLException if reading a column fails
+     */
+    @SuppressWarnings("unchecked")
+    <T> T apply(final ResultSet rs) throws SQLException {
+        final EntityAccessors.ColumnReader[] readers = JdbcUtil.isGeneratedEntityAccessorEnabled ? columnReaders() : null;
+        final Object result = entityInfo.createBeanResult();
+
+        for (int i = 0; i < columnCount; i++) {
+            if (columnLabels[i] == null) {
+                continue;
+            }
+
+            if (readers != null && readers[i] != null) {
+                readers[i].read(rs, i + 1, result);
+            } else if (propInfos[i] == null) {
+                entityInfo.setPropValue(result, columnLabels[i], columnTypes[i].get(rs, i + 1));
+            } else {
+                propInfos[i].setPropValue(result, columnTypes[i].get(rs, i + 1));
+            }
+        }
+
+        return (T) entityInfo.finishBeanResult(result);
+    }
+
+    private EntityAccessors.ColumnReader[] columnReaders() {
+        EntityAccessors.ColumnReader[] readers = columnReaders;
+
+        if (readers == null) {
+            // Benign race: concurrent first rows may each build the (identical) array.
+            final EntityAccessors accessors = EntityAccessors.of(targetClass);
+            readers = new EntityAccessors.ColumnReader[columnCount];
+
+            for (int i = 0; i < columnCount; i++) {
+                if (columnLabels[i] != null && propInfos[i] != null) {
+                    readers[i] = accessors.reader(propInfos[i]);
+                }
+            }
+
+            columnReaders = readers;
+        }
+
+        return readers;
+    }
+
+    static Jdbc.CacheStats stats() {
+        return new Jdbc.CacheStats(planPool.size(), hitCount.sum(), missCount.sum());
+    }
+
+    static void clear() {
+        planPool.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    private record PlanKey(Class<?> targetClass, List<String> columnLabels, Map<String, String> prefixAndFieldNameMap, boolean ignoreUnmatchedColumns) {
+    }
+}
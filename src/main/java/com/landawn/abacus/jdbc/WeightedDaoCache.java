@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import com.landawn.abacus.jdbc.Jdbc.DaoCacheTableIndex;
+import com.landawn.abacus.util.Dataset;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Strings;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+/**
+ * A {@link Jdbc.DaoCache} bounded by the total <i>weight</i> of its entries rather than their number, with a
+ * W-TinyLFU admission and eviction policy.
+ *
+ * <p>Each result is weighed when it is cached; by default ({@link #ROW_COUNT_WEIGHER}) a {@code Collection},
+ * {@code Map} or {@code Dataset} weighs its number of elements/rows and any other result weighs {@code 1}, so a
+ * cached 100k-row {@code Dataset} takes as much of the budget as 100k cached {@code count()} results.</p>
+ *
+ * <p>Eviction follows W-TinyLFU: new entries enter a small LRU <i>window</i> (1% of the budget). An entry pushed out
+ * of the window is only admitted to the <i>main</i> segmented LRU (probation + protected, 80% of it) if it has been
+ * accessed more often than the entry it would evict, as estimated by a count-min sketch of recent access
+ * frequencies that is periodically halved. One-hit wonders, such as the results of one-off scans, therefore don't
+ * displace entries that are hot. {@link #stats()} reports the hit rate, evictions and the total weight.</p>
+ *
+ * <p>Expiry ({@code liveTime} / {@code maxIdleTime}) is checked on access. Write invalidation removes the entries of
+ * the affected table through the same table index as {@link Jdbc.DefaultDaoCache}. Cached results are held by
+ * reference. All operations are thread-safe.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * // Up to 500k rows in total, across all cached results.
+ * @Cache(capacity = 500_000, impl = WeightedDaoCache.class)
+ * public interface OrderDao extends NonUpdateCrudDao<Order, Long, OrderDao> {
+ *     @CacheResult(enabled = true)
+ *     @Query("SELECT * FROM orders WHERE status = :status")
+ *     List<Order> findByStatus(@Bind("status") String status) throws SQLException;
+ * }
+ *
+ * WeightedDaoCache.Stats stats = ((WeightedDaoCache) cache).stats();
+ * logger.info("hitRate={}, evictions={}, weight={}/{}", stats.hitRate(), stats.evictionCount(), stats.totalWeight(), stats.maxWeight());
+ * }</pre>
+ *
+ * @see com.landawn.abacus.jdbc.annotation.Cache#impl()
+ */
+public final class WeightedDaoCache implements Jdbc.DaoCache {
+
+    /**
+     * Weighs a {@code Collection}, {@code Map} or {@code Dataset} by its number of elements/rows (at least {@code 1}),
+     * and any other result as {@code 1}.
+     */
+    public static final ToLongFunction<Object> ROW_COUNT_WEIGHER = result -> {
+        if (result instanceof final Dataset dataset) {
+            return Math.max(1, dataset.size());
+        } else if (result instanceof final Collection<?> c) {
+            return Math.max(1, c.size());
+        } else if (result instanceof final Map<?, ?> m) {
+            return Math.max(1, m.size());
+        } else {
+            return 1;
+        }
+    };
+
+    private final long maxWeight;
+
+    private final long maxWindowWeight;
+
+    private final long maxMainWeight;
+
+    private final long maxProtectedWeight;
+
+    private final ToLongFunction<Object> weigher;
+
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    // Insertion-ordered; the first entry is the least recently used one of the segment.
+    private final LinkedHashMap<String, Node> window = new LinkedHashMap<>();
+
+    private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>();
+
+    private final LinkedHashMap<String, Node> protectedSegment = new LinkedHashMap<>();
+
+    private final FrequencySketch sketch;
+
+    private final DaoCacheTableIndex tableIndex;
+
+    private long windowWeight;
+
+    private long probationWeight;
+
+    private long protectedWeight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private long evictedWeight;
+
+    /**
+     * Creates a cache weighing results by {@link #ROW_COUNT_WEIGHER}.
+     * This is the constructor used by {@code @Cache(impl = WeightedDaoCache.class)}.
+     *
+     * @param capacity the maximum total weight, i.e. the total number of rows/elements of the cached results
+     * @param evictDelay unused: expiry is checked on access
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    @SuppressWarnings("unused")
+    public WeightedDaoCache(final int capacity, final long evictDelay) {
+        this(capacity, ROW_COUNT_WEIGHER);
+    }
+
+    /**
+     * Creates a cache with a custom weigher, e.g. one that estimates the retained bytes of a result.
+     *
+     * @param maxWeight the maximum total weight of the cached results
+     * @param weigher returns the weight ({@code >= 1}) of a non-null result
+     * @throws IllegalArgumentException if {@code maxWeight} is not positive or {@code weigher} is {@code null}
+     */
+    public WeightedDaoCache(final long maxWeight, final ToLongFunction<Object> weigher) {
+        N.checkArgument(maxWeight > 0, "'maxWeight'=%s must be positive", maxWeight);
+        N.checkArgNotNull(weigher, "weigher");
+
+        this.maxWeight = maxWeight;
+        this.maxWindowWeight = Math.max(1, maxWeight / 100);
+        this.maxMainWeight = Math.max(1, maxWeight - maxWindowWeight);
+        this.maxProtectedWeight = maxMainWeight * 4 / 5;
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch((int) Math.min(maxWeight, 1 << 20));
+        this.tableIndex = new DaoCacheTableIndex(DaoCacheTableIndex.DEFAULT_SWEEP_INTERVAL);
+    }
+
+    @Override
+    @SuppressWarnings("unused")
+    public synchronized Object get(final String defaultCacheKey, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (defaultCacheKey == null) {
+            return null;
+        }
+
+        sketch.increment(defaultCacheKey);
+
+        final Node node = nodes.get(defaultCacheKey);
+
+        if (node == null) {
+            missCount++;
+            tableIndex.remove(defaultCacheKey);
+            return null;
+        }
+
+        final long now = System.currentTimeMillis();
+
+        if (now >= node.expirationTime || (node.maxIdleTime > 0 && now - node.lastAccessTime >= node.maxIdleTime)) {
+            missCount++;
+            remove(node);
+            return null;
+        }
+
+        hitCount++;
+        node.lastAccessTime = now;
+        onHit(node);
+
+        return node.value;
+    }
+
+    @Override
+    public boolean put(final String defaultCacheKey, final Object result, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        return put(defaultCacheKey, result, JdbcUtil.DEFAULT_CACHE_LIVE_TIME, JdbcUtil.DEFAULT_CACHE_MAX_IDLE_TIME, daoProxy, args, methodSignature);
+    }
+
+    /**
+     * Caches a result in the window segment, then evicts by the W-TinyLFU policy until the total weight fits.
+     *
+     * @return {@code true} if the result was cached; {@code false} if it is {@code null} or heavier than the main
+     *         segment (about 99% of the maximum weight). Note that a cached result can still be rejected later, when
+     *         it leaves the window.
+     * @throws IllegalArgumentException if {@code defaultCacheKey} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unused")
+    public boolean put(final String defaultCacheKey, final Object result, final long liveTime, final long maxIdleTime, final Object daoProxy,
+            final Object[] args, final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        N.checkArgNotNull(defaultCacheKey, "Key cannot be null");
+
+        if (result == null) {
+            return false;
+        }
+
+        final long weight = Math.max(1, weigher.applyAsLong(result));
+        final long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            final Node old = nodes.get(defaultCacheKey);
+
+            if (old != null) {
+                remove(old);
+            }
+
+            // Couldn't be admitted to the main segment without first evicting everything in it.
+            if (weight > maxMainWeight) {
+                return false;
+            }
+
+            tableIndex.add(defaultCacheKey);
+
+            final Node node = new Node(defaultCacheKey, result, weight, liveTime > 0 ? now + liveTime : Long.MAX_VALUE, maxIdleTime, now);
+
+            sketch.increment(defaultCacheKey);
+            nodes.put(defaultCacheKey, node);
+            window.put(defaultCacheKey, node);
+            windowWeight += weight;
+
+            evictFromWindow();
+
+            if (tableIndex.isSweepDue()) {
+                tableIndex.retainAll(nodes.keySet());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the cached entries of the table in the cache key, or all entries if the key has no table segment.
+     * No action is taken for built-in update operations that report zero affected rows.
+     */
+    @Override
+    @SuppressWarnings("unused")
+    public void update(final String defaultCacheKey, final Object result, final Object daoProxy, final Object[] args,
+            final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature) {
+        if (JdbcUtil.BUILT_IN_DAO_UPDATE_METHODS.contains(methodSignature._1)
+                && (methodSignature._3.equals(int.class) || methodSignature._3.equals(long.class)) && (result != null && ((Number) result).longValue() == 0)) {
+            return;
+        }
+
+        final String updatedTableName = DaoCacheTableIndex.tableNameOf(defaultCacheKey);
+
+        if (Strings.isEmpty(updatedTableName)) {
+            clear();
+        } else {
+            invalidateTable(updatedTableName);
+        }
+    }
+
+    @Override
+    public synchronized void invalidateTable(final String tableName) {
+        for (final String key : tableIndex.removeTable(tableName)) {
+            final Node node = nodes.get(key);
+
+            if (node != null) {
+                remove(node);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        nodes.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+        tableIndex.clear();
+    }
+
+    /**
+     * Returns a snapshot of the cache's size, weight and cumulative hit/miss/eviction counts.
+     *
+     * @return the current statistics
+     */
+    public synchronized Stats stats() {
+        return new Stats(nodes.size(), windowWeight + probationWeight + protectedWeight, maxWeight, hitCount, missCount, evictionCount, evictedWeight);
+    }
+
+    private void onHit(final Node node) {
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node.key);
+                window.put(node.key, node);
+            }
+
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+
+                node.segment = Segment.PROTECTED;
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+
+                // Demote the least recently used protected entries back to probation.
+                while (protectedWeight > maxProtectedWeight && protectedSegment.size() > 1) {
+                    final Node demoted = protectedSegment.values().iterator().next();
+                    protectedSegment.remove(demoted.key);
+                    protectedWeight -= demoted.weight;
+
+                    demoted.segment = Segment.PROBATION;
+                    probation.put(demoted.key, demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedSegment.put(node.key, node);
+            }
+        }
+    }
+
+    private void evictFromWindow() {
+        while (windowWeight > maxWindowWeight) {
+            final Node candidate = window.values().iterator().next();
+
+            window.remove(candidate.key);
+            windowWeight -= candidate.weight;
+
+            admit(candidate);
+        }
+    }
+
+    /**
+     * Moves a window victim into probation if it is accessed more often than each main entry it would displace;
+     * otherwise evicts it.
+     */
+    private void admit(final Node candidate) {
+        final int candidateFrequency = sketch.frequency(candidate.key);
+
+        while (probationWeight + protectedWeight + candidate.weight > maxMainWeight) {
+            final Node victim = !probation.isEmpty() ? probation.values().iterator().next()
+                    : (!protectedSegment.isEmpty() ? protectedSegment.values().iterator().next() : null);
+
+            if (victim == null || candidateFrequency <= sketch.frequency(victim.key)) {
+                evict(candidate);
+                return;
+            }
+
+            evict(victim);
+        }
+
+        candidate.segment = Segment.PROBATION;
+        probation.put(candidate.key, candidate);
+        probationWeight += candidate.weight;
+    }
+
+    private void evict(final Node node) {
+        evictionCount++;
+        evictedWeight += node.weight;
+
+        if (node.segment == Segment.PROBATION || node.segment == Segment.PROTECTED) {
+            remove(node);
+        } else {
+            // A window victim under admission, already unlinked from the window.
+            nodes.remove(node.key);
+            tableIndex.remove(node.key);
+        }
+    }
+
+    private void remove(final Node node) {
+        nodes.remove(node.key);
+        tableIndex.remove(node.key);
+
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node.key);
+                windowWeight -= node.weight;
+            }
+
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+            }
+
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of a {@link WeightedDaoCache}.
+     *
+     * @param size the number of cached entries
+     * @param totalWeight the total weight of the cached entries
+     * @param maxWeight the maximum total weight
+     * @param hitCount the number of lookups served from the cache
+     * @param missCount the number of lookups that found no live entry
+     * @param evictionCount the number of entries evicted, or rejected on admission, to respect the maximum weight
+     * @param evictedWeight the total weight of the evicted entries
+     */
+    public record Stats(int size, long totalWeight, long maxWeight, long hitCount, long missCount, long evictionCount, long evictedWeight) {
+
+        /**
+         * Returns the fraction of lookups served from the cache, or {@code 1.0} if there have been no lookups.
+         *
+         * @return the hit rate in {@code [0.0, 1.0]}
+         */
+        public double hitRate() {
+            final long requestCount = hitCount + missCount;
+
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node {
+        final String key;
+        final Object value;
+        final long weight;
+        final long expirationTime;
+        final long maxIdleTime;
+        long lastAccessTime;
+        Segment segment = Segment.WINDOW;
+
+        Node(final String key, final Object value, final long weight, final long expirationTime, final long maxIdleTime, final long lastAccessTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expirationTime = expirationTime;
+            this.maxIdleTime = maxIdleTime;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit-saturating access counters (depth 4). All counters are halved once the number of
+     * increments reaches ten times the table size, so that the estimate follows recent popularity.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+        private static final int MAX_FREQUENCY = 15;
+
+        private final byte[] table;
+
+        private final int mask;
+
+        private final int sampleSize;
+
+        private int additions;
+
+        FrequencySketch(final int expectedEntries) {
+            final int size = Integer.highestOneBit(Math.max(64, Math.min(expectedEntries, 1 << 24)) - 1) << 1;
+
+            this.table = new byte[size];
+            this.mask = size - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        int frequency(final String key) {
+            final int hash = spread(key.hashCode());
+            int frequency = MAX_FREQUENCY;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+
+            return frequency;
+        }
+
+        void increment(final String key) {
+            final int hash = spread(key.hashCode());
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                final int index = indexOf(hash, i);
+
+                if (table[index] < MAX_FREQUENCY) {
+                    table[index]++;
+                }
+            }
+
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (byte) (table[i] >>> 1);
+                }
+
+                additions /= 2;
+            }
+        }
+
+        private int indexOf(final int hash, final int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+
+            return (int) h & mask;
+        }
+
+        private static int spread(final int hash) {
+            final int h = hash * 0x9e3779b9;
+
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -51,6 +51,12 @@ import com.landawn.abacus.annotation.Beta;
  * initialization rejects it with {@code UnsupportedOperationException}. Declare a second parameter
  * bound to the same collection value at the call site instead.</p>
  *
+ * <p><b>Statement shape:</b> when the placeholder is the whole value list of an {@code IN (...)} predicate
+ * (directly in the SQL, or through {@link #prefixForNonEmpty()}/{@link #suffixForNonEmpty()}) and the global
+ * {@link com.landawn.abacus.jdbc.InClauseMode} is not {@code EXACT}, the list is padded to the next power of two by
+ * binding its last value to the extra placeholders, so that calls with different collection sizes reuse a few
+ * statements. Placeholders used anywhere else are always expanded to exactly one {@code ?} per element.</p>
+ *
  * <p><b>Usage Examples:</b></p>
  * <pre>{@code
  * public interface UserDao extends CrudDao<User, Long, UserDao> {
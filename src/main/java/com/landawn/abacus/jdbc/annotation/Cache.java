@@ -146,7 +146,10 @@ public @interface Cache {
      *
      * <p>By default, {@link Jdbc.DefaultDaoCache} is used, which is backed by a
      * keyed object pool with TTL and idle-time-based eviction. You can provide
-     * a custom implementation for specialized caching requirements.</p>
+     * a custom implementation for specialized caching requirements, or use
+     * {@link com.landawn.abacus.jdbc.OffHeapDaoCache} to keep large results serialized outside the Java heap, or
+     * {@link com.landawn.abacus.jdbc.WeightedDaoCache} to bound the cache by the total number of cached rows
+     * (its {@code capacity}) with a scan-resistant W-TinyLFU policy.</p>
      *
      * <p>Example custom cache implementation:</p>
      * <pre>{@code
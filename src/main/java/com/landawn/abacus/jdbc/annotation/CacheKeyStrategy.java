@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.annotation;
+
+/**
+ * Defines how the cache key of a {@link CacheResult @CacheResult} method is built from its arguments.
+ * Either way the key has the form {@code fullMethodName#tableName#arguments}.
+ */
+public enum CacheKeyStrategy {
+    /** Serializes the argument array with Kryo (if available) or JSON. Supports any serializable argument. */
+    SERIALIZED,
+
+    /**
+     * Encodes the arguments directly into a compact, type-tagged key without a serializer. Supports {@code null},
+     * primitive wrappers, {@code String}, enums, {@code BigInteger}/{@code BigDecimal}, {@code EntityId}, and
+     * collections/object arrays of these; falls back to {@link #SERIALIZED} when any argument is of another type.
+     */
+    COMPACT
+}
@@ -55,7 +55,8 @@ import com.landawn.abacus.jdbc.JdbcUtil;
  * <p><strong>Init-time validation:</strong> applying {@code @CacheResult} to a method whose return
  * type is not cacheable ({@code void}, {@code Iterator}, {@code Stream}, {@code Seq}) causes DAO
  * initialization to fail with {@code UnsupportedOperationException}. In addition, {@link #maxLiveTimeMillis()}
- * and {@link #maxIdleTimeMillis()} must be {@code >= 0}, and {@code 0 <= minSize() <= maxSize()} must hold.</p>
+ * and {@link #maxIdleTimeMillis()} must be {@code >= 0}, {@code 0 <= minSize() <= maxSize()} must hold, and
+ * {@link #refreshAheadMillis()} must be less than {@link #maxLiveTimeMillis()}.</p>
  *
  * <p><b>Usage Examples:</b></p>
  * <pre>{@code
@@ -227,6 +228,7 @@ public @interface CacheResult {
      *   <li>{@link CacheSerialization#NONE} (default) - No serialization, stores direct references</li>
      *   <li>{@link CacheSerialization#KRYO} - Uses Kryo for fast binary serialization</li>
      *   <li>{@link CacheSerialization#JSON} - Uses JSON for human-readable serialization</li>
+     *   <li>{@link CacheSerialization#FROZEN} - No copying; the result is made read-only once and shared by all callers</li>
      * </ul>
      *
      * <p>Serialization provides isolation between cached objects and application code,
@@ -250,6 +252,72 @@ public @interface CacheResult {
      */
     CacheSerialization serialization() default CacheSerialization.NONE;
 
+    /**
+     * Specifies how the cache key is built from the method arguments. The key is computed on every call,
+     * including cache hits, so it is on the hot path of a cached method.
+     *
+     * <p>Available options:</p>
+     * <ul>
+     *   <li>{@link CacheKeyStrategy#SERIALIZED} (default) - Serializes the arguments with Kryo or JSON</li>
+     *   <li>{@link CacheKeyStrategy#COMPACT} - Encodes simple arguments (primitives, strings, enums, {@code EntityId},
+     *       and collections of these) directly, falling back to serialization for any other argument type</li>
+     * </ul>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * @CacheResult(enabled = true, keyStrategy = CacheKeyStrategy.COMPACT)
+     * @Query("SELECT * FROM users WHERE status = :status AND age > :age")
+     * List<User> findByStatus(@Bind("status") String status, @Bind("age") int age) throws SQLException;
+     * }</pre>
+     *
+     * @return the cache key strategy
+     */
+    CacheKeyStrategy keyStrategy() default CacheKeyStrategy.SERIALIZED;
+
+    /**
+     * Coalesces concurrent cache misses for the same key into a single database load when set to {@code true}.
+     * The first caller runs the query and populates the cache; the other callers wait for it and receive its result
+     * (copied according to {@link #serialization()}), or rethrow its failure.
+     *
+     * <p>This avoids a burst of identical queries when a hot entry expires. The number of loads saved is reported by
+     * {@link JdbcUtil#getCoalescedCacheLoadCount()}. Coalescing does not apply while a thread-local DAO cache scope
+     * is active.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * @CacheResult(enabled = true, maxLiveTimeMillis = 60000, coalesceLoads = true)
+     * @Query("SELECT * FROM configurations WHERE key = :key")
+     * Config getConfig(@Bind("key") String key) throws SQLException;
+     * }</pre>
+     *
+     * @return {@code true} to coalesce concurrent loads, {@code false} (default) to let every miss query the database
+     */
+    boolean coalesceLoads() default false;
+
+    /**
+     * Enables refresh-ahead when greater than {@code 0}: a cache hit within this many milliseconds of the entry's
+     * {@link #maxLiveTimeMillis()} expiry reloads the entry asynchronously on the DAO's executor, while the current
+     * value keeps being served. Hot entries are thus replaced before they expire, and callers don't pay the query
+     * latency when they do. Entries that aren't hit in the window expire as usual.
+     *
+     * <p>A refresh that overlaps a {@link RefreshCache @RefreshCache} invalidation on the same DAO is discarded, so it
+     * never puts a result loaded before the invalidation back into the cache. A failed refresh is logged; the entry
+     * then expires normally. Refresh-ahead is not applied to a method that is also annotated with {@code @RefreshCache}.</p>
+     *
+     * <p>Must be {@code >= 0} and less than {@link #maxLiveTimeMillis()}.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // Entries live 10 minutes; one hit in the last minute reloads it in the background.
+     * @CacheResult(enabled = true, maxLiveTimeMillis = 600000, maxIdleTimeMillis = 600000, refreshAheadMillis = 60000)
+     * @Query("SELECT * FROM products WHERE category = :category")
+     * List<Product> findByCategory(@Bind("category") String category) throws SQLException;
+     * }</pre>
+     *
+     * @return the refresh-ahead window in milliseconds; the default {@code 0} disables refresh-ahead
+     */
+    long refreshAheadMillis() default 0;
+
     /**
      * Specifies filter patterns for methods when the annotation is applied at the class level.
      * Only methods whose names match at least one of these patterns will be cached.
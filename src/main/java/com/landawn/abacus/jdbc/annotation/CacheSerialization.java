@@ -26,5 +26,14 @@ public enum CacheSerialization {
     KRYO,
 
     /** Uses JSON serialization to deep-copy mutable cached values. */
-    JSON
+    JSON,
+
+    /**
+     * Makes the result read-only once, when it is loaded, and returns that same instance on every call and cache hit
+     * without copying: a {@code List}, {@code Set} or {@code Map} is wrapped as {@code ImmutableList}, {@code ImmutableSet}
+     * or {@code ImmutableMap} (when the method's declared return type allows it), and a {@code Dataset} is frozen.
+     * Elements, e.g. entities, are shared and must be treated as read-only. A caller that needs to modify a list can
+     * wrap it with {@code JdbcUtil.copyOnWrite(List)}, or copy a {@code Dataset} with {@code Dataset.copy()}.
+     */
+    FROZEN
 }
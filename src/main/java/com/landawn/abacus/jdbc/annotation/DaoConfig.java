@@ -34,6 +34,7 @@ import com.landawn.abacus.jdbc.dao.CrudDao;
  *   <li>ID generation behavior for insert operations</li>
  *   <li>Join condition handling with {@code null} values</li>
  *   <li>Column fetching strategies for Dataset queries</li>
+ *   <li>Concurrent chunk execution for {@code batchGet}/{@code batchRefresh}</li>
  * </ul>
  *
  * <p><b>Usage Examples:</b></p>
@@ -213,4 +214,26 @@ public @interface DaoConfig {
      *         {@code false} to retain every column referenced by the SELECT
      */
     boolean fetchColumnByEntityClassForDatasetQuery() default true;
+
+    /**
+     * The maximum number of id chunks that {@code CrudDao.batchGet(ids, selectPropNames, batchSize)} (and every
+     * {@code batchGet}/{@code batchRefresh} overload built on it) runs concurrently on the DAO's {@code executor()}.
+     *
+     * <p>With the default {@code 1}, chunks are queried one after another. With a larger value, up to that many
+     * chunk queries are in flight at once, each on its own connection. The results are still merged in chunk order,
+     * and the per-chunk duplicate-result check is unchanged. Calls made inside a transaction on the calling thread
+     * always run sequentially, because other threads can't see that transaction.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * @DaoConfig(batchGetParallelism = 4)
+     * public interface UserDao extends CrudDao<User, Long, UserDao> {
+     * }
+     *
+     * List<User> users = userDao.batchGet(fiftyThousandIds, null, 200);   // 250 chunks, at most 4 in flight
+     * }</pre>
+     *
+     * @return the maximum number of concurrently executed id chunks; must be positive. {@code 1} (default) means sequential
+     */
+    int batchGetParallelism() default 1;
 }
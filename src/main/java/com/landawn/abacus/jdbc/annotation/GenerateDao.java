@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Asks {@code com.landawn.abacus.jdbc.processor.DaoImplProcessor} to generate, at compile time, a concrete class
+ * implementing the annotated DAO interface. {@code JdbcUtil.createDao(...)} picks the generated class up automatically
+ * and uses it instead of a JDK dynamic proxy.
+ *
+ * <p>The generated class (named {@code <DaoInterface>_Impl}, in the same package; nested interfaces are flattened,
+ * e.g. {@code Outer_UserDao_Impl}) has one method per DAO method, each calling its own invoker, bound when the DAO is
+ * created, and a default method with nothing to wrap around it calls its implementation directly. That removes the
+ * per-call {@code Method} lookup and the megamorphic {@code InvocationHandler} dispatch of the proxy. Creating the DAO
+ * is not faster: the invokers are built as for the proxy, and the SQL is parsed the same way. Behavior (handlers,
+ * caching, transactions, logging) is that of the proxy, except that per-call debug logging is on only if it was enabled
+ * when the DAO was created.</p>
+ *
+ * <p>The processor is optional and not registered as a service; enable it explicitly, e.g. with Maven:</p>
+ * <pre>{@code
+ * <plugin>
+ *   <artifactId>maven-compiler-plugin</artifactId>
+ *   <configuration>
+ *     <annotationProcessors>
+ *       <annotationProcessor>com.landawn.abacus.jdbc.processor.DaoImplProcessor</annotationProcessor>
+ *     </annotationProcessors>
+ *   </configuration>
+ * </plugin>
+ * }</pre>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * @GenerateDao
+ * public interface UserDao extends CrudDao<User, Long, UserDao> {
+ *     @Query("SELECT * FROM users WHERE status = :status")
+ *     List<User> findByStatus(@Bind("status") String status);
+ * }
+ *
+ * UserDao userDao = JdbcUtil.createDao(UserDao.class, dataSource); // a UserDao_Impl, not a proxy
+ * }</pre>
+ *
+ * @see com.landawn.abacus.jdbc.JdbcUtil#createDao(Class, javax.sql.DataSource)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(value = { ElementType.TYPE })
+public @interface GenerateDao {
+}
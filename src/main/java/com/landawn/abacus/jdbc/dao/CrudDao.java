@@ -92,6 +92,17 @@ public non-sealed interface CrudDao<T, ID, TD extends CrudDao<T, ID, TD>>
      * inserts {@code entity} if no record with the same ID exists; otherwise updates the existing record
      * with the values from {@code entity}.
      *
+     * <p>On PostgreSQL, SQLite, H2, MySQL/MariaDB, Oracle, SQL Server and HSQLDB, a DAO created by
+     * {@link JdbcUtil#createDao} runs this as a single native upsert statement ({@code ON CONFLICT},
+     * {@code ON DUPLICATE KEY UPDATE} or {@code MERGE}) when the entity's id is set. On MySQL/MariaDB, only if the id
+     * is the only unique key of the table: {@code ON DUPLICATE KEY UPDATE} would otherwise overwrite the row of another
+     * colliding unique key. Other databases, and entities without an id, use the find-then-insert/update path below.</p>
+     *
+     * <p>Unlike the find-then-insert/update path, which returns the record loaded from the database with the
+     * properties of {@code entity} merged into it, the native upsert returns {@code entity} itself, without reading the
+     * record: the columns that aren't updatable keep their stored values on an existing record, but the returned entity
+     * holds the values of {@code entity}. Use {@link #gett(Object)} to get the stored record.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * User user = new User();
@@ -188,6 +199,10 @@ public non-sealed interface CrudDao<T, ID, TD extends CrudDao<T, ID, TD>>
      * matching existing records by ID fields.
      * Large collections will be processed in batches of the specified size.
      *
+     * <p>Where {@link #upsert(Object)} runs as a native upsert statement and every entity has its id set,
+     * the entities are written as one JDBC batch per chunk (in a transaction if there is more than one chunk)
+     * without querying existing records first, and the returned list holds the input entities.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * List<User> importedUsers = loadUsersFromFile();   // 30000 users
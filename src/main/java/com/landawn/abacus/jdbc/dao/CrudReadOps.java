@@ -608,6 +608,10 @@ sealed interface CrudReadOps<T, ID, TD extends DaoBase<T, TD>> extends ReadOps<T
      * Retrieves multiple entities by their IDs with only selected properties populated and custom batch size.
      * This provides the most control over batch retrieval operations.
      *
+     * <p>The id chunks are queried one after another unless the DAO is annotated with
+     * {@link com.landawn.abacus.jdbc.annotation.DaoConfig#batchGetParallelism() @DaoConfig(batchGetParallelism = n)},
+     * in which case up to {@code n} chunks run concurrently on {@link #executor()}.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * List<Long> largeIdList = getAllUserIds();   // 30000 IDs
@@ -325,6 +325,8 @@ public final class DaoUtil {
      * {@code IN} clause with an {@code IS NULL} branch when needed), or multi-column ids. Shared by
      * {@link CrudReadOps#batchGet(Collection, Collection, int)} and
      * {@link CrudReadOps#count(Collection)}; declared {@code static} so it is not treated as a DAO operation by the proxy.
+     * Unless the global {@link com.landawn.abacus.jdbc.InClauseMode} is {@code EXACT}, the IDs are padded with {@link JdbcUtil#padInClauseValues(Collection)}
+     * so that chunks of different sizes share a few SQL shapes.
      *
      * @param ids the (batch of) IDs to match
      * @param idPropNameList the id property names of the entity
@@ -335,13 +337,13 @@ public final class DaoUtil {
     @SuppressWarnings("unchecked")
     static Condition idsToCondition(final Collection<?> ids, final List<String> idPropNameList, final boolean isEntityId, final boolean isMap) {
         if (isEntityId) {
-            return Filters.idToCond((Collection<? extends EntityId>) ids);
+            return Filters.idToCond((Collection<? extends EntityId>) JdbcUtil.padInClauseValues(ids));
         } else if (isMap) {
-            return Filters.anyOfAllEqual(ids);
+            return Filters.anyOfAllEqual(JdbcUtil.padInClauseValues(ids));
         } else if (idPropNameList.size() == 1) {
             return singlePropValuesToCondition(idPropNameList.get(0), ids);
         } else {
-            return Filters.anyOfAllEqual(ids, idPropNameList);
+            return Filters.anyOfAllEqual(JdbcUtil.padInClauseValues(ids), idPropNameList);
         }
     }
 
@@ -349,6 +351,7 @@ public final class DaoUtil {
      * Builds a condition matching any supplied value for one property while preserving SQL
      * {@code NULL} equality semantics. A plain {@code IN (..., NULL)} predicate never matches a
      * null column, so a null value is expressed as a separate {@link Filters#isNull(String)} branch.
+     * The non-null values are padded per the global {@link com.landawn.abacus.jdbc.InClauseMode}.
      *
      * @param propName the property to match
      * @param values the non-empty values to match
@@ -363,11 +366,11 @@ public final class DaoUtil {
         final boolean containsNull = nonNullValues.removeIf(value -> value == null);
 
         if (!containsNull) {
-            return Filters.in(propName, nonNullValues);
+            return Filters.in(propName, JdbcUtil.padInClauseValues(nonNullValues));
         } else if (nonNullValues.isEmpty()) {
             return Filters.isNull(propName);
         } else {
-            return Filters.in(propName, nonNullValues).or(Filters.isNull(propName));
+            return Filters.in(propName, JdbcUtil.padInClauseValues(nonNullValues)).or(Filters.isNull(propName));
         }
     }
 
@@ -80,7 +80,8 @@ public non-sealed interface UncheckedCrudDao<T, ID, TD extends UncheckedCrudDao<
         UncheckedCrudInsertOps<T, ID, TD>, UncheckedCrudUpdateOps<T, ID, TD>, UncheckedCrudDeleteOps<T, ID, TD>, UncheckedDao<T, TD>, CrudDao<T, ID, TD> {
     /**
      * Performs an upsert operation: inserts the entity if it doesn't exist based on ID fields, otherwise updates the existing entity.
-     * The entity must have ID field(s) defined.
+     * The entity must have ID field(s) defined. When it runs as a native upsert statement, {@code entity} itself is
+     * returned, as described in {@link CrudDao#upsert(Object)}.
      *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
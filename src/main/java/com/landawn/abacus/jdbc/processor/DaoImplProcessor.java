@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.jdbc.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a concrete implementation for every DAO interface annotated with
+ * {@link com.landawn.abacus.jdbc.annotation.GenerateDao @GenerateDao}.
+ *
+ * <p>For {@code com.example.UserDao} it writes {@code com.example.UserDao_Impl}, which extends
+ * {@code com.landawn.abacus.jdbc.GeneratedDaoSupport} and overrides every abstract and default method of the interface
+ * (and its super interfaces) with a body of its own: a call to the method's invoker, held in a final field, and for a
+ * default method a direct {@code Dao.super.method(...)} call used when {@code DaoImpl} has nothing to wrap around it.
+ * The static initializer resolves the slot methods. The processor only emits source; it needs nothing but the JDK on
+ * the processor path.</p>
+ *
+ * <p>The processor is deliberately not registered in {@code META-INF/services}: enable it with
+ * {@code -processor com.landawn.abacus.jdbc.processor.DaoImplProcessor} or the build tool equivalent.</p>
+ */
+@SupportedAnnotationTypes(DaoImplProcessor.GENERATE_DAO_ANNOTATION)
+public final class DaoImplProcessor extends AbstractProcessor {
+
+    static final String GENERATE_DAO_ANNOTATION = "com.landawn.abacus.jdbc.annotation.GenerateDao";
+
+    /** Must match {@code GeneratedDaoSupport.GENERATED_CLASS_SUFFIX}. */
+    static final String GENERATED_CLASS_SUFFIX = "_Impl";
+
+    private static final String DAO_BASE_INTERFACE = "com.landawn.abacus.jdbc.dao.DaoBase";
+
+    private static final String SUPPORT_CLASS = "com.landawn.abacus.jdbc.GeneratedDaoSupport";
+
+    private static final String INVOKER_TYPE = "com.landawn.abacus.util.Throwables.BiFunction<com.landawn.abacus.jdbc.dao.DaoBase, Object[], ?, Throwable>";
+
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement generateDaoAnno = processingEnv.getElementUtils().getTypeElement(GENERATE_DAO_ANNOTATION);
+
+        if (generateDaoAnno == null) {
+            return false;
+        }
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(generateDaoAnno)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@GenerateDao can only be applied to DAO interfaces");
+            } else if (isPrivate(element)) {
+                error(element, "@GenerateDao interfaces (and their enclosing types) must not be private");
+            } else if (!isDao((TypeElement) element)) {
+                error(element, "@GenerateDao interface must extend " + DAO_BASE_INTERFACE);
+            } else {
+                generate((TypeElement) element);
+            }
+        }
+
+        return true;
+    }
+
+    private void generate(final TypeElement daoInterface) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(daoInterface).getQualifiedName().toString();
+        final String className = flatName(daoInterface) + GENERATED_CLASS_SUFFIX;
+        final String interfaceName = daoInterface.getQualifiedName().toString();
+        final String typeParameters = typeParameters(daoInterface.getTypeParameters());
+        final String typeArguments = daoInterface.getTypeParameters().isEmpty() ? ""
+                : daoInterface.getTypeParameters().stream().map(it -> it.getSimpleName().toString()).collect(Collectors.joining(", ", "<", ">"));
+
+        final List<ExecutableElement> methods = daoMethods(daoInterface);
+
+        final StringBuilder sb = new StringBuilder(4096);
+
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+
+        sb.append("@javax.annotation.processing.Generated(\"").append(DaoImplProcessor.class.getName()).append("\")\n");
+        sb.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+        sb.append("public final class ").append(className).append(typeParameters).append(" extends ").append(SUPPORT_CLASS);
+        sb.append(" implements ").append(interfaceName).append(typeArguments).append(" {\n\n");
+
+        sb.append(INDENT).append("private static final java.lang.reflect.Method[] METHODS = {");
+
+        for (int i = 0, size = methods.size(); i < size; i++) {
+            final ExecutableElement method = methods.get(i);
+
+            sb.append(i == 0 ? "\n" : ",\n").append(INDENT).append(INDENT).append("method(").append(interfaceName).append(".class, \"");
+            sb.append(method.getSimpleName()).append('"');
+
+            for (final VariableElement param : method.getParameters()) {
+                sb.append(", ").append(processingEnv.getTypeUtils().erasure(param.asType())).append(".class");
+            }
+
+            sb.append(')');
+        }
+
+        sb.append(" };\n\n");
+
+        for (int i = 0, size = methods.size(); i < size; i++) {
+            sb.append(INDENT).append("private final ").append(INVOKER_TYPE).append(" invoker").append(i).append(";\n\n");
+        }
+
+        sb.append(INDENT).append("public ").append(className).append("(final java.util.function.Function<java.lang.reflect.Method, ");
+        sb.append(INVOKER_TYPE).append("> invokerResolver) {\n");
+        sb.append(INDENT).append(INDENT).append("super(").append(interfaceName).append(".class, METHODS);\n\n");
+
+        for (int i = 0, size = methods.size(); i < size; i++) {
+            sb.append(INDENT).append(INDENT).append("invoker").append(i).append(" = invokerResolver.apply(METHODS[").append(i).append("]);\n");
+        }
+
+        sb.append(INDENT).append("}\n");
+
+        final DeclaredType daoType = (DeclaredType) daoInterface.asType();
+
+        for (int i = 0, size = methods.size(); i < size; i++) {
+            appendMethod(sb, interfaceName, daoType, methods.get(i), i);
+        }
+
+        sb.append("}\n");
+
+        final String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, daoInterface).openWriter()) {
+            writer.write(sb.toString());
+        } catch (final IOException e) {
+            error(daoInterface, "Failed to write " + qualifiedClassName + ": " + e.getMessage());
+        }
+    }
+
+    private void appendMethod(final StringBuilder sb, final String interfaceName, final DeclaredType daoType, final ExecutableElement method,
+            final int methodIndex) {
+        // Resolve inherited generic signatures (e.g. CrudDao<T, ID, TD>.gett(ID)) against the annotated interface.
+        final ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(daoType, method);
+        final TypeMirror returnType = methodType.getReturnType();
+        final List<? extends VariableElement> params = method.getParameters();
+
+        sb.append('\n').append(INDENT).append("@Override\n").append(INDENT).append("public ");
+
+        if (!method.getTypeParameters().isEmpty()) {
+            sb.append(typeParameters(method.getTypeParameters())).append(' ');
+        }
+
+        sb.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+
+        for (int i = 0, size = params.size(); i < size; i++) {
+            final TypeMirror paramType = methodType.getParameterTypes().get(i);
+
+            sb.append(i == 0 ? "" : ", ").append("final ");
+
+            if (method.isVarArgs() && i == size - 1) {
+                sb.append(((ArrayType) paramType).getComponentType()).append("...");
+            } else {
+                sb.append(paramType);
+            }
+
+            sb.append(' ').append(params.get(i).getSimpleName());
+        }
+
+        sb.append(')');
+
+        if (!methodType.getThrownTypes().isEmpty()) {
+            sb.append(" throws ").append(methodType.getThrownTypes().stream().map(TypeMirror::toString).collect(Collectors.joining(", ")));
+        }
+
+        sb.append(" {\n");
+
+        final String invoker = "this.invoker" + methodIndex;
+        final String returnPrefix = returnType.getKind() == TypeKind.VOID ? "" : "return ";
+
+        if (method.getModifiers().contains(Modifier.DEFAULT)) {
+            sb.append(INDENT).append(INDENT).append("if (").append(invoker).append(" == null) {\n");
+            sb.append(INDENT).append(INDENT).append(INDENT).append(returnPrefix).append(interfaceName).append(".super.").append(method.getSimpleName());
+            sb.append(params.stream().map(it -> it.getSimpleName().toString()).collect(Collectors.joining(", ", "(", ")"))).append(";\n");
+
+            if (returnPrefix.isEmpty()) {
+                sb.append(INDENT).append(INDENT).append(INDENT).append("return;\n");
+            }
+
+            sb.append(INDENT).append(INDENT).append("}\n\n");
+        }
+
+        sb.append(INDENT).append(INDENT).append("try {\n").append(INDENT).append(INDENT).append(INDENT);
+
+        if (!returnPrefix.isEmpty()) {
+            sb.append("return (").append(castType(returnType)).append(") ");
+        }
+
+        // A JDK proxy passes null, not an empty array, for a method without parameters; the invokers rely on the same.
+        sb.append(invoker).append(".apply(this, ");
+        sb.append(params.isEmpty() ? "null"
+                : params.stream().map(it -> it.getSimpleName().toString()).collect(Collectors.joining(", ", "new Object[] { ", " }")));
+        sb.append(");\n");
+        // '$' keeps the name clear of the DAO method's parameter names.
+        sb.append(INDENT).append(INDENT).append("} catch (final Throwable $e) {\n");
+        sb.append(INDENT).append(INDENT).append(INDENT).append("throw rethrow(").append(methodIndex).append(", $e);\n");
+        sb.append(INDENT).append(INDENT).append("}\n").append(INDENT).append("}\n");
+    }
+
+    /**
+     * Every non-static, non-private interface method visible on the DAO, one per erased signature, in declaration order.
+     */
+    private List<ExecutableElement> daoMethods(final TypeElement daoInterface) {
+        final Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(daoInterface))) {
+            if (method.getEnclosingElement().getKind() != ElementKind.INTERFACE || method.getModifiers().contains(Modifier.STATIC)
+                    || method.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+
+            final String signature = method.getSimpleName() + method.getParameters()
+                    .stream()
+                    .map(it -> processingEnv.getTypeUtils().erasure(it.asType()).toString())
+                    .collect(Collectors.joining(",", "(", ")"));
+
+            if (!isObjectMethod(signature)) {
+                methods.putIfAbsent(signature, method);
+            }
+        }
+
+        return new ArrayList<>(methods.values());
+    }
+
+    private String castType(final TypeMirror type) {
+        return type.getKind().isPrimitive() ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString() : type.toString();
+    }
+
+    private boolean isDao(final TypeElement daoInterface) {
+        final TypeElement daoBase = processingEnv.getElementUtils().getTypeElement(DAO_BASE_INTERFACE);
+
+        return daoBase != null && processingEnv.getTypeUtils()
+                .isAssignable(processingEnv.getTypeUtils().erasure(daoInterface.asType()), processingEnv.getTypeUtils().erasure(daoBase.asType()));
+    }
+
+    private static String typeParameters(final List<? extends TypeParameterElement> typeParameters) {
+        if (typeParameters.isEmpty()) {
+            return "";
+        }
+
+        return typeParameters.stream().map(it -> {
+            final List<String> bounds = it.getBounds()
+                    .stream()
+                    .map(TypeMirror::toString)
+                    .filter(bound -> !"java.lang.Object".equals(bound))
+                    .collect(Collectors.toList());
+
+            return bounds.isEmpty() ? it.getSimpleName().toString() : it.getSimpleName() + " extends " + String.join(" & ", bounds);
+        }).collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static boolean isObjectMethod(final String signature) {
+        return "toString()".equals(signature) || "hashCode()".equals(signature) || "equals(java.lang.Object)".equals(signature);
+    }
+
+    private static boolean isPrivate(final Element element) {
+        for (Element e = element; e != null && !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String flatName(final TypeElement type) {
+        final StringBuilder sb = new StringBuilder(type.getSimpleName());
+
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            sb.insert(0, '_').insert(0, e.getSimpleName());
+        }
+
+        return sb.toString();
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
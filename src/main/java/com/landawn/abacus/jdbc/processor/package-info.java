@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compile-time support for abacus-jdbc DAOs.
+ *
+ * <p>{@link com.landawn.abacus.jdbc.processor.DaoImplProcessor} generates a concrete implementation for every DAO
+ * interface annotated with {@link com.landawn.abacus.jdbc.annotation.GenerateDao @GenerateDao}; {@code JdbcUtil.createDao}
+ * uses it instead of a JDK dynamic proxy when it is on the class path.</p>
+ *
+ * @see com.landawn.abacus.jdbc.annotation.GenerateDao
+ */
+package com.landawn.abacus.jdbc.processor;
@@ -0,0 +1,206 @@
+package com.landawn.abacus.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.TestBase;
+import com.landawn.abacus.exception.UncheckedSQLException;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.Tuple;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+public class DBChangeLogTest extends TestBase {
+
+    private static final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> SIGNATURE = Tuple.of(Object.class.getMethods()[0], ImmutableList.empty(),
+            Object.class);
+
+    private DataSource ds;
+
+    // Two change logs on the same table stand for two nodes.
+    private DBChangeLog nodeA;
+
+    private DBChangeLog nodeB;
+
+    @BeforeEach
+    public void setUp() {
+        ds = JdbcUtil.createHikariDataSource("jdbc:h2:mem:change_log_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        // Long poll interval: the tests poll explicitly.
+        nodeA = JdbcUtil.createDBChangeLog(ds, "dao_cache_change_log", 60_000);
+        nodeB = JdbcUtil.createDBChangeLog(ds, "dao_cache_change_log", 60_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        JdbcUtil.setDaoCacheInvalidationTransportGlobally(null);
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    public void testPublishAndPoll() {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        nodeB.subscribe(received::add);
+
+        assertEquals(0, nodeB.poll());
+
+        nodeA.publish("User_Account");
+        nodeA.publish("user_account");
+        nodeA.publish("orders");
+
+        assertEquals(2, nodeB.poll());
+        assertEquals(Set.of("user_account", "orders"), Set.copyOf(received));
+        assertEquals(0, nodeB.poll());
+
+        nodeA.publish("orders");
+        assertEquals(1, nodeB.poll());
+        assertEquals("orders", received.get(2));
+
+        assertEquals(4, nodeA.getPublishedCount());
+        assertEquals(3, nodeB.getReceivedCount());
+
+        // A node also receives its own invalidations.
+        assertEquals(2, nodeA.poll());
+    }
+
+    @Test
+    public void testRolledBackPublishIsNotReceived() {
+        final SqlTransaction tran = JdbcUtil.beginTransaction(ds);
+
+        try {
+            nodeA.publish("user_account");
+        } finally {
+            tran.rollbackIfNotCommitted();
+        }
+
+        assertEquals(0, nodeB.poll());
+    }
+
+    // Every publish inserts its own row: transactions writing the same table don't wait for each other.
+    @Test
+    public void testConcurrentTransactionsPublishSameTable() throws Exception {
+        final SqlTransaction tran = JdbcUtil.beginTransaction(ds);
+
+        try {
+            nodeA.publish("orders");
+
+            CompletableFuture.runAsync(() -> {
+                final SqlTransaction otherTran = JdbcUtil.beginTransaction(ds);
+
+                try {
+                    nodeB.publish("orders");
+                    otherTran.commit();
+                } finally {
+                    otherTran.rollbackIfNotCommitted();
+                }
+            }).get(5, TimeUnit.SECONDS);
+
+            tran.commit();
+        } finally {
+            tran.rollbackIfNotCommitted();
+        }
+
+        assertEquals(1, nodeB.poll());
+        assertEquals(0, nodeB.poll());
+    }
+
+    // Outside of a transaction the write is already committed: a failed publish is logged, not thrown.
+    @Test
+    public void testPublishFailure() throws Exception {
+        JdbcUtil.executeUpdate(ds, "DROP TABLE \"dao_cache_change_log\"");
+
+        assertDoesNotThrow(() -> nodeA.publish("orders"));
+        assertEquals(0, nodeA.getPublishedCount());
+        assertEquals(1, nodeA.getFailedPublishCount());
+
+        final SqlTransaction tran = JdbcUtil.beginTransaction(ds);
+
+        try {
+            assertThrows(UncheckedSQLException.class, () -> nodeA.publish("orders"));
+        } finally {
+            tran.rollbackIfNotCommitted();
+        }
+
+        assertEquals(2, nodeA.getFailedPublishCount());
+    }
+
+    // A poll reads only the rows created after the latest one it has seen, minus the skew margin.
+    @Test
+    public void testPollReadsFromHighWaterMark() throws Exception {
+        nodeA.publish("orders");
+        assertEquals(1, nodeB.poll());
+
+        final String insertSql = "INSERT INTO \"dao_cache_change_log\" (event_id, table_name, node_id, create_time) VALUES (?, ?, ?, ?)";
+        final long now = System.currentTimeMillis();
+
+        JdbcUtil.executeUpdate(ds, insertSql, "late-1", "user_account", "test", new Timestamp(now - 2 * DBChangeLog.SKEW_MARGIN));
+        assertEquals(0, nodeB.poll());
+
+        JdbcUtil.executeUpdate(ds, insertSql, "late-2", "user_account", "test", new Timestamp(now - DBChangeLog.SKEW_MARGIN / 2));
+        assertEquals(1, nodeB.poll());
+        assertEquals(0, nodeB.poll());
+    }
+
+    @Test
+    public void testRemoveExpiredRows() throws Exception {
+        nodeA.publish("orders");
+        nodeA.publish("orders");
+
+        final long now = System.currentTimeMillis();
+
+        assertEquals(0, nodeA.removeExpiredRows(now));
+        assertEquals(2, nodeA.removeExpiredRows(now + DBChangeLog.RETENTION_PERIOD + 1_000));
+        assertEquals(0, nodeB.poll());
+    }
+
+    @Test
+    public void testGlobalTransportInvalidatesDaoCaches() {
+        final Jdbc.DaoCache cache = Jdbc.DaoCache.createByMap();
+        JdbcUtil.registerDaoCache(cache);
+
+        cache.put("m#user_account#1", "u1", null, null, SIGNATURE);
+        cache.put("m#orders#1", "o1", null, null, SIGNATURE);
+
+        JdbcUtil.setDaoCacheInvalidationTransportGlobally(nodeB);
+        assertSame(nodeB, JdbcUtil.getDaoCacheInvalidationTransport());
+
+        nodeA.publish("USER_ACCOUNT");
+        nodeB.poll();
+
+        assertNull(cache.get("m#user_account#1", null, null, SIGNATURE));
+        assertEquals("o1", cache.get("m#orders#1", null, null, SIGNATURE));
+
+        // Evicts locally and publishes through the installed transport.
+        JdbcUtil.publishDaoCacheInvalidation("orders");
+        assertNull(cache.get("m#orders#1", null, null, SIGNATURE));
+        assertEquals(1, nodeB.getPublishedCount());
+    }
+
+    @Test
+    public void testClosed() {
+        nodeA.close();
+        nodeA.close();
+
+        assertThrows(IllegalStateException.class, () -> nodeA.publish("orders"));
+        assertEquals(0, nodeA.poll());
+        assertThrows(IllegalArgumentException.class, () -> nodeB.publish(""));
+        assertThrows(IllegalArgumentException.class, () -> JdbcUtil.createDBChangeLog(ds, "dao_cache_change_log", 0));
+    }
+}
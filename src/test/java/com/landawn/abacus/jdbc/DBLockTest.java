@@ -28,6 +28,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,8 +37,13 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -339,12 +345,13 @@ public class DBLockTest extends TestBase {
                 boxed[i] = executeUpdateResults[i];
             }
 
-            when(preparedStatement.executeUpdate()).thenReturn(boxed[0], java.util.Arrays.copyOfRange(boxed, 1, boxed.length));
+            when(preparedStatement.executeUpdate()).thenReturn(boxed[0], Arrays.copyOfRange(boxed, 1, boxed.length));
         }
 
         setField(dbLock, "ds", dataSource);
         setField(dbLock, "scheduledFuture", scheduledFuture);
         setField(dbLock, "targetCodePool", new ConcurrentHashMap<>());
+        setField(dbLock, "localGates", new ConcurrentHashMap<>());
         setField(dbLock, "removeExpiredLockSQL", REMOVE_SQL);
         setField(dbLock, "lockSQL", LOCK_SQL);
         setField(dbLock, "unlockSQL", UNLOCK_SQL);
@@ -361,6 +368,13 @@ public class DBLockTest extends TestBase {
         return (Map<String, Object>) field.get(dbLock);
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> localGates(final DBLock dbLock) throws Exception {
+        final Field field = DBLock.class.getDeclaredField("localGates");
+        field.setAccessible(true);
+        return (Map<String, Object>) field.get(dbLock);
+    }
+
     private static void setField(final Object target, final String name, final Object value) throws Exception {
         final Field field = DBLock.class.getDeclaredField(name);
         field.setAccessible(true);
@@ -551,7 +565,8 @@ public class DBLockTest extends TestBase {
         try {
             lock = new DBLock(ds, "live_lock_tbl");
 
-            final String code = lock.lock("res-live", 60_000L, 2_000L, 50L);
+            // A short live time makes the lease due for refresh at every tick.
+            final String code = lock.lock("res-live", 3_000L, 2_000L, 50L);
             assertNotNull(code);
             assertEquals(1, targetCodePool(lock).size());
 
@@ -578,6 +593,205 @@ public class DBLockTest extends TestBase {
         }
     }
 
+    // Only the leases approaching expiry are refreshed: a lease with a long live time isn't written at every tick, so
+    // the loss of its row goes unnoticed until it becomes due.
+    @Test
+    public void testRefreshLeases_OnlyDueLeasesAndLostLeaseCount_LiveDb() throws Exception {
+        final DataSource ds = JdbcUtil.createHikariDataSource("jdbc:h2:mem:dblock_refresh_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        DBLock lock = null;
+        try {
+            lock = new DBLock(ds, "refresh_lock_tbl");
+
+            assertNotNull(lock.lock("res-short", 3_000L, 2_000L, 50L));
+            assertNotNull(lock.lock("res-long", 600_000L, 2_000L, 50L));
+
+            try (Connection c = ds.getConnection()) {
+                assertEquals(2, JdbcUtil.executeUpdate(c, "DELETE FROM \"refresh_lock_tbl\""));
+            }
+
+            final long deadline = System.currentTimeMillis() + 6_000L;
+            while (targetCodePool(lock).containsKey("res-short") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100L);
+            }
+
+            assertFalse(targetCodePool(lock).containsKey("res-short"));
+            assertTrue(targetCodePool(lock).containsKey("res-long"));
+
+            final DBLock.RefreshStats stats = lock.getRefreshStats();
+            assertTrue(stats.refreshCount() >= 1);
+            assertEquals(1, stats.lostLeaseCount());
+            assertEquals(0, stats.failedLeaseCount());
+            assertTrue(stats.maxRefreshNanos() > 0);
+            assertTrue(stats.averageRefreshMillis() > 0);
+        } finally {
+            if (lock != null) {
+                lock.close();
+            }
+        }
+    }
+
+    @Test
+    public void testLockAsync() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 1, 1);
+
+        final String code = fixture.lock.lockAsync("resource-async", 200L, 1_000L).get(2, TimeUnit.SECONDS);
+
+        assertNotNull(code);
+        assertEquals(1, targetCodePool(fixture.lock).size());
+        assertTrue(fixture.lock.unlock("resource-async", code));
+        assertEquals(0, localGates(fixture.lock).size());
+    }
+
+    // Attempts are retried with backoff until the timeout, then the future completes with null.
+    @Test
+    public void testLockAsync_TimeoutCompletesWithNull() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 0);
+
+        assertNull(fixture.lock.lockAsync("resource-async-timeout", 200L, 150L).get(2, TimeUnit.SECONDS));
+        assertTrue(mockingDetails(fixture.connection)
+                .getInvocations()
+                .stream()
+                .filter(invocation -> LOCK_SQL.equals(invocation.getArguments()[0]))
+                .count() >= 2);
+        assertEquals(0, targetCodePool(fixture.lock).size());
+        assertEquals(0, localGates(fixture.lock).size());
+    }
+
+    @Test
+    public void testLockAsync_Cancel() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 0);
+        final CompletableFuture<String> future = fixture.lock.lockAsync("resource-async-cancel", 200L, 60_000L);
+
+        Thread.sleep(100L);
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        // cancel() doesn't wait for a running attempt, which then leaves the gate by itself.
+        final long deadline = System.currentTimeMillis() + 2_000L;
+        while (!localGates(fixture.lock).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        assertEquals(0, localGates(fixture.lock).size());
+        assertEquals(0, targetCodePool(fixture.lock).size());
+    }
+
+    @Test
+    public void testLockAsync_Closed() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 1);
+        setField(fixture.lock, "isClosed", true);
+
+        assertThrows(IllegalStateException.class, () -> fixture.lock.lockAsync("resource-async-closed", 200L, 50L));
+        assertThrows(IllegalArgumentException.class, () -> newLockFixture().lock.lockAsync("", 200L, 50L));
+    }
+
+    @Test
+    public void testBackoffDelay() {
+        for (int attempts = 1; attempts <= 40; attempts++) {
+            final long delay = Math.min(1_000L, 20L << Math.min(attempts - 1, 16));
+            final long backoff = DBLock.backoffDelay(attempts);
+
+            assertTrue(backoff >= delay / 2 && backoff <= delay, "attempts=" + attempts + ", backoff=" + backoff);
+        }
+    }
+
+    // A second local contender waits on the in-JVM gate instead of polling the lock table.
+    @Test
+    public void testLock_LocalContenderDoesNotPollDatabase() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 1, 1);
+        final String code = fixture.lock.lock("resource-local", 200L, 50L, 1L);
+
+        assertNotNull(code);
+        assertNull(fixture.lock.lock("resource-local", 200L, 100L, 1L));
+        verify(fixture.connection, times(1)).prepareStatement(LOCK_SQL);
+
+        assertTrue(fixture.lock.unlock("resource-local", code));
+        assertEquals(0, targetCodePool(fixture.lock).size());
+    }
+
+    // An asynchronous contender queues on the local gate without occupying a thread of its executor, and gets the lease handed off.
+    @Test
+    public void testLockAsync_QueuesOnLocalGateAndGetsLeaseHandedOff() throws Exception {
+        final LockFixture fixture = newLockFixture(0, 1, 1);
+        final String code = fixture.lock.lock("resource-async-queue", 60_000L, 50L, 1L);
+        assertNotNull(code);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<String> future = fixture.lock.lockAsync("resource-async-queue", 60_000L, 5_000L, executor);
+            Thread.sleep(200L);
+            assertFalse(future.isDone());
+            // The only thread of the executor is free while the contender waits.
+            assertEquals(1, executor.submit(() -> 1).get(1, TimeUnit.SECONDS));
+
+            assertTrue(fixture.lock.unlock("resource-async-queue", code));
+
+            final String nextCode = future.get(2, TimeUnit.SECONDS);
+            assertNotNull(nextCode);
+            assertFalse(code.equals(nextCode));
+            verify(fixture.connection, times(1)).prepareStatement(LOCK_SQL);
+
+            assertTrue(fixture.lock.unlock("resource-async-queue", nextCode));
+            assertEquals(0, localGates(fixture.lock).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Unlocking while a local thread waits hands the lease off to it: the row inserted by the first holder is kept.
+    @Test
+    public void testUnlock_HandsOffToLocalWaiter_LiveDb() throws Exception {
+        final DataSource ds = JdbcUtil.createHikariDataSource("jdbc:h2:mem:dblock_hand_off_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        DBLock lock = null;
+        try {
+            final DBLock dbLock = lock = new DBLock(ds, "hand_off_lock_tbl");
+            final String code = dbLock.lock("res-hand-off", 60_000L, 2_000L, 50L);
+            assertNotNull(code);
+
+            final CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> dbLock.lock("res-hand-off", 60_000L, 5_000L, 50L));
+            Thread.sleep(300L);
+            assertFalse(waiter.isDone());
+
+            assertTrue(dbLock.unlock("res-hand-off", code));
+
+            final String nextCode = waiter.get(5, TimeUnit.SECONDS);
+            assertNotNull(nextCode);
+            assertFalse(code.equals(nextCode));
+            assertEquals(code, selectLockCode(ds, "hand_off_lock_tbl", "res-hand-off"));
+
+            // The code of the previous holder no longer releases the lease.
+            assertFalse(dbLock.unlock("res-hand-off", code));
+            assertTrue(dbLock.unlock("res-hand-off", nextCode));
+            assertNull(selectLockCode(ds, "hand_off_lock_tbl", "res-hand-off"));
+            assertEquals(0, targetCodePool(dbLock).size());
+
+            // A waiter asking for another live time acquires the lock through the table.
+            final String thirdCode = dbLock.lock("res-hand-off", 60_000L, 2_000L, 50L);
+            final CompletableFuture<String> otherWaiter = CompletableFuture.supplyAsync(() -> dbLock.lock("res-hand-off", 30_000L, 5_000L, 50L));
+            Thread.sleep(300L);
+            assertTrue(dbLock.unlock("res-hand-off", thirdCode));
+
+            final String fourthCode = otherWaiter.get(5, TimeUnit.SECONDS);
+            assertEquals(fourthCode, selectLockCode(ds, "hand_off_lock_tbl", "res-hand-off"));
+            assertTrue(dbLock.unlock("res-hand-off", fourthCode));
+        } finally {
+            if (lock != null) {
+                lock.close();
+            }
+        }
+    }
+
+    private static String selectLockCode(final DataSource ds, final String tableName, final String target) throws Exception {
+        try (Connection c = ds.getConnection();
+                PreparedStatement stmt = c.prepareStatement("SELECT code FROM \"" + tableName + "\" WHERE target = ?")) {
+            stmt.setString(1, target);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
     // TODO: L207 — tableExists returns false after creation (defensive; createTableIfNotExists +
     //       tableExists make it practically unreachable)
     // TODO: L217-L218 — SQLException in constructor catch (requires a DataSource that connects but
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 
 import com.landawn.abacus.TestBase;
 import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.annotation.NonUpdatable;
 import com.landawn.abacus.annotation.ReadOnly;
 import com.landawn.abacus.annotation.Table;
 import com.landawn.abacus.jdbc.annotation.DaoConfig;
@@ -37,6 +39,7 @@ import com.landawn.abacus.jdbc.annotation.Query;
 import com.landawn.abacus.jdbc.annotation.SqlLogEnabled;
 import com.landawn.abacus.jdbc.dao.CrudDao;
 import com.landawn.abacus.jdbc.dao.NonUpdateCrudDao;
+import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.query.Filters;
 import com.landawn.abacus.query.SqlDialect;
 import com.landawn.abacus.query.SqlDialect.ProductInfo;
@@ -182,9 +185,64 @@ public class DaoImplIntegrationTest extends TestBase {
     public interface TypeProbeDao extends CrudDao<TypeProbe, Long, TypeProbeDao> {
     }
 
+    // Application-assigned id: eligible for the native single-statement upsert.
+    @Table("upsert_item")
+    public static class UpsertItem {
+        @Id
+        private Long id;
+        private String name;
+        private int qty;
+        @NonUpdatable
+        private String createdBy;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(final Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int getQty() {
+            return qty;
+        }
+
+        public void setQty(final int qty) {
+            this.qty = qty;
+        }
+
+        public String getCreatedBy() {
+            return createdBy;
+        }
+
+        public void setCreatedBy(final String createdBy) {
+            this.createdBy = createdBy;
+        }
+    }
+
+    public interface UpsertItemDao extends CrudDao<UpsertItem, Long, UpsertItemDao> {
+    }
+
     private DataSource ds;
     private UserAccountDao dao;
     private TypeProbeDao typeDao;
+    private UpsertItemDao upsertItemDao;
+
+    private static UpsertItem newItem(final Long id, final String name, final int qty) {
+        final UpsertItem item = new UpsertItem();
+        item.setId(id);
+        item.setName(name);
+        item.setQty(qty);
+        return item;
+    }
 
     private static UserAccount newUser(final String first, final String last, final int age) {
         final UserAccount u = new UserAccount();
@@ -210,10 +268,12 @@ public class DaoImplIntegrationTest extends TestBase {
             st.execute("DELETE FROM type_probe");
             st.execute("INSERT INTO type_probe (id, char_val, date_val, time_val, ts_val, bytes_val) "
                     + "VALUES (1, 'A', DATE '2020-01-15', TIME '10:30:00', TIMESTAMP '2020-01-15 10:30:00', X'0102')");
+            st.execute("CREATE TABLE IF NOT EXISTS upsert_item (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(64), qty INT, created_by VARCHAR(64))");
         }
 
         dao = JdbcUtil.createDao(UserAccountDao.class, ds);
         typeDao = JdbcUtil.createDao(TypeProbeDao.class, ds);
+        upsertItemDao = JdbcUtil.createDao(UpsertItemDao.class, ds);
     }
 
     @AfterAll
@@ -222,6 +282,7 @@ public class DaoImplIntegrationTest extends TestBase {
              Statement st = conn.createStatement()) {
             st.execute("DROP TABLE IF EXISTS user_account");
             st.execute("DROP TABLE IF EXISTS type_probe");
+            st.execute("DROP TABLE IF EXISTS upsert_item");
         }
     }
 
@@ -230,6 +291,7 @@ public class DaoImplIntegrationTest extends TestBase {
         try (Connection conn = ds.getConnection();
              Statement st = conn.createStatement()) {
             st.execute("TRUNCATE TABLE user_account");
+            st.execute("TRUNCATE TABLE upsert_item");
         }
     }
 
@@ -408,6 +470,131 @@ public class DaoImplIntegrationTest extends TestBase {
         assertEquals(existingId, dao.list(Filters.eq("firstName", "Dup")).get(0).getId());
     }
 
+    // upsert(T) with an assigned id runs as one native statement (H2 MERGE ... USING): it returns the
+    // input entity itself instead of a re-loaded row, and a second call updates in place.
+    @Test
+    public void testUpsert_NativeById() throws SQLException {
+        final UpsertItem item = newItem(10L, "bolt", 5);
+        assertSame(item, upsertItemDao.upsert(item));
+        assertEquals(5, upsertItemDao.gett(10L).getQty());
+
+        final UpsertItem changed = newItem(10L, "bolt-m6", 7);
+        assertSame(changed, upsertItemDao.upsert(changed));
+
+        final UpsertItem loaded = upsertItemDao.gett(10L);
+        assertEquals("bolt-m6", loaded.getName());
+        assertEquals(7, loaded.getQty());
+        assertEquals(1, upsertItemDao.count(Filters.isNotNull("id")));
+    }
+
+    // A matched row only gets its updatable columns: the @NonUpdatable column keeps the inserted value.
+    @Test
+    public void testUpsert_NativeByIdSkipsNonUpdatableColumns() throws SQLException {
+        final UpsertItem item = newItem(20L, "nut", 1);
+        item.setCreatedBy("alice");
+        upsertItemDao.upsert(item);
+
+        final UpsertItem changed = newItem(20L, "nut-m8", 2);
+        changed.setCreatedBy("bob");
+        upsertItemDao.batchUpsert(List.of(changed, newItem(21L, "bolt", 3)), 1);
+
+        final UpsertItem loaded = upsertItemDao.gett(20L);
+        assertEquals("nut-m8", loaded.getName());
+        assertEquals(2, loaded.getQty());
+        assertEquals("alice", loaded.getCreatedBy());
+        assertEquals(2, upsertItemDao.count(Filters.isNotNull("id")));
+    }
+
+    // MySQL/MariaDB only get the native upsert if ON DUPLICATE KEY UPDATE can't hit another unique key.
+    @Test
+    public void testIsIdSoleUniqueKey() throws SQLException {
+        try (Connection conn = ds.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS upsert_unique_item (id BIGINT PRIMARY KEY, code VARCHAR(64) UNIQUE, name VARCHAR(64))");
+        }
+
+        try {
+            assertTrue(DaoImpl.isIdSoleUniqueKey(ds, "UPSERT_ITEM", List.of("id"), LoggerFactory.getLogger(DaoImplIntegrationTest.class)));
+            assertFalse(DaoImpl.isIdSoleUniqueKey(ds, "UPSERT_UNIQUE_ITEM", List.of("id"), LoggerFactory.getLogger(DaoImplIntegrationTest.class)));
+            // Nothing known about the table: no native upsert.
+            assertFalse(DaoImpl.isIdSoleUniqueKey(ds, "NO_SUCH_TABLE", List.of("id"), LoggerFactory.getLogger(DaoImplIntegrationTest.class)));
+        } finally {
+            try (Connection conn = ds.getConnection();
+                 Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE IF EXISTS upsert_unique_item");
+            }
+        }
+    }
+
+    // Without an id nothing can conflict, so upsert(T) keeps the insert path and its generated key.
+    @Test
+    public void testUpsert_NativeWithoutIdFallsBackToInsert() throws SQLException {
+        final UpsertItem item = newItem(null, "nut", 3);
+        upsertItemDao.upsert(item);
+
+        assertNotNull(item.getId());
+        assertEquals("nut", upsertItemDao.gett(item.getId()).getName());
+    }
+
+    // batchUpsert(entities, batchSize) sends mixed new/existing ids as JDBC batches, across chunks.
+    @Test
+    public void testBatchUpsert_NativeById() throws SQLException {
+        upsertItemDao.insert(newItem(1L, "washer", 1));
+
+        final List<UpsertItem> batch = List.of(newItem(1L, "washer-xl", 11), newItem(2L, "screw", 2), newItem(3L, "rivet", 3));
+        final List<UpsertItem> result = upsertItemDao.batchUpsert(batch, 2);
+
+        assertEquals(batch, result);
+        assertEquals(3, upsertItemDao.count(Filters.isNotNull("id")));
+        assertEquals("washer-xl", upsertItemDao.gett(1L).getName());
+        assertEquals(11, upsertItemDao.gett(1L).getQty());
+        assertEquals(3, upsertItemDao.gett(3L).getQty());
+    }
+
+    @DaoConfig(batchGetParallelism = 3)
+    public interface ParallelBatchGetDao extends CrudDao<UserAccount, Long, ParallelBatchGetDao> {
+    }
+
+    @DaoConfig(batchGetParallelism = 0)
+    public interface InvalidParallelismDao extends CrudDao<UserAccount, Long, InvalidParallelismDao> {
+    }
+
+    // batchGet fans its id chunks out over the DAO executor, yet returns exactly what the sequential
+    // DAO returns, in the same order; batchRefresh goes through the same path.
+    @Test
+    public void testBatchGet_ParallelChunksMergedInOrder() throws SQLException {
+        final ParallelBatchGetDao parallelDao = JdbcUtil.createDao(ParallelBatchGetDao.class, ds);
+        final List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            ids.add(dao.insert(newUser("Par" + i, "Chunk", i)));
+        }
+
+        // Duplicates straddling chunk boundaries are still collapsed before splitting.
+        final List<Long> idsWithDuplicates = new ArrayList<>(ids);
+        idsWithDuplicates.add(ids.get(0));
+
+        final List<Long> sequential = Stream.of(dao.batchGet(idsWithDuplicates, null, 3)).map(UserAccount::getId).toList();
+        final List<Long> parallel = Stream.of(parallelDao.batchGet(idsWithDuplicates, null, 3)).map(UserAccount::getId).toList();
+
+        assertEquals(10, parallel.size());
+        assertEquals(sequential, parallel);
+
+        final List<UserAccount> stale = Stream.of(ids).map(id -> {
+            final UserAccount u = new UserAccount();
+            u.setId(id);
+            return u;
+        }).toList();
+
+        assertEquals(10, parallelDao.batchRefresh(stale, List.of("firstName"), 3));
+        assertEquals("Par9", stale.get(9).getFirstName());
+    }
+
+    @Test
+    public void testBatchGet_ParallelismMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> JdbcUtil.createDao(InvalidParallelismDao.class, ds));
+    }
+
     // gett with an unknown id returns null and exists is false (no-row branch).
     @Test
     public void testGet_UnknownId_ReturnsNull() throws SQLException {
@@ -881,6 +1068,29 @@ public class DaoImplIntegrationTest extends TestBase {
         assertEquals(id2, result.get(1).getId());
     }
 
+    // With padded IN lists, batchGet/count(ids)/@BindList bind the last id to the extra placeholders and
+    // still return each row once.
+    @Test
+    public void testInClauseMode_Padded() throws SQLException {
+        final AnnotatedQueryDao aqDao = JdbcUtil.createDao(AnnotatedQueryDao.class, ds);
+        final List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            ids.add(dao.insert(newUser("Pad" + i, "Pad", i)));
+        }
+
+        JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+
+        try {
+            assertEquals(ids, Stream.of(dao.batchGet(ids)).map(UserAccount::getId).toList());
+            assertEquals(ids, Stream.of(dao.batchGet(ids, null, 3)).map(UserAccount::getId).toList());
+            assertEquals(5, dao.count(ids));
+            assertEquals(ids.subList(0, 3), Stream.of(aqDao.byIds(ids.subList(0, 3))).map(UserAccount::getId).toList());
+        } finally {
+            JdbcUtil.setInClauseModeGlobally(InClauseMode.EXACT);
+        }
+    }
+
     @Test
     public void testCustomSelect_SqlFragment() throws SQLException {
         final AnnotatedQueryDao aqDao = JdbcUtil.createDao(AnnotatedQueryDao.class, ds);
@@ -1121,6 +1331,40 @@ public class DaoImplIntegrationTest extends TestBase {
         @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true)
         @Query("SELECT * FROM user_account WHERE last_name = :ln ORDER BY id")
         List<UserAccount> findCachedByLastName(@com.landawn.abacus.jdbc.annotation.Bind("ln") String ln) throws SQLException;
+
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, keyStrategy = com.landawn.abacus.jdbc.annotation.CacheKeyStrategy.COMPACT)
+        @Query("SELECT * FROM user_account WHERE last_name = :ln AND age >= :minAge ORDER BY id")
+        List<UserAccount> findCompactCachedByLastName(@com.landawn.abacus.jdbc.annotation.Bind("ln") String ln,
+                @com.landawn.abacus.jdbc.annotation.Bind("minAge") int minAge) throws SQLException;
+
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, coalesceLoads = true)
+        @Query("SELECT * FROM user_account WHERE first_name = :fn ORDER BY id")
+        List<UserAccount> findCoalescedByFirstName(@com.landawn.abacus.jdbc.annotation.Bind("fn") String fn) throws SQLException;
+
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, maxLiveTimeMillis = 10000, refreshAheadMillis = 9900)
+        @Query("SELECT * FROM user_account WHERE age = :age ORDER BY id")
+        List<UserAccount> findRefreshedAheadByAge(@com.landawn.abacus.jdbc.annotation.Bind("age") int age) throws SQLException;
+
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, serialization = com.landawn.abacus.jdbc.annotation.CacheSerialization.FROZEN)
+        @Query("SELECT * FROM user_account WHERE last_name = :ln ORDER BY id")
+        List<UserAccount> findFrozenByLastName(@com.landawn.abacus.jdbc.annotation.Bind("ln") String ln) throws SQLException;
+
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, serialization = com.landawn.abacus.jdbc.annotation.CacheSerialization.FROZEN)
+        @Query("SELECT * FROM user_account WHERE last_name = :ln ORDER BY id")
+        Dataset queryFrozenByLastName(@com.landawn.abacus.jdbc.annotation.Bind("ln") String ln) throws SQLException;
+    }
+
+    @com.landawn.abacus.jdbc.annotation.Cache(capacity = 100, impl = OffHeapDaoCache.class)
+    public interface OffHeapCachedUserDao extends NonUpdateCrudDao<UserAccount, Long, OffHeapCachedUserDao> {
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true)
+        @Query("SELECT * FROM user_account WHERE last_name = :ln ORDER BY id")
+        List<UserAccount> findCachedByLastName(@com.landawn.abacus.jdbc.annotation.Bind("ln") String ln) throws SQLException;
+    }
+
+    public interface InvalidRefreshAheadDao extends NonUpdateCrudDao<UserAccount, Long, InvalidRefreshAheadDao> {
+        @com.landawn.abacus.jdbc.annotation.CacheResult(enabled = true, maxLiveTimeMillis = 1000, refreshAheadMillis = 1000)
+        @Query("SELECT * FROM user_account WHERE age = :age")
+        List<UserAccount> findByAge(@com.landawn.abacus.jdbc.annotation.Bind("age") int age) throws SQLException;
     }
 
     @Test
@@ -1142,6 +1386,171 @@ public class DaoImplIntegrationTest extends TestBase {
         assertEquals(0, cachedDao.findCachedByLastName("CacheOther").size());
     }
 
+    @Test
+    public void testCachedQuery_CompactKey() throws SQLException {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+
+        dao.insert(newUser("K1", "KeyGrp", 10));
+        assertEquals(1, cachedDao.findCompactCachedByLastName("KeyGrp", 5).size());
+
+        dao.insert(newUser("K2", "KeyGrp", 11));
+
+        // same args -> cache hit on the compact key (stale size 1); a different int arg is a miss.
+        assertEquals(1, cachedDao.findCompactCachedByLastName("KeyGrp", 5).size());
+        assertEquals(2, cachedDao.findCompactCachedByLastName("KeyGrp", 6).size());
+    }
+
+    @Test
+    public void testCachedQuery_CoalesceLoads() throws Exception {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+
+        dao.insert(newUser("Coal", "Grp", 10));
+
+        final java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(4);
+
+        try {
+            final List<java.util.concurrent.Future<List<UserAccount>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cachedDao.findCoalescedByFirstName("Coal")));
+            }
+
+            for (final java.util.concurrent.Future<List<UserAccount>> future : futures) {
+                assertEquals(1, future.get(10, java.util.concurrent.TimeUnit.SECONDS).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Once loaded, the result is served from the cache.
+        dao.insert(newUser("Coal", "Grp2", 11));
+        assertEquals(1, cachedDao.findCoalescedByFirstName("Coal").size());
+    }
+
+    @Test
+    public void testCachedQuery_RefreshAhead() throws Exception {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+
+        dao.insert(newUser("Ahead1", "Grp", 77));
+        assertEquals(1, cachedDao.findRefreshedAheadByAge(77).size());
+
+        dao.insert(newUser("Ahead2", "Grp", 77));
+        Thread.sleep(150);
+
+        // The entry is inside its refresh window: the stale value is still served while it reloads in the background.
+        assertEquals(1, cachedDao.findRefreshedAheadByAge(77).size());
+
+        final long deadline = System.currentTimeMillis() + 5000;
+
+        while (cachedDao.findRefreshedAheadByAge(77).size() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Well before the 10s expiry, so only the refresh-ahead load can have replaced the entry.
+        assertEquals(2, cachedDao.findRefreshedAheadByAge(77).size());
+    }
+
+    @Test
+    public void testCachedQuery_Frozen() throws SQLException {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+
+        dao.insert(newUser("F1", "FrozenGrp", 10));
+
+        final List<UserAccount> first = cachedDao.findFrozenByLastName("FrozenGrp");
+        assertEquals(1, first.size());
+        // The same read-only instance is handed out on every hit.
+        assertSame(first, cachedDao.findFrozenByLastName("FrozenGrp"));
+        assertThrows(UnsupportedOperationException.class, () -> first.add(newUser("F2", "FrozenGrp", 11)));
+
+        final List<UserAccount> mutable = JdbcUtil.copyOnWrite(first);
+        mutable.clear();
+        assertEquals(1, cachedDao.findFrozenByLastName("FrozenGrp").size());
+
+        final Dataset dataset = cachedDao.queryFrozenByLastName("FrozenGrp");
+        assertSame(dataset, cachedDao.queryFrozenByLastName("FrozenGrp"));
+        assertTrue(dataset.isFrozen());
+    }
+
+    @Test
+    public void testCachedQuery_OffHeap() throws SQLException {
+        final OffHeapCachedUserDao cachedDao = JdbcUtil.createDao(OffHeapCachedUserDao.class, ds);
+
+        dao.insert(newUser("Off1", "OffHeapGrp", 10));
+
+        final List<UserAccount> first = cachedDao.findCachedByLastName("OffHeapGrp");
+        assertEquals(1, first.size());
+
+        dao.insert(newUser("Off2", "OffHeapGrp", 11));
+
+        // Served from the off-heap cache: stale size, a fresh copy with the declared element type.
+        final List<UserAccount> second = cachedDao.findCachedByLastName("OffHeapGrp");
+        assertEquals(1, second.size());
+        assertNotSame(first, second);
+        assertEquals("Off1", second.get(0).getFirstName());
+    }
+
+    @Test
+    public void testCachedQuery_InvalidatedThroughChangeLog() throws SQLException {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+        final DBChangeLog changeLog = JdbcUtil.createDBChangeLog(ds, "dao_cache_change_log", 60_000);
+
+        try {
+            JdbcUtil.setDaoCacheInvalidationTransportGlobally(changeLog);
+
+            dao.insert(newUser("Bus1", "BusGrp", 10));
+            assertEquals(1, cachedDao.findCachedByLastName("BusGrp").size());
+
+            // Written through a non-cacheable DAO: the cached result is stale until the write is published.
+            dao.insert(newUser("Bus2", "BusGrp", 11));
+            assertEquals(1, cachedDao.findCachedByLastName("BusGrp").size());
+
+            JdbcUtil.publishDaoCacheInvalidation("USER_ACCOUNT");
+            assertEquals(2, cachedDao.findCachedByLastName("BusGrp").size());
+            assertEquals(1, changeLog.getPublishedCount());
+        } finally {
+            JdbcUtil.setDaoCacheInvalidationTransportGlobally(null);
+            changeLog.close();
+        }
+    }
+
+    @Test
+    public void testCachedQuery_TieredScope() throws SQLException {
+        final CachedUserDao cachedDao = JdbcUtil.createDao(CachedUserDao.class, ds);
+
+        dao.insert(newUser("Tier1", "TierGrp", 10));
+
+        try (JdbcUtil.DaoCacheScope scope = JdbcUtil.openTieredDaoCacheScope()) {
+            assertTrue(scope.isTiered());
+
+            // Loaded from the DB into both tiers.
+            assertEquals(1, cachedDao.findCachedByLastName("TierGrp").size());
+            assertEquals(1, ((Jdbc.DaoCacheByMap) scope.cache()).cache().size());
+
+            // The write invalidates the scope's tier; the shared tier, not the DB, serves the next lookup.
+            dao.insert(newUser("Tier2", "TierGrp", 11));
+            assertTrue(((Jdbc.DaoCacheByMap) scope.cache()).cache().isEmpty());
+            assertEquals(1, cachedDao.findCachedByLastName("TierGrp").size());
+            assertEquals(1, ((Jdbc.DaoCacheByMap) scope.cache()).cache().size());
+        }
+
+        // Reused across scopes through the shared tier.
+        try (JdbcUtil.DaoCacheScope scope = JdbcUtil.openTieredDaoCacheScope()) {
+            assertEquals(1, cachedDao.findCachedByLastName("TierGrp").size());
+            assertEquals(1, ((Jdbc.DaoCacheByMap) scope.cache()).cache().size());
+        }
+
+        // A plain scope replaces the shared cache, so it loads from the DB.
+        try (JdbcUtil.DaoCacheScope scope = JdbcUtil.openDaoCacheScope()) {
+            assertFalse(scope.isTiered());
+            assertEquals(2, cachedDao.findCachedByLastName("TierGrp").size());
+        }
+    }
+
+    @Test
+    public void testCachedQuery_InvalidRefreshAhead() {
+        assertThrows(UnsupportedOperationException.class, () -> JdbcUtil.createDao(InvalidRefreshAheadDao.class, ds));
+    }
+
     // =====================================================================================
     // @MappedByKey (Map-returning query keyed by a column) and @MergedById (row merge by id).
     // =====================================================================================
@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
@@ -18,9 +21,14 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -33,6 +41,7 @@ import org.mockito.Mockito;
 import com.landawn.abacus.TestBase;
 import com.landawn.abacus.annotation.Id;
 import com.landawn.abacus.jdbc.annotation.Bind;
+import com.landawn.abacus.jdbc.annotation.BindList;
 import com.landawn.abacus.jdbc.annotation.CacheResult;
 import com.landawn.abacus.jdbc.annotation.MappedByKey;
 import com.landawn.abacus.jdbc.annotation.MergedById;
@@ -47,6 +56,7 @@ import com.landawn.abacus.jdbc.dao.CrudDao;
 import com.landawn.abacus.jdbc.dao.Dao;
 import com.landawn.abacus.jdbc.dao.DaoBase;
 import com.landawn.abacus.query.Filters;
+import com.landawn.abacus.query.SqlDialect;
 import com.landawn.abacus.query.condition.Condition;
 import com.landawn.abacus.query.condition.Criteria;
 import com.landawn.abacus.query.condition.Limit;
@@ -1795,4 +1805,115 @@ public class DaoImplTest extends TestBase {
         assertSame(RollbackMaskDao.PRIMARY_FAILURE, thrown);
         assertEquals(1, thrown.getSuppressed().length);
     }
+
+    @Test
+    public void testBatchGetInParallel_CallerOnExecutorThreadRunsQueuedChunks() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final MethodHandle chunkGet = MethodHandles.lookup()
+                    .findStatic(DaoImplTest.class, "copyChunk", MethodType.methodType(List.class, List.class, Collection.class, int.class));
+            final List<Object> ids = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+            // The caller is the executor's only thread: waiting for the chunks it queued would never return.
+            final List<Object> result = executor.submit(() -> {
+                try {
+                    return DaoImpl.batchGetInParallel(chunkGet, ids, null, 2, 3, executor);
+                } catch (final Throwable e) {
+                    throw new ExecutionException(e);
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+            assertEquals(ids, result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Object> copyChunk(final List<Object> ids, final Collection<String> selectPropNames, final int batchSize) {
+        return new ArrayList<>(ids);
+    }
+
+    @Test
+    public void testNativeUpsertSql_ByProduct() {
+        final List<String> insertPropNames = List.of("id", "name", "qty");
+        final List<String> updatePropNames = List.of("name", "qty");
+        final List<String> idPropNames = List.of("id");
+        final Map<String, String> columns = Map.of("id", "id", "name", "name", "qty", "qty");
+
+        assertEquals("INSERT INTO item (id, name, qty) VALUES (:id, :name, :qty) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, qty = EXCLUDED.qty",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("PostgreSQL", "16"), "item", insertPropNames, updatePropNames, idPropNames, columns));
+        assertEquals("INSERT INTO item (id, name, qty) VALUES (:id, :name, :qty) ON DUPLICATE KEY UPDATE name = VALUES(name), qty = VALUES(qty)",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("MySQL", "8"), "item", insertPropNames, updatePropNames, idPropNames, columns));
+        assertEquals("MERGE INTO item tgt USING (VALUES (1)) src (one) ON (tgt.id = :id) WHEN MATCHED THEN UPDATE SET name = :name, qty = :qty"
+                + " WHEN NOT MATCHED THEN INSERT (id, name, qty) VALUES (:id, :name, :qty)",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("H2", "2"), "item", insertPropNames, updatePropNames, idPropNames, columns));
+        // A non-updatable column is inserted but never overwritten.
+        assertEquals("MERGE INTO item tgt USING (VALUES (1)) src (one) ON (tgt.id = :id) WHEN MATCHED THEN UPDATE SET name = :name"
+                + " WHEN NOT MATCHED THEN INSERT (id, name, qty) VALUES (:id, :name, :qty)",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("H2", "2"), "item", insertPropNames, List.of("name"), idPropNames, columns));
+        assertEquals("MERGE INTO item tgt USING (SELECT :id AS id, :name AS name, :qty AS qty FROM DUAL) src ON (tgt.id = src.id)"
+                + " WHEN MATCHED THEN UPDATE SET name = src.name, qty = src.qty WHEN NOT MATCHED THEN INSERT (id, name, qty) VALUES (src.id, src.name, src.qty)",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("Oracle", "19"), "item", insertPropNames, updatePropNames, idPropNames, columns));
+        assertTrue(DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("HSQL Database Engine", "2"), "item", insertPropNames, updatePropNames, idPropNames, columns)
+                .startsWith("MERGE INTO item AS tgt USING (VALUES (:id, :name, :qty)) AS src (id, name, qty) ON (tgt.id = src.id)"));
+
+        // No updatable column left: the conflict is still absorbed instead of failing.
+        assertEquals("INSERT INTO item (id) VALUES (:id) ON CONFLICT (id) DO NOTHING",
+                DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("SQLite", "3"), "item", List.of("id"), List.of(), idPropNames, columns));
+    }
+
+    @Test
+    public void testNativeUpsertSql_FallsBackWhenUnsupported() {
+        final Map<String, String> columns = Map.of("id", "id", "name", "name");
+
+        assertEquals(null, DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("Apache Derby", "10"), "item", List.of("id", "name"), List.of("name"),
+                List.of("id"), columns));
+        // A read-only (database-generated) id isn't inserted, so there is nothing to conflict on.
+        assertEquals(null, DaoImpl.nativeUpsertSql(SqlDialect.ProductInfo.of("PostgreSQL", "16"), "item", List.of("name"), List.of("name"),
+                List.of("id"), columns));
+    }
+
+    @Test
+    public void testSupportsArrayInClause() {
+        assertTrue(DaoImpl.supportsArrayInClause(SqlDialect.ProductInfo.of("PostgreSQL", "16")));
+        assertTrue(DaoImpl.supportsArrayInClause(SqlDialect.ProductInfo.of("H2", "2.2")));
+        assertFalse(DaoImpl.supportsArrayInClause(SqlDialect.ProductInfo.of("MySQL", "8")));
+        assertFalse(DaoImpl.supportsArrayInClause(null));
+    }
+
+    // FROZEN cache results: collections are wrapped read-only when the declared return type allows it.
+    @Test
+    public void testFreezeCacheResult() {
+        final List<String> list = new java.util.ArrayList<>(List.of("a"));
+
+        final Object frozenList = DaoImpl.freezeCacheResult(list, List.class);
+        assertTrue(frozenList instanceof com.landawn.abacus.util.ImmutableList);
+        assertThrows(UnsupportedOperationException.class, () -> ((List<String>) frozenList).add("b"));
+        assertSame(frozenList, DaoImpl.freezeCacheResult(frozenList, List.class));
+
+        // A concrete declared return type can't hold the wrapper: the result is left as it is.
+        assertSame(list, DaoImpl.freezeCacheResult(list, java.util.ArrayList.class));
+
+        assertTrue(DaoImpl.freezeCacheResult(new java.util.HashSet<>(List.of(1)), Collection.class) instanceof com.landawn.abacus.util.ImmutableSet);
+        assertTrue(DaoImpl.freezeCacheResult(new java.util.HashMap<>(Map.of("k", 1)), Map.class) instanceof com.landawn.abacus.util.ImmutableMap);
+
+        final String scalar = "v";
+        assertSame(scalar, DaoImpl.freezeCacheResult(scalar, String.class));
+        assertEquals(null, DaoImpl.freezeCacheResult(null, List.class));
+    }
+
+    // Only a placeholder that is the whole value list of an IN predicate may be padded.
+    @Test
+    public void testIsInClauseBindList() throws Exception {
+        final BindList bindList = DaoImplIntegrationTest.AnnotatedQueryDao.class.getMethod("byIds", Collection.class)
+                .getParameters()[0]
+                .getAnnotation(BindList.class);
+
+        assertTrue(DaoImpl.isInClauseBindList("SELECT * FROM t WHERE id IN ({ids}) ORDER BY id", "{ids}", bindList));
+        assertTrue(DaoImpl.isInClauseBindList("SELECT * FROM t WHERE id in( {ids} )", "{ids}", bindList));
+        assertFalse(DaoImpl.isInClauseBindList("INSERT INTO t (a, b) VALUES ({ids})", "{ids}", bindList));
+        assertFalse(DaoImpl.isInClauseBindList("SELECT * FROM t WHERE id IN ({ids}, 0)", "{ids}", bindList));
+        assertFalse(DaoImpl.isInClauseBindList("SELECT * FROM t WHERE id IN ({other})", "{ids}", bindList));
+    }
 }
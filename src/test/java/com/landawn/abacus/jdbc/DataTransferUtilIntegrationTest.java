@@ -5,16 +5,38 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import javax.sql.DataSource;
 
@@ -385,6 +407,113 @@ public class DataTransferUtilIntegrationTest extends TestBase {
         assertEquals("Alice", copyTgtName(1));
     }
 
+    private void insertCopySrcRows(final int fromId, final int toId) throws SQLException {
+        try (Connection conn = ds.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO copy_src (id, name, amount) VALUES (?, ?, ?)")) {
+            for (int id = fromId; id <= toId; id++) {
+                stmt.setLong(1, id);
+                stmt.setString(2, "n" + id);
+                stmt.setDouble(3, id * 1.5);
+                stmt.addBatch();
+            }
+
+            stmt.executeBatch();
+        }
+    }
+
+    // copyTable(..).partitionBy(..).parallelism(..) — range-partitioned copy on a numeric key.
+    @Test
+    public void testCopyTable_DataSource_Parallel() throws SQLException {
+        insertCopySrcRows(4, 100);
+        final List<DataTransferUtil.PartitionProgress> progress = new CopyOnWriteArrayList<>();
+
+        final long copied = DataTransferUtil.copyTable(ds, "copy_src")
+                .partitionBy("id")
+                .parallelism(4)
+                .batchSize(7)
+                .commitInterval(10)
+                .onProgress(progress::add)
+                .to(ds, "copy_tgt");
+
+        assertEquals(100, copied);
+        assertEquals(100, count("copy_tgt"));
+        assertEquals("Alice", copyTgtName(1));
+
+        final List<DataTransferUtil.PartitionProgress> done = progress.stream().filter(DataTransferUtil.PartitionProgress::done).toList();
+        assertEquals(4, done.size());
+        assertEquals(100, done.stream().mapToLong(DataTransferUtil.PartitionProgress::copiedRows).sum());
+        assertTrue(progress.size() > done.size());
+        assertTrue(done.stream().allMatch(p -> p.partitionCount() == 4));
+    }
+
+    // A failure of the last partition stops the first one, which run() waits for first.
+    @Test
+    public void testCopyTable_DataSource_Parallel_LaterPartitionFailureAbortsOthers() throws Exception {
+        insertCopySrcRows(4, 100);
+        final List<DataTransferUtil.PartitionProgress> progress = new CopyOnWriteArrayList<>();
+        final CountDownLatch lastPartitionFailed = new CountDownLatch(1);
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> DataTransferUtil.copyTable(ds, "copy_src")
+                .partitionBy("id")
+                .parallelism(4)
+                .batchSize(5)
+                .onProgress(p -> {
+                    progress.add(p);
+
+                    if (p.partition() == 3) {
+                        lastPartitionFailed.countDown();
+                        throw new IllegalStateException("partition 3 failed");
+                    } else if (p.partition() == 0 && !p.done()) {
+                        try {
+                            assertTrue(lastPartitionFailed.await(10, TimeUnit.SECONDS));
+                            Thread.sleep(200);
+                        } catch (final InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .to(ds, "copy_tgt"));
+
+        assertEquals("partition 3 failed", e.getMessage());
+        assertTrue(progress.stream().noneMatch(p -> p.partition() == 0 && p.done()));
+        assertTrue(count("copy_tgt") < 100);
+    }
+
+    // A non-numeric key is split at quantiles; rows with a null key go with the first partition.
+    @Test
+    public void testCopyTable_DataSource_Parallel_StringKeyWithNulls() throws SQLException {
+        insertCopySrcRows(4, 50);
+
+        try (Connection conn = ds.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("INSERT INTO copy_src (id, name, amount) VALUES (51, NULL, 1.0), (52, NULL, 2.0)");
+        }
+
+        final long copied = DataTransferUtil.copyTable(ds, "copy_src").columns(List.of("id", "name")).partitionBy("name").parallelism(3).to(ds, "copy_tgt");
+
+        assertEquals(52, copied);
+        assertEquals(52, count("copy_tgt"));
+    }
+
+    @Test
+    public void testCopyTable_PartitionBoundaries() throws SQLException {
+        insertCopySrcRows(4, 100);
+
+        try (Connection conn = ds.getConnection()) {
+            assertEquals(List.of(26L, 51L, 76L), DataTransferUtil.partitionBoundaries(conn, "copy_src", "id", 4));
+            // Sampled at the 26th, 51st and 76th of the 100 names in key order.
+            assertEquals(List.of("n31", "n54", "n77"), DataTransferUtil.partitionBoundaries(conn, "copy_src", "name", 4));
+            assertEquals(List.of(), DataTransferUtil.partitionBoundaries(conn, "copy_tgt", "id", 4));
+        }
+    }
+
+    @Test
+    public void testCopyTable_Parallel_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.copyTable(ds, "copy_src").parallelism(2).to(ds, "copy_tgt"));
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.copyTable(ds, "copy_src").partitionBy("id").parallelism(0).to(ds, "copy_tgt"));
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.copyTable(ds, "copy_src").commitInterval(-1).to(ds, "copy_tgt"));
+    }
+
     // ===== RowImportBuilder: importFrom / importCsvFrom (File / Reader / Iterator) =====
 
     private static final class Rec {
@@ -478,6 +607,201 @@ public class DataTransferUtilIntegrationTest extends TestBase {
         assertEquals("Bob", nameOf(2));
     }
 
+    private static String csvRows(final int rowCount, final Map<Integer, String> amountOverrides) {
+        final StringBuilder sb = new StringBuilder("id,name,amount");
+
+        for (int i = 1; i <= rowCount; i++) {
+            sb.append('\n').append(i).append(",name").append(i).append(',').append(amountOverrides.getOrDefault(i, String.valueOf(i * 1.5)));
+        }
+
+        return sb.toString();
+    }
+
+    private static void bindCsvRow(final PreparedQuery q, final String[] row) throws SQLException {
+        q.setLong(1, Long.parseLong(row[0]));
+        q.setString(2, row[1]);
+        q.setDouble(3, Double.parseDouble(row[2]));
+    }
+
+    // importCsvFrom(Reader).writers(..) — parsed on the calling thread, inserted by 4 writers.
+    @Test
+    public void testImportCsvFrom_Reader_Writers() throws SQLException {
+        final Reader reader = new StringReader(csvRows(1000, Map.of()));
+
+        final long n = DataTransferUtil.importCsvFrom(reader)
+                .filter(row -> !row[0].endsWith("7"))
+                .batchSize(25)
+                .writers(4)
+                .queueCapacity(2)
+                .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                .to(ds, CSV_INSERT_SQL);
+
+        assertEquals(900, n);
+        assertEquals(900, count("csv_tgt"));
+        assertEquals("name1000", nameOf(1000));
+    }
+
+    // The failure of the first failed batch in CSV order is thrown, whichever writer fails first.
+    @Test
+    public void testImportCsvFrom_Writers_FirstFailureInCsvOrder() {
+        final Reader reader = new StringReader(csvRows(500, Map.of(120, "bad120", 370, "bad370")));
+
+        final NumberFormatException e = assertThrows(NumberFormatException.class,
+                () -> DataTransferUtil.importCsvFrom(reader).batchSize(10).writers(3).parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow).to(ds,
+                        CSV_INSERT_SQL));
+
+        assertTrue(e.getMessage().contains("bad120"));
+    }
+
+    // A failed batch is reported with the numbers of its data rows.
+    @Test
+    public void testImportCsvFrom_Writers_SqlFailureReportsRows() throws Exception {
+        try (Connection conn = ds.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("INSERT INTO csv_tgt (id, name, amount) VALUES (250, 'taken', 0)");
+        }
+
+        final File csv = File.createTempFile("rib_csv_", ".csv");
+        csv.deleteOnExit();
+        Files.writeString(csv.toPath(), csvRows(400, Map.of()));
+
+        final SQLException e = assertThrows(SQLException.class,
+                () -> DataTransferUtil.importCsvFrom(csv).batchSize(100).writers(2).parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow).to(ds,
+                        CSV_INSERT_SQL));
+
+        assertTrue(e.getMessage().contains("201-300"), e.getMessage());
+        assertEquals("taken", nameOf(250));
+    }
+
+    @Test
+    public void testImportCsvFrom_Writers_InvalidArguments() throws SQLException {
+        final String csv = csvRows(3, Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.importCsvFrom(new StringReader(csv))
+                .writers(0)
+                .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                .to(ds, CSV_INSERT_SQL));
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.importCsvFrom(new StringReader(csv))
+                .writers(2)
+                .queueCapacity(-1)
+                .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                .to(ds, CSV_INSERT_SQL));
+        assertThrows(IllegalStateException.class, () -> DataTransferUtil.importFrom(threeRecs().iterator()).writers(2).parameterSetter((q, r) -> {
+            q.setLong(1, r.id);
+        }).to(ds, CSV_INSERT_SQL));
+
+        try (Connection conn = ds.getConnection()) {
+            assertThrows(IllegalStateException.class, () -> DataTransferUtil.importCsvFrom(new StringReader(csv))
+                    .writers(2)
+                    .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                    .to(conn, CSV_INSERT_SQL));
+        }
+
+        assertEquals(0, count("csv_tgt"));
+    }
+
+    // 64-byte chunks: a chunk's minimum length often ends between the '\r' and '\n' of a line break, or on a lone '\r'.
+    @Test
+    public void testMappedCsvRows_SplitsAtLineBreaks() throws Exception {
+        final String[] lineBreaks = { "\r\n", "\n", "\r" };
+        final StringBuilder sb = new StringBuilder("id,name,amount\r");
+
+        for (int i = 1; i <= 200; i++) {
+            sb.append(i).append(',').append("name").append(i).append(',').append(i * 1.5).append(lineBreaks[i % 3]);
+        }
+
+        final File csv = File.createTempFile("mapped_csv_", ".csv");
+        csv.deleteOnExit();
+        Files.writeString(csv.toPath(), sb.toString(), Charset.defaultCharset());
+
+        try (DataTransferUtil.MappedCsvRows rows = new DataTransferUtil.MappedCsvRows(csv, 3, 64)) {
+            for (int i = 1; i <= 200; i++) {
+                assertTrue(rows.hasNext());
+
+                final String[] row = rows.next();
+                assertEquals(3, row.length);
+                assertEquals(String.valueOf(i), row[0]);
+                assertEquals("name" + i, row[1]);
+            }
+
+            assertFalse(rows.hasNext());
+        }
+
+        final File empty = File.createTempFile("mapped_csv_", ".csv");
+        empty.deleteOnExit();
+
+        try (DataTransferUtil.MappedCsvRows rows = new DataTransferUtil.MappedCsvRows(empty, 3, 64)) {
+            assertFalse(rows.hasNext());
+        }
+    }
+
+    // Escaped quotes, a quoted line break, an unbalanced quote: the same rows (or failure) whatever the number of parsers.
+    @Test
+    public void testImportCsvFrom_File_ParsersReadLinesLikeSequentialImport() throws Exception {
+        for (final String data : List.of("1,\"say \\\"hi\\\", ok\",1.5\n2,plain,2.5\n", "1,\"multi\nline, too\",1.5\n2,plain,2.5\n",
+                "1,\"unbalanced,1.5\n2,plain,2.5\n3,\"quoted\",3.5\n")) {
+            final File csv = File.createTempFile("rib_csv_", ".csv");
+            csv.deleteOnExit();
+            Files.writeString(csv.toPath(), "id,name,amount\n" + data, Charset.defaultCharset());
+
+            assertEquals(parsedCsvRows(csv, 1), parsedCsvRows(csv, 4), data);
+        }
+
+        assertEquals(0, count("csv_tgt"));
+    }
+
+    // The rows the import parses from the file, or the type of the exception it fails with.
+    private Object parsedCsvRows(final File csv, final int parsers) throws SQLException {
+        final List<List<String>> rows = new ArrayList<>();
+
+        try (Connection conn = ds.getConnection()) {
+            DataTransferUtil.importCsvFrom(csv).parsers(parsers).filter(row -> {
+                rows.add(Arrays.asList(row.clone()));
+                return false;
+            }).parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow).to(conn, CSV_INSERT_SQL);
+        } catch (final RuntimeException e) {
+            return e.getClass();
+        }
+
+        return rows;
+    }
+
+    // importCsvFrom(File).parsers(..) — into one statement, then through parallel writers.
+    @Test
+    public void testImportCsvFrom_File_Parsers() throws Exception {
+        final File csv = File.createTempFile("rib_csv_", ".csv");
+        csv.deleteOnExit();
+        Files.writeString(csv.toPath(), csvRows(1000, Map.of()));
+
+        try (Connection conn = ds.getConnection()) {
+            final long n = DataTransferUtil.importCsvFrom(csv)
+                    .filter(row -> Long.parseLong(row[0]) <= 600)
+                    .parsers(4)
+                    .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                    .to(conn, CSV_INSERT_SQL);
+
+            assertEquals(600, n);
+        }
+
+        final long n = DataTransferUtil.importCsvFrom(csv)
+                .filter(row -> Long.parseLong(row[0]) > 600)
+                .parsers(2)
+                .writers(3)
+                .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                .to(ds, CSV_INSERT_SQL);
+
+        assertEquals(400, n);
+        assertEquals(1000, count("csv_tgt"));
+        assertEquals("name1000", nameOf(1000));
+
+        assertThrows(IllegalStateException.class, () -> DataTransferUtil.importCsvFrom(new StringReader("id\n1"))
+                .parsers(2)
+                .parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow)
+                .to(ds, CSV_INSERT_SQL));
+        assertThrows(IllegalArgumentException.class,
+                () -> DataTransferUtil.importCsvFrom(csv).parsers(0).parameterSetter(DataTransferUtilIntegrationTest::bindCsvRow).to(ds, CSV_INSERT_SQL));
+    }
+
     // No value-binding strategy configured -> IllegalArgumentException at the terminal.
     @Test
     public void testRowImportBuilder_NoStrategy_Throws() {
@@ -500,6 +824,131 @@ public class DataTransferUtilIntegrationTest extends TestBase {
         assertTrue(csv.contains("Cara"));
     }
 
+    // gzip(..) — blocks compressed in parallel decode, as one multi-member gzip stream, to the uncompressed export.
+    @Test
+    public void testExportCsv_Gzip_MatchesUncompressed() throws Exception {
+        insertCopySrcRows(4, 2000);
+
+        try (Connection conn = ds.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("UPDATE copy_src SET name = 'smile \uD83D\uDE00 ' || id WHERE MOD(id, 7) = 0");
+        }
+
+        final String sql = "SELECT id, name, amount FROM copy_src ORDER BY id";
+        final StringWriter plain = new StringWriter();
+        assertEquals(2000, DataTransferUtil.exportCsvFrom(ds, sql).to(plain));
+
+        // An odd block size splits surrogate pairs between blocks.
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        assertEquals(2000, DataTransferUtil.exportCsvFrom(ds, sql).gzip(3).compressionBlockSize(1001).to(compressed));
+        assertEquals(plain.toString(), gunzip(compressed.toByteArray()));
+
+        final File out = File.createTempFile("export_csv_", ".csv.gz");
+        out.deleteOnExit();
+        assertEquals(2000, DataTransferUtil.exportCsvFrom(ds, sql).gzip(2).to(out));
+        assertEquals(plain.toString(), gunzip(Files.readAllBytes(out.toPath())));
+
+        final ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        DataTransferUtil.exportCsvFrom(ds, sql).to(uncompressed);
+        assertEquals(plain.toString(), uncompressed.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testExportCsv_Gzip_InvalidArguments() {
+        final String sql = "SELECT id, name, amount FROM copy_src";
+
+        assertThrows(IllegalStateException.class, () -> DataTransferUtil.exportCsvFrom(ds, sql).gzip(2).to(new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> DataTransferUtil.exportCsvFrom(ds, sql).gzip(-1).to(new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class,
+                () -> DataTransferUtil.exportCsvFrom(ds, sql).gzip(2).compressionBlockSize(0).to(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testBinary_RoundTrip() throws SQLException {
+        // Repeated names are dictionary-encoded; every seventh name is null.
+        try (Connection conn = ds.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO copy_src (id, name, amount) VALUES (?, ?, ?)")) {
+            for (int id = 4; id <= 200; id++) {
+                stmt.setLong(1, id);
+                stmt.setString(2, id % 7 == 0 ? null : "group" + id % 3);
+                stmt.setDouble(3, id * 1.5);
+                stmt.addBatch();
+            }
+
+            stmt.executeBatch();
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long exported = DataTransferUtil.exportBinaryFrom(ds, "SELECT id, name, amount FROM copy_src ORDER BY id").batchSize(64).to(out);
+
+        assertEquals(200, exported);
+
+        final long imported = DataTransferUtil.importBinaryFrom(new ByteArrayInputStream(out.toByteArray())).to(ds, CSV_INSERT_SQL);
+
+        assertEquals(200, imported);
+        assertEquals(200, count("csv_tgt"));
+        assertEquals("Alice", nameOf(1));
+        assertEquals("group2", nameOf(5));
+        assertEquals(null, nameOf(14));
+
+        final Dataset dataset = DataTransferUtil.importBinaryFrom(new ByteArrayInputStream(out.toByteArray())).toDataset();
+
+        assertEquals(200, dataset.size());
+        assertEquals(3, dataset.columnNames().size());
+    }
+
+    @Test
+    public void testBinary_RoundTripDateAndTime() throws SQLException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(1, DataTransferUtil.exportBinaryFrom(ds, "SELECT DATE '1969-12-31' AS D, DATE '2024-02-29' AS D2, TIME '23:59:59' AS T").to(out));
+
+        final Dataset dataset = DataTransferUtil.importBinaryFrom(new ByteArrayInputStream(out.toByteArray())).toDataset();
+
+        assertEquals(Date.valueOf("1969-12-31"), dataset.getColumn("D").get(0));
+        assertEquals(Date.valueOf("2024-02-29"), dataset.getColumn("D2").get(0));
+        assertEquals(Time.valueOf("23:59:59"), dataset.getColumn("T").get(0));
+    }
+
+    // A file written in one time zone and read in another keeps the local date-times, and the fraction of TIME values.
+    @Test
+    public void testBinary_RoundTripTimestampAndTimeAcrossTimeZones() throws SQLException {
+        final TimeZone defaultTimeZone = TimeZone.getDefault();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            assertEquals(1, DataTransferUtil
+                    .exportBinaryFrom(ds, "SELECT TIMESTAMP '2024-01-15 10:20:30.123456789' AS TS, CAST('12:34:56.789' AS TIME(3)) AS T")
+                    .to(out));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            final Dataset dataset = DataTransferUtil.importBinaryFrom(new ByteArrayInputStream(out.toByteArray())).toDataset();
+
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 20, 30, 123_456_789), ((Timestamp) dataset.getColumn("TS").get(0)).toLocalDateTime());
+
+            final Time time = (Time) dataset.getColumn("T").get(0);
+            assertEquals(LocalTime.of(12, 34, 56), time.toLocalTime());
+            assertEquals(789, Math.floorMod(time.getTime(), 1000L));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testBinary_InvalidInput() {
+        assertThrows(UncheckedIOException.class,
+                () -> DataTransferUtil.importBinaryFrom(new ByteArrayInputStream("id,name\n".getBytes())).to(ds, CSV_INSERT_SQL));
+        assertThrows(IllegalArgumentException.class,
+                () -> DataTransferUtil.exportBinaryFrom(ds, "SELECT id FROM copy_src").batchSize(0).to(new ByteArrayOutputStream()));
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
     // exportCsv(Connection, sql).columns(..).to(Writer) — column selection drops the 'amount' column.
     @Test
     public void testExportCsv_Connection_SelectColumns_ToWriter() throws SQLException {
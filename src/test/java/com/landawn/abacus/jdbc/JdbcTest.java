@@ -1034,6 +1034,92 @@ public class JdbcTest extends TestBase {
         assertEquals(Integer.valueOf(25), result.getAge());
     }
 
+    @Test
+    public void testBiRowMapperToBeanSharesResolvedPlan() throws SQLException {
+        when(mockResultSet.getObject(1)).thenReturn(1L);
+        when(mockResultSet.getObject(2)).thenReturn("John");
+        when(mockResultSet.getObject(3)).thenReturn(25);
+
+        // A label no other test uses, so the first lookup is a guaranteed miss for this shape.
+        final List<String> columnLabels = Arrays.asList("id", "name", "age", "plan_cache_probe_column");
+
+        final Jdbc.CacheStats before = JdbcUtil.getRowMapperPlanCacheStats();
+
+        final TestEntity first = Jdbc.BiRowMapper.to(TestEntity.class, true).apply(mockResultSet, columnLabels);
+        final Jdbc.CacheStats afterFirst = JdbcUtil.getRowMapperPlanCacheStats();
+
+        final TestEntity second = Jdbc.BiRowMapper.to(TestEntity.class, true).apply(mockResultSet, new ArrayList<>(columnLabels));
+        final Jdbc.CacheStats afterSecond = JdbcUtil.getRowMapperPlanCacheStats();
+
+        assertEquals(Long.valueOf(1L), first.getId());
+        assertEquals("John", second.getName());
+        assertEquals(Integer.valueOf(25), second.getAge());
+        assertTrue(afterFirst.missCount() > before.missCount());
+        assertTrue(afterSecond.hitCount() > afterFirst.hitCount());
+        assertTrue(afterSecond.hitRate() >= 0.0 && afterSecond.hitRate() <= 1.0);
+    }
+
+    @Test
+    public void testBiRowMapperToBeanWithGeneratedAccessors() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(7L);
+        when(mockResultSet.getString(2)).thenReturn("Jane");
+        when(mockResultSet.getInt(3)).thenReturn(31);
+        when(mockResultSet.wasNull()).thenReturn(false);
+
+        JdbcUtil.enableGeneratedEntityAccessorsGlobally();
+
+        try {
+            final TestEntity result = Jdbc.BiRowMapper.to(TestEntity.class).apply(mockResultSet, Arrays.asList("id", "name", "age"));
+
+            assertEquals(Long.valueOf(7L), result.getId());
+            assertEquals("Jane", result.getName());
+            assertEquals(Integer.valueOf(31), result.getAge());
+            // Typed getters instead of the Type/getObject path.
+            verify(mockResultSet).getLong(1);
+            verify(mockResultSet, never()).getObject(1);
+        } finally {
+            JdbcUtil.disableGeneratedEntityAccessorsGlobally();
+        }
+    }
+
+    @Test
+    public void testBiRowMapperToBeanWithGeneratedAccessorsKeepsSqlNull() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        JdbcUtil.enableGeneratedEntityAccessorsGlobally();
+
+        try {
+            final TestEntity result = Jdbc.BiRowMapper.to(TestEntity.class).apply(mockResultSet, Arrays.asList("id"));
+
+            assertNull(result.getId());
+        } finally {
+            JdbcUtil.disableGeneratedEntityAccessorsGlobally();
+        }
+    }
+
+    @Test
+    public void testBiRowMapperToBeanDoesNotCacheUnmatchedColumnFailure() throws SQLException {
+        final List<String> columnLabels = Arrays.asList("id", "plan_cache_unmatched_column");
+
+        assertThrows(IllegalArgumentException.class, () -> Jdbc.BiRowMapper.to(TestEntity.class, false).apply(mockResultSet, columnLabels));
+        // A failed resolution must not leave a plan behind: the next mapper has to fail the same way.
+        assertThrows(IllegalArgumentException.class, () -> Jdbc.BiRowMapper.to(TestEntity.class, false).apply(mockResultSet, columnLabels));
+    }
+
+    @Test
+    public void testBiRowMapperToBeanCustomFilterSkipsFilteredColumns() throws SQLException {
+        when(mockResultSet.getObject(2)).thenReturn("John");
+
+        // Filtered-out columns are never matched, so the unknown label must not fail even with ignoreUnmatchedColumns=false.
+        final List<String> columnLabels = Arrays.asList("id", "name", "plan_cache_filtered_column");
+
+        final TestEntity result = Jdbc.BiRowMapper.<TestEntity> to(TestEntity.class, "name"::equals, null, false).apply(mockResultSet, columnLabels);
+
+        assertNull(result.getId());
+        assertEquals("John", result.getName());
+    }
+
     @Test
     public void testBiRowMapperToArray2() throws SQLException {
         when(mockResultSet.getObject(1)).thenReturn(1);
@@ -2423,6 +2509,81 @@ public class JdbcTest extends TestBase {
         assertEquals("orders", cache.get("method#orders#[\"users\"]", null, null, methodSignature));
     }
 
+    @Test
+    public void testDaoCacheByMapUpdate_UsesTableIndexCaseInsensitively() throws Exception {
+        Jdbc.DaoCacheByMap cache = new Jdbc.DaoCacheByMap();
+
+        Method method = Object.class.getMethods()[0];
+        Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature = Tuple.of(method, ImmutableList.empty(), Object.class);
+
+        cache.put("m1#Users#p1", "u1", null, null, methodSignature);
+        cache.put("m2#USERS#p2", "u2", null, null, methodSignature);
+        cache.put("m3#orders#p3", "o3", null, null, methodSignature);
+
+        // Removed behind the cache's back: update must not fail on the stale index entry.
+        cache.cache().remove("m1#Users#p1");
+
+        cache.update("m#users#x", 1, null, null, methodSignature);
+
+        assertNull(cache.get("m2#USERS#p2", null, null, methodSignature));
+        assertEquals("o3", cache.get("m3#orders#p3", null, null, methodSignature));
+        assertEquals(1, cache.cache().size());
+
+        cache.update("noTableSegment", 1, null, null, methodSignature);
+        assertTrue(cache.cache().isEmpty());
+    }
+
+    @Test
+    public void testDaoCacheTableIndex() {
+        assertEquals("users", Jdbc.DaoCacheTableIndex.tableNameOf("m#users#p"));
+        assertEquals("users", Jdbc.DaoCacheTableIndex.tableNameOf("m#users#"));
+        assertEquals("", Jdbc.DaoCacheTableIndex.tableNameOf("m##p"));
+        assertNull(Jdbc.DaoCacheTableIndex.tableNameOf("m#users"));
+        assertNull(Jdbc.DaoCacheTableIndex.tableNameOf(null));
+
+        Jdbc.DaoCacheTableIndex index = new Jdbc.DaoCacheTableIndex(2);
+        index.add("m1#users#p1");
+        assertFalse(index.isSweepDue());
+        index.add("m2#Users#p2");
+        index.add("m3#orders#p3");
+        assertTrue(index.isSweepDue());
+        assertEquals(3, index.size());
+
+        index.retainAll(List.of("m2#Users#p2", "m3#orders#p3"));
+        assertFalse(index.isSweepDue());
+        assertEquals(2, index.size());
+
+        assertEquals(Set.of("m2#Users#p2"), index.removeTable("USERS"));
+        assertTrue(index.removeTable("users").isEmpty());
+
+        index.remove("m3#orders#p3");
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testDefaultDaoCacheUpdate_UsesTableIndex() throws Exception {
+        Jdbc.DefaultDaoCache cache = new Jdbc.DefaultDaoCache(100, 3000);
+
+        Method method = Object.class.getMethods()[0];
+        Tuple3<Method, ImmutableList<Class<?>>, Class<?>> methodSignature = Tuple.of(method, ImmutableList.empty(), Object.class);
+
+        cache.put("m1#users#p1", "u1", null, null, methodSignature);
+        cache.put("m2#Users#p2", "u2", 1, 1, null, null, methodSignature);
+        cache.put("m3#orders#p3", "o3", null, null, methodSignature);
+
+        Thread.sleep(20);
+        // The expired entry is dropped from the index on the miss.
+        assertNull(cache.get("m2#Users#p2", null, null, methodSignature));
+
+        cache.update("m#USERS#x", 1, null, null, methodSignature);
+
+        assertNull(cache.get("m1#users#p1", null, null, methodSignature));
+        assertEquals("o3", cache.get("m3#orders#p3", null, null, methodSignature));
+
+        cache.clear();
+        assertNull(cache.get("m3#orders#p3", null, null, methodSignature));
+    }
+
     @Test
     public void testDaoCacheByMapConstructors() {
         // Default constructor: empty cache backed by ConcurrentHashMap
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -4191,4 +4192,213 @@ public class JdbcUtilTest extends TestBase {
         assertNotNull(key);
         assertTrue(key.startsWith("Dao.m#t#"));
     }
+
+    // createCompactCacheKey: type-tagged, length-prefixed encoding; null for unsupported argument types.
+    @Test
+    public void testCreateCompactCacheKey() {
+        final String key = JdbcUtil.createCompactCacheKey("Dao.m#t#", new Object[] { "a,b", 1, 1L, null, List.of("x", 2), true });
+        assertEquals("Dao.m#t#S3:a,bI1,J1,NL2:S1:xI2,T", key);
+        assertEquals("Dao.m#t#", JdbcUtil.createCompactCacheKey("Dao.m#t#", null));
+
+        // Distinct argument lists never collide, even when their string forms would.
+        assertNotEquals(JdbcUtil.createCompactCacheKey("p#", new Object[] { "1", 1 }), JdbcUtil.createCompactCacheKey("p#", new Object[] { 1, "1" }));
+        assertNotEquals(JdbcUtil.createCompactCacheKey("p#", new Object[] { "ab", "c" }), JdbcUtil.createCompactCacheKey("p#", new Object[] { "a", "bc" }));
+        assertNotEquals(JdbcUtil.createCompactCacheKey("p#", new Object[] { List.of(1), 2 }), JdbcUtil.createCompactCacheKey("p#", new Object[] { List.of(1, 2) }));
+
+        assertEquals(JdbcUtil.createCompactCacheKey("p#", new Object[] { com.landawn.abacus.util.EntityId.of("id", 7L) }),
+                JdbcUtil.createCompactCacheKey("p#", new Object[] { com.landawn.abacus.util.EntityId.of("id", 7L) }));
+
+        assertNull(JdbcUtil.createCompactCacheKey("p#", new Object[] { 1, new java.util.Date() }));
+        assertNull(JdbcUtil.createCompactCacheKey("p#", new Object[] { List.of(new Object()) }));
+    }
+
+    // createCacheKey(strategy, ...): COMPACT falls back to serialization for unsupported arguments.
+    @Test
+    public void testCreateCacheKey_Strategy() {
+        final Logger logger = LoggerFactory.getLogger(JdbcUtilTest.class);
+
+        assertEquals("Dao.m#t#S1:aI2,", JdbcUtil.createCacheKey(com.landawn.abacus.jdbc.annotation.CacheKeyStrategy.COMPACT, "Dao.m#t#", "t", "Dao.m",
+                new Object[] { "a", 2 }, logger));
+
+        final Object[] args = { "a", new java.util.Date(0) };
+        assertEquals(JdbcUtil.createCacheKey("t", "Dao.m", args, logger),
+                JdbcUtil.createCacheKey(com.landawn.abacus.jdbc.annotation.CacheKeyStrategy.COMPACT, "Dao.m#t#", "t", "Dao.m", args, logger));
+        assertEquals(JdbcUtil.createCacheKey("t", "Dao.m", new Object[] { "a", 2 }, logger), JdbcUtil
+                .createCacheKey(com.landawn.abacus.jdbc.annotation.CacheKeyStrategy.SERIALIZED, "Dao.m#t#", "t", "Dao.m", new Object[] { "a", 2 }, logger));
+    }
+
+    // Loads through the coalescer, copying a shared list result; returns the failure instead of throwing it.
+    private static Object loadOrFailure(final CacheLoadCoalescer coalescer, final String cacheKey,
+            final com.landawn.abacus.util.Throwables.Callable<Object, Throwable> loader) {
+        try {
+            return coalescer.load(cacheKey, loader, r -> r instanceof List ? new java.util.ArrayList<>((List<?>) r) : r);
+        } catch (final Throwable e) {
+            return e;
+        }
+    }
+
+    // CacheLoadCoalescer: concurrent loads of one key run the loader once; waiters share the result (copied).
+    @Test
+    public void testCacheLoadCoalescer_SharesInFlightLoad() throws Exception {
+        final CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        final java.util.concurrent.atomic.AtomicInteger loads = new java.util.concurrent.atomic.AtomicInteger();
+        final java.util.concurrent.CountDownLatch release = new java.util.concurrent.CountDownLatch(1);
+        final long coalescedBefore = JdbcUtil.getCoalescedCacheLoadCount();
+        final int waiters = 3;
+
+        final java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(waiters + 1);
+
+        try {
+            final java.util.concurrent.Future<Object> leader = executor.submit(() -> loadOrFailure(coalescer, "k", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return List.of("v");
+            }));
+
+            while (loads.get() == 0) {
+                Thread.sleep(1);
+            }
+
+            final List<java.util.concurrent.Future<Object>> followers = new java.util.ArrayList<>();
+
+            for (int i = 0; i < waiters; i++) {
+                followers.add(executor.submit(() -> loadOrFailure(coalescer, "k", () -> {
+                    loads.incrementAndGet();
+                    return List.of("other");
+                })));
+            }
+
+            while (JdbcUtil.getCoalescedCacheLoadCount() - coalescedBefore < waiters) {
+                Thread.sleep(1);
+            }
+
+            release.countDown();
+
+            assertEquals(List.of("v"), leader.get(10, TimeUnit.SECONDS));
+
+            for (final java.util.concurrent.Future<Object> follower : followers) {
+                final Object result = follower.get(10, TimeUnit.SECONDS);
+                assertEquals(List.of("v"), result);
+                assertTrue(result instanceof java.util.ArrayList);
+            }
+
+            assertEquals(1, loads.get());
+
+            // The load is no longer in flight: the next call runs its own loader.
+            assertEquals("next", loadOrFailure(coalescer, "k", () -> "next"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // CacheLoadCoalescer: the failure of the in-flight load is rethrown to every waiter.
+    @Test
+    public void testCacheLoadCoalescer_PropagatesFailure() throws Exception {
+        final CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        final java.util.concurrent.CountDownLatch started = new java.util.concurrent.CountDownLatch(1);
+        final java.util.concurrent.CountDownLatch release = new java.util.concurrent.CountDownLatch(1);
+        final java.sql.SQLException failure = new java.sql.SQLException("load failed");
+        final long coalescedBefore = JdbcUtil.getCoalescedCacheLoadCount();
+
+        final java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(2);
+
+        try {
+            final java.util.concurrent.Future<Object> leader = executor.submit(() -> loadOrFailure(coalescer, "k", () -> {
+                started.countDown();
+                release.await();
+                throw failure;
+            }));
+
+            started.await();
+
+            final java.util.concurrent.Future<Object> follower = executor.submit(() -> loadOrFailure(coalescer, "k", () -> "unexpected"));
+
+            while (JdbcUtil.getCoalescedCacheLoadCount() == coalescedBefore) {
+                Thread.sleep(1);
+            }
+
+            release.countDown();
+
+            assertSame(failure, leader.get(10, TimeUnit.SECONDS));
+            assertSame(failure, follower.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // CacheRefreshAhead: a hit past the due time claims the refresh exactly once until the entry is reloaded.
+    @Test
+    public void testCacheRefreshAhead() throws Exception {
+        final CacheRefreshAhead refreshAhead = new CacheRefreshAhead(10_000, 9_990);
+
+        assertFalse(refreshAhead.tryClaimRefresh("k"));
+
+        refreshAhead.loaded("k");
+        Thread.sleep(30);
+
+        assertTrue(refreshAhead.tryClaimRefresh("k"));
+        assertFalse(refreshAhead.tryClaimRefresh("k"));
+
+        refreshAhead.loaded("k");
+        assertEquals(1, refreshAhead.size());
+
+        final CacheRefreshAhead notDue = new CacheRefreshAhead(10_000, 1_000);
+        notDue.loaded("k");
+        assertFalse(notDue.tryClaimRefresh("k"));
+
+        notDue.remove("k");
+        assertEquals(0, notDue.size());
+    }
+
+    // copyOnWrite: reads through to the shared list; the first modification copies and leaves the source untouched.
+    @Test
+    public void testCopyOnWrite() {
+        final List<String> shared = List.of("a", "b", "c");
+        final List<String> list = JdbcUtil.copyOnWrite(shared);
+
+        assertEquals(shared, list);
+        assertFalse(((CopyOnWriteList<String>) list).isCopied());
+
+        list.add("d");
+        list.remove("a");
+        list.set(0, "B");
+
+        assertTrue(((CopyOnWriteList<String>) list).isCopied());
+        assertEquals(List.of("B", "c", "d"), list);
+        assertEquals(List.of("a", "b", "c"), shared);
+
+        final List<String> cleared = JdbcUtil.copyOnWrite(shared);
+        cleared.clear();
+        assertTrue(cleared.isEmpty());
+        assertEquals(3, shared.size());
+
+        assertThrows(IllegalArgumentException.class, () -> JdbcUtil.copyOnWrite(null));
+    }
+
+    // padInClauseValues: a no-op under EXACT; PADDED repeats the last value up to the next power of two.
+    @Test
+    public void testPadInClauseValues() {
+        final List<Integer> three = List.of(1, 2, 3);
+        assertSame(three, JdbcUtil.padInClauseValues(three));
+
+        JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+
+        try {
+            assertEquals(List.of(1, 2, 3, 3), JdbcUtil.padInClauseValues(three));
+
+            final List<Integer> four = List.of(1, 2, 3, 4);
+            assertSame(four, JdbcUtil.padInClauseValues(four));
+
+            assertEquals(0, JdbcUtil.getInClauseSize(0));
+            assertEquals(1, JdbcUtil.getInClauseSize(1));
+            assertEquals(8, JdbcUtil.getInClauseSize(5));
+            assertEquals(1024, JdbcUtil.getInClauseSize(1000));
+            assertNull(JdbcUtil.padInClauseValues(null));
+        } finally {
+            JdbcUtil.setInClauseModeGlobally(InClauseMode.EXACT);
+        }
+
+        assertEquals(InClauseMode.EXACT, JdbcUtil.getInClauseMode());
+        assertThrows(IllegalArgumentException.class, () -> JdbcUtil.setInClauseModeGlobally(null));
+    }
 }
@@ -1188,6 +1188,26 @@ public class NamedQueryTest extends TestBase {
         assertSame(namedQuery, result);
     }
 
+    @Test
+    public void testSetParametersObjectWithGeneratedAccessors() throws SQLException {
+        TestEntity entity = new TestEntity();
+        entity.setParam1("value1");
+        entity.setParam2(123);
+
+        JdbcUtil.enableGeneratedEntityAccessorsGlobally();
+
+        try {
+            NamedQuery result = namedQuery.setParameters(entity);
+
+            // Typed setters, straight from the generated getters.
+            verify(mockPreparedStatement).setString(1, "value1");
+            verify(mockPreparedStatement).setInt(2, 123);
+            assertSame(namedQuery, result);
+        } finally {
+            JdbcUtil.disableGeneratedEntityAccessorsGlobally();
+        }
+    }
+
     @Test
     public void testSetParametersObjectNull() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -1496,6 +1516,58 @@ public class NamedQueryTest extends TestBase {
         verify(mockPreparedStatement, times(2)).addBatch();
     }
 
+    // Test addBatchParameters with bean elements: one cached binder for every row and every later query
+    @Test
+    public void testAddBatchParameters_BeanElementsShareCachedBinder() throws Exception {
+        TestEntity first = new TestEntity();
+        first.setParam1("v1");
+        first.setParam2(1);
+        TestEntity second = new TestEntity();
+        second.setParam1("v2");
+        second.setParam2(2);
+
+        namedQuery.addBatchParameters(Arrays.asList(first, second).iterator());
+
+        verify(mockPreparedStatement).setString(1, "v1");
+        verify(mockPreparedStatement).setString(1, "v2");
+        verify(mockPreparedStatement, times(2)).addBatch();
+
+        final Jdbc.CacheStats before = JdbcUtil.getNamedParameterBinderCacheStats();
+        new NamedQuery(mockPreparedStatement, mockParsedSql).setParameters(first);
+        final Jdbc.CacheStats after = JdbcUtil.getNamedParameterBinderCacheStats();
+
+        assertTrue(after.hitCount() > before.hitCount());
+        assertTrue(after.size() >= 1);
+    }
+
+    @Test
+    public void testSetParametersObject_BeanClassesOfSameParsedSqlKeepTheirBinders() throws Exception {
+        final TestEntity entity = new TestEntity();
+        entity.setParam1("v1");
+        final SubTestEntity subEntity = new SubTestEntity();
+        subEntity.setParam1("v2");
+
+        namedQuery.setParameters(entity);
+        namedQuery.setParameters(subEntity);
+
+        final Jdbc.CacheStats before = JdbcUtil.getNamedParameterBinderCacheStats();
+        namedQuery.setParameters(entity);
+        namedQuery.setParameters(subEntity);
+        final Jdbc.CacheStats after = JdbcUtil.getNamedParameterBinderCacheStats();
+
+        assertEquals(before.hitCount() + 2, after.hitCount());
+        assertEquals(before.missCount(), after.missCount());
+        verify(mockPreparedStatement, times(2)).setString(1, "v2");
+    }
+
+    @Test
+    public void testSetParametersObject_UnmatchedPropertyIsNotCached() throws Exception {
+        when(mockParsedSql.namedParameters()).thenReturn(ImmutableList.of("param1", "noSuchProp"));
+
+        assertThrows(IllegalArgumentException.class, () -> new NamedQuery(mockPreparedStatement, mockParsedSql).setParameters(new TestEntity()));
+        assertThrows(IllegalArgumentException.class, () -> new NamedQuery(mockPreparedStatement, mockParsedSql).setParameters(new TestEntity()));
+    }
+
     // Helper to create a NamedQuery with paramCount >= MIN_PARAMETER_COUNT_FOR_INDEX_BY_MAP (5)
     // so the paramNameIndexMap branch is exercised.
     private NamedQuery createMapBranchQuery(final ImmutableList<String> names) throws SQLException {
@@ -3203,6 +3275,9 @@ public class NamedQueryTest extends TestBase {
         }
     }
 
+    private static class SubTestEntity extends TestEntity {
+    }
+
     // --- setNull(typeName) map branch: 4+ occurrences (L246 for-loop) ---
 
     @Test
@@ -0,0 +1,133 @@
+package com.landawn.abacus.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.TestBase;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.Strings;
+import com.landawn.abacus.util.Tuple;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+public class OffHeapDaoCacheTest extends TestBase {
+
+    interface Lookup {
+        List<String> names();
+    }
+
+    private static Tuple3<Method, ImmutableList<Class<?>>, Class<?>> signature(final Method method) {
+        return Tuple.of(method, ImmutableList.empty(), method.getReturnType());
+    }
+
+    private static final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> OBJECT_SIGNATURE = signature(Object.class.getMethods()[0]);
+
+    @Test
+    public void testPutAndGet_ReturnsDeserializedCopy() throws Exception {
+        final OffHeapDaoCache cache = new OffHeapDaoCache(100, 0);
+        final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> sig = signature(Lookup.class.getMethod("names"));
+
+        final List<String> names = new ArrayList<>(List.of("a", "b"));
+        assertTrue(cache.put("m#t#1", names, null, null, sig));
+
+        final Object cached = cache.get("m#t#1", null, null, sig);
+        assertEquals(names, cached);
+        assertNotSame(names, cached);
+        assertNotSame(cached, cache.get("m#t#1", null, null, sig));
+
+        assertTrue(cache.put("m#t#2", "value", null, null, OBJECT_SIGNATURE));
+        assertEquals("value", cache.get("m#t#2", null, null, OBJECT_SIGNATURE));
+
+        assertNull(cache.get("m#t#missing", null, null, OBJECT_SIGNATURE));
+        assertFalse(cache.put("m#t#3", null, null, null, OBJECT_SIGNATURE));
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, "v", null, null, OBJECT_SIGNATURE));
+
+        assertEquals(2, cache.size());
+        assertEquals(2L * OffHeapDaoCache.BLOCK_SIZE, cache.usedBytes());
+    }
+
+    @Test
+    public void testByteBudget_EvictsLeastRecentlyUsed() {
+        final OffHeapDaoCache cache = new OffHeapDaoCache(0, 0, 3L * OffHeapDaoCache.BLOCK_SIZE);
+        final String oneBlock = Strings.repeat('x', OffHeapDaoCache.BLOCK_SIZE / 2);
+
+        assertTrue(cache.put("m#t#1", oneBlock, null, null, OBJECT_SIGNATURE));
+        assertTrue(cache.put("m#t#2", oneBlock, null, null, OBJECT_SIGNATURE));
+        assertTrue(cache.put("m#t#3", oneBlock, null, null, OBJECT_SIGNATURE));
+
+        // Touch 1, so 2 is the least recently used entry.
+        assertEquals(oneBlock, cache.get("m#t#1", null, null, OBJECT_SIGNATURE));
+
+        // Needs two blocks: evicts 2 and then 3.
+        assertTrue(cache.put("m#t#4", oneBlock + oneBlock + "y", null, null, OBJECT_SIGNATURE));
+
+        assertNull(cache.get("m#t#2", null, null, OBJECT_SIGNATURE));
+        assertNull(cache.get("m#t#3", null, null, OBJECT_SIGNATURE));
+        assertEquals(oneBlock, cache.get("m#t#1", null, null, OBJECT_SIGNATURE));
+        assertEquals(oneBlock + oneBlock + "y", cache.get("m#t#4", null, null, OBJECT_SIGNATURE));
+        assertEquals(3L * OffHeapDaoCache.BLOCK_SIZE, cache.usedBytes());
+
+        // Larger than the whole budget: not cached, nothing evicted.
+        assertFalse(cache.put("m#t#5", Strings.repeat('z', 4 * OffHeapDaoCache.BLOCK_SIZE), null, null, OBJECT_SIGNATURE));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCapacity_EvictsLeastRecentlyUsed() {
+        final OffHeapDaoCache cache = new OffHeapDaoCache(2, 0);
+
+        cache.put("m#t#1", "1", null, null, OBJECT_SIGNATURE);
+        cache.put("m#t#2", "2", null, null, OBJECT_SIGNATURE);
+        cache.put("m#t#3", "3", null, null, OBJECT_SIGNATURE);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("m#t#1", null, null, OBJECT_SIGNATURE));
+        assertEquals("3", cache.get("m#t#3", null, null, OBJECT_SIGNATURE));
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        final OffHeapDaoCache cache = new OffHeapDaoCache(10, 0);
+
+        cache.put("m#t#1", "v", 1, 1, null, null, OBJECT_SIGNATURE);
+        Thread.sleep(20);
+
+        assertNull(cache.get("m#t#1", null, null, OBJECT_SIGNATURE));
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    public void testUpdate_InvalidatesTableAndFreesBlocks() {
+        final OffHeapDaoCache cache = new OffHeapDaoCache(10, 0);
+
+        cache.put("m#users#1", "u1", null, null, OBJECT_SIGNATURE);
+        cache.put("m#Users#2", "u2", null, null, OBJECT_SIGNATURE);
+        cache.put("m#orders#3", "o3", null, null, OBJECT_SIGNATURE);
+
+        cache.update("m#USERS#x", 1, null, null, OBJECT_SIGNATURE);
+
+        assertNull(cache.get("m#users#1", null, null, OBJECT_SIGNATURE));
+        assertNull(cache.get("m#Users#2", null, null, OBJECT_SIGNATURE));
+        assertEquals("o3", cache.get("m#orders#3", null, null, OBJECT_SIGNATURE));
+        assertEquals(1L * OffHeapDaoCache.BLOCK_SIZE, cache.usedBytes());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapDaoCache(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapDaoCache(10, 0, OffHeapDaoCache.BLOCK_SIZE - 1));
+    }
+}
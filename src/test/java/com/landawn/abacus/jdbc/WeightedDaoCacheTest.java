@@ -0,0 +1,186 @@
+package com.landawn.abacus.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.TestBase;
+import com.landawn.abacus.util.ImmutableList;
+import com.landawn.abacus.util.Tuple;
+import com.landawn.abacus.util.Tuple.Tuple3;
+
+public class WeightedDaoCacheTest extends TestBase {
+
+    private static final Tuple3<Method, ImmutableList<Class<?>>, Class<?>> SIGNATURE = Tuple.of(Object.class.getMethods()[0], ImmutableList.empty(),
+            Object.class);
+
+    @Test
+    public void testRowCountWeigher() {
+        final WeightedDaoCache cache = new WeightedDaoCache(100, 0);
+
+        final Object rows60 = Collections.nCopies(60, "r");
+        assertTrue(cache.put("m#t#60", rows60, null, null, SIGNATURE));
+        assertTrue(cache.put("m#t#30", Collections.nCopies(30, "r"), null, null, SIGNATURE));
+        assertTrue(cache.put("m#t#map", Map.of("a", 1, "b", 2, "c", 3, "d", 4, "e", 5), null, null, SIGNATURE));
+        assertTrue(cache.put("m#t#count", 42, null, null, SIGNATURE));
+
+        WeightedDaoCache.Stats stats = cache.stats();
+        assertEquals(4, stats.size());
+        assertEquals(96, stats.totalWeight());
+        assertEquals(100, stats.maxWeight());
+
+        // Doesn't fit next to the others, and is no more frequent than the entry it would evict: rejected.
+        assertTrue(cache.put("m#t#20", Collections.nCopies(20, "r"), null, null, SIGNATURE));
+        assertTrue(cache.put("m#t#count2", 7, null, null, SIGNATURE));
+
+        stats = cache.stats();
+        assertEquals(1, stats.evictionCount());
+        assertEquals(20, stats.evictedWeight());
+        assertNull(cache.get("m#t#20", null, null, SIGNATURE));
+        assertSame(rows60, cache.get("m#t#60", null, null, SIGNATURE));
+
+        // Heavier than the whole cache.
+        assertFalse(cache.put("m#t#101", Collections.nCopies(101, "r"), null, null, SIGNATURE));
+        assertFalse(cache.put("m#t#null", null, null, null, SIGNATURE));
+    }
+
+    @Test
+    public void testCustomWeigher() {
+        final WeightedDaoCache cache = new WeightedDaoCache(10, r -> ((String) r).length());
+
+        assertTrue(cache.put("m#t#1", "abcd", null, null, SIGNATURE));
+        assertTrue(cache.put("m#t#2", "abc", null, null, SIGNATURE));
+        assertEquals(7, cache.stats().totalWeight());
+        assertFalse(cache.put("m#t#3", "abcdefghijk", null, null, SIGNATURE));
+    }
+
+    @Test
+    public void testPut_HeavierThanMainSegmentIsRejectedWithoutEvicting() {
+        final WeightedDaoCache cache = new WeightedDaoCache(100, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(cache.put("m#t#" + i, "v" + i, null, null, SIGNATURE));
+        }
+
+        // Fits within maxWeight, but not within the main segment.
+        assertFalse(cache.put("m#t#100", Collections.nCopies(100, "r"), null, null, SIGNATURE));
+
+        final WeightedDaoCache.Stats stats = cache.stats();
+        assertEquals(10, stats.size());
+        assertEquals(10, stats.totalWeight());
+        assertEquals(0, stats.evictionCount());
+        assertNull(cache.get("m#t#100", null, null, SIGNATURE));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("v" + i, cache.get("m#t#" + i, null, null, SIGNATURE));
+        }
+
+        assertTrue(cache.put("m#t#99", Collections.nCopies(99, "r"), null, null, SIGNATURE));
+    }
+
+    @Test
+    public void testScanDoesNotEvictHotEntries() {
+        final WeightedDaoCache cache = new WeightedDaoCache(100, 0);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("m#t#hot" + i, "hot" + i, null, null, SIGNATURE);
+        }
+
+        // Pushes the last hot entry out of the window.
+        cache.put("m#t#warmup", "warmup", null, null, SIGNATURE);
+
+        for (int k = 0; k < 3; k++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals("hot" + i, cache.get("m#t#hot" + i, null, null, SIGNATURE));
+            }
+        }
+
+        // A one-off scan, ten times the size of the cache.
+        for (int i = 0; i < 1000; i++) {
+            cache.put("m#t#scan" + i, "scan" + i, null, null, SIGNATURE);
+        }
+
+        final WeightedDaoCache.Stats stats = cache.stats();
+        assertEquals(100, stats.size());
+        assertEquals(100, stats.totalWeight());
+        assertEquals(951, stats.evictionCount());
+        assertEquals(150, stats.hitCount());
+        assertEquals(0, stats.missCount());
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("hot" + i, cache.get("m#t#hot" + i, null, null, SIGNATURE));
+        }
+
+        assertNull(cache.get("m#t#absent", null, null, SIGNATURE));
+        assertEquals(200.0 / 201, cache.stats().hitRate(), 1e-9);
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        final WeightedDaoCache cache = new WeightedDaoCache(10, 0);
+
+        cache.put("m#t#1", "v", 1, 1, null, null, SIGNATURE);
+        Thread.sleep(20);
+
+        assertNull(cache.get("m#t#1", null, null, SIGNATURE));
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().totalWeight());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    public void testUpdateAndClear() {
+        final WeightedDaoCache cache = new WeightedDaoCache(100, 0);
+
+        cache.put("m#users#1", Collections.nCopies(3, "u"), null, null, SIGNATURE);
+        cache.put("m#Users#2", "u2", null, null, SIGNATURE);
+        cache.put("m#orders#3", "o3", null, null, SIGNATURE);
+
+        cache.update("m#USERS#x", 1, null, null, SIGNATURE);
+
+        assertNull(cache.get("m#users#1", null, null, SIGNATURE));
+        assertNull(cache.get("m#Users#2", null, null, SIGNATURE));
+        assertEquals("o3", cache.get("m#orders#3", null, null, SIGNATURE));
+        assertEquals(1, cache.stats().totalWeight());
+        assertEquals(0, cache.stats().evictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().totalWeight());
+    }
+
+    @Test
+    public void testFrequencySketch() {
+        final WeightedDaoCache.FrequencySketch sketch = new WeightedDaoCache.FrequencySketch(64);
+
+        assertEquals(0, sketch.frequency("a"));
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("a");
+        }
+
+        assertTrue(sketch.frequency("a") >= 5);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("b");
+        }
+
+        assertEquals(15, sketch.frequency("b"));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedDaoCache(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedDaoCache(10L, null));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedDaoCache(10, 0).put(null, "v", null, null, SIGNATURE));
+    }
+}
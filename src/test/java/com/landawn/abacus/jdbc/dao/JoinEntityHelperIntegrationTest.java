@@ -26,6 +26,7 @@ import com.landawn.abacus.annotation.Id;
 import com.landawn.abacus.annotation.JoinedBy;
 import com.landawn.abacus.annotation.ReadOnly;
 import com.landawn.abacus.annotation.Table;
+import com.landawn.abacus.jdbc.InClauseMode;
 import com.landawn.abacus.jdbc.JdbcUtil;
 import com.landawn.abacus.jdbc.annotation.DaoConfig;
 import com.landawn.abacus.query.Filters;
@@ -276,6 +277,36 @@ public class JoinEntityHelperIntegrationTest extends TestBase {
         assertEquals(2, users2.get(0).getOrders().size());
     }
 
+    // Padded and array-bound IN lists load and delete exactly what the exact-size IN list does.
+    @Test
+    public void testLoadAndDeleteJoinEntities_Collection_InClauseModes() {
+        final JoinUser a = seedUser("ModeA", 1.0, 2.0);
+        final JoinUser b = seedUser("ModeB", 3.0);
+        final JoinUser c = seedUser("ModeC", 4.0, 5.0, 6.0);
+
+        try {
+            for (final InClauseMode mode : List.of(InClauseMode.PADDED, InClauseMode.ARRAY)) {
+                JdbcUtil.setInClauseModeGlobally(mode);
+
+                final List<JoinUser> users = new ArrayList<>(List.of(userDao.gett(a.getId()), userDao.gett(b.getId()), userDao.gett(c.getId())));
+                userDao.loadJoinEntities(users, "orders");
+                assertEquals(2, users.get(0).getOrders().size());
+                assertEquals(1, users.get(1).getOrders().size());
+                assertEquals(3, users.get(2).getOrders().size());
+
+                final List<JoinUser> usersByProps = new ArrayList<>(List.of(userDao.gett(a.getId()), userDao.gett(b.getId()), userDao.gett(c.getId())));
+                userDao.loadJoinEntities(usersByProps, "orders", List.of("id", "amount"));
+                assertEquals(3, usersByProps.get(2).getOrders().size());
+            }
+
+            JdbcUtil.setInClauseModeGlobally(InClauseMode.PADDED);
+            assertEquals(6, userDao.deleteJoinEntities(List.of(a, b, c), "orders"));
+            assertEquals(0L, orderCountForUser(c.getId()));
+        } finally {
+            JdbcUtil.setInClauseModeGlobally(InClauseMode.EXACT);
+        }
+    }
+
     @Test
     public void testLoadMapJoinWithNoMatchReplacesStaleValue() {
         final JoinUser persisted = seedUser("NoProfile");
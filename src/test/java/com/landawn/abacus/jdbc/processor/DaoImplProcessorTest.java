@@ -0,0 +1,140 @@
+package com.landawn.abacus.jdbc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.landawn.abacus.TestBase;
+import com.landawn.abacus.jdbc.DaoImplIntegrationTest.UserAccount;
+import com.landawn.abacus.jdbc.GeneratedDaoSupport;
+import com.landawn.abacus.jdbc.JdbcUtil;
+import com.landawn.abacus.jdbc.dao.CrudDao;
+
+public class DaoImplProcessorTest extends TestBase {
+
+    private static final String DAO_SOURCE = """
+            package gen.probe;
+
+            import com.landawn.abacus.jdbc.DaoImplIntegrationTest.UserAccount;
+            import com.landawn.abacus.jdbc.annotation.GenerateDao;
+            import com.landawn.abacus.jdbc.annotation.Query;
+            import com.landawn.abacus.jdbc.dao.CrudDao;
+
+            @GenerateDao
+            public interface ProbeDao extends CrudDao<UserAccount, Long, ProbeDao> {
+                @Query("SELECT count(*) FROM user_account WHERE age >= :minAge;")
+                int countByMinAge(@com.landawn.abacus.jdbc.annotation.Bind("minAge") int minAge) throws java.sql.SQLException;
+
+                default String describe() {
+                    return "probe";
+                }
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private boolean compile(final Path srcDir, final Path outDir) throws IOException {
+        final Path source = srcDir.resolve("gen/probe/ProbeDao.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, DAO_SOURCE, StandardCharsets.UTF_8);
+        Files.createDirectories(outDir);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        return compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-processor", DaoImplProcessor.class.getName(), "-s",
+                srcDir.toString(), "-d", outDir.toString(), source.toString()) == 0;
+    }
+
+    @Test
+    public void testGeneratesImplementationSource() throws IOException {
+        final Path srcDir = tempDir.resolve("src");
+
+        assertTrue(compile(srcDir, tempDir.resolve("classes")));
+
+        final Path generated = srcDir.resolve("gen/probe/ProbeDao_Impl.java");
+        assertTrue(Files.exists(generated));
+
+        final String code = Files.readString(generated);
+        assertTrue(code.contains("extends com.landawn.abacus.jdbc.GeneratedDaoSupport implements gen.probe.ProbeDao"));
+        // SQL is left to DaoImpl: nothing is parsed or cached by the generated class.
+        assertFalse(code.contains("preParse("));
+        assertTrue(code.contains("public int countByMinAge(final int minAge) throws java.sql.SQLException"));
+        assertTrue(code.contains("public java.lang.String describe()"));
+        // Each method calls its own invoker; a default method nothing wraps calls its implementation directly.
+        assertTrue(code.contains("return (java.lang.Integer) this.invoker"));
+        assertTrue(code.contains("return gen.probe.ProbeDao.super.describe();"));
+        assertFalse(code.contains(" invoke("));
+        // Object methods are left to GeneratedDaoSupport.
+        assertFalse(code.contains("public int hashCode()"));
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void testCreateDaoUsesGeneratedClass() throws Exception {
+        final Path outDir = tempDir.resolve("classes");
+
+        assertTrue(compile(tempDir.resolve("src"), outDir));
+
+        final DataSource ds = JdbcUtil.createHikariDataSource("jdbc:h2:mem:generated_dao_it;DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Connection conn = ds.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS user_account (id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(64), last_name VARCHAR(64), "
+                    + "age INT, active BOOLEAN)");
+            st.execute("DELETE FROM user_account");
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new java.net.URL[] { outDir.toUri().toURL() }, getClass().getClassLoader())) {
+            final Class<CrudDao<UserAccount, Long, ?>> daoInterface = (Class<CrudDao<UserAccount, Long, ?>>) classLoader.loadClass("gen.probe.ProbeDao");
+
+            final CrudDao<UserAccount, Long, ?> dao = (CrudDao<UserAccount, Long, ?>) JdbcUtil.createDao((Class) daoInterface, ds);
+
+            assertTrue(dao instanceof GeneratedDaoSupport);
+            assertFalse(Proxy.isProxyClass(dao.getClass()));
+            assertEquals("gen.probe.ProbeDao_Impl", dao.getClass().getName());
+
+            final UserAccount user = new UserAccount();
+            user.setFirstName("Ada");
+            user.setLastName("Lovelace");
+            user.setAge(36);
+
+            final Long id = dao.insert(user);
+            assertNotNull(id);
+            assertEquals("Ada", dao.gett(id).getFirstName());
+
+            final List<UserAccount> users = dao.batchGet(List.of(id));
+            assertEquals(1, users.size());
+
+            assertEquals(1, daoInterface.getMethod("countByMinAge", int.class).invoke(dao, 30));
+            assertEquals(0, daoInterface.getMethod("countByMinAge", int.class).invoke(dao, 40));
+            assertEquals("probe", daoInterface.getMethod("describe").invoke(dao));
+        } finally {
+            try (Connection conn = ds.getConnection();
+                 Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE IF EXISTS user_account");
+            } catch (final SQLException e) {
+                // ignore
+            }
+        }
+    }
+}